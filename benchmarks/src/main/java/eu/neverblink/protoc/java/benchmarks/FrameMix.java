@@ -0,0 +1,155 @@
+package eu.neverblink.protoc.java.benchmarks;
+
+import eu.neverblink.jelly.core.proto.v1.*;
+
+import java.util.SplittableRandom;
+
+/**
+ * Realistic mixes of rows in a Jelly {@link RdfStreamFrame}, used as the input data
+ * for the benchmarks.
+ * <p>
+ * Every frame starts with a handful of lookup-table rows (names, prefixes, datatypes),
+ * just like in a real Jelly stream, followed by the statements. The contents are
+ * generated from a fixed seed, so the results are repeatable between runs.
+ *
+ * @author Piotr Sowiński
+ */
+public enum FrameMix {
+    /**
+     * Triples where all terms are IRIs (e.g., rdf:type statements, links between resources).
+     */
+    IRI_TRIPLES {
+        @Override
+        RdfStreamRow statement(SplittableRandom random, int i) {
+            return row(triple(iri(random), iri(random), iri(random)));
+        }
+    },
+    /**
+     * Triples with literal objects: plain strings, language-tagged strings and typed literals.
+     */
+    LITERAL_TRIPLES {
+        @Override
+        RdfStreamRow statement(SplittableRandom random, int i) {
+            return row(triple(iri(random), iri(random), literal(random, i)));
+        }
+    },
+    /**
+     * Quads in named graphs, with a mix of IRI, blank node and literal terms.
+     */
+    QUADS {
+        @Override
+        RdfStreamRow statement(SplittableRandom random, int i) {
+            final var quad = RdfQuad.newInstance();
+            if (random.nextInt(8) == 0) {
+                quad.setSBnode("b" + random.nextInt(1000));
+            } else {
+                quad.setSIri(iri(random));
+            }
+            quad.setPIri(iri(random));
+            if (random.nextBoolean()) {
+                quad.setOLiteral(literal(random, i));
+            } else {
+                quad.setOIri(iri(random));
+            }
+            if (random.nextInt(4) == 0) {
+                quad.setGDefaultGraph(RdfDefaultGraph.newInstance());
+            } else {
+                quad.setGIri(iri(random));
+            }
+            return RdfStreamRow.newInstance().setQuad(quad);
+        }
+    },
+    /**
+     * RDF-star triples, where the subject is a quoted triple, nested up to three levels deep.
+     */
+    RDF_STAR {
+        @Override
+        RdfStreamRow statement(SplittableRandom random, int i) {
+            RdfTriple quoted = triple(iri(random), iri(random), literal(random, i));
+            final int depth = random.nextInt(3);
+            for (int d = 0; d < depth; d++) {
+                quoted = RdfTriple.newInstance()
+                    .setSTripleTerm(quoted)
+                    .setPIri(iri(random))
+                    .setOIri(iri(random));
+            }
+            final var triple = RdfTriple.newInstance()
+                .setSTripleTerm(quoted)
+                .setPIri(iri(random))
+                .setOLiteral(literal(random, i));
+            return row(triple);
+        }
+    };
+
+    private static final long SEED = 0x5EED_1E11L;
+
+    private static final String[] LANGUAGES = {"en", "de", "pl", "fr", "en-GB"};
+
+    abstract RdfStreamRow statement(SplittableRandom random, int i);
+
+    /**
+     * Creates a frame with the given number of statement rows.
+     *
+     * @param statements number of statement rows in the frame
+     * @param frameIndex index of the frame in the stream, used to vary the contents
+     * @return a new frame
+     */
+    public RdfStreamFrame frame(int statements, int frameIndex) {
+        final var random = new SplittableRandom(SEED + frameIndex);
+        final var frame = RdfStreamFrame.newInstance();
+        // Lookup table entries, as they would be interleaved with the statements
+        for (int i = 0; i < 4; i++) {
+            frame.addRows(RdfStreamRow.newInstance().setPrefix(RdfPrefixEntry.newInstance()
+                .setId(i + 1)
+                .setValue("https://example.org/vocabulary/" + frameIndex + "/" + i + "#")
+            ));
+        }
+        for (int i = 0; i < 16; i++) {
+            frame.addRows(RdfStreamRow.newInstance().setName(RdfNameEntry.newInstance()
+                .setId(i + 1)
+                .setValue("localName" + (frameIndex * 16 + i))
+            ));
+        }
+        frame.addRows(RdfStreamRow.newInstance().setDatatype(RdfDatatypeEntry.newInstance()
+            .setId(1)
+            .setValue("http://www.w3.org/2001/XMLSchema#integer")
+        ));
+        for (int i = 0; i < statements; i++) {
+            frame.addRows(statement(random, i));
+        }
+        return frame;
+    }
+
+    private static RdfStreamRow row(RdfTriple triple) {
+        return RdfStreamRow.newInstance().setTriple(triple);
+    }
+
+    private static RdfTriple triple(RdfIri s, RdfIri p, RdfIri o) {
+        return RdfTriple.newInstance().setSIri(s).setPIri(p).setOIri(o);
+    }
+
+    private static RdfTriple triple(RdfIri s, RdfIri p, RdfLiteral o) {
+        return RdfTriple.newInstance().setSIri(s).setPIri(p).setOLiteral(o);
+    }
+
+    private static RdfIri iri(SplittableRandom random) {
+        // Jelly uses 0 to signal "same as in the previous IRI", so small and zero ids dominate
+        return RdfIri.newInstance()
+            .setPrefixId(random.nextInt(4) == 0 ? random.nextInt(1, 5) : 0)
+            .setNameId(random.nextInt(3) == 0 ? 0 : random.nextInt(1, 17));
+    }
+
+    private static RdfLiteral literal(SplittableRandom random, int i) {
+        final var literal = RdfLiteral.newInstance();
+        switch (random.nextInt(3)) {
+            case 0:
+                return literal.setLex("Some plain literal value number " + i);
+            case 1:
+                return literal.setLex("Wartość literału " + i)
+                    .setLangtag(LANGUAGES[random.nextInt(LANGUAGES.length)]);
+            default:
+                return literal.setLex(Integer.toString(random.nextInt(100_000)))
+                    .setDatatype(1);
+        }
+    }
+}
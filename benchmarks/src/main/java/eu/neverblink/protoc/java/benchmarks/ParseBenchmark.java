@@ -0,0 +1,117 @@
+package eu.neverblink.protoc.java.benchmarks;
+
+import eu.neverblink.jelly.core.proto.v1.RdfStreamFrame;
+import eu.neverblink.protoc.java.runtime.DelimitedMessageDecoder;
+import eu.neverblink.protoc.java.runtime.DelimitedMessageIterator;
+import eu.neverblink.protoc.java.runtime.ParallelDelimitedReader;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of {@link RdfStreamFrame}s, compared with the classes generated by the stock
+ * protobuf-java plugin from the same <code>rdf.proto</code>.
+ * <p>
+ * Run with: <code>sbt "benchmarks/Jmh/run ParseBenchmark"</code>
+ *
+ * @author Piotr Sowiński
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParseBenchmark {
+    /**
+     * Number of frames in the delimited stream.
+     */
+    private static final int FRAMES = 16;
+
+    @Param({"IRI_TRIPLES", "LITERAL_TRIPLES", "QUADS", "RDF_STAR"})
+    public FrameMix mix;
+
+    /**
+     * Number of statement rows per frame.
+     */
+    @Param({"256"})
+    public int statements;
+
+    private byte[] frameBytes;
+
+    private byte[] delimitedBytes;
+
+    private ByteBuffer delimitedDirectBuffer;
+
+    @Setup
+    public void setup() throws IOException {
+        frameBytes = mix.frame(statements, 0).toByteArray();
+        final var output = new ByteArrayOutputStream();
+        for (int i = 0; i < FRAMES; i++) {
+            mix.frame(statements, i).writeDelimitedTo(output);
+        }
+        delimitedBytes = output.toByteArray();
+        delimitedDirectBuffer = ByteBuffer.allocateDirect(delimitedBytes.length).put(delimitedBytes).flip();
+    }
+
+    @Benchmark
+    public RdfStreamFrame crunchyParseFrom() throws IOException {
+        return RdfStreamFrame.parseFrom(frameBytes);
+    }
+
+    @Benchmark
+    public eu.ostrzyciel.jelly.core.proto.v1.RdfStreamFrame protobufJavaParseFrom() throws IOException {
+        return eu.ostrzyciel.jelly.core.proto.v1.RdfStreamFrame.parseFrom(frameBytes);
+    }
+
+    @Benchmark
+    public void crunchyParseDelimitedFrom(Blackhole blackhole) throws IOException {
+        final var input = new ByteArrayInputStream(delimitedBytes);
+        RdfStreamFrame frame;
+        while ((frame = RdfStreamFrame.parseDelimitedFrom(input)) != null) {
+            blackhole.consume(frame);
+        }
+    }
+
+    @Benchmark
+    public void crunchyParseDelimitedFromDirectBuffer(Blackhole blackhole) {
+        final var iterator = DelimitedMessageIterator.of(delimitedDirectBuffer, RdfStreamFrame.getFactory());
+        while (iterator.hasNext()) {
+            blackhole.consume(iterator.next());
+        }
+    }
+
+    @Benchmark
+    public void crunchyParseDelimitedParallel(Blackhole blackhole) {
+        final var reader = ParallelDelimitedReader.of(
+            new ByteArrayInputStream(delimitedBytes), RdfStreamFrame.getFactory()
+        );
+        while (reader.hasNext()) {
+            blackhole.consume(reader.next());
+        }
+    }
+
+    @Benchmark
+    public void crunchyDecodeDelimitedChunks(Blackhole blackhole) throws IOException {
+        // Simulates socket reads of 8 KiB
+        final var decoder = DelimitedMessageDecoder.of(RdfStreamFrame.getFactory());
+        for (int start = 0; start < delimitedBytes.length; start += 8192) {
+            final int length = Math.min(8192, delimitedBytes.length - start);
+            decoder.decode(ByteBuffer.wrap(delimitedBytes, start, length), blackhole::consume);
+        }
+    }
+
+    @Benchmark
+    public void protobufJavaParseDelimitedFrom(Blackhole blackhole) throws IOException {
+        final var input = new ByteArrayInputStream(delimitedBytes);
+        eu.ostrzyciel.jelly.core.proto.v1.RdfStreamFrame frame;
+        while ((frame = eu.ostrzyciel.jelly.core.proto.v1.RdfStreamFrame.parseDelimitedFrom(input)) != null) {
+            blackhole.consume(frame);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package eu.neverblink.protoc.java.benchmarks;
+
+import com.google.protobuf.CodedOutputStream;
+import eu.neverblink.jelly.core.proto.v1.RdfStreamFrame;
+import eu.neverblink.protoc.java.runtime.DelimitedMessageWriter;
+import eu.neverblink.protoc.java.runtime.ProtoSink;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization of {@link RdfStreamFrame}s, compared with the classes generated by the stock
+ * protobuf-java plugin from the same <code>rdf.proto</code>.
+ * <p>
+ * Note that protobuf-java memoizes the serialized size of its immutable messages, so
+ * {@link #protobufJavaGetSerializedSize()} only measures the lookup of the memoized value.
+ * <p>
+ * Run with: <code>sbt "benchmarks/Jmh/run SerializeBenchmark"</code>
+ *
+ * @author Piotr Sowiński
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializeBenchmark {
+    @Param({"IRI_TRIPLES", "LITERAL_TRIPLES", "QUADS", "RDF_STAR"})
+    public FrameMix mix;
+
+    /**
+     * Number of statement rows per frame.
+     */
+    @Param({"256"})
+    public int statements;
+
+    private RdfStreamFrame frame;
+
+    private eu.ostrzyciel.jelly.core.proto.v1.RdfStreamFrame protobufJavaFrame;
+
+    private byte[] buffer;
+
+    private final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    private final DelimitedMessageWriter writer = DelimitedMessageWriter.inMemory();
+
+    @Setup
+    public void setup() throws IOException {
+        frame = mix.frame(statements, 0);
+        final byte[] bytes = frame.toByteArray();
+        protobufJavaFrame = eu.ostrzyciel.jelly.core.proto.v1.RdfStreamFrame.parseFrom(bytes);
+        buffer = new byte[bytes.length * 2];
+    }
+
+    @Benchmark
+    public int crunchyWriteTo() throws IOException {
+        final var output = CodedOutputStream.newInstance(buffer);
+        frame.writeTo(output);
+        return output.getTotalBytesWritten();
+    }
+
+    @Benchmark
+    public long crunchyProtoSinkWriteTo() throws IOException {
+        final var output = ProtoSink.newInstance(buffer);
+        frame.writeTo(output);
+        return output.getTotalBytesWritten();
+    }
+
+    @Benchmark
+    public int protobufJavaWriteTo() throws IOException {
+        final var output = CodedOutputStream.newInstance(buffer);
+        protobufJavaFrame.writeTo(output);
+        return output.getTotalBytesWritten();
+    }
+
+    @Benchmark
+    public int crunchyGetSerializedSize() {
+        return frame.getSerializedSize();
+    }
+
+    @Benchmark
+    public int protobufJavaGetSerializedSize() {
+        return protobufJavaFrame.getSerializedSize();
+    }
+
+    @Benchmark
+    public int crunchyWriteDelimitedTo() throws IOException {
+        outputStream.reset();
+        frame.writeDelimitedTo(outputStream);
+        return outputStream.size();
+    }
+
+    @Benchmark
+    public int protobufJavaWriteDelimitedTo() throws IOException {
+        outputStream.reset();
+        protobufJavaFrame.writeDelimitedTo(outputStream);
+        return outputStream.size();
+    }
+
+    @Benchmark
+    public int crunchyDelimitedMessageWriter() throws IOException {
+        writer.reset();
+        writer.writeDelimited(frame);
+        return writer.size();
+    }
+}
@@ -0,0 +1,82 @@
+package eu.neverblink.protoc.java.benchmarks;
+
+import eu.neverblink.jelly.core.proto.v1.RdfStreamFrame;
+import eu.neverblink.protoc.java.runtime.ProtoMessage;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to the first decoded {@link RdfStreamFrame} in a cold JVM, with the code generated for
+ * the runtime module and with the code generated with the {@code lite_runtime} option.
+ * <p>
+ * Each fork loads the generated classes and their runtime through a fresh class loader, so that
+ * the measurement includes loading, linking and initializing the classes that decoding the frame
+ * touches, and decodes a single frame in the interpreter. The classpath of the lite variant is
+ * passed by the build in the <code>eu.neverblink.protoc.lite.classpath</code> system property.
+ * <p>
+ * Run with: <code>sbt "benchmarks/Jmh/run StartupBenchmark"</code>
+ *
+ * @author Piotr Sowiński
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class StartupBenchmark {
+    private static final String LITE_CLASSPATH_PROPERTY = "eu.neverblink.protoc.lite.classpath";
+
+    @Param({"full", "lite"})
+    public String runtime;
+
+    private byte[] frameBytes;
+
+    private URL[] classpath;
+
+    @Setup
+    public void setup() throws IOException {
+        frameBytes = FrameMix.LITERAL_TRIPLES.frame(256, 0).toByteArray();
+        classpath = switch (runtime) {
+            case "full" -> new URL[] {
+                codeSource(RdfStreamFrame.class),
+                codeSource(ProtoMessage.class),
+                codeSource(com.google.protobuf.CodedInputStream.class),
+            };
+            case "lite" -> liteClasspath();
+            default -> throw new IllegalArgumentException("Unknown runtime: " + runtime);
+        };
+    }
+
+    @Benchmark
+    public Object firstParseFrom() throws Exception {
+        try (var loader = new URLClassLoader(classpath, ClassLoader.getPlatformClassLoader())) {
+            final var frameClass = Class.forName(RdfStreamFrame.class.getName(), true, loader);
+            return frameClass.getMethod("parseFrom", byte[].class).invoke(null, (Object) frameBytes);
+        }
+    }
+
+    private static URL codeSource(Class<?> type) {
+        return type.getProtectionDomain().getCodeSource().getLocation();
+    }
+
+    private static URL[] liteClasspath() throws MalformedURLException {
+        final String property = System.getProperty(LITE_CLASSPATH_PROPERTY);
+        if (property == null) {
+            throw new IllegalStateException("Set " + LITE_CLASSPATH_PROPERTY +
+                " to the classpath of test-project-lite to measure the lite runtime");
+        }
+        final var urls = new ArrayList<URL>();
+        for (String path : property.split(File.pathSeparator)) {
+            urls.add(new File(path).toURI().toURL());
+        }
+        return urls.toArray(new URL[0]);
+    }
+}
@@ -1,5 +1,6 @@
 package eu.neverblink.protoc.java.gen
 
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto
 import com.palantir.javapoet.*
 import eu.neverblink.protoc.java.gen.RequestInfo.FieldInfo
 
@@ -98,6 +99,11 @@ class FieldGenerator(val info: FieldInfo):
   m.put("valueOrNumber", if (info.isEnum) "value.getNumber()"
   else "value")
   m.put("optional", info.getOptionalClass)
+  if (info.isLazyString) {
+    m.put("utf8Field", info.utf8FieldName)
+    m.put("utf8Getter", info.utf8GetterName)
+    m.put("bytesType", info.parentTypeInfo.bytesType)
+  }
   if (info.isPackable) m.put("packedTag", info.packedTag)
   if (info.isFixedWidth) m.put("fixedWidth", info.getFixedWidth)
   if (info.isRepeated) m.put("getRepeatedIndex_i", 
@@ -107,10 +113,25 @@ class FieldGenerator(val info: FieldInfo):
   m.put("fieldNames", info.parentTypeInfo.fieldNamesClass)
   m.put("abstractMessage", RuntimeClasses.AbstractMessage)
   m.put("protoSource", RuntimeClasses.CodedInputStream)
-  m.put("protoSink", RuntimeClasses.CodedOutputStream)
+  // The sizes are computed by ProtoSink in the lite runtime
+  m.put("protoSink",
+    if (info.parentTypeInfo.targetsLiteRuntime) RuntimeClasses.ProtoSink else RuntimeClasses.CodedOutputStream
+  )
   m.put("protoUtil", RuntimeClasses.ProtoUtil)
   // Common configuration-dependent code blocks
   private val ensureFieldNotNull = lazyFieldInit
+  private val invalidateCaches = MessageGenerator.invalidateCaches(info.parentTypeInfo)
+  private val tracksSizes = info.parentTypeInfo.tracksSizes
+
+  // Adds the size of the new element to the cached size instead of discarding it
+  private def addToTrackedSize = named("" +
+    "if (cachedSize >= 0) {$>\n" +
+    "final int size = cachedSize + $bytesPerTag:L + $abstractMessage:T.computeDelimitedSize(" +
+    "$abstractMessage:T.computeNestedSize(value, this));\n" +
+    "invalidateSize();\n" +
+    "cachedSize = size;$<\n" +
+    "}\n"
+  )
 
   def generateMemberFields(t: TypeSpec.Builder): Unit =
     val field = FieldSpec.builder(storeType, info.fieldName)
@@ -123,10 +144,21 @@ class FieldGenerator(val info: FieldInfo):
     else if (info.isPrimitive || info.isEnum) { }
     else throw new IllegalStateException("unhandled field: " + info.descriptor)
     t.addField(field.build)
+    if info.isLazyString then t.addField(FieldSpec.builder(info.parentTypeInfo.bytesType, info.utf8FieldName)
+      .addJavadoc(named("" +
+        "Raw UTF-8 bytes of {@code $field:N} as read from the wire, or null if the value was set\n" +
+        "as a String. While this is set, {@code $field:N} is null until it is first decoded.\n"
+      ))
+      .addModifiers(Modifier.PROTECTED)
+      .initializer("null")
+      .build
+    )
 
   private def initializer =
     val initializer = CodeBlock.builder
-    if (info.isRepeated && info.isMessageOrGroup)
+    if (info.isRepeated && info.isMessageOrGroup && info.pluginOptions.reuseMessages)
+      initializer.add("$T.newEmptyInstance($T.getFactory())", RuntimeClasses.RepeatedMessage, info.getTypeName)
+    else if (info.isRepeated && info.isMessageOrGroup)
       initializer.add("new $T<>()", RuntimeClasses.ArrayList)
     else if (info.isRepeated && info.isEnum) initializer.add("$T.newEmptyInstance($T.converter())", RuntimeClasses.RepeatedEnum, info.getTypeName)
     else if (info.isRepeated) initializer.add("$T.newEmptyInstance()", storeType)
@@ -146,13 +178,19 @@ class FieldGenerator(val info: FieldInfo):
       method.addStatement(named("$field:N = null"))
     else if info.isString then
       method.addStatement(named("$field:N = \"\""))
+      if info.isLazyString then method.addStatement(named("$utf8Field:N = null"))
     else if info.isBytes then
-      method.addStatement(named("$field:N = ByteString.EMPTY"))
+      method.addStatement(named("$field:N = $storeType:T.EMPTY"))
     else throw new IllegalStateException("unhandled field: " + info.descriptor)
 
-  def generateCopyFromCode(method: MethodSpec.Builder): Unit =
-    if (info.isSingularPrimitiveOrEnum || info.isString || info.isBytes)
-      method.addStatement(named("$field:N = other.$field:N"))
+  // With copiesNested, a nested message of the same type is left empty for the loop in clone
+  def generateCopyFromCode(method: MethodSpec.Builder, copiesNested: Boolean = false): Unit =
+    if (info.isOnExplicitStack && copiesNested) method
+      .beginControlFlow(named("if (other.$field:N != null)"))
+      .addStatement(named("$lazyInitMethod:L()"))
+      .endControlFlow
+    else if (info.isOnExplicitStack)
+      method.addStatement(named("$field:N = other.$field:N == null ? null : other.$field:N.clone()"))
     else if (info.isRepeated || info.isMessageOrGroup) {
       if info.isRepeated then method
         .addStatement(named("$field:N.clear()"))
@@ -161,22 +199,48 @@ class FieldGenerator(val info: FieldInfo):
         .addStatement(named("$lazyInitMethod:L()"))
         .addStatement(named("$field:N.copyFrom(other.$field:N)"))
     }
+    else if (info.isSingularPrimitiveOrEnum || info.isString || info.isBytes)
+      method.addStatement(named("$field:N = other.$field:N"))
+      if info.isLazyString then method.addStatement(named("$utf8Field:N = other.$utf8Field:N"))
     else throw new IllegalStateException("unhandled field: " + info.descriptor)
 
   def generateMergeFromMessageCode(method: MethodSpec.Builder): Unit =
     if (info.isRepeated) method.addStatement(named("$getMethod:N().addAll(other.$field:N)"))
     else if (info.isMessageOrGroup) method.addStatement(named("$getMethod:N().mergeFrom(other.$field:N)"))
-    else if (info.isBytes || info.isString) method.addStatement(named("$field:N = other.$field:N"))
+    else if (info.isBytes || info.isString) {
+      method.addStatement(named("$field:N = other.$field:N"))
+      if info.isLazyString then method.addStatement(named("$utf8Field:N = other.$utf8Field:N"))
+    }
     else if (info.isEnum) method.addStatement(named("$setMethod:NValue(other.$field:N)"))
     else if (info.isPrimitive) method.addStatement(named("$setMethod:N(other.$field:N)"))
     else throw new IllegalStateException("unhandled field: " + info.descriptor)
 
   def generateEqualsStatement(method: MethodSpec.Builder): Unit =
-    if (info.isRepeated || info.isBytes || info.isMessageOrGroup || info.isString) method.addNamedCode("$field:N.equals(other.$field:N)", m)
+    // Undecoded strings are compared by their bytes, so equals does not force decoding
+    if (info.isLazyString) method.addNamedCode("" +
+      "($utf8Field:N != null && other.$utf8Field:N != null ? $utf8Field:N.equals(other.$utf8Field:N) " +
+      ": $getMethod:N().equals(other.$getMethod:N()))",
+      m
+    )
+    // Nested messages of the same type are compared by the loop in equals
+    else if (info.isOnExplicitStack) method.addNamedCode("($field:N == null) == (other.$field:N == null)", m)
+    else if (info.isRepeated || info.isBytes || info.isMessageOrGroup || info.isString) method.addNamedCode("$field:N.equals(other.$field:N)", m)
     else if ((typeName eq TypeName.DOUBLE) || (typeName eq TypeName.FLOAT)) method.addNamedCode("$protoUtil:T.isEqual($field:N, other.$field:N)", m)
     else if (info.isPrimitive || info.isEnum) method.addNamedCode("$field:N == other.$field:N", m)
     else throw new IllegalStateException("unhandled field: " + info.descriptor)
 
+  def generateHashCodeStatement(method: MethodSpec.Builder): Unit =
+    method.addCode("_hash = $L * _hash + ", MessageGenerator.HashMultiplier)
+    // Lazy strings are hashed by their encoding, which is consistent with equals and avoids decoding
+    if (info.isLazyString) method.addNamedCode("$utf8Getter:N().hashCode()", m)
+    else if (info.isRepeated || info.isBytes || info.isString) method.addNamedCode("$field:N.hashCode()", m)
+    else if (info.isOnExplicitStack) method.addNamedCode("($field:N == null ? 0 : 1)", m)
+    else if (info.isMessageOrGroup) method.addNamedCode("($field:N == null ? 0 : $field:N.hashCode())", m)
+    else if (info.isEnum || (typeName eq TypeName.INT)) method.addNamedCode("$field:N", m)
+    else if (info.isPrimitive) method.addCode("$T.hashCode($N)", typeName.box, info.fieldName)
+    else throw new IllegalStateException("unhandled field: " + info.descriptor)
+    method.addCode(";\n")
+
   /**
    * @return true if the tag needs to be read
    */
@@ -189,11 +253,18 @@ class FieldGenerator(val info: FieldInfo):
       )
       return false // tag is already read, so don't read again
     } else if (info.isRepeated) {
-      method.addNamedCode("tag = input.readRepeated$capitalizedType:L($field:N, tag);\n", m)
+      method.addNamedCode("tag = $abstractMessage:T.readRepeated$capitalizedType:L($field:N, inputLimited, tag);\n", m)
       return false // tag is already read, so don't read again
+    } else if (info.isLazyString) {
+      method.addStatement(named("$utf8Field:N = input.readBytesRequireUtf8()"))
+      method.addStatement(named("$field:N = null"))
     } else if (info.isString)
       method.addStatement(named("$field:N = input.readStringRequireUtf8()"))
-    else if (info.isMessageOrGroup)
+    else if (info.isOnExplicitStack) {
+      // The nested message is parsed by the caller, see MessageGenerator
+      method.addStatement("return ($T) $N", info.parentTypeInfo.mutableTypeName, info.fieldName)
+      return false
+    } else if (info.isMessageOrGroup)
       method.addStatement("$T.mergeDelimitedFrom($N, inputLimited)", RuntimeClasses.AbstractMessage, info.fieldName)
     else if (info.isBytes)
       method.addStatement(named("$field:N = input.readBytes()"))
@@ -214,8 +285,7 @@ class FieldGenerator(val info: FieldInfo):
   def generateMergingCodeFromPacked(method: MethodSpec.Builder): Boolean =
     if (!info.isPackable) throw new IllegalStateException("not a packable type: " + info.descriptor)
     method.addCode(ensureFieldNotNull)
-    if (info.isFixedWidth) method.addStatement(named("input.readPacked$capitalizedType:L($field:N)"))
-    else method.addStatement(named("input.readPacked$capitalizedType:L($field:N, tag)"))
+    method.addStatement(named("$abstractMessage:T.readPacked$capitalizedType:L($field:N, inputLimited)"))
     true
 
   def generateHasChecker(code: CodeBlock.Builder): Unit =
@@ -223,11 +293,15 @@ class FieldGenerator(val info: FieldInfo):
     else if info.isRepeated then code.addNamed("$field:N.size() > 0", m)
     else if info.isMessage then code.addNamed("$field:N != null", m)
     else if info.isEnum then code.addNamed("$field:N != 0", m)
+    else if info.isLazyString then code.addNamed("($utf8Field:N != null ? !$utf8Field:N.isEmpty() : !$field:N.isEmpty())", m)
     else if info.isString then code.addNamed("!$field:N.isEmpty()", m)
     else if info.isBytes then code.addNamed("$field:N.size() > 0", m)
     else code.addNamed("$field:N != $default:L", m)
 
-  def generateSerializationCode(method: MethodSpec.Builder): Unit =
+  // With returnNested, a nested message on the explicit stack is returned instead of written.
+  // With sink, the output is a ProtoSink, which writes single-byte tags together with lengths and
+  // uint32 values.
+  def generateSerializationCode(method: MethodSpec.Builder, returnNested: Boolean = true, sink: Boolean = false): Unit =
     m.put("writeTagToOutput", FieldGenerator.generateWriteVarint32(info.tag))
     if (info.isPacked) m.put(
       "writePackedTagToOutput",
@@ -237,27 +311,55 @@ class FieldGenerator(val info: FieldInfo):
       "writeEndGroupTagToOutput",
       if (!info.isGroup) "" else FieldGenerator.generateWriteVarint32(info.getEndGroupTag)
     )
-    if (info.isPacked) method.addNamedCode("" +
+    val fusesTag = sink && !info.isGroup && (info.tag & ~0x7F) == 0
+    def writeTagAndSize(message: String) =
+      if fusesTag then "output.writeTagAndUInt32((byte) $tag:L, " + message + ".getCachedSize());\n"
+      else "$writeTagToOutput:L" + "output.writeUInt32NoTag(" + message + ".getCachedSize());\n"
+    if (info.isPacked && sink) method.addNamedCode("" +
       "$writePackedTagToOutput:L" +
       "output.writePacked$capitalizedType:LNoTag($field:N);\n",
       m
     )
+    else if (info.isPacked) method.addNamedCode("" +
+      "$writePackedTagToOutput:L" +
+      "$abstractMessage:T.writePacked$capitalizedType:LNoTag(output, $field:N);\n",
+      m
+    )
+    else if (info.isRepeated && !info.isMessageOrGroup) method.addNamedCode("" +
+      "for (int i = 0; i < $field:N.length(); i++) {$>\n" +
+      "$writeTagToOutput:L" +
+      "output.write$capitalizedType:LNoTag($field:N.$getRepeatedIndex_i:L);\n" +
+      "$<}\n",
+      m
+    )
     else if (info.isRepeated) method.addNamedCode("" + 
       "for (final var _field : $field:N) {$>\n" +
-      "$writeTagToOutput:L" +
-      "output.writeUInt32NoTag(_field.getCachedSize());\n" +
+      writeTagAndSize("_field") +
       "_field.writeTo(output);\n" +
       "$writeEndGroupTagToOutput:L" + 
       "$<}\n", 
       m
     )
     else if (info.isMessageOrGroup) method.addNamedCode("" + // non-repeated
-      "$writeTagToOutput:L" +
-      "output.writeUInt32NoTag($field:N.getCachedSize());\n" +
-      "$field:N.writeTo(output);\n" +
+      writeTagAndSize("$field:N") +
+      // The nested message is written by the caller, see MessageGenerator
+      (if info.isOnExplicitStack && returnNested then "return $field:N;\n" else "$field:N.writeTo(output);\n") +
       "$writeEndGroupTagToOutput:L",
       m
     )
+    else if (info.isLazyString) method.addNamedCode("" +
+      "$writeTagToOutput:L" +
+      "if ($utf8Field:N != null) {$>\n" +
+      "output.writeBytesNoTag($utf8Field:N);\n" +
+      "$<} else {$>\n" +
+      "output.writeStringNoTag($field:N);\n" +
+      "$<}\n",
+      m
+    )
+    else if (fusesTag && (info.descriptor.getType eq FieldDescriptorProto.Type.TYPE_UINT32)) method.addNamedCode(
+      "output.writeTagAndUInt32((byte) $tag:L, $field:N);\n",
+      m
+    )
     else {
       // unroll varint tag loop
       method.addNamedCode("" + // non-repeated
@@ -271,7 +373,7 @@ class FieldGenerator(val info: FieldInfo):
   def generateComputeSerializedSizeCode(method: MethodSpec.Builder): Unit =
     if (info.isFixedWidth && info.isPacked) method.addNamedCode("" + 
       "final int dataSize = $fixedWidth:L * $field:N.length();\n" + 
-      "size += $bytesPerTag:L + $protoSink:T.computeDelimitedSize(dataSize);\n", 
+      "size += $bytesPerTag:L + $abstractMessage:T.computeDelimitedSize(dataSize);\n", 
       m
     )
     else if (info.isFixedWidth && info.isRepeated) { // non packed
@@ -288,7 +390,8 @@ class FieldGenerator(val info: FieldInfo):
         "size += " +
         // if 1 byte per tag, we can skip the multiplication
         (if info.bytesPerTag > 1 then "($bytesPerTag:L * $field:N.size())" else "$field:N.size()") +
-        " + $abstractMessage:T.computeRepeated$capitalizedType:LSizeNoTag($field:N);\n",
+        " + $abstractMessage:T.computeRepeated$capitalizedType:LSizeNoTag($field:N" +
+        (if tracksSizes && info.isMessageOrGroup then ", this" else "") + ");\n",
         m
       )
     }
@@ -296,11 +399,16 @@ class FieldGenerator(val info: FieldInfo):
       method.addStatement("size += $L", info.bytesPerTag + info.getFixedWidth) // non-repeated
     else if (info.isMessageOrGroup) {
       method.addNamedCode(
-        "final int dataSize = $field:N$secondArgs:L.getSerializedSize();\n" +
+        (if info.isOnExplicitStack then "final int dataSize = $abstractMessage:T.getCachedNestedSize($field:N, this);\n"
+        else if tracksSizes then "final int dataSize = $abstractMessage:T.computeNestedSize($field:N, this);\n"
+        else "final int dataSize = $field:N$secondArgs:L.getSerializedSize();\n") +
         "size += $bytesPerTag:L + $protoSink:T.computeUInt32SizeNoTag(dataSize) + dataSize;\n",
         m
       )
     }
+    else if (info.isLazyString) method.addStatement(named("size += $bytesPerTag:L + ($utf8Field:N != null " +
+      "? $protoSink:T.computeBytesSizeNoTag($utf8Field:N) : $protoSink:T.computeStringSizeNoTag($field:N))"
+    ))
     else method.addStatement(named(
       "size += $bytesPerTag:L + $protoSink:T.compute$capitalizedType:LSizeNoTag($field:N)"
     )) // non-repeated
@@ -338,9 +446,10 @@ class FieldGenerator(val info: FieldInfo):
         )
         .addAnnotations(info.methodAnnotations)
         .addModifiers(Modifier.PUBLIC)
-        .addParameter(RuntimeClasses.BytesType, "values", Modifier.FINAL)
+        .addParameter(info.parentTypeInfo.bytesType, "values", Modifier.FINAL)
         .returns(info.parentTypeInfo.mutableTypeName)
         .addStatement(named("$field:N = values"))
+        .addCode(invalidateCaches)
         .addStatement(named("return this"))
       t.addMethod(setBytes.build)
     } else if (info.isRepeated) {
@@ -356,6 +465,7 @@ class FieldGenerator(val info: FieldInfo):
         .returns(info.parentTypeInfo.mutableTypeName)
         .addCode(ensureFieldNotNull)
         .addStatement(named("$field:N.add(value)"))
+        .addCode(if tracksSizes && info.isMessageOrGroup then addToTrackedSize else invalidateCaches)
         .addStatement(named("return this"))
         .build
       t.addMethod(adder)
@@ -372,6 +482,7 @@ class FieldGenerator(val info: FieldInfo):
         .addParameter(info.getInputParameterType, "value", Modifier.FINAL)
         .addCode(ensureFieldNotNull)
         .addStatement(named("$field:N.copyFrom(value)"))
+        .addCode(invalidateCaches)
         .addStatement(named("return this"))
         .build
       t.addMethod(setter)
@@ -387,6 +498,30 @@ class FieldGenerator(val info: FieldInfo):
         .returns(info.parentTypeInfo.mutableTypeName)
         .addParameter(RuntimeClasses.StringType, "value", Modifier.FINAL)
         .addStatement(named("$field:N = value"))
+        .addCode(if info.isLazyString then named("$utf8Field:N = null;\n") else FieldGenerator.EMPTY_BLOCK)
+        .addCode(invalidateCaches)
+        .addStatement(named("return this"))
+        .build
+      )
+      if info.isLazyString then t.addMethod(MethodSpec.methodBuilder(info.utf8SetterName)
+        .addJavadoc(Javadoc.forMessageField(info)
+          .add("\nSets the raw UTF-8 bytes of this field. They are validated here and only decoded")
+          .add("\nwhen the field is read as a String.")
+          .add("\n@param value the UTF-8 encoded $L to set", info.fieldName)
+          .add("\n@return this")
+          .add("\n@throws IllegalArgumentException if the bytes are not valid UTF-8")
+          .build
+        )
+        .addAnnotations(info.methodAnnotations)
+        .addModifiers(Modifier.PUBLIC)
+        .returns(info.parentTypeInfo.mutableTypeName)
+        .addParameter(info.parentTypeInfo.bytesType, "value", Modifier.FINAL)
+        .beginControlFlow("if (!value.isValidUtf8())")
+        .addStatement("throw new $T($S)", RuntimeClasses.IllegalArgumentException, "Byte string is not UTF-8.")
+        .endControlFlow
+        .addStatement(named("$utf8Field:N = value"))
+        .addStatement(named("$field:N = null"))
+        .addCode(invalidateCaches)
         .addStatement(named("return this"))
         .build
       )
@@ -402,7 +537,9 @@ class FieldGenerator(val info: FieldInfo):
         .addModifiers(Modifier.PUBLIC)
         .addParameter(info.getTypeName, "value", Modifier.FINAL)
         .returns(info.parentTypeInfo.mutableTypeName)
-        .addNamedCode("" + "$field:N = $valueOrNumber:L;\n" + "return this;\n", m)
+        .addNamedCode("$field:N = $valueOrNumber:L;\n", m)
+        .addCode(invalidateCaches)
+        .addStatement("return this")
         .build
       t.addMethod(setter)
     }
@@ -448,7 +585,9 @@ class FieldGenerator(val info: FieldInfo):
       .addModifiers(Modifier.PUBLIC)
       .addParameter(classOf[Int], "value", Modifier.FINAL)
       .returns(info.parentType)
-      .addNamedCode("" + "$field:N = value;\n" + "return this;\n", m)
+      .addNamedCode("$field:N = value;\n", m)
+      .addCode(invalidateCaches)
+      .addStatement("return this")
       .build
     )
   }
@@ -458,7 +597,17 @@ class FieldGenerator(val info: FieldInfo):
       .addAnnotations(info.methodAnnotations)
       .addModifiers(Modifier.PUBLIC)
     if (info.isRepeated)
-      getter.returns(storeType).addStatement(named("return $field:N"))
+      // The store may be modified by the caller
+      getter.returns(storeType)
+        .addCode(if tracksSizes then CodeBlock.builder.addStatement("invalidateSize()").build
+          else FieldGenerator.EMPTY_BLOCK)
+        .addStatement(named("return $field:N"))
+    else if (info.isLazyString)
+      getter.returns(typeName)
+        .beginControlFlow(named("if ($field:N == null)"))
+        .addStatement(named("$field:N = $utf8Field:N.toStringUtf8()"))
+        .endControlFlow
+        .addStatement(named("return $field:N"))
     else if (info.isString)
       getter.returns(typeName).addStatement(named("return $field:N"))
     else if (info.isEnum)
@@ -475,6 +624,21 @@ class FieldGenerator(val info: FieldInfo):
       .add("\n@return the $L", info.fieldName)
       .build
     ).build)
+    if (info.isLazyString) t.addMethod(MethodSpec.methodBuilder(info.utf8GetterName)
+      .addJavadoc(Javadoc.forMessageField(info)
+        .add("\nReturns the UTF-8 encoding of this field without decoding it.")
+        .add("\n@return the UTF-8 encoded $L", info.fieldName)
+        .build
+      )
+      .addAnnotations(info.methodAnnotations)
+      .addModifiers(Modifier.PUBLIC)
+      .returns(info.parentTypeInfo.bytesType)
+      .beginControlFlow(named("if ($utf8Field:N == null)"))
+      .addStatement(named("$utf8Field:N = $bytesType:T.copyFromUtf8($field:N)"))
+      .endControlFlow
+      .addStatement(named("return $utf8Field:N"))
+      .build
+    )
 
   private def named(format: String, args: AnyRef*) =
     CodeBlock.builder.addNamed(format, m).build
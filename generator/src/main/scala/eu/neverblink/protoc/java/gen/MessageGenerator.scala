@@ -5,6 +5,7 @@ import eu.neverblink.protoc.java.gen.RequestInfo.MessageInfo
 
 import java.io.IOException
 import java.util.function.Consumer
+import scala.jdk.CollectionConverters.*
 import javax.lang.model.element.Modifier
 
 /*-
@@ -29,6 +30,18 @@ import javax.lang.model.element.Modifier
  * #L%
  */
 
+object MessageGenerator:
+  // Large odd multiplier (the 32-bit FNV prime), so that combining small values such as
+  // the two ids of an IRI doesn't collide the way 31 * a + b does
+  val HashMultiplier = "0x01000193"
+
+  // Statements that discard the cached values of a message after it was modified
+  def invalidateCaches(info: MessageInfo): CodeBlock =
+    val code = CodeBlock.builder
+    if info.tracksSizes then code.addStatement("invalidateSize()")
+    if info.cachesHashCode then code.addStatement("cachedHashCode = 0")
+    code.build
+
 /**
  * @author Florian Enner
  * @author Piotr Sowiński
@@ -109,19 +122,57 @@ class MessageGenerator(val info: MessageInfo):
     fields.foreach(_.generateMemberFields(t))
     // OneOf fields and methods
     oneOfGenerators.foreach(_.generateMemberFields(t))
+    if info.cachesHashCode then t.addField(FieldSpec.builder(TypeName.INT, "cachedHashCode")
+      .addJavadoc("Result of {@link #hashCode()}, or 0 if it needs to be computed.\n")
+      .addModifiers(Modifier.PROTECTED)
+      .build
+    )
+    if info.tracksSizes then t.addField(FieldSpec.builder(ParameterizedTypeName.get(
+        RuntimeClasses.AbstractMessage, WildcardTypeName.subtypeOf(classOf[Object])
+      ), "sizeParent")
+      .addJavadoc("Message whose cached size includes the size of this message, or null.\n")
+      .addModifiers(Modifier.PROTECTED)
+      .build
+    )
+    if info.tracksSizes then t.addField(FieldSpec.builder(TypeName.BOOLEAN, "sizeShared")
+      .addJavadoc("Whether this message was linked to more than one size parent.\n")
+      .addModifiers(Modifier.PROTECTED)
+      .build
+    )
+    if info.tracksSizes then t.addField(FieldSpec.builder(TypeName.BOOLEAN, "sizeUntracked")
+      .addJavadoc("Whether the cached size includes shared messages, so that it has to be computed again.\n")
+      .addModifiers(Modifier.PROTECTED)
+      .build
+    )
+    if info.storesUnknownFields then generateUnknownBytes(t)
     oneOfGenerators.foreach(_.generateMemberMethods(t, tMutable))
     // Fields accessors
     fields.foreach(_.generateMemberMethods(t, tMutable))
     generateCopyFrom(tMutable)
+    generateClear(tMutable)
     generateMergeFromMessage(tMutable)
     generateEquals(t)
-    generateWriteTo(t)
+    generateHashCode(t)
+    if !info.targetsLiteRuntime then generateWriteTo(t, RuntimeClasses.CodedOutputStream)
+    if info.writesProtoSink then generateWriteTo(t, RuntimeClasses.ProtoSink)
     generateComputeSerializedSize(t)
+    if info.tracksSizes then generateSizeTracking(t)
     generateMergeFrom(tMutable)
+    if info.supportsProjections then generateMergeFrom(tMutable, projected = true)
+    if info.supportsProjections && oneOfGenerators.nonEmpty then generateHasOneOfMember(t)
+    generateRowCount(t)
+    if info.usesExplicitStack then generateExplicitStack(t, tMutable)
+    if info.emitsMetrics then generateMeasuredMergeFrom(tMutable)
+    // The lite ProtoMessage always reads array input
+    if info.readsArrayInput && !info.targetsLiteRuntime then generateReadsArrayInput(t)
+    // The lite ProtoMessage always writes through the ProtoSink
+    if info.writesProtoSink && !info.targetsLiteRuntime then generateWritesProtoSink(t)
     generateClone(t)
     // Static utilities
     oneOfGenerators.foreach(_.generateConstants(t))
+    if info.supportsProjections then generateFieldNumbers(t)
     generateParseFrom(t)
+    generateStreamRepeated(t)
     generateMessageFactory(t)
     generateAsImmutable(tMutable)
     // Descriptors
@@ -129,6 +180,61 @@ class MessageGenerator(val info: MessageInfo):
     t.addType(tMutable.build)
     t.build
 
+  private def generateUnknownBytes(t: TypeSpec.Builder): Unit =
+    t.addField(FieldSpec.builder(info.bytesType, "unknownBytes")
+      .addJavadoc("Fields that were not recognized while parsing, in their serialized form.\n")
+      .addModifiers(Modifier.PROTECTED)
+      .initializer("$T.EMPTY", info.bytesType)
+      .build
+    )
+    t.addMethod(MethodSpec.methodBuilder("getUnknownBytes")
+      .addJavadoc("Returns the fields that were not recognized while parsing, for example fields added\n" +
+        "in a newer version of the schema. They are written back as they were read when this\n" +
+        "message is serialized.\n" +
+        "\n" +
+        "@return the unknown fields in their serialized form, including their tags\n"
+      )
+      .addModifiers(Modifier.PUBLIC)
+      .returns(info.bytesType)
+      .addStatement("return unknownBytes")
+      .build
+    )
+
+  // Lets filtering parsers drop messages whose oneof members were all skipped
+  private def generateHasOneOfMember(t: TypeSpec.Builder): Unit =
+    val hasMember = oneOfGenerators.map(oneOf => CodeBlock.of("$N != 0", oneOf.info.numberFieldName))
+    t.addMethod(MethodSpec.methodBuilder("hasOneOfMember")
+      .addJavadoc(Javadoc.inherit)
+      .addAnnotation(classOf[Override])
+      .addModifiers(Modifier.PROTECTED)
+      .returns(classOf[Boolean])
+      .addStatement("return $L", CodeBlock.join(hasMember.asJava, " || "))
+      .build
+    )
+
+  // Rows reported in the Flight Recorder events of the runtime
+  private def generateRowCount(t: TypeSpec.Builder): Unit =
+    val repeatedMessages = fields.filter(f => f.info.isRepeated && f.info.isMessage && !f.info.isMap)
+    if repeatedMessages.nonEmpty then t.addMethod(MethodSpec.methodBuilder("getRowCount")
+      .addJavadoc(Javadoc.inherit)
+      .addAnnotation(classOf[Override])
+      .addModifiers(Modifier.PROTECTED)
+      .returns(TypeName.INT)
+      .addStatement("return $L", CodeBlock.join(
+        repeatedMessages.map(f => CodeBlock.of("$N.size()", f.info.fieldName)).asJava, " + "
+      ))
+      .build
+    )
+
+  // Field numbers for selecting the skipped fields in a ProjectionMask
+  private def generateFieldNumbers(t: TypeSpec.Builder): Unit =
+    for field <- allFields do
+      t.addField(FieldSpec.builder(TypeName.INT, NamingUtil.getConstantName(field.info.fieldName) + "_FIELD_NUMBER")
+        .addModifiers(Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+        .initializer("$L", field.info.number)
+        .build
+      )
+
   private def generateAsImmutable(t: TypeSpec.Builder): Unit =
     t.addMethod(MethodSpec.methodBuilder("asImmutable")
       .addJavadoc("Returns this message as an immutable message, without any copies.")
@@ -152,8 +258,40 @@ class MessageGenerator(val info: MessageInfo):
       .addStatement("return false")
       .endControlFlow
     equals.addStatement("$1T other = ($1T) o", info.typeName)
+    if info.usesExplicitStack then
+      val equalsFields = MethodSpec.methodBuilder("equalsFields")
+        .addJavadoc("Compares the fields of this message, except for the contents of the nested messages of\n" +
+          "the same type, which are only checked to be set in both messages.\n"
+        )
+        .addModifiers(Modifier.PRIVATE)
+        .returns(classOf[Boolean])
+        .addParameter(info.typeName, "other", Modifier.FINAL)
+      generateFieldsEquality(equalsFields)
+      t.addMethod(equalsFields.build)
+      equals.beginControlFlow("if (!equalsFields(other))")
+        .addStatement("return false")
+        .endControlFlow
+        .addComment("Nested messages of the same type are compared in this loop, with the pairs left to compare kept on the heap")
+        .addStatement("final $T pending = addNestedTo(null, other)", nestedList)
+        .beginControlFlow("if (pending != null)")
+        .beginControlFlow("while (!pending.isEmpty())")
+        .addStatement("final $T nestedOther = pending.remove(pending.size() - 1)", info.typeName)
+        .addStatement("final $T nested = pending.remove(pending.size() - 1)", info.typeName)
+        .beginControlFlow("if (nested != nestedOther)")
+        .beginControlFlow("if (!nested.equalsFields(nestedOther))")
+        .addStatement("return false")
+        .endControlFlow
+        .addStatement("nested.addNestedTo(pending, nestedOther)")
+        .endControlFlow
+        .endControlFlow
+        .endControlFlow
+        .addStatement("return true")
+    else generateFieldsEquality(equals)
+    t.addMethod(equals.build)
+
+  private def generateFieldsEquality(equals: MethodSpec.Builder): Unit =
     // Check whether all of the same fields are set
-    if (info.fieldCount > 0) {
+    if (info.fieldCount > 0 || info.storesUnknownFields) {
       equals.addCode("return $>")
       var i = 0
       for field <- fields do
@@ -164,18 +302,89 @@ class MessageGenerator(val info: MessageInfo):
         if i > 0 then equals.addCode("\n&& ")
         oneOf.generateEqualsStatement(equals)
         i += 1
+      if info.storesUnknownFields then
+        if i > 0 then equals.addCode("\n&& ")
+        equals.addCode("unknownBytes.equals(other.unknownBytes)")
       equals.addCode(";$<\n")
     }
     else equals.addCode("return true;\n")
-    t.addMethod(equals.build)
 
-  private def generateMergeFrom(t: TypeSpec.Builder): Unit =
-    val mergeFrom = MethodSpec.methodBuilder("mergeFrom")
+  private def generateHashCode(t: TypeSpec.Builder): Unit =
+    val hashCode = MethodSpec.methodBuilder("hashCode")
       .addJavadoc(Javadoc.inherit)
       .addAnnotation(classOf[Override])
-      .addModifiers(Modifier.PUBLIC).returns(info.mutableTypeName)
+      .addModifiers(Modifier.PUBLIC)
+      .returns(classOf[Int])
+    // With an explicit stack, the fields of each message are hashed by hashFields
+    val initialHash = if info.usesExplicitStack then "hashFields(1)" else "1"
+    if info.cachesHashCode then
+      hashCode.addStatement("int _hash = cachedHashCode")
+        .beginControlFlow("if (_hash == 0)")
+        .addStatement("_hash = $L", initialHash)
+    else hashCode.addStatement("int _hash = $L", initialHash)
+    if info.usesExplicitStack then
+      val hashFields = MethodSpec.methodBuilder("hashFields")
+        .addJavadoc("Continues the hash code with the fields of this message, except for the contents of the\n" +
+          "nested messages of the same type.\n"
+        )
+        .addModifiers(Modifier.PRIVATE)
+        .returns(classOf[Int])
+        .addParameter(TypeName.INT, "_hash")
+      generateFieldsHash(hashFields)
+      t.addMethod(hashFields.addStatement("return _hash").build)
+      hashCode.addComment("Nested messages of the same type are hashed in this loop in pre-order, with the ones left to hash kept on the heap")
+        .addStatement("final $T pending = addNestedTo(null, null)", nestedList)
+        .beginControlFlow("if (pending != null)")
+        .beginControlFlow("while (!pending.isEmpty())")
+        .addStatement("final $T nested = pending.remove(pending.size() - 1)", info.typeName)
+        .addStatement("_hash = nested.hashFields(_hash)")
+        .addStatement("nested.addNestedTo(pending, null)")
+        .endControlFlow
+        .endControlFlow
+    else generateFieldsHash(hashCode)
+    if info.cachesHashCode then
+      hashCode.addStatement("cachedHashCode = _hash").endControlFlow
+    hashCode.addStatement("return _hash")
+    t.addMethod(hashCode.build)
+
+  private def generateFieldsHash(method: MethodSpec.Builder): Unit =
+    fields.foreach(_.generateHashCodeStatement(method))
+    oneOfGenerators.foreach(_.generateHashCodeStatement(method))
+    if info.storesUnknownFields then
+      method.addStatement("_hash = $L * _hash + unknownBytes.hashCode()", MessageGenerator.HashMultiplier)
+
+  // The projected variant is a separate method without the fall-through optimization, which checks
+  // each tag against the skipped fields first. This keeps the checks out of the regular parser.
+  private def generateMergeFrom(t: TypeSpec.Builder, projected: Boolean = false): Unit =
+    // With an explicit stack, the parser returns nested messages of the same type to the loop
+    // in mergeFrom instead of calling itself
+    val mergeFrom = if info.usesExplicitStack then
+      MethodSpec.methodBuilder(if projected then "mergeProjectedFieldsFrom" else "mergeFieldsFrom")
+        .addJavadoc("Parses the fields of this message, starting with the given tag. Stops at the end of the\n" +
+          "message, or at a nested message of the same type, which is returned to be parsed next.\n" +
+          (if projected then "Skips the fields in the given bit set.\n" else "") +
+          "\n" +
+          "@return the nested message, or null at the end of this message\n"
+        )
+        .addModifiers(Modifier.PRIVATE).returns(info.mutableTypeName)
+        .addParameter(RuntimeClasses.LimitedCodedInputStream, "inputLimited", Modifier.FINAL)
+        .addParameter(TypeName.INT, "tag")
+        .addException(classOf[IOException])
+    else if projected then MethodSpec.methodBuilder("mergeProjectedFrom")
+      .addJavadoc("Parses this message like {@link #mergeFrom(LimitedCodedInputStream)}, but skips the fields\n" +
+        "in the given bit set.\n"
+      )
+      .addModifiers(Modifier.PRIVATE).returns(info.mutableTypeName)
       .addParameter(RuntimeClasses.LimitedCodedInputStream, "inputLimited", Modifier.FINAL)
       .addException(classOf[IOException])
+    else mergeFromEntryPoint
+    if projected then mergeFrom.addParameter(classOf[Array[Long]], "skippedFields", Modifier.FINAL)
+    else if info.supportsProjections && !info.usesExplicitStack then
+      mergeFrom.addStatement("final long[] skippedFields = inputLimited.getSkippedFields($T.getFactory())", info.typeName)
+        .beginControlFlow("if (skippedFields != null)")
+        .addStatement("return mergeProjectedFrom(inputLimited, skippedFields)")
+        .endControlFlow
+    val endOfMessage = if info.usesExplicitStack then "null" else "this"
     // Fallthrough optimization:
     //
     // Reads tag after case parser and checks if it can fall-through. In the ideal case if all fields are set
@@ -185,13 +394,15 @@ class MessageGenerator(val info: MessageInfo):
     // Packable fields make this a bit more complex since they need to generate two cases to preserve
     // backwards compatibility. However, any production proto file should already be using the packed
     // option whenever possible, so we don't need to optimize the non-packed case.
-    val enableFallthroughOptimization = true
+    val enableFallthroughOptimization = !projected
     // Interleave the oneof fields. In Jelly-RDF, this optimizes for the case where s, p, o, g are
     // all RdfIri messages.
-    val sortedFields = fields.sortBy(_.info.number) ++
+    val sortedFields = orderByProfile(fields.sortBy(_.info.number) ++
       oneOfGenerators.flatMap(oneOf => oneOf.fieldGenerators.zipWithIndex)
       .sortBy(_._2)
       .map(_._1)
+    )
+    mergeFrom.addCode(MessageGenerator.invalidateCaches(info))
     if (enableFallthroughOptimization) {
       mergeFrom.addComment("Enabled Fall-Through Optimization")
       mergeFrom.addAnnotation(AnnotationSpec
@@ -200,10 +411,15 @@ class MessageGenerator(val info: MessageInfo):
         .build
       )
     }
-    mergeFrom.addStatement("final $T input = inputLimited.in()", RuntimeClasses.CodedInputStream)
-      .addStatement(named("int tag = input.readTag()"))
-      .beginControlFlow("while (true)")
-      .beginControlFlow("switch (tag)")
+    mergeFrom.addCode(declareInput)
+    if !info.usesExplicitStack then mergeFrom.addStatement(named("int tag = input.readTag()"))
+    mergeFrom.beginControlFlow("while (true)")
+    if projected then mergeFrom.beginControlFlow("if ($T.isSkipped(skippedFields, tag))", RuntimeClasses.ProjectionMask)
+      .beginControlFlow(named("if (!input.skipField(tag))")).addStatement("return $L", endOfMessage).endControlFlow
+      .addStatement(named("tag = input.readTag()"))
+      .addStatement("continue")
+      .endControlFlow
+    mergeFrom.beginControlFlow("switch (tag)")
     // Add fields by the expected order and type
     for (i <- sortedFields.indices) {
       val field = sortedFields(i)
@@ -222,8 +438,11 @@ class MessageGenerator(val info: MessageInfo):
           case Some(oneOf) => oneOf.generateMergingCode(mergeFrom, field)
           case None => field.generateMergingCode(mergeFrom)
       }
-      if (readTag) mergeFrom.addCode(named("tag = input.readTag();\n"))
-      if (enableFallthroughOptimization) {
+      if (field.info.isOnExplicitStack) {
+        // The case ends by returning the nested message
+      }
+      else if (enableFallthroughOptimization) {
+        if (readTag) mergeFrom.addCode(named("tag = input.readTag();\n"))
         // try falling to 0 (exit) at last field
         val nextCase = if (i == sortedFields.size - 1) 0
         else getPackedTagOrTag(sortedFields(i + 1))
@@ -231,15 +450,26 @@ class MessageGenerator(val info: MessageInfo):
         mergeFrom.addStatement("break")
         mergeFrom.endControlFlow
       }
-      else mergeFrom.addStatement("break")
+      else {
+        if (readTag) mergeFrom.addCode(named("tag = input.readTag();\n"))
+        mergeFrom.addStatement("break")
+      }
       mergeFrom.endControlFlow
     }
     // zero means invalid tag / end of data
-    mergeFrom.beginControlFlow("case 0:").addStatement("return this").endControlFlow
-    // default case -> skip field
-    val ifSkipField = named("if (!input.skipField(tag))")
-    mergeFrom.beginControlFlow("default:").beginControlFlow(ifSkipField).addStatement("return this")
-    mergeFrom.endControlFlow.addStatement(named("tag = input.readTag()")).addStatement("break").endControlFlow
+    mergeFrom.beginControlFlow("case 0:").addStatement("return $L", endOfMessage).endControlFlow
+    // default case -> skip field, or keep it as unknown bytes
+    mergeFrom.beginControlFlow("default:")
+    if info.emitsMetrics then generateMetricsHook(mergeFrom, "unknownField(this, tag)")
+    if info.storesUnknownFields then
+      mergeFrom.addStatement("final $T unknown = $T.readUnknownField(inputLimited, tag, unknownBytes)",
+          info.bytesType, RuntimeClasses.AbstractMessage)
+        .beginControlFlow("if (unknown == null)").addStatement("return $L", endOfMessage).endControlFlow
+        .addStatement("unknownBytes = unknown")
+    else
+      mergeFrom.beginControlFlow(named("if (!input.skipField(tag))")).addStatement("return $L", endOfMessage)
+        .endControlFlow
+    mergeFrom.addStatement(named("tag = input.readTag()")).addStatement("break").endControlFlow
     // Generate missing non-packed cases for packable fields for compatibility reasons
     for (field <- sortedFields) {
       if (field.info.isPackable) {
@@ -254,28 +484,343 @@ class MessageGenerator(val info: MessageInfo):
     mergeFrom.endControlFlow
     t.addMethod(mergeFrom.build)
 
+  // The method that parses the whole message. With metrics, it is wrapped by a mergeFrom that
+  // reports the parsed message.
+  private def mergeFromEntryPoint: MethodSpec.Builder =
+    val mergeFrom = if info.emitsMetrics then MethodSpec.methodBuilder("mergeMessageFrom")
+      .addJavadoc("Parses this message like {@link #mergeFrom(LimitedCodedInputStream)}, without reporting it\n" +
+        "to the metrics of the input.\n"
+      )
+      .addModifiers(Modifier.PRIVATE)
+    else MethodSpec.methodBuilder("mergeFrom")
+      .addJavadoc(Javadoc.inherit)
+      .addAnnotation(classOf[Override])
+      .addModifiers(Modifier.PUBLIC)
+    mergeFrom.returns(info.mutableTypeName)
+      .addParameter(RuntimeClasses.LimitedCodedInputStream, "inputLimited", Modifier.FINAL)
+      .addException(classOf[IOException])
+
+  private def generateMeasuredMergeFrom(t: TypeSpec.Builder): Unit =
+    t.addMethod(MethodSpec.methodBuilder("mergeFrom")
+      .addJavadoc(Javadoc.inherit)
+      .addAnnotation(classOf[Override])
+      .addModifiers(Modifier.PUBLIC).returns(info.mutableTypeName)
+      .addParameter(RuntimeClasses.LimitedCodedInputStream, "inputLimited", Modifier.FINAL)
+      .addException(classOf[IOException])
+      .beginControlFlow("if ($T.ENABLED && inputLimited.getMetrics() != null)", RuntimeClasses.ProtoMetrics)
+      .addStatement("final int start = inputLimited.getTotalBytesRead()")
+      .addStatement("mergeMessageFrom(inputLimited)")
+      .addStatement("final int bytes = inputLimited.getTotalBytesRead() - start")
+      .addStatement("inputLimited.getMetrics().messageDecoded(this, bytes, inputLimited.getRecursionDepth())")
+      .addStatement("return this")
+      .endControlFlow
+      .addStatement("return mergeMessageFrom(inputLimited)")
+      .build
+    )
+
+  // With array_input, the fields are read through the final LimitedCodedInputStream
+  private def declareInput: CodeBlock =
+    if info.readsArrayInput then CodeBlock.of("final $T input = inputLimited;\n", RuntimeClasses.LimitedCodedInputStream)
+    else CodeBlock.of("final $T input = inputLimited.in();\n", RuntimeClasses.CodedInputStream)
+
+  private def generateReadsArrayInput(t: TypeSpec.Builder): Unit =
+    t.addMethod(MethodSpec.methodBuilder("readsArrayInput")
+      .addJavadoc(Javadoc.inherit)
+      .addAnnotation(classOf[Override])
+      .addModifiers(Modifier.PROTECTED)
+      .returns(classOf[Boolean])
+      .addStatement("return true")
+      .build
+    )
+
+  private def generateWritesProtoSink(t: TypeSpec.Builder): Unit =
+    t.addMethod(MethodSpec.methodBuilder("writesProtoSink")
+      .addJavadoc(Javadoc.inherit)
+      .addAnnotation(classOf[Override])
+      .addModifiers(Modifier.PROTECTED)
+      .returns(classOf[Boolean])
+      .addStatement("return true")
+      .build
+    )
+
+  // Calls the ProtoMetrics listener of the input, if it has one
+  private def generateMetricsHook(method: MethodSpec.Builder, call: String): Unit =
+    method.beginControlFlow("if ($T.ENABLED && inputLimited.getMetrics() != null)", RuntimeClasses.ProtoMetrics)
+      .addStatement("inputLimited.getMetrics().$L", call)
+      .endControlFlow
+
+  // With a profile, the chain is built like a profile-guided code layout: the recorded transitions
+  // are visited from the most frequent one, and each links two chains of fields if it leads from
+  // the tail of one to the head of the other. The end of the message (0) can only be last, and
+  // the other chains are ordered by how often they start the message. Ties keep the default order.
+  private def orderByProfile(defaultOrder: Seq[FieldGenerator]): Seq[FieldGenerator] =
+    info.options.fieldOrderProfile.filter(_.hasType(info.fullName)) match
+      case None => defaultOrder
+      case Some(profile) =>
+        def count(from: Int, to: Int) = profile.getCount(info.fullName, from, to)
+        val numbers = defaultOrder.map(_.info.number)
+        val transitions = for
+          from <- numbers
+          to <- numbers :+ 0
+          if from != to && count(from, to) > 0
+        yield (from, to)
+        val chains = scala.collection.mutable.Map.from((numbers :+ 0).map(n => n -> Seq(n)))
+        for (from, to) <- transitions.sortBy((from, to) => -count(from, to)) do
+          val head = chains(from)
+          val tail = chains(to)
+          if (head ne tail) && head.last == from && tail.head == to then
+            val joined = head ++ tail
+            joined.foreach(chains(_) = joined)
+        val ordered = numbers.map(chains).distinct
+          .sortBy(chain => (chain.last == 0, -count(0, chain.head)))
+          .flatten
+        ordered.filter(_ != 0).map(n => defaultOrder.find(_.info.number == n).get)
+
   private def getPackedTagOrTag(field: FieldGenerator): Int =
     if (field.info.isPackable) return field.info.packedTag
     field.info.tag
 
-  private def generateWriteTo(t: TypeSpec.Builder): Unit =
+  // The write methods are generated for CodedOutputStream, and with proto_sink also for ProtoSink.
+  // Messages targeting the lite runtime are only written to ProtoSink
+  private def generateWriteTo(t: TypeSpec.Builder, output: ClassName): Unit =
+    val sink = output == RuntimeClasses.ProtoSink
     val writeTo = MethodSpec.methodBuilder("writeTo")
       .addJavadoc(Javadoc.inherit)
       .addAnnotation(classOf[Override])
       .addModifiers(Modifier.PUBLIC)
       .returns(classOf[Unit])
-      .addParameter(RuntimeClasses.CodedOutputStream, "output", Modifier.FINAL)
+      .addParameter(output, "output", Modifier.FINAL)
       .addException(classOf[IOException])
+    if info.usesExplicitStack then
+      // Only messages with nested messages of the same type use the stack
+      writeTo.beginControlFlow("if ($L)", hasNestedOnStack)
+        .addStatement("writeNestedTo(output)")
+        .addStatement("return")
+        .endControlFlow
+      generateWriteNestedTo(t, output)
+      generateWriteSegment(t, output)
     fields.foreach(f => {
       val checker = CodeBlock.builder().add("if (")
       f.generateHasChecker(checker)
       writeTo.beginControlFlow(checker.add(")").build())
-      f.generateSerializationCode(writeTo)
+      f.generateSerializationCode(writeTo, returnNested = false, sink)
       writeTo.endControlFlow
     })
-    oneOfGenerators.foreach(_.generateWriteToCode(writeTo))
+    oneOfGenerators.foreach(_.generateWriteToCode(writeTo, returnNested = false, sink))
+    if info.storesUnknownFields then generateUnknownBytesWriting(writeTo)
     t.addMethod(writeTo.build)
 
+  private def generateUnknownBytesWriting(method: MethodSpec.Builder): Unit =
+    method.beginControlFlow("if (!unknownBytes.isEmpty())")
+      .addStatement("output.writeRawBytes(unknownBytes)")
+      .endControlFlow
+
+  // Checks if a nested message of the same type is set in any field
+  private def hasNestedOnStack: CodeBlock =
+    CodeBlock.join(allFields.filter(_.info.isOnExplicitStack).map(hasNestedOnStack).asJava, " || ")
+
+  private def hasNestedOnStack(field: FieldGenerator): CodeBlock =
+    val checker = CodeBlock.builder()
+    oneOfGenerators.find(_.fields.contains(field.info)) match
+      case Some(oneOf) => checker.add("$N == $L", oneOf.info.numberFieldName, field.info.descriptor.getNumber)
+      case None => field.generateHasChecker(checker)
+    checker.build
+
+  // Fields and oneofs in the order in which they are written, split after each one that can hold
+  // a nested message of the same type
+  private lazy val writeSegments: Seq[Seq[Either[FieldGenerator, OneOfGenerator]]] =
+    val groups = fields.map(Left(_)) ++ oneOfGenerators.map(Right(_))
+    groups.foldLeft(Seq(Seq.empty[Either[FieldGenerator, OneOfGenerator]]))((segments, group) => {
+      val extended = segments.init :+ (segments.last :+ group)
+      val endsSegment = group.fold(_.info.isOnExplicitStack, _.fields.exists(_.isOnExplicitStack))
+      if endsSegment then extended :+ Seq() else extended
+    }).filter(_.nonEmpty)
+
+  private def generateWriteSegment(t: TypeSpec.Builder, output: ClassName): Unit =
+    val sink = output == RuntimeClasses.ProtoSink
+    val writeSegment = MethodSpec.methodBuilder("writeSegment")
+      .addJavadoc("Writes one segment of the fields of this message. A segment ends with the header of a\n" +
+        "nested message of the same type, which is returned to be written next.\n" +
+        "\n" +
+        "@return the nested message, or null if there is none in this segment\n"
+      )
+      .addModifiers(Modifier.PRIVATE)
+      .returns(info.typeName)
+      .addParameter(output, "output", Modifier.FINAL)
+      .addParameter(TypeName.INT, "segment", Modifier.FINAL)
+      .addException(classOf[IOException])
+      .beginControlFlow("switch (segment)")
+    for (segment, i) <- writeSegments.zipWithIndex do
+      writeSegment.beginControlFlow("case $L:", i)
+      segment.foreach {
+        case Left(f) =>
+          val checker = CodeBlock.builder().add("if (")
+          f.generateHasChecker(checker)
+          writeSegment.beginControlFlow(checker.add(")").build())
+          f.generateSerializationCode(writeSegment, sink = sink)
+          writeSegment.endControlFlow
+        case Right(oneOf) => oneOf.generateWriteToCode(writeSegment, sink = sink)
+      }
+      writeSegment.addStatement("break").endControlFlow
+    if info.storesUnknownFields then
+      writeSegment.beginControlFlow("case $L:", writeSegments.size)
+      generateUnknownBytesWriting(writeSegment)
+      writeSegment.addStatement("break").endControlFlow
+    writeSegment.endControlFlow.addStatement("return null")
+    t.addMethod(writeSegment.build)
+
+  private def generateWriteNestedTo(t: TypeSpec.Builder, output: ClassName): Unit =
+    val stack = ParameterizedTypeName.get(RuntimeClasses.MessageStack, info.typeName)
+    val writeNestedTo = MethodSpec.methodBuilder("writeNestedTo")
+      .addJavadoc("Writes this message, and the nested messages of the same type in a loop, with their\n" +
+        "parents kept on the heap instead of the call stack.\n"
+      )
+      .addModifiers(Modifier.PRIVATE)
+      .addParameter(output, "output", Modifier.FINAL)
+      .addException(classOf[IOException])
+    val segmentCount = if info.storesUnknownFields then writeSegments.size + 1 else writeSegments.size
+    writeNestedTo.addStatement("$T current = this", info.typeName)
+      .addStatement("int segment = 0")
+      .addStatement("$T stack = null", stack)
+      .beginControlFlow("while (true)")
+      .beginControlFlow("if (segment < $L)", segmentCount)
+      .addStatement("final $T nested = current.writeSegment(output, segment++)", info.typeName)
+      .beginControlFlow("if (nested != null)")
+      .beginControlFlow("if (stack == null)")
+      .addStatement("stack = new $T<>()", RuntimeClasses.MessageStack)
+      .endControlFlow
+      .addStatement("stack.push(current, segment)")
+      .addStatement("current = nested")
+      .addStatement("segment = 0")
+      .endControlFlow
+      .nextControlFlow("else if (stack == null || stack.isEmpty())")
+      .addStatement("return")
+      .nextControlFlow("else")
+      .addStatement("current = stack.message()")
+      .addStatement("segment = stack.state()")
+      .addStatement("stack.pop()")
+      .endControlFlow
+      .endControlFlow
+    t.addMethod(writeNestedTo.build)
+
+  private def generateExplicitStack(t: TypeSpec.Builder, tMutable: TypeSpec.Builder): Unit =
+    val mutableStack = ParameterizedTypeName.get(RuntimeClasses.MessageStack, info.mutableTypeName)
+    val mergeFrom = mergeFromEntryPoint
+      .addComment("Nested messages of the same type are parsed in this loop, with their parents kept on the heap")
+      .addCode(declareInput)
+      .addStatement("$T current = this", info.mutableTypeName)
+      .addStatement("$T stack = null", mutableStack)
+      .addCode(if info.supportsProjections then CodeBlock.of(
+        "final long[] skippedFields = inputLimited.getSkippedFields($T.getFactory());\n", info.typeName
+      ) else CodeBlock.of(""))
+      .addStatement("int tag = input.readTag()")
+      .beginControlFlow("while (true)")
+      .addCode(if info.supportsProjections then CodeBlock.of(
+        "final $1T nested = skippedFields == null\n$>? current.mergeFieldsFrom(inputLimited, tag)\n" +
+          ": current.mergeProjectedFieldsFrom(inputLimited, tag, skippedFields);\n$<", info.mutableTypeName
+      ) else CodeBlock.of(
+        "final $T nested = current.mergeFieldsFrom(inputLimited, tag);\n", info.mutableTypeName
+      ))
+      .beginControlFlow("if (nested != null)")
+      .beginControlFlow("if (stack == null)")
+      .addStatement("stack = new $T<>()", RuntimeClasses.MessageStack)
+      .endControlFlow
+      .addStatement("final int length = input.readRawVarint32()")
+    // The nested message is reported when it is popped, with the bytes read since its start
+    if info.emitsMetrics then
+      mergeFrom.addStatement("stack.push(current, input.pushLimit(length), inputLimited.getTotalBytesRead())")
+    else mergeFrom.addStatement("stack.push(current, input.pushLimit(length))")
+    mergeFrom.addStatement("inputLimited.checkStackDepth(stack.size())")
+      .addStatement("current = nested")
+      .nextControlFlow("else if (stack == null || stack.isEmpty())")
+      .addStatement("return this")
+      .nextControlFlow("else")
+      .addStatement("input.checkLastTagWas(0)")
+    if info.emitsMetrics then generateMetricsHook(mergeFrom, "messageDecoded(current, " +
+      "inputLimited.getTotalBytesRead() - stack.offset(), inputLimited.getRecursionDepth() + stack.size())")
+    mergeFrom.addStatement("input.popLimit(stack.state())")
+      .addStatement("current = stack.message()")
+      .addStatement("stack.pop()")
+      .endControlFlow
+      .addStatement("tag = input.readTag()")
+      .endControlFlow
+    tMutable.addMethod(mergeFrom.build)
+    // The sizes of all nested messages of the same type are computed before the sizes of their
+    // parents, so that computeSerializedSize() can use their cached sizes
+    val list = nestedList
+    val getSerializedSize = MethodSpec.methodBuilder("getSerializedSize")
+      .addJavadoc(Javadoc.inherit)
+      .addAnnotation(classOf[Override])
+      .addModifiers(Modifier.PUBLIC)
+      .returns(classOf[Int])
+    if info.tracksSizes then getSerializedSize.beginControlFlow("if (cachedSize >= 0 && !sizeUntracked)")
+      .addStatement("return cachedSize")
+      .endControlFlow
+    t.addMethod(getSerializedSize
+      .addStatement("final $T nested = addNestedTo(null)", list)
+      .beginControlFlow("if (nested != null)")
+      .addComment("Lists the nested messages breadth-first, and computes their sizes from the deepest one")
+      .beginControlFlow("for (int i = 0; i < nested.size(); i++)")
+      .addStatement("nested.get(i).addNestedTo(nested)")
+      .endControlFlow
+      .beginControlFlow("for (int i = nested.size() - 1; i >= 0; i--)")
+      .addStatement("final $T msg = nested.get(i)", info.typeName)
+      .addCode(if info.tracksSizes then CodeBlock.of("msg.sizeUntracked = false;\n") else CodeBlock.of(""))
+      .addStatement("msg.cachedSize = msg.computeSerializedSize()")
+      .endControlFlow
+      .endControlFlow
+      .addCode(if info.tracksSizes then CodeBlock.of("sizeUntracked = false;\n") else CodeBlock.of(""))
+      .addStatement("final int size = computeSerializedSize()")
+      .addStatement("cachedSize = size")
+      .addStatement("return size")
+      .build
+    )
+    val addNestedTo = MethodSpec.methodBuilder("addNestedTo")
+      .addJavadoc("Adds the nested messages of the same type whose size needs to be computed to the list,\n" +
+        "creating it if it is null.\n" +
+        "\n" +
+        "@return the list, or null if it was null and no messages were added\n"
+      )
+      .addModifiers(Modifier.PRIVATE)
+      .returns(list)
+      .addParameter(list, "nested")
+    for field <- allFields if field.info.isOnExplicitStack do
+      val checker = CodeBlock.builder().add("if ($L", hasNestedOnStack(field))
+      if info.tracksSizes then checker.add(" && ($N().cachedSize < 0 || $N().sizeUntracked)",
+        field.info.getterName, field.info.getterName)
+      addNestedTo.beginControlFlow(checker.add(")").build())
+        .beginControlFlow("if (nested == null)")
+        .addStatement("nested = new $T<>()", classOf[java.util.ArrayList[?]])
+        .endControlFlow
+        .addStatement("nested.add($N())", field.info.getterName)
+        .endControlFlow
+    t.addMethod(addNestedTo.addStatement("return nested").build)
+    val addNestedPairsTo = MethodSpec.methodBuilder("addNestedTo")
+      .addJavadoc("Adds the nested messages of the same type to the list, creating it if it is null. Unless the\n" +
+        "other message is null, each one is followed by the nested message in the same field of the\n" +
+        "other message.\n" +
+        "\n" +
+        "@return the list, or null if it was null and no messages were added\n"
+      )
+      .addModifiers(Modifier.PRIVATE)
+      .returns(list)
+      .addParameter(list, "nested")
+      .addParameter(info.typeName, "other", Modifier.FINAL)
+    for field <- allFields if field.info.isOnExplicitStack do
+      addNestedPairsTo.beginControlFlow("if ($L)", hasNestedOnStack(field))
+        .beginControlFlow("if (nested == null)")
+        .addStatement("nested = new $T<>()", classOf[java.util.ArrayList[?]])
+        .endControlFlow
+        .addStatement("nested.add($N())", field.info.getterName)
+        .beginControlFlow("if (other != null)")
+        .addStatement("nested.add(other.$N())", field.info.getterName)
+        .endControlFlow
+        .endControlFlow
+    t.addMethod(addNestedPairsTo.addStatement("return nested").build)
+
+  private def nestedList: TypeName =
+    ParameterizedTypeName.get(ClassName.get(classOf[java.util.ArrayList[?]]), info.typeName)
+
   private def generateComputeSerializedSize(t: TypeSpec.Builder): Unit =
     val computeSerializedSize = MethodSpec.methodBuilder("computeSerializedSize")
       .addJavadoc(Javadoc.inherit)
@@ -292,9 +837,74 @@ class MessageGenerator(val info: MessageInfo):
       computeSerializedSize.endControlFlow
     })
     oneOfGenerators.foreach(_.generateComputeSerializedSizeCode(computeSerializedSize))
+    if info.storesUnknownFields then computeSerializedSize.addStatement("size += unknownBytes.size()")
     computeSerializedSize.addStatement("return size")
     t.addMethod(computeSerializedSize.build)
 
+  private def generateSizeTracking(t: TypeSpec.Builder): Unit =
+    // With an explicit stack, getSerializedSize() also checks the cached size
+    if !info.usesExplicitStack then t.addMethod(MethodSpec.methodBuilder("getSerializedSize")
+      .addJavadoc("Returns the cached size if the message was not modified since it was computed.\n")
+      .addAnnotation(classOf[Override])
+      .addModifiers(Modifier.PUBLIC)
+      .returns(classOf[Int])
+      .beginControlFlow("if (cachedSize >= 0 && !sizeUntracked)")
+      .addStatement("return cachedSize")
+      .endControlFlow
+      .addStatement("sizeUntracked = false")
+      .addStatement("return super.getSerializedSize()")
+      .build
+    )
+    t.addMethod(MethodSpec.methodBuilder("invalidateSize")
+      .addJavadoc(Javadoc.inherit)
+      .addAnnotation(classOf[Override])
+      .addModifiers(Modifier.PROTECTED)
+      .addStatement("$T.invalidateSizes(this)", RuntimeClasses.AbstractMessage)
+      .build
+    )
+    t.addMethod(MethodSpec.methodBuilder("getSizeParent")
+      .addJavadoc(Javadoc.inherit)
+      .addAnnotation(classOf[Override])
+      .addModifiers(Modifier.PROTECTED)
+      .returns(ParameterizedTypeName.get(
+        RuntimeClasses.AbstractMessage, WildcardTypeName.subtypeOf(classOf[Object])
+      ))
+      .addStatement("return sizeParent")
+      .build
+    )
+    t.addMethod(MethodSpec.methodBuilder("setSizeParent")
+      .addJavadoc(Javadoc.inherit)
+      .addAnnotation(classOf[Override])
+      .addModifiers(Modifier.PROTECTED)
+      .addParameter(ParameterizedTypeName.get(
+        RuntimeClasses.AbstractMessage, WildcardTypeName.subtypeOf(classOf[Object])
+      ), "parent", Modifier.FINAL)
+      .beginControlFlow("if (sizeParent != parent)")
+      .beginControlFlow("if (sizeParent != null && !sizeShared)")
+      .addComment("Modifications are not tracked by the first parent anymore")
+      .addStatement("sizeShared = true")
+      .addStatement("$T.invalidateSizes(sizeParent)", RuntimeClasses.AbstractMessage)
+      .endControlFlow
+      .addStatement("sizeParent = parent")
+      .endControlFlow
+      .build
+    )
+    t.addMethod(MethodSpec.methodBuilder("isSizeTracked")
+      .addJavadoc(Javadoc.inherit)
+      .addAnnotation(classOf[Override])
+      .addModifiers(Modifier.PROTECTED)
+      .returns(TypeName.BOOLEAN)
+      .addStatement("return !sizeShared && !sizeUntracked")
+      .build
+    )
+    t.addMethod(MethodSpec.methodBuilder("untrackSize")
+      .addJavadoc(Javadoc.inherit)
+      .addAnnotation(classOf[Override])
+      .addModifiers(Modifier.PROTECTED)
+      .addStatement("sizeUntracked = true")
+      .build
+    )
+
   private def generateCopyFrom(t: TypeSpec.Builder): Unit =
     val copyFrom = MethodSpec.methodBuilder("copyFrom")
       .addJavadoc(Javadoc.inherit)
@@ -302,11 +912,44 @@ class MessageGenerator(val info: MessageInfo):
       .addParameter(info.typeName, "other", Modifier.FINAL)
       .addModifiers(Modifier.PUBLIC)
       .returns(info.mutableTypeName)
-    copyFrom.addStatement("cachedSize = other.cachedSize")
-    fields.foreach(_.generateCopyFromCode(copyFrom))
-    oneOfGenerators.foreach(_.generateCopyFromCode(copyFrom))
+    generateFieldsCopy(copyFrom)
     copyFrom.addStatement("return this")
     t.addMethod(copyFrom.build)
+    if clonesNestedOnStack then
+      val copyFieldsFrom = MethodSpec.methodBuilder("copyFieldsFrom")
+        .addJavadoc("Copies the fields of the other message, except for the contents of the nested messages of\n" +
+          "the same type, which are left empty for the loop in clone.\n"
+        )
+        .addModifiers(Modifier.PRIVATE)
+        .addParameter(info.typeName, "other", Modifier.FINAL)
+      generateFieldsCopy(copyFieldsFrom, copiesNested = true)
+      t.addMethod(copyFieldsFrom.build)
+
+  private def generateFieldsCopy(copyFrom: MethodSpec.Builder, copiesNested: Boolean = false): Unit =
+    // Tracked sizes are not copied, because shared nested messages stay linked to the other message
+    if !info.tracksSizes then copyFrom.addStatement("cachedSize = other.cachedSize")
+    copyFrom.addCode(MessageGenerator.invalidateCaches(info))
+    if info.storesUnknownFields then copyFrom.addStatement("unknownBytes = other.unknownBytes")
+    fields.foreach(_.generateCopyFromCode(copyFrom, copiesNested))
+    oneOfGenerators.foreach(_.generateCopyFromCode(copyFrom, copiesNested))
+
+  // Nested messages of the same type that clone copies instead of sharing them with the original
+  private def clonesNestedOnStack: Boolean = allFields.exists(field => field.info.isOnExplicitStack &&
+    (info.options.reuseMessages || !oneOfGenerators.exists(_.fields.contains(field.info))))
+
+  private def generateClear(t: TypeSpec.Builder): Unit =
+    val clear = MethodSpec.methodBuilder("clear")
+      .addJavadoc(Javadoc.inherit)
+      .addAnnotation(classOf[Override])
+      .addModifiers(Modifier.PUBLIC)
+      .returns(info.mutableTypeName)
+    if !info.tracksSizes then clear.addStatement("cachedSize = -1")
+    clear.addCode(MessageGenerator.invalidateCaches(info))
+    if info.storesUnknownFields then clear.addStatement("unknownBytes = $T.EMPTY", info.bytesType)
+    fields.foreach(_.generateClearCode(clear))
+    oneOfGenerators.foreach(_.generateClearCode(clear))
+    clear.addStatement("return this")
+    t.addMethod(clear.build)
 
   private def generateMergeFromMessage(t: TypeSpec.Builder): Unit =
     val mergeFrom = MethodSpec.methodBuilder("mergeFrom")
@@ -314,7 +957,9 @@ class MessageGenerator(val info: MessageInfo):
       .addAnnotation(classOf[Override])
       .addParameter(info.typeName, "other", Modifier.FINAL)
       .addModifiers(Modifier.PUBLIC).returns(info.mutableTypeName)
-    mergeFrom.addStatement("cachedSize = -1")
+    if !info.tracksSizes then mergeFrom.addStatement("cachedSize = -1")
+    mergeFrom.addCode(MessageGenerator.invalidateCaches(info))
+    if info.storesUnknownFields then mergeFrom.addStatement("unknownBytes = unknownBytes.concat(other.unknownBytes)")
     fields.foreach(_.generateMergeFromMessageCode(mergeFrom))
     oneOfGenerators.foreach(_.generateMergeFromMessageCode(mergeFrom))
     mergeFrom.addStatement("return this")
@@ -322,24 +967,51 @@ class MessageGenerator(val info: MessageInfo):
 
   private def generateClone(t: TypeSpec.Builder): Unit =
     t.addSuperinterface(classOf[Cloneable])
-    t.addMethod(MethodSpec.methodBuilder("clone")
+    val clone = MethodSpec.methodBuilder("clone")
       .addJavadoc(Javadoc.inherit)
       .addAnnotation(classOf[Override])
       .addModifiers(Modifier.PUBLIC)
       .returns(info.mutableTypeName)
-      .addStatement("return newInstance().copyFrom(this)")
-      .build
-    )
+    // Only new messages are written, so the loop never reads a message it has already modified
+    if clonesNestedOnStack then
+      // Oneof members are shared without reuse_messages, and are not copied
+      val sharesNested = !info.options.reuseMessages
+        && allFields.exists(f => f.info.isOnExplicitStack && oneOfGenerators.exists(_.fields.contains(f.info)))
+      clone.addStatement("final $T copy = newInstance()", info.mutableTypeName)
+        .addStatement("copy.copyFieldsFrom(this)")
+        .addComment("Nested messages of the same type are copied in this loop, with the pairs left to copy kept on the heap")
+        .addStatement("final $T pending = addNestedTo(null, copy)", nestedList)
+        .beginControlFlow("if (pending != null)")
+        .beginControlFlow("while (!pending.isEmpty())")
+        .addStatement("final $1T nestedCopy = ($1T) pending.remove(pending.size() - 1)", info.mutableTypeName)
+        .addStatement("final $T nested = pending.remove(pending.size() - 1)", info.typeName)
+      if sharesNested then clone.beginControlFlow("if (nestedCopy != nested)")
+      clone.addStatement("nestedCopy.copyFieldsFrom(nested)")
+        .addStatement("nested.addNestedTo(pending, nestedCopy)")
+      if sharesNested then clone.endControlFlow
+      clone.endControlFlow
+        .endControlFlow
+        .addStatement("return copy")
+    else clone.addStatement("return newInstance().copyFrom(this)")
+    t.addMethod(clone.build)
 
   private def generateParseFrom(t: TypeSpec.Builder): Unit =
     t.addMethod(MethodSpec.methodBuilder("parseFrom")
       .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
-      .addException(RuntimeClasses.InvalidProtocolBufferException)
+      .addException(info.parseExceptionType)
       .addParameter(classOf[Array[Byte]], "data", Modifier.FINAL)
       .returns(info.typeName)
       .addStatement("return $T.mergeFrom(newInstance(), data)", RuntimeClasses.AbstractMessage)
       .build
     )
+    t.addMethod(MethodSpec.methodBuilder("parseFrom")
+      .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+      .addException(info.parseExceptionType)
+      .addParameter(classOf[java.nio.ByteBuffer], "data", Modifier.FINAL)
+      .returns(info.typeName)
+      .addStatement("return $T.mergeFrom(newInstance(), data)", RuntimeClasses.AbstractMessage)
+      .build
+    )
     t.addMethod(MethodSpec.methodBuilder("parseFrom")
       .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
       .addException(classOf[IOException])
@@ -360,6 +1032,61 @@ class MessageGenerator(val info: MessageInfo):
       )
       .build
     )
+    t.addMethod(MethodSpec.methodBuilder("parseDelimitedFrom")
+      .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+      .addException(classOf[IOException])
+      .addParameter(classOf[java.nio.ByteBuffer], "input", Modifier.FINAL)
+      .returns(info.typeName)
+      .addStatement(
+        "return $T.parseDelimitedFrom(input, $T.getFactory())",
+        RuntimeClasses.AbstractMessage,
+        info.typeName
+      )
+      .build
+    )
+
+  // Push-style parsing of repeated message fields, one element at a time
+  private def generateStreamRepeated(t: TypeSpec.Builder): Unit =
+    for field <- fields if field.info.isRepeated && field.info.isMessage do
+      val consumer = ParameterizedTypeName.get(
+        ClassName.get(classOf[Consumer[?]]),
+        WildcardTypeName.supertypeOf(field.info.getTypeName)
+      )
+      t.addMethod(MethodSpec.methodBuilder("stream" + field.info.upperName)
+        .addJavadoc(
+          "Parses a {@code $T} from the input and passes each <code>$L</code> element to the\n" +
+          "consumer as soon as it is decoded, without collecting them in a list. All elements\n" +
+          "are decoded into the same instance, so the consumer must clone an element to keep it.\n" +
+          "Other fields are skipped.\n",
+          info.typeName, field.info.protoFieldName
+        )
+        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+        .addException(classOf[IOException])
+        .addParameter(RuntimeClasses.LimitedCodedInputStream, "input", Modifier.FINAL)
+        .addParameter(consumer, "consumer", Modifier.FINAL)
+        .addStatement(
+          "$T.streamRepeatedMessage($T.getFactory(), $L, input, consumer)",
+          RuntimeClasses.AbstractMessage, field.info.getTypeName, field.info.tag
+        )
+        .build
+      )
+      t.addMethod(MethodSpec.methodBuilder("streamDelimited" + field.info.upperName)
+        .addJavadoc(
+          "Like {@link #stream$L($T, $T)}, but reads one message written in length delimited form.\n" +
+          "\n@return false if there was no message to read\n",
+          field.info.upperName, RuntimeClasses.LimitedCodedInputStream, ClassName.get(classOf[Consumer[?]])
+        )
+        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+        .addException(classOf[IOException])
+        .addParameter(classOf[java.io.InputStream], "input", Modifier.FINAL)
+        .addParameter(consumer, "consumer", Modifier.FINAL)
+        .returns(classOf[Boolean])
+        .addStatement(
+          "return $T.streamDelimitedRepeatedMessage($T.getFactory(), $L, input, consumer)",
+          RuntimeClasses.AbstractMessage, field.info.getTypeName, field.info.tag
+        )
+        .build
+      )
 
   private def generateMessageFactory(t: TypeSpec.Builder): Unit =
     val factoryReturnType = ParameterizedTypeName.get(RuntimeClasses.MessageFactory, info.typeName)
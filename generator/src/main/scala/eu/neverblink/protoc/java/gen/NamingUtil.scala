@@ -144,7 +144,7 @@ object NamingUtil:
     "false", "null", "true", 
     // Reserved names for internal variables
     "value", "values", "input", "output", "tag", "other", "o", "size", "unknownBytes", "cachedSize", 
-    "bitfield0_", "unknownBytesFieldName"
+    "cachedHashCode", "sizeParent", "sizeShared", "sizeUntracked", "bitfield0_", "unknownBytesFieldName"
   ))
   
   private val collidingFieldSet = withCamelCaseNames(
@@ -1,9 +1,10 @@
 package eu.neverblink.protoc.java.gen
 
-import com.palantir.javapoet.{FieldSpec, MethodSpec, TypeName, TypeSpec}
+import com.palantir.javapoet.{CodeBlock, FieldSpec, MethodSpec, TypeName, TypeSpec}
 import eu.neverblink.protoc.java.gen.RequestInfo.OneOfInfo
 
 import javax.lang.model.element.Modifier
+import scala.jdk.CollectionConverters.*
 
 /*-
  * #%L
@@ -45,6 +46,14 @@ class OneOfGenerator(val info: OneOfInfo):
       .addModifiers(Modifier.PROTECTED)
       .initializer("$L", 0)
     t.addField(numberField.build)
+    if info.hasUnboxedFields then
+      t.addField(FieldSpec.builder(TypeName.LONG, info.primitiveFieldName)
+        .addJavadoc("Value of the <code>$L</code> oneof field if a primitive member is set.\n",
+          info.descriptor.getName
+        )
+        .addModifiers(Modifier.PROTECTED)
+        .build
+      )
 
   def generateMemberMethods(t: TypeSpec.Builder, tMutable: TypeSpec.Builder): Unit =
     // Checks if any has state is true
@@ -63,9 +72,23 @@ class OneOfGenerator(val info: OneOfInfo):
       .returns(info.parentTypeInfo.mutableTypeName)
       .addParameter(RuntimeClasses.ObjectType, info.fieldName)
       .addParameter(TypeName.BYTE, "number")
-      .addStatement("this.$N = $N", info.fieldName, info.fieldName)
-      .addStatement("this.$N = $L", info.numberFieldName, "number")
-      .addStatement("return this")
+    if info.hasUnboxedFields then
+      set.beginControlFlow("switch (number)")
+      for field <- unboxedFields do
+        set.beginControlFlow("case $L:", field.descriptor.getNumber)
+          .addStatement("this.$N = $L", info.primitiveFieldName,
+            encode(field, CodeBlock.of("($T) $N", field.getTypeName.box, info.fieldName))
+          )
+          .addStatement("break")
+          .endControlFlow
+      set.beginControlFlow("default:")
+        .addStatement("this.$N = $N", info.fieldName, info.fieldName)
+        .endControlFlow
+        .endControlFlow
+    else set.addStatement("this.$N = $N", info.fieldName, info.fieldName)
+    set.addStatement("this.$N = $L", info.numberFieldName, "number")
+    set.addCode(MessageGenerator.invalidateCaches(info.parentTypeInfo))
+    set.addStatement("return this")
     tMutable.addMethod(set.build)
     // Get the value -- general method
     val get = MethodSpec.methodBuilder(info.getterName)
@@ -74,7 +97,14 @@ class OneOfGenerator(val info: OneOfInfo):
       )
       .addModifiers(Modifier.PUBLIC)
       .returns(RuntimeClasses.ObjectType)
-      .addStatement("return $N", info.fieldName)
+    if info.hasUnboxedFields || info.hasLazyStrings then
+      // Primitive members are only boxed, and strings only decoded, when requested
+      get.beginControlFlow("switch ($N)", info.numberFieldName)
+      for field <- unboxedFields ++ lazyStringFields do
+        get.addStatement("case $L: return $N()", field.descriptor.getNumber, field.getterName)
+      get.addStatement("default: return $N", info.fieldName)
+        .endControlFlow
+    else get.addStatement("return $N", info.fieldName)
     t.addMethod(get.build)
     // Get the value -- field number method
     val getNumber = MethodSpec.methodBuilder(info.getNumberName)
@@ -95,9 +125,12 @@ class OneOfGenerator(val info: OneOfInfo):
         .addModifiers(Modifier.PUBLIC)
         .returns(info.parentTypeInfo.mutableTypeName)
         .addParameter(field.getTypeName, field.fieldName)
-        .addStatement("this.$N = $N", info.fieldName, field.fieldName)
-        .addStatement("this.$N = $L", info.numberFieldName, field.descriptor.getNumber)
-        .addStatement("return this")
+      if isUnboxed(field) then
+        setField.addStatement("this.$N = $L", info.primitiveFieldName, encode(field, CodeBlock.of("$N", field.fieldName)))
+      else setField.addStatement("this.$N = $N", info.fieldName, field.fieldName)
+      setField.addStatement("this.$N = $L", info.numberFieldName, field.descriptor.getNumber)
+      setField.addCode(MessageGenerator.invalidateCaches(info.parentTypeInfo))
+      setField.addStatement("return this")
       tMutable.addMethod(setField.build)
       // Get
       val getField = MethodSpec.methodBuilder(field.getterName)
@@ -107,7 +140,13 @@ class OneOfGenerator(val info: OneOfInfo):
         )
         .addModifiers(Modifier.PUBLIC)
         .returns(field.getTypeName)
+      if isUnboxed(field) then getField.addStatement("return $L", decode(field))
+      else if isLazyString(field) then getField
+        .beginControlFlow("if ($N instanceof $T)", info.fieldName, info.parentTypeInfo.bytesType)
+        .addStatement("$N = (($T) $N).toStringUtf8()", info.fieldName, info.parentTypeInfo.bytesType, info.fieldName)
+        .endControlFlow
         .addStatement("return ($T) $N", field.getTypeName, info.fieldName)
+      else getField.addStatement("return ($T) $N", field.getTypeName, info.fieldName)
       t.addMethod(getField.build)
       // Has
       val hasField = MethodSpec.methodBuilder(field.hazzerName)
@@ -120,8 +159,26 @@ class OneOfGenerator(val info: OneOfInfo):
       t.addMethod(hasField.build)
 
 
-  def generateCopyFromCode(method: MethodSpec.Builder): Unit =
-    method.addStatement("this.$N = other.$N", info.fieldName, info.fieldName)
+  // With copiesNested, nested messages of the same type are left empty for the loop in clone
+  def generateCopyFromCode(method: MethodSpec.Builder, copiesNested: Boolean = false): Unit =
+    val messageFields = fields.filter(_.isMessage)
+    if info.parentTypeInfo.options.reuseMessages && messageFields.nonEmpty then
+      // Reused message instances are cleared and overwritten by later parsing,
+      // so they must not be shared between two messages.
+      method.beginControlFlow("switch (other.$N)", info.numberFieldName)
+      for field <- messageFields do
+        method.beginControlFlow("case $L:", field.descriptor.getNumber)
+        if copiesNested && field.isOnExplicitStack then
+          method.addStatement("this.$N = $T.newInstance()", info.fieldName, field.getTypeName)
+        else method.addStatement("this.$N = (($T) other.$N).clone()", info.fieldName, field.getTypeName, info.fieldName)
+        method.addStatement("break").endControlFlow
+      method.beginControlFlow("default:")
+        .addStatement("this.$N = other.$N", info.fieldName, info.fieldName)
+        .endControlFlow
+        .endControlFlow
+    else method.addStatement("this.$N = other.$N", info.fieldName, info.fieldName)
+    if info.hasUnboxedFields then
+      method.addStatement("this.$N = other.$N", info.primitiveFieldName, info.primitiveFieldName)
     method.addStatement("this.$N = other.$N", info.numberFieldName, info.numberFieldName)
 
   def generateMergeFromMessageCode(method: MethodSpec.Builder): Unit =
@@ -129,22 +186,64 @@ class OneOfGenerator(val info: OneOfInfo):
     generateCopyFromCode(method)
 
   def generateEqualsStatement(method: MethodSpec.Builder): Unit =
-    method.addCode(
-      "$N == other.$N && ($N == 0 || $N.equals(other.$N))",
-      info.numberFieldName, info.numberFieldName, info.numberFieldName, info.fieldName, info.fieldName
+    if info.hasUnboxedFields then
+      val isPrimitiveSet = unboxedFields
+        .map(f => CodeBlock.of("$N == $L", info.numberFieldName, f.descriptor.getNumber))
+        .reduce((a, b) => CodeBlock.of("$L || $L", a, b))
+      method.addCode(
+        "$N == other.$N && ($L || ($L ? $N == other.$N : $L))",
+        info.numberFieldName, info.numberFieldName, numberChecks("==", " || "), isPrimitiveSet,
+        info.primitiveFieldName, info.primitiveFieldName, valueEquals
+      )
+    else method.addCode(
+      "$N == other.$N && ($L || $L)",
+      info.numberFieldName, info.numberFieldName, numberChecks("==", " || "), valueEquals
     )
 
+  def generateHashCodeStatement(method: MethodSpec.Builder): Unit =
+    method.addStatement("_hash = $L * _hash + $N", MessageGenerator.HashMultiplier, info.numberFieldName)
+    method.beginControlFlow("if ($L)", numberChecks("!=", " && "))
+    if info.hasUnboxedFields then
+      val isPrimitiveSet = unboxedFields
+        .map(f => CodeBlock.of("$N == $L", info.numberFieldName, f.descriptor.getNumber))
+        .reduce((a, b) => CodeBlock.of("$L || $L", a, b))
+      method.addStatement("_hash = $L * _hash + ($L ? $T.hashCode($N) : $N().hashCode())",
+        MessageGenerator.HashMultiplier, isPrimitiveSet, classOf[java.lang.Long], info.primitiveFieldName, info.getterName
+      )
+    else if info.hasLazyStrings then
+      // Strings are decoded first, so that both representations hash the same
+      method.addStatement("_hash = $L * _hash + $N().hashCode()", MessageGenerator.HashMultiplier, info.getterName)
+    else method.addStatement("_hash = $L * _hash + $N.hashCode()", MessageGenerator.HashMultiplier, info.fieldName)
+    method.endControlFlow
+
+  // Checks the member number against no member and the nested messages of the same type, which
+  // the loops of the message compare and hash instead
+  private def numberChecks(operator: String, separator: String): CodeBlock =
+    val numbers = 0 +: fields.filter(_.isOnExplicitStack).map(_.descriptor.getNumber)
+    CodeBlock.join(numbers.map(n => CodeBlock.of("$N $L $L", info.numberFieldName, operator, n)).asJava, separator)
+
+  private def valueEquals: CodeBlock =
+    // A string member may be held decoded on one side and as raw bytes on the other
+    if info.hasLazyStrings then
+      CodeBlock.of("$T.isEqualOneOfValue($N, other.$N)", RuntimeClasses.ProtoUtil, info.fieldName, info.fieldName)
+    else CodeBlock.of("$N.equals(other.$N)", info.fieldName, info.fieldName)
+
   def generateClearCode(method: MethodSpec.Builder): Unit =
-    method.addStatement("this.$N = null", info.fieldName)
+    // When reusing messages, the previous value is kept, so that it can be
+    // recycled by the next mergeFrom call if it's of the same type.
+    if !info.parentTypeInfo.options.reuseMessages then
+      method.addStatement("this.$N = null", info.fieldName)
+    if info.hasUnboxedFields then
+      method.addStatement("this.$N = 0L", info.primitiveFieldName)
     method.addStatement("this.$N = 0", info.numberFieldName)
 
-  def generateWriteToCode(method: MethodSpec.Builder): Unit =
+  def generateWriteToCode(method: MethodSpec.Builder, returnNested: Boolean = true, sink: Boolean = false): Unit =
     method.beginControlFlow("switch ($N)", info.numberFieldName)
     for f <- fieldGenerators do
       method.beginControlFlow("case $L:", f.info.descriptor.getNumber)
-      method.addStatement("final var $N = $N()", f.info.fieldName, f.info.getterName)
-      f.generateSerializationCode(method)
-      method.addStatement("break")
+      declareValue(method, f.info)
+      f.generateSerializationCode(method, returnNested, sink)
+      if !f.info.isOnExplicitStack || !returnNested then method.addStatement("break")
       method.endControlFlow
     method.endControlFlow
 
@@ -152,29 +251,44 @@ class OneOfGenerator(val info: OneOfInfo):
     method.beginControlFlow("switch ($N)", info.numberFieldName)
     for f <- fieldGenerators do
       method.beginControlFlow("case $L:", f.info.descriptor.getNumber)
-      method.addStatement("final var $N = $N()", f.info.fieldName, f.info.getterName)
+      declareValue(method, f.info)
       f.generateComputeSerializedSizeCode(method)
       method.addStatement("break")
       method.endControlFlow
     method.endControlFlow
 
+  private def declareValue(method: MethodSpec.Builder, field: RequestInfo.FieldInfo): Unit =
+    if isLazyString(field) then
+      // Undecoded strings are written back as they were read
+      method
+        .addStatement("final var $N = $N instanceof $T ? ($T) $N : null",
+          field.utf8FieldName, info.fieldName, info.parentTypeInfo.bytesType, info.parentTypeInfo.bytesType, info.fieldName
+        )
+        .addStatement("final var $N = $N == null ? ($T) $N : null",
+          field.fieldName, field.utf8FieldName, field.getTypeName, info.fieldName
+        )
+    else method.addStatement("final var $N = $N()", field.fieldName, field.getterName)
+
   /**
    * @return true if the tag needs to be read
    */
   def generateMergingCode(method: MethodSpec.Builder, field: FieldGenerator): Boolean =
-    if field.info.isMessage then
-      // If the field is already set to the same kind of message, we merge it.
-      // Otherwise, we create a new instance of the message and merge it.
-      method
-        .addStatement("final $T $N", field.info.getTypeName, field.info.fieldName)
-        .beginControlFlow("if ($N == $L)", info.numberFieldName, field.info.descriptor.getNumber)
-        .addStatement("$N = $N()", field.info.fieldName, field.info.getterName)
-        .endControlFlow
-        .beginControlFlow("else")
-        .addStatement("$N = $T.newInstance()", field.info.fieldName, field.info.getTypeName)
-        .addStatement("$N($N)", field.info.setterName, field.info.fieldName)
-        .endControlFlow
-        .addStatement("ProtoMessage.mergeDelimitedFrom($N, inputLimited)", field.info.fieldName)
+    if isInterned(field.info) then
+      method.addStatement("final $T interner = inputLimited.getInterner()", RuntimeClasses.MessageInterner)
+        .beginControlFlow("if (interner != null)")
+        .addStatement("$N(interner.readDelimited($N == $L ? $N() : null, $T.getFactory(), inputLimited))",
+          field.info.setterName, info.numberFieldName, field.info.descriptor.getNumber, field.info.getterName,
+          field.info.getTypeName
+        )
+        .nextControlFlow("else")
+      generateMessageMergingCode(method, field)
+      method.endControlFlow
+    else if field.info.isMessage then
+      generateMessageMergingCode(method, field)
+      if field.info.isOnExplicitStack then return false
+    else if isLazyString(field.info) then
+      method.addStatement("this.$N = input.readBytesRequireUtf8()", info.fieldName)
+        .addStatement("this.$N = $L", info.numberFieldName, field.info.descriptor.getNumber)
     else if field.info.isString then
       method.addStatement("$N(input.readStringRequireUtf8())", field.info.setterName)
     else if field.info.isPrimitive then
@@ -187,6 +301,63 @@ class OneOfGenerator(val info: OneOfInfo):
       throw new IllegalStateException("Unhandled field type: " + field.info.getTypeName)
     true
 
+  private def generateMessageMergingCode(method: MethodSpec.Builder, field: FieldGenerator): Unit =
+    // If the field is already set to the same kind of message, we merge it.
+    // Otherwise, we create a new instance of the message and merge it.
+    method
+      .addStatement("final $T $N", field.info.getTypeName, field.info.fieldName)
+      .beginControlFlow("if ($N == $L)", info.numberFieldName, field.info.descriptor.getNumber)
+      .addStatement("$N = $N()", field.info.fieldName, field.info.getterName)
+      .endControlFlow
+    if info.parentTypeInfo.options.reuseMessages then
+      // Recycle the value left over after clear()
+      method
+        .beginControlFlow("else if ($N == 0 && $N instanceof $T)",
+          info.numberFieldName, info.fieldName, field.info.getTypeName
+        )
+        .addStatement("$N = (($T) $N).clear()", field.info.fieldName, field.info.getTypeName, info.fieldName)
+        .addStatement("$N($N)", field.info.setterName, field.info.fieldName)
+        .endControlFlow
+    method
+      .beginControlFlow("else")
+      .addStatement("$N = $T.newInstance()", field.info.fieldName, field.info.getTypeName)
+      .addStatement("$N($N)", field.info.setterName, field.info.fieldName)
+      .endControlFlow
+    if field.info.isOnExplicitStack then
+      // The nested message is parsed by the caller, see MessageGenerator
+      method.addStatement("return ($T) $N", info.parentTypeInfo.mutableTypeName, field.info.fieldName)
+    else method.addStatement("ProtoMessage.mergeDelimitedFrom($N, inputLimited)", field.info.fieldName)
+
+  private def unboxedFields: Seq[RequestInfo.FieldInfo] = fields.filter(isUnboxed)
+
+  private def isUnboxed(field: RequestInfo.FieldInfo): Boolean = info.hasUnboxedFields && field.isPrimitive
+
+  private def lazyStringFields: Seq[RequestInfo.FieldInfo] = fields.filter(isLazyString)
+
+  private def isLazyString(field: RequestInfo.FieldInfo): Boolean = info.hasLazyStrings && field.isString
+
+  // Leaf message members are stored by reference, so they can be shared between messages
+  private def isInterned(field: RequestInfo.FieldInfo): Boolean =
+    info.parentTypeInfo.options.internMessages && field.isLeafMessage
+
+  // Converts a primitive member value to its representation in the long slot
+  private def encode(field: RequestInfo.FieldInfo, value: CodeBlock): CodeBlock =
+    field.getTypeName match
+      case TypeName.BOOLEAN => CodeBlock.of("$L ? 1L : 0L", value)
+      case TypeName.DOUBLE => CodeBlock.of("$T.doubleToRawLongBits($L)", classOf[java.lang.Double], value)
+      case TypeName.FLOAT => CodeBlock.of("$T.floatToRawIntBits($L)", classOf[java.lang.Float], value)
+      case _ => value
+
+  // Converts the long slot back to the primitive member value
+  private def decode(field: RequestInfo.FieldInfo): CodeBlock =
+    val slot = info.primitiveFieldName
+    field.getTypeName match
+      case TypeName.BOOLEAN => CodeBlock.of("$N != 0", slot)
+      case TypeName.DOUBLE => CodeBlock.of("$T.longBitsToDouble($N)", classOf[java.lang.Double], slot)
+      case TypeName.FLOAT => CodeBlock.of("$T.intBitsToFloat((int) $N)", classOf[java.lang.Float], slot)
+      case TypeName.LONG => CodeBlock.of("$N", slot)
+      case _ => CodeBlock.of("(int) $N", slot)
+
   def generateConstants(t: TypeSpec.Builder): Unit =
     for field <- fields do
       val constant = FieldSpec.builder(TypeName.BYTE, NamingUtil.getConstantName(field.fieldName))
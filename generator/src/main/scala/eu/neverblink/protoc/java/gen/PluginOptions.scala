@@ -1,12 +1,15 @@
 package eu.neverblink.protoc.java.gen
 
 import com.google.protobuf.compiler.PluginProtos
-import eu.neverblink.protoc.java.gen.PluginOptions.parseImplements
+import eu.neverblink.protoc.java.gen.PluginOptions.{parseFieldOrderProfile, parseImplements}
+import eu.neverblink.protoc.java.runtime.TagTransitionProfile
 
 import java.lang.Boolean.*
+import java.nio.file.{Files, Path}
 import java.util
 import java.util.regex.Pattern
 import scala.jdk.CollectionConverters.*
+import scala.util.Using
 
 /*-
  * #%L
@@ -44,12 +47,45 @@ object PluginOptions:
       .map((k, v) => (k.substring(11), v.split(";").toSeq))
       .toMap
 
+  private def parseFieldOrderProfile(path: String): Option[TagTransitionProfile] =
+    Option(path).map(p => Using.resource(Files.newBufferedReader(Path.of(p)))(TagTransitionProfile.readFrom))
+
 class PluginOptions(request: PluginProtos.CodeGeneratorRequest):
   val map: util.Map[String, String] = ParserUtil.getGeneratorParameters(request)
   val indentString: String = PluginOptions.parseIndentString(map.getOrDefault("indent", "2"))
   val replacePackageFunction: String => String = parseReplacePackage(map.get("replace_package"))
   val generateDescriptors: Boolean = parseBoolean(map.getOrDefault("gen_descriptors", "true"))
   val implements: Map[String, Seq[String]] = parseImplements(map)
+  // Reuse nested message instances when parsing into a cleared message
+  val reuseMessages: Boolean = parseBoolean(map.getOrDefault("reuse_messages", "false"))
+  // Store primitive oneof members in a long slot instead of boxing them into the Object slot
+  val unboxedOneofs: Boolean = parseBoolean(map.getOrDefault("unboxed_oneofs", "false"))
+  // Keep parsed string fields as raw UTF-8 bytes and decode them on first access
+  val lazyStrings: Boolean = parseBoolean(map.getOrDefault("lazy_strings", "false"))
+  // Cache the result of hashCode() in messages that can only be modified through their setters
+  val cacheHashCodes: Boolean = parseBoolean(map.getOrDefault("cache_hash_codes", "false"))
+  // Let parsers deduplicate leaf oneof members through the MessageInterner of the input
+  val internMessages: Boolean = parseBoolean(map.getOrDefault("intern_messages", "false"))
+  // Keep the serialized size cached and let nested messages discard the size of their parent
+  val trackSizes: Boolean = parseBoolean(map.getOrDefault("track_sizes", "false"))
+  // Parse, serialize, compare, hash and clone self-recursive messages with a heap-allocated stack instead
+  // of recursion. Merging a message into a self-recursive field that is not in a oneof still recurses.
+  val explicitStack: Boolean = parseBoolean(map.getOrDefault("explicit_stack", "false"))
+  // Keep unrecognized fields as raw bytes and write them back when serializing
+  val storeUnknownFields: Boolean = parseBoolean(map.getOrDefault("store_unknown_fields", "false"))
+  // Let parsers skip the fields selected by the ProjectionMask of the input
+  val projections: Boolean = parseBoolean(map.getOrDefault("projections", "false"))
+  // Order the fall-through chain of the parsers by the transitions recorded in a TagTransitionProfile file
+  val fieldOrderProfile: Option[TagTransitionProfile] = parseFieldOrderProfile(map.get("field_order_profile"))
+  // Report decoded messages and unknown fields to the ProtoMetrics listener of the input
+  val metrics: Boolean = parseBoolean(map.getOrDefault("metrics", "false"))
+  // Read fields through LimitedCodedInputStream, which decodes arrays itself, instead of CodedInputStream
+  val arrayInput: Boolean = parseBoolean(map.getOrDefault("array_input", "false"))
+  // Also generate writeTo(ProtoSink), which writes through the final ProtoSink encoder
+  val protoSink: Boolean = parseBoolean(map.getOrDefault("proto_sink", "false"))
+  // Target the runtime-lite module, which does not depend on protobuf-java. Implies array_input and proto_sink
+  val liteRuntime: Boolean = parseBoolean(map.getOrDefault("lite_runtime", "false"))
+  if (liteRuntime && generateDescriptors) throw new Exception("'lite_runtime' requires 'gen_descriptors=false'")
 
   private def parseReplacePackage(replaceOption: String): String => String =
     // leave as is
@@ -157,6 +157,21 @@ object RequestInfo:
     // Build map
     val fields: mutable.Buffer[FieldInfo] = for desc <- sortedFields.asScala yield
       new RequestInfo.FieldInfo(parentFile, this, typeName, desc, bitIndices.get(desc))
+    // Repeated fields hand out their mutable stores, so the hash can't be invalidated reliably
+    def cachesHashCode: Boolean = options.cacheHashCodes && !fields.exists(_.isRepeated)
+    def tracksSizes: Boolean = options.trackSizes
+    def usesExplicitStack: Boolean = options.explicitStack && fields.exists(_.isSelfRecursive)
+    def storesUnknownFields: Boolean = options.storeUnknownFields
+    def supportsProjections: Boolean = options.projections
+    def emitsMetrics: Boolean = options.metrics
+    def targetsLiteRuntime: Boolean = options.liteRuntime
+    // The lite runtime only has the final LimitedCodedInputStream and ProtoSink
+    def readsArrayInput: Boolean = options.arrayInput || targetsLiteRuntime
+    def writesProtoSink: Boolean = options.protoSink || targetsLiteRuntime
+    def bytesType: ClassName = if targetsLiteRuntime then RuntimeClasses.ProtoBytes else RuntimeClasses.BytesType
+    def parseExceptionType: ClassName =
+      if targetsLiteRuntime then RuntimeClasses.LiteInvalidProtocolBufferException
+      else RuntimeClasses.InvalidProtocolBufferException
     val nestedTypes: util.List[RequestInfo.MessageInfo] = descriptor.getNestedTypeList.stream.map(
       (desc: DescriptorProtos.DescriptorProto) => new RequestInfo.MessageInfo(parentFile, typeId, typeName, true, desc)
     ).collect(Collectors.toList)
@@ -207,6 +222,10 @@ object RequestInfo:
     val packedTag: Int = FieldUtil.makePackedTag(descriptor)
     val number: Int = descriptor.getNumber
     val fieldName: String = NamingUtil.filterKeyword(lowerName)
+    // Raw UTF-8 store and accessors of lazily decoded strings
+    val utf8FieldName: String = fieldName + "Utf8"
+    val utf8GetterName: String = getterName + "Utf8"
+    val utf8SetterName: String = setterName + "Utf8"
     private val defValue: String = FieldUtil.getEmptyDefaultValue(descriptor.getType)
     val defaultValue: String = if (isEnum) NamingUtil.filterKeyword(defValue) else defValue
     private val repeatedStoreType: ClassName = RuntimeClasses.getRepeatedStoreType(descriptor.getType)
@@ -218,8 +237,11 @@ object RequestInfo:
     val protoFieldName: String = descriptor.getName
 
     private def getRepeatedStoreType: TypeName =
+      if ((isGroup || isMessage) && pluginOptions.reuseMessages)
+        return ParameterizedTypeName.get(RuntimeClasses.RepeatedMessage, getTypeName)
       if (isGroup || isMessage) return ParameterizedTypeName.get(repeatedStoreType, getTypeName)
       else if (isEnum) return ParameterizedTypeName.get(repeatedStoreType, getTypeName)
+      else if (isBytes) return parentTypeInfo.bytesType
       repeatedStoreType
 
     def isFixedWidth: Boolean = FieldUtil.isFixedWidth(descriptor.getType)
@@ -273,7 +295,10 @@ object RequestInfo:
 
     private def isSingular: Boolean = !isRepeated
 
-    def isPacked: Boolean = isPackable && descriptor.getOptions.hasPacked && descriptor.getOptions.getPacked
+    // In proto3, packable repeated fields are packed unless explicitly disabled
+    def isPacked: Boolean = isPackable && (!descriptor.getOptions.hasPacked || descriptor.getOptions.getPacked)
+
+    def isLazyString: Boolean = isString && isSingular && pluginOptions.lazyStrings
 
     def isSingularPrimitiveOrEnum: Boolean = isSingular && (isPrimitive || isEnum)
 
@@ -289,6 +314,7 @@ object RequestInfo:
     private def isDeprecated: Boolean = descriptor.getOptions.hasDeprecated && descriptor.getOptions.getDeprecated
 
     def getTypeName: TypeName =
+      if (isBytes) return parentTypeInfo.bytesType
       // Lazy because type registry is not constructed at creation time
       parentFile.parentRequest.typeRegistry.resolveJavaTypeFromProto(descriptor)
 
@@ -296,6 +322,19 @@ object RequestInfo:
       // Lazy because type registry is not constructed at creation time
       isMessageOrGroup && parentFile.parentRequest.typeRegistry.hasRequiredFieldsInHierarchy(getTypeName)
 
+    // Singular message field of the type that contains it, such as a quoted triple in a triple
+    def isSelfRecursive: Boolean = isMessage && !isRepeated && getTypeName == parentTypeInfo.typeName
+
+    def isOnExplicitStack: Boolean = isSelfRecursive && parentTypeInfo.usesExplicitStack
+
+    // Map fields are repeated fields of a nested entry type generated by protoc
+    def isMap: Boolean = isRepeated && isMessage && parentTypeInfo.nestedTypes.asScala
+      .exists(t => t.typeName == getTypeName && t.descriptor.getOptions.getMapEntry)
+
+    def isLeafMessage: Boolean =
+      // Lazy because type registry is not constructed at creation time
+      isMessage && parentFile.parentRequest.typeRegistry.isLeafMessage(getTypeName)
+
     def getStoreType: TypeName =
       if (isRepeated) return getRepeatedStoreType
       if (isString) return RuntimeClasses.StringType
@@ -390,6 +429,7 @@ object RequestInfo:
       NamingUtil.filterKeyword(lowerName)
     }
     val numberFieldName: String = fieldName + "Number"
+    val primitiveFieldName: String = fieldName + "Primitive"
     val getterName: String = "get" + upperName
     val getNumberName: String = "get" + upperName + "FieldNumber"
     val setterName: String = "set" + upperName
@@ -400,5 +440,11 @@ object RequestInfo:
       .filter(field => field.descriptor.hasOneofIndex)
       .filter(field => field.descriptor.getOneofIndex eq oneOfIndex)
       .toSeq
+
+    // Primitive members are kept in a separate long slot, so they don't need to be boxed
+    def hasUnboxedFields: Boolean = parentTypeInfo.options.unboxedOneofs && getFields.exists(_.isPrimitive)
+
+    // String members may be held as raw UTF-8 bytes until they are first read
+    def hasLazyStrings: Boolean = parentTypeInfo.options.lazyStrings && getFields.exists(_.isString)
   }
 
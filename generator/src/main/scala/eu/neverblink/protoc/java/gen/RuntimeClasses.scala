@@ -40,15 +40,23 @@ object RuntimeClasses:
   val CodedInputStream: ClassName = ClassName.get(GOOGLE_PACKAGE, "CodedInputStream")
   val LimitedCodedInputStream: ClassName = ClassName.get(API_PACKAGE, "LimitedCodedInputStream")
   val CodedOutputStream: ClassName = ClassName.get(GOOGLE_PACKAGE, "CodedOutputStream")
+  val ProtoSink: ClassName = ClassName.get(API_PACKAGE, "ProtoSink")
   val ProtoUtil: ClassName = ClassName.get(API_PACKAGE, "ProtoUtil")
   val AbstractMessage: ClassName = ClassName.get(API_PACKAGE, "ProtoMessage")
   val MessageFactory: ClassName = ClassName.get(API_PACKAGE, "MessageFactory")
+  val MessageInterner: ClassName = ClassName.get(API_PACKAGE, "MessageInterner")
+  val MessageStack: ClassName = ClassName.get(API_PACKAGE, "MessageStack")
+  val ProjectionMask: ClassName = ClassName.get(API_PACKAGE, "ProjectionMask")
+  val ProtoMetrics: ClassName = ClassName.get(API_PACKAGE, "ProtoMetrics")
   val ObjectType: ClassName = ClassName.get(classOf[Object])
   val StringType: ClassName = ClassName.get(classOf[String])
   val BytesType: ClassName = ClassName.get(GOOGLE_PACKAGE, "ByteString")
+  val ProtoBytes: ClassName = ClassName.get(API_PACKAGE, "ProtoBytes")
   val Exception: ClassName = ClassName.get(classOf[Exception])
   val RuntimeException: ClassName = ClassName.get(classOf[RuntimeException])
+  val IllegalArgumentException: ClassName = ClassName.get(classOf[IllegalArgumentException])
   val InvalidProtocolBufferException: ClassName = ClassName.get(GOOGLE_PACKAGE, "InvalidProtocolBufferException")
+  val LiteInvalidProtocolBufferException: ClassName = ClassName.get(API_PACKAGE, "InvalidProtocolBufferException")
   val UninitializedMessageException: ClassName = ClassName.get(GOOGLE_PACKAGE, "UninitializedMessageException")
   val ProtoEnum: ClassName = ClassName.get(API_PACKAGE, "ProtoEnum")
   val EnumConverter: ClassName = ProtoEnum.nestedClass("EnumConverter")
@@ -64,6 +72,7 @@ object RuntimeClasses:
   private val RepeatedBytes = ClassName.get(GOOGLE_PACKAGE, "ByteString")
   val List: ClassName = ClassName.get(JAVA_UTIL_PACKAGE, "List")
   val ArrayList: ClassName = ClassName.get(JAVA_UTIL_PACKAGE, "ArrayList")
+  val RepeatedMessage: ClassName = ClassName.get(API_PACKAGE, "RepeatedMessage")
   val RepeatedEnum: ClassName = ClassName.get(API_PACKAGE, "RepeatedEnum")
   val Collections: ClassName = ClassName.get(JAVA_UTIL_PACKAGE, "Collections")
   val Base64: ClassName = ClassName.get(JAVA_UTIL_PACKAGE, "Base64")
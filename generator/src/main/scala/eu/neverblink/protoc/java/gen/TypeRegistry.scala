@@ -114,6 +114,14 @@ class TypeRegistry:
     )
     result eq TypeRegistry.RequiredType.Required
 
+  /**
+   * Checks whether the message type has no message or group fields, so that
+   * its instances can be shared once they are parsed.
+   */
+  def isLeafMessage(t: TypeName): Boolean =
+    if (!messageMap.containsKey(t)) throw new IllegalStateException("Not a message or group type: " + t)
+    !messageMap.get(t).fields.exists(_.isMessageOrGroup)
+
   private def isRequiredFieldOrNeedsToBeChecked(t: TypeName, field: RequestInfo.FieldInfo): Boolean =
     // Always check message types for recursion to avoid surprises at runtime
     if (field.isMessageOrGroup) {
@@ -0,0 +1,56 @@
+# <message type> <from field> <to field> <count>, field 0 is the start or end of the message
+eu.ostrzyciel.jelly.core.proto.v1.RdfDatatypeEntry 0 1 16
+eu.ostrzyciel.jelly.core.proto.v1.RdfDatatypeEntry 1 2 16
+eu.ostrzyciel.jelly.core.proto.v1.RdfDatatypeEntry 2 0 16
+eu.ostrzyciel.jelly.core.proto.v1.RdfDefaultGraph 0 0 232
+eu.ostrzyciel.jelly.core.proto.v1.RdfIri 0 0 3262
+eu.ostrzyciel.jelly.core.proto.v1.RdfIri 0 1 3528
+eu.ostrzyciel.jelly.core.proto.v1.RdfIri 0 2 6738
+eu.ostrzyciel.jelly.core.proto.v1.RdfIri 1 0 1138
+eu.ostrzyciel.jelly.core.proto.v1.RdfIri 1 2 2390
+eu.ostrzyciel.jelly.core.proto.v1.RdfIri 2 0 9128
+eu.ostrzyciel.jelly.core.proto.v1.RdfLiteral 0 1 3570
+eu.ostrzyciel.jelly.core.proto.v1.RdfLiteral 1 0 1174
+eu.ostrzyciel.jelly.core.proto.v1.RdfLiteral 1 2 1177
+eu.ostrzyciel.jelly.core.proto.v1.RdfLiteral 1 3 1219
+eu.ostrzyciel.jelly.core.proto.v1.RdfLiteral 2 0 1177
+eu.ostrzyciel.jelly.core.proto.v1.RdfLiteral 3 0 1219
+eu.ostrzyciel.jelly.core.proto.v1.RdfNameEntry 0 1 256
+eu.ostrzyciel.jelly.core.proto.v1.RdfNameEntry 1 2 256
+eu.ostrzyciel.jelly.core.proto.v1.RdfNameEntry 2 0 256
+eu.ostrzyciel.jelly.core.proto.v1.RdfPrefixEntry 0 1 64
+eu.ostrzyciel.jelly.core.proto.v1.RdfPrefixEntry 1 2 64
+eu.ostrzyciel.jelly.core.proto.v1.RdfPrefixEntry 2 0 64
+eu.ostrzyciel.jelly.core.proto.v1.RdfQuad 0 1 908
+eu.ostrzyciel.jelly.core.proto.v1.RdfQuad 0 2 116
+eu.ostrzyciel.jelly.core.proto.v1.RdfQuad 1 5 908
+eu.ostrzyciel.jelly.core.proto.v1.RdfQuad 2 5 116
+eu.ostrzyciel.jelly.core.proto.v1.RdfQuad 5 9 526
+eu.ostrzyciel.jelly.core.proto.v1.RdfQuad 5 11 498
+eu.ostrzyciel.jelly.core.proto.v1.RdfQuad 9 13 409
+eu.ostrzyciel.jelly.core.proto.v1.RdfQuad 9 15 117
+eu.ostrzyciel.jelly.core.proto.v1.RdfQuad 11 13 383
+eu.ostrzyciel.jelly.core.proto.v1.RdfQuad 11 15 115
+eu.ostrzyciel.jelly.core.proto.v1.RdfQuad 13 0 792
+eu.ostrzyciel.jelly.core.proto.v1.RdfQuad 15 0 232
+eu.ostrzyciel.jelly.core.proto.v1.RdfStreamFrame 0 1 16
+eu.ostrzyciel.jelly.core.proto.v1.RdfStreamFrame 1 0 16
+eu.ostrzyciel.jelly.core.proto.v1.RdfStreamFrame 1 1 4416
+eu.ostrzyciel.jelly.core.proto.v1.RdfStreamRow 0 2 3072
+eu.ostrzyciel.jelly.core.proto.v1.RdfStreamRow 0 3 1024
+eu.ostrzyciel.jelly.core.proto.v1.RdfStreamRow 0 9 256
+eu.ostrzyciel.jelly.core.proto.v1.RdfStreamRow 0 10 64
+eu.ostrzyciel.jelly.core.proto.v1.RdfStreamRow 0 11 16
+eu.ostrzyciel.jelly.core.proto.v1.RdfStreamRow 2 0 3072
+eu.ostrzyciel.jelly.core.proto.v1.RdfStreamRow 3 0 1024
+eu.ostrzyciel.jelly.core.proto.v1.RdfStreamRow 9 0 256
+eu.ostrzyciel.jelly.core.proto.v1.RdfStreamRow 10 0 64
+eu.ostrzyciel.jelly.core.proto.v1.RdfStreamRow 11 0 16
+eu.ostrzyciel.jelly.core.proto.v1.RdfTriple 0 1 3072
+eu.ostrzyciel.jelly.core.proto.v1.RdfTriple 0 4 2067
+eu.ostrzyciel.jelly.core.proto.v1.RdfTriple 1 5 3072
+eu.ostrzyciel.jelly.core.proto.v1.RdfTriple 4 5 2067
+eu.ostrzyciel.jelly.core.proto.v1.RdfTriple 5 9 2067
+eu.ostrzyciel.jelly.core.proto.v1.RdfTriple 5 11 3072
+eu.ostrzyciel.jelly.core.proto.v1.RdfTriple 9 0 2067
+eu.ostrzyciel.jelly.core.proto.v1.RdfTriple 11 0 3072
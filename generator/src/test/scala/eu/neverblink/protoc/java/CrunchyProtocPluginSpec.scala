@@ -28,19 +28,77 @@ class CrunchyProtocPluginSpec extends AnyWordSpec, Matchers:
         ",implements_RdfNamespaceDeclaration.Mutable=eu.neverblink.jelly.core.internal.proto.NsBase.Setters" +
         ",replace_package=eu.ostrzyciel=eu.neverblink"
       ).build()
-      val response = CrunchyProtocPlugin.handleRequest(newRequest)
-      val basePath = "test-project/src/main/java/"
-      // Delete all files in the directory
-      val dir = new java.io.File(basePath + "eu/neverblink/jelly/core/proto/v1/")
-      if (dir.exists && dir.isDirectory) {
-        dir.listFiles().foreach(_.delete())
-      }
-      // Save the generated files
-      for (file <- response.getFileList.asScala) {
-        val fileName = basePath + file.getName
-        Using.resource(FileOutputStream(fileName)) { fos =>
-          fos.write(file.getContentBytes.toByteArray)
-        }
-      }
+      generate(newRequest, "eu/neverblink/jelly/core/proto/v1/")
+    }
+
+    "compile with all options" in {
+      val is = getClass.getResourceAsStream("/rdf_descriptor.pb")
+      val request = CodeGeneratorRequest.parseFrom(is)
+      val newRequest = request.toBuilder.setParameter(request.getParameter +
+        ",replace_package=eu.ostrzyciel=eu.neverblink" +
+        allOptions +
+        ",field_order_profile=generator/src/test/resources/field_order.profile"
+      ).build()
+      generate(newRequest, "eu/neverblink/jelly/core/proto/v1/", optionsBasePath)
+    }
+
+    "compile for the lite runtime" in {
+      val is = getClass.getResourceAsStream("/rdf_descriptor.pb")
+      val request = CodeGeneratorRequest.parseFrom(is)
+      val newRequest = request.toBuilder.setParameter(request.getParameter +
+        ",replace_package=eu.ostrzyciel=eu.neverblink" +
+        allOptions +
+        ",field_order_profile=generator/src/test/resources/field_order.profile" +
+        ",lite_runtime=true" +
+        ",gen_descriptors=false"
+      ).build()
+      generate(newRequest, "eu/neverblink/jelly/core/proto/v1/", "test-project-lite/src/main/java/")
+    }
+
+    "compile repeated scalar fields" in {
+      val is = getClass.getResourceAsStream("/repeated_descriptor.pb")
+      val request = CodeGeneratorRequest.parseFrom(is)
+      generate(request, "eu/neverblink/protoc/java/test/")
+      generate(request.toBuilder.setParameter(request.getParameter + allOptions).build(),
+        "eu/neverblink/protoc/java/test/", optionsBasePath)
     }
   }
+
+  // Every option that changes the generated code, except lite_runtime and the ones that need a file
+  private val allOptions =
+    ",reuse_messages=true" +
+    ",unboxed_oneofs=true" +
+    ",lazy_strings=true" +
+    ",cache_hash_codes=true" +
+    ",intern_messages=true" +
+    ",track_sizes=true" +
+    ",explicit_stack=true" +
+    ",store_unknown_fields=true" +
+    ",projections=true" +
+    ",metrics=true" +
+    ",array_input=true" +
+    ",proto_sink=true"
+
+  // The code generated with all options, in the same packages as the default output
+  private val optionsBasePath = "test-project-options/src/main/java/"
+
+  private def generate(
+    request: CodeGeneratorRequest,
+    packagePath: String,
+    basePath: String = "test-project/src/main/java/"
+  ): Unit =
+    val response = CrunchyProtocPlugin.handleRequest(request)
+    response.hasError shouldBe false
+    // Delete all files in the directory
+    val dir = new java.io.File(basePath + packagePath)
+    if (dir.exists && dir.isDirectory) {
+      dir.listFiles().foreach(_.delete())
+    }
+    dir.mkdirs()
+    // Save the generated files
+    for (file <- response.getFileList.asScala) {
+      val fileName = basePath + file.getName
+      Using.resource(FileOutputStream(fileName)) { fos =>
+        fos.write(file.getContentBytes.toByteArray)
+      }
+    }
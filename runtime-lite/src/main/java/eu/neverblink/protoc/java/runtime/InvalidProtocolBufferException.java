@@ -0,0 +1,25 @@
+package eu.neverblink.protoc.java.runtime;
+
+import java.io.IOException;
+
+/**
+ * Thrown when parsing a malformed message, in place of the exception of protobuf-java with
+ * the same name in code generated with the {@code lite_runtime} option.
+ *
+ * @author Piotr Sowiński
+ */
+public class InvalidProtocolBufferException extends IOException {
+    private static final long serialVersionUID = 1L;
+
+    public InvalidProtocolBufferException(String description) {
+        super(description);
+    }
+
+    public InvalidProtocolBufferException(IOException e) {
+        super(e.getMessage(), e);
+    }
+
+    public InvalidProtocolBufferException(String description, IOException e) {
+        super(description, e);
+    }
+}
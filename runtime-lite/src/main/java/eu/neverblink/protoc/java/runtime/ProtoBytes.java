@@ -0,0 +1,132 @@
+package eu.neverblink.protoc.java.runtime;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Immutable sequence of bytes, the type of bytes fields and unknown fields in code generated
+ * with the {@code lite_runtime} option. It replaces {@code com.google.protobuf.ByteString},
+ * and its methods behave like the methods of ByteString with the same names.
+ * <p>
+ * The bytes are kept in a single array, so {@link #concat(ProtoBytes)} copies both sequences.
+ *
+ * @author Piotr Sowiński
+ */
+public final class ProtoBytes {
+
+    public static final ProtoBytes EMPTY = new ProtoBytes(new byte[0]);
+
+    // Never modified after construction, package-private for ProtoSink
+    final byte[] bytes;
+    private int hash = 0;
+
+    private ProtoBytes(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    // Takes ownership of the array without copying it
+    static ProtoBytes wrap(byte[] bytes) {
+        return bytes.length == 0 ? EMPTY : new ProtoBytes(bytes);
+    }
+
+    public static ProtoBytes copyFrom(byte[] bytes) {
+        return copyFrom(bytes, 0, bytes.length);
+    }
+
+    public static ProtoBytes copyFrom(byte[] bytes, int offset, int length) {
+        return wrap(Arrays.copyOfRange(bytes, offset, offset + length));
+    }
+
+    /**
+     * @return the remaining bytes of the buffer; its position is not modified
+     */
+    public static ProtoBytes copyFrom(ByteBuffer buffer) {
+        final byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return wrap(bytes);
+    }
+
+    public static ProtoBytes copyFromUtf8(String text) {
+        return wrap(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public int size() {
+        return bytes.length;
+    }
+
+    public boolean isEmpty() {
+        return bytes.length == 0;
+    }
+
+    public byte byteAt(int index) {
+        return bytes[index];
+    }
+
+    public byte[] toByteArray() {
+        return bytes.clone();
+    }
+
+    public void copyTo(byte[] target, int offset) {
+        System.arraycopy(bytes, 0, target, offset, bytes.length);
+    }
+
+    public void writeTo(OutputStream output) throws IOException {
+        output.write(bytes);
+    }
+
+    /**
+     * @return the bytes decoded as UTF-8, with malformed input replaced
+     */
+    public String toStringUtf8() {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public boolean isValidUtf8() {
+        return Utf8.isValidUtf8(bytes, 0, bytes.length);
+    }
+
+    public ProtoBytes concat(ProtoBytes other) {
+        if (other.isEmpty()) {
+            return this;
+        }
+        if (isEmpty()) {
+            return other;
+        }
+        final byte[] result = Arrays.copyOf(bytes, bytes.length + other.bytes.length);
+        System.arraycopy(other.bytes, 0, result, bytes.length, other.bytes.length);
+        return new ProtoBytes(result);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof ProtoBytes)) {
+            return false;
+        }
+        final ProtoBytes other = (ProtoBytes) o;
+        if (hash != 0 && other.hash != 0 && hash != other.hash) {
+            return false;
+        }
+        return Arrays.equals(bytes, other.bytes);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = Arrays.hashCode(bytes);
+            hash = h == 0 ? 1 : h;
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "ProtoBytes[size=" + bytes.length + "]";
+    }
+}
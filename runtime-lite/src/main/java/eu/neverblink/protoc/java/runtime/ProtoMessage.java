@@ -0,0 +1,1131 @@
+package eu.neverblink.protoc.java.runtime;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.function.Consumer;
+
+/*-
+ * #%L
+ * quickbuf-generator / CrunchyProtocPlugin
+ * %%
+ * Copyright (C) 2019 HEBI Robotics
+ * %%
+ * Copyright (C) 2025 NeverBlink
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+// Protocol Buffers - Google's data interchange format
+// Copyright 2008 Google Inc.  All rights reserved.
+// 
+// Redistribution and use in source and binary forms, with or without
+// modification, are permitted provided that the following conditions are
+// met:
+// 
+//     * Redistributions of source code must retain the above copyright
+// notice, this list of conditions and the following disclaimer.
+//     * Redistributions in binary form must reproduce the above
+// copyright notice, this list of conditions and the following disclaimer
+// in the documentation and/or other materials provided with the
+// distribution.
+//     * Neither the name of Google Inc. nor the names of its
+// contributors may be used to endorse or promote products derived from
+// this software without specific prior written permission.
+// 
+// THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+// "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+// LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+// A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+// OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+// SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+// LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+// DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+// THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+// (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+// OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+// 
+// Code generated by the Protocol Buffer compiler is owned by the owner
+// of the input file used when generating it.  This code is not
+// standalone and requires a support library to be linked with it.  This
+// support library is itself covered by the above license.
+
+/**
+ * Abstract interface implemented by Protocol Message objects.
+ * <p>
+ * API partially copied from Google's MessageNano
+ * <p>
+ * This is the variant of the class of the runtime module without protobuf-java, extended by
+ * code generated with the {@code lite_runtime} option. Messages are only written to a
+ * {@link ProtoSink} and read from a {@link LimitedCodedInputStream}.
+ * The regions marked as shared are kept identical to the runtime module, which the build checks.
+ *
+ * @author Florian Enner
+ * @author Piotr Sowiński
+ */
+public abstract class ProtoMessage<MessageType extends ProtoMessage<?>> {
+    
+    // region shared: members
+    protected int cachedSize = -1;
+
+    protected ProtoMessage() {
+    }
+
+    /**
+     * Copies all fields and data from another message of the same
+     * type into this message.
+     *
+     * @param other message with the contents to be copied
+     * @return this
+     */
+    public abstract MessageType copyFrom(MessageType other);
+
+    /**
+     * Sets all fields and data to their default values, so that the message
+     * can be reused for parsing or building another message.
+     *
+     * @return this
+     */
+    public abstract MessageType clear();
+
+    /**
+     * Get the number of bytes required to encode this message.
+     * Returns the cached size or calls getSerializedSize which
+     * sets the cached size. This is used internally when serializing
+     * so the size is only computed once. If a member is modified
+     * then this could be stale call getSerializedSize if in doubt.
+     *
+     * @return the cached size of the serialized proto form
+     */
+    public int getCachedSize() {
+        if (cachedSize < 0) {
+            // getSerializedSize sets cachedSize
+            getSerializedSize();
+        }
+        return cachedSize;
+    }
+
+    /**
+     * Computes the number of bytes required to encode this message.
+     * The size is cached and the cached result can be retrieved
+     * using getCachedSize().
+     *
+     * @return the size of the serialized proto form
+     */
+    public int getSerializedSize() {
+        int size = computeSerializedSize();
+        cachedSize = size;
+        return size;
+    }
+
+    /**
+     * Computes the number of bytes required to encode this message. This does
+     * not update the cached size.
+     *
+     * @return the size of the serialized proto form
+     */
+    protected abstract int computeSerializedSize();
+
+    /**
+     * Discards the cached size after the message was modified. Messages generated with
+     * the {@code track_sizes} option also discard the cached size of the message that
+     * contains them.
+     */
+    protected void invalidateSize() {
+        cachedSize = -1;
+    }
+
+    /**
+     * Sets the message whose size includes the size of this message. Only messages
+     * generated with the {@code track_sizes} option keep track of it. A message linked to
+     * a second parent is marked as shared, as it can only discard the cached sizes of one
+     * of them, and the cached size of the first parent is discarded.
+     *
+     * @param parent the containing message
+     */
+    protected void setSizeParent(ProtoMessage<?> parent) {
+    }
+
+    /**
+     * @return the message whose size includes the size of this message, or null
+     */
+    protected ProtoMessage<?> getSizeParent() {
+        return null;
+    }
+
+    /**
+     * @return false if the messages containing this one cannot rely on its size being tracked,
+     * because it is shared by several parents or its cached size includes such a message
+     */
+    protected boolean isSizeTracked() {
+        return true;
+    }
+
+    /**
+     * Marks the cached size as including messages shared by several parents, whose
+     * modifications may not discard it. {@link #getSerializedSize()} then computes the
+     * size again, like for messages generated without the {@code track_sizes} option.
+     */
+    protected void untrackSize() {
+    }
+
+    /**
+     * Discards the cached sizes of the message and of the messages containing it, up to the
+     * first one without a cached size. This is a loop rather than a recursion, so that it
+     * works for messages nested arbitrarily deep.
+     */
+    protected static void invalidateSizes(ProtoMessage<?> msg) {
+        while (msg != null && msg.cachedSize >= 0) {
+            msg.cachedSize = -1;
+            msg = msg.getSizeParent();
+        }
+    }
+
+    /**
+     * Computes the size of a nested message and links it to its parent, so that the
+     * cached size of the parent is discarded when the nested message is modified.
+     */
+    protected static int computeNestedSize(final ProtoMessage<?> child, final ProtoMessage<?> parent) {
+        child.setSizeParent(parent);
+        final int size = child.getSerializedSize();
+        if (!child.isSizeTracked()) {
+            parent.untrackSize();
+        }
+        return size;
+    }
+
+    /**
+     * Returns the size of a nested message that was computed beforehand, linking it to its
+     * parent like {@link #computeNestedSize}.
+     */
+    protected static int getCachedNestedSize(final ProtoMessage<?> child, final ProtoMessage<?> parent) {
+        child.setSizeParent(parent);
+        final int size = child.getCachedSize();
+        if (!child.isSizeTracked()) {
+            parent.untrackSize();
+        }
+        return size;
+    }
+    // endregion
+
+    /**
+     * Serializes the message and writes it to {@code output}.
+     *
+     * @param output the output to receive the serialized form.
+     * @throws IOException if an error occurred writing to {@code output}.
+     */
+    public abstract void writeTo(ProtoSink output) throws IOException;
+
+    /**
+     * Serializes the message and writes it to the {@code output} in
+     * length delimited form.
+     *
+     * @return this
+     */
+    public final MessageType writeDelimitedTo(ProtoSink output) throws IOException {
+        final var event = new ProtoWriteEvent();
+        if (event.isEnabled()) {
+            event.begin();
+        }
+        final int size = getSerializedSize();
+        output.writeUInt32NoTag(size);
+        this.writeTo(output);
+        if (event.isEnabled()) {
+            event.commit(this, size);
+        }
+        return getThis();
+    }
+
+    public final MessageType writeDelimitedTo(OutputStream output) throws IOException {
+        final var event = new ProtoWriteEvent();
+        if (event.isEnabled()) {
+            event.begin();
+        }
+        int size = getSerializedSize();
+        int bufferSize = ProtoSink.computeUInt32SizeNoTag(size) + size;
+        if (bufferSize > ProtoSink.DEFAULT_BUFFER_SIZE) {
+            bufferSize = ProtoSink.DEFAULT_BUFFER_SIZE;
+        }
+        final var sink = ProtoSink.newInstance(output, bufferSize);
+        sink.writeUInt32NoTag(size);
+        writeTo(sink);
+        sink.flush();
+        if (event.isEnabled()) {
+            event.commit(this, size);
+        }
+        return getThis();
+    }
+
+    /**
+     * @return the number of elements in the repeated message fields of this message, other than
+     * maps, such as the rows of a stream frame. Reported by {@link ProtoParseEvent} and
+     * {@link ProtoWriteEvent}.
+     */
+    protected int getRowCount() {
+        return 0;
+    }
+
+    public final MessageType writeTo(OutputStream output) throws IOException {
+        final int size = getSerializedSize();
+        final var sink = ProtoSink.newInstance(output, Math.min(size, ProtoSink.DEFAULT_BUFFER_SIZE));
+        writeTo(sink);
+        sink.flush();
+        return getThis();
+    }
+
+    // region shared: parse-delimited-stream
+    /**
+     * Parses the contents for one message written in length delimited form.
+     *
+     * @return a new message parsed from the input stream or null if there is no message to parse.
+     */
+    protected static <T extends ProtoMessage<T>> T parseDelimitedFrom(
+        InputStream input,
+        MessageFactory<T> factory
+    ) throws IOException {
+        final int size = readDelimitedSize(input);
+        if (size < 0) {
+            return null;
+        }
+        final var event = new ProtoParseEvent();
+        if (event.isEnabled()) {
+            event.begin();
+        }
+        final var msg = factory.create();
+        final var limitedInput = LimitedCodedInputStream.newInstance(input, size);
+        msg.mergeFrom(limitedInput);
+        if (event.isEnabled()) {
+            event.commit(msg, size);
+        }
+        return msg;
+    }
+    // endregion
+
+    /**
+     * Reads the size prefix of a length delimited message.
+     *
+     * @return the size of the message or -1 if the stream has ended
+     */
+    static int readDelimitedSize(InputStream input) throws IOException {
+        try {
+            int b = input.read();
+            if (b == -1) {
+                return -1;
+            }
+            int result = b & 0x7F;
+            // The bytes past the 5th are only checked for termination, like in protobuf-java
+            for (int shift = 7; (b & 0x80) != 0; shift += 7) {
+                if (shift == 70) {
+                    throw new InvalidProtocolBufferException("Malformed varint in the size of a message.");
+                }
+                if ((b = input.read()) == -1) {
+                    throw new InvalidProtocolBufferException("The stream ended in the size of a message.");
+                }
+                if (shift < 32) {
+                    result |= (b & 0x7F) << shift;
+                }
+            }
+            return result;
+        } catch (InvalidProtocolBufferException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new InvalidProtocolBufferException(e);
+        }
+    }
+
+    // Reads the size prefix of a delimited message, advancing the position of the buffer
+    private static int readDelimitedSize(ByteBuffer input) throws IOException {
+        int result = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            if (!input.hasRemaining()) {
+                throw new InvalidProtocolBufferException("The buffer ended in the size of a message.");
+            }
+            final int b = input.get();
+            if (shift < 32) {
+                result |= (b & 0x7F) << shift;
+            }
+            if (b >= 0) {
+                return result;
+            }
+        }
+        throw new InvalidProtocolBufferException("Malformed varint in the size of a message.");
+    }
+
+    // region shared: merge-and-serialize
+    /**
+     * Parse {@code input} as a message of this type and merge it with the
+     * message being built.
+     *
+     * @return this
+     */
+    public abstract MessageType mergeFrom(LimitedCodedInputStream input) throws IOException;
+
+    /**
+     * Merge {@code other} into the message being built. {@code other} must have the exact same type
+     * as {@code this}.
+     *
+     * <p>Merging occurs as follows. For each field:<br>
+     * * For singular primitive fields, if the field is set in {@code other}, then {@code other}'s
+     * value overwrites the value in this message.<br>
+     * * For singular message fields, if the field is set in {@code other}, it is merged into the
+     * corresponding sub-message of this message using the same merging rules.<br>
+     * * For repeated fields, the elements in {@code other} are concatenated with the elements in
+     * this message.<br>
+     * * For oneof groups, if the other message has one of the fields set, the group of this message
+     * is cleared and replaced by the field of the other message, so that the oneof constraint is
+     * preserved.
+     *
+     * <p>This is equivalent to the {@code Message::MergeFrom} method in C++.
+     *
+     * @return this
+     */
+    public MessageType mergeFrom(MessageType other) {
+        throw new RuntimeException("Generated message does not implement mergeFrom");
+    }
+
+    /**
+     * Serialize to a byte array.
+     *
+     * @return byte array with the serialized data.
+     */
+    public final byte[] toByteArray() {
+        return ProtoMessage.toByteArray(this);
+    }
+
+    /**
+     * Serialize to a byte array.
+     *
+     * @return byte array with the serialized data.
+     */
+    public static byte[] toByteArray(ProtoMessage<?> msg) {
+        final byte[] result = new byte[msg.getSerializedSize()];
+        toByteArray(msg, result, 0, result.length);
+        return result;
+    }
+    // endregion
+
+    /**
+     * Serialize to a byte array starting at offset through length. The
+     * method getSerializedSize must have been called prior to calling
+     * this method so the proper length is know.  If an attempt to
+     * write more than length bytes OutOfSpaceException will be thrown
+     * and if length bytes are not written then IllegalStateException
+     * is thrown.
+     */
+    public static void toByteArray(ProtoMessage<?> msg, byte[] data, int offset, int length) {
+        try {
+            final ProtoSink output = ProtoSink.newInstance(data, offset, length);
+            msg.writeTo(output);
+            output.checkNoSpaceLeft();
+        } catch (IOException e) {
+            throw new RuntimeException("Serializing to a byte array threw an IOException "
+                    + "(should never happen).", e);
+        }
+    }
+
+    /**
+     * Parses one message written in length delimited form, starting at the position of
+     * {@code input}. Heap buffers are read in place, the message is copied out of direct buffers.
+     * On success, the position of the buffer is advanced past the message.
+     *
+     * @return a new message parsed from the buffer or null if there are no bytes remaining.
+     */
+    protected static <T extends ProtoMessage<T>> T parseDelimitedFrom(
+        ByteBuffer input,
+        MessageFactory<T> factory
+    ) throws IOException {
+        if (!input.hasRemaining()) {
+            return null;
+        }
+        final var event = new ProtoParseEvent();
+        if (event.isEnabled()) {
+            event.begin();
+        }
+        final var msg = factory.create();
+        final ByteBuffer data = input.duplicate();
+        final int size = readDelimitedSize(data);
+        if (size > data.remaining()) {
+            throw new InvalidProtocolBufferException("The buffer ended in the middle of a message.");
+        }
+        data.limit(data.position() + size);
+        mergeFrom(msg, LimitedCodedInputStream.newInstance(data));
+        input.position(data.limit());
+        if (event.isEnabled()) {
+            event.commit(msg, size);
+        }
+        return msg;
+    }
+
+    /**
+     * Parse {@code data} as a message of this type and merge it with the message being built.
+     */
+    public static <T extends ProtoMessage<T>> T mergeFrom(T msg, final byte[] data) throws InvalidProtocolBufferException {
+        return mergeFrom(msg, data, 0, data.length);
+    }
+
+    /**
+     * Parse {@code data} as a message of this type and merge it with the message being built.
+     */
+    public static <T extends ProtoMessage<T>> T mergeFrom(T msg, final byte[] data, final int off, final int len)
+            throws InvalidProtocolBufferException {
+        final var event = new ProtoParseEvent();
+        if (event.isEnabled()) {
+            event.begin();
+        }
+        try {
+            mergeFrom(msg, LimitedCodedInputStream.newInstance(data, off, len));
+        } catch (InvalidProtocolBufferException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new RuntimeException("Reading from a byte array threw an IOException (should never happen).");
+        }
+        if (event.isEnabled()) {
+            event.commit(msg, len);
+        }
+        return msg;
+    }
+
+    /**
+     * Parse the remaining bytes of {@code data} as a message of this type and merge it with the
+     * message being built. Heap buffers are read in place, direct and memory-mapped buffers are
+     * copied to the heap first. The position of the buffer is not modified.
+     */
+    public static <T extends ProtoMessage<T>> T mergeFrom(T msg, final ByteBuffer data)
+            throws InvalidProtocolBufferException {
+        final var event = new ProtoParseEvent();
+        if (event.isEnabled()) {
+            event.begin();
+        }
+        try {
+            mergeFrom(msg, LimitedCodedInputStream.newInstance(data));
+        } catch (InvalidProtocolBufferException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new RuntimeException("Reading from a ByteBuffer threw an IOException (should never happen).");
+        }
+        if (event.isEnabled()) {
+            event.commit(msg, data.remaining());
+        }
+        return msg;
+    }
+
+    // region shared: nested-messages
+    /**
+     * Parse {@code input} as a message of this type and merge it with the message being built.
+     */
+    public static <T extends ProtoMessage<T>> T mergeFrom(T msg, LimitedCodedInputStream input) throws IOException {
+        msg.mergeFrom(input);
+        input.checkLastTagWas(0);
+        return msg;
+    }
+
+    protected static <T extends ProtoMessage<T>> void mergeDelimitedFrom(
+        T msg, LimitedCodedInputStream inputLimited
+    ) throws IOException {
+        inputLimited.checkRecursionDepth();
+        inputLimited.incrementRecursionDepth();
+        final int length = inputLimited.readRawVarint32();
+        final int oldLimit = inputLimited.pushLimit(length);
+        msg.mergeFrom(inputLimited);
+        inputLimited.checkLastTagWas(0);
+        inputLimited.popLimit(oldLimit);
+        inputLimited.decrementRecursionDepth();
+    }
+
+    protected static <T extends ProtoMessage<T>> int computeRepeatedMessageSizeNoTag(final List<T> values) {
+        int dataSize = 0;
+        for (final ProtoMessage<?> value : values) {
+            int valSize = value.getSerializedSize();
+            dataSize += ProtoSink.computeUInt32SizeNoTag(valSize) + valSize;
+        }
+        return dataSize;
+    }
+
+    protected static <T extends ProtoMessage<T>> int computeRepeatedMessageSizeNoTag(
+        final List<T> values,
+        final ProtoMessage<?> parent
+    ) {
+        int dataSize = 0;
+        for (final ProtoMessage<?> value : values) {
+            int valSize = computeNestedSize(value, parent);
+            dataSize += ProtoSink.computeUInt32SizeNoTag(valSize) + valSize;
+        }
+        return dataSize;
+    }
+
+    /**
+     * @return true if a oneof of the message has a member set, or if the message has no oneofs.
+     * Messages without a member are dropped by a {@link ProjectionMask#filter filtering} parser.
+     */
+    protected boolean hasOneOfMember() {
+        return true;
+    }
+
+    protected static <T extends ProtoMessage<T>> int readRepeatedMessage(
+        final List<T> store,
+        final MessageFactory<T> factory,
+        final LimitedCodedInputStream input,
+        final int tag
+    ) throws IOException {
+        if (input.isFiltered(factory)) {
+            return readFilteredMessages(store, factory, input, tag);
+        }
+        int nextTag;
+        do {
+            final var msg = factory.create();
+            mergeDelimitedFrom(msg, input);
+            store.add(msg);
+        } while((nextTag = input.readTag()) == tag);
+        return nextTag;
+    }
+
+    protected static <T extends ProtoMessage<T>> int readRepeatedMessage(
+        final RepeatedMessage<T> store,
+        final MessageFactory<T> factory,
+        final LimitedCodedInputStream input,
+        final int tag
+    ) throws IOException {
+        final boolean filtered = input.isFiltered(factory);
+        int nextTag;
+        do {
+            final T msg = store.next();
+            mergeDelimitedFrom(msg, input);
+            if (filtered && !msg.hasOneOfMember()) {
+                store.discardLast();
+            }
+        } while((nextTag = input.readTag()) == tag);
+        return nextTag;
+    }
+
+    // Drops the messages that were left without a oneof member, and parses the next message
+    // into the dropped instance
+    private static <T extends ProtoMessage<T>> int readFilteredMessages(
+        final List<T> store,
+        final MessageFactory<T> factory,
+        final LimitedCodedInputStream input,
+        final int tag
+    ) throws IOException {
+        T dropped = null;
+        int nextTag;
+        do {
+            final T msg = dropped == null ? factory.create() : dropped;
+            dropped = null;
+            mergeDelimitedFrom(msg, input);
+            if (msg.hasOneOfMember()) {
+                store.add(msg);
+            } else {
+                msg.clear();
+                dropped = msg;
+            }
+        } while((nextTag = input.readTag()) == tag);
+        return nextTag;
+    }
+
+    /**
+     * Computes the size of a length-delimited field with {@code dataSize} bytes
+     * of payload, excluding the tag.
+     */
+    protected static int computeDelimitedSize(final int dataSize) {
+        return ProtoSink.computeUInt32SizeNoTag(dataSize) + dataSize;
+    }
+    // endregion
+
+    /**
+     * Reads a field that is not known to the message and appends it, including its tag, to
+     * {@code unknownBytes}. The field is copied as raw bytes without being parsed.
+     *
+     * @return the unknown bytes with the field appended, or null if the tag ends a group
+     */
+    protected static ProtoBytes readUnknownField(
+        final LimitedCodedInputStream input,
+        final int tag,
+        final ProtoBytes unknownBytes
+    ) throws IOException {
+        final ProtoBytes field = input.readRawField(tag);
+        return field == null ? null : unknownBytes.concat(field);
+    }
+
+    // region shared: repeated-fields
+    // Repeated scalar fields
+    //
+    // readRepeatedX reads consecutive non-packed elements with the same tag and returns
+    // the first tag that does not belong to the field. readPackedX reads a single
+    // length-delimited packed block. computeRepeatedXSizeNoTag returns the size of all
+    // values without tags and without the length prefix. The packed values are written
+    // by the writePackedXNoTag methods of ProtoSink.
+
+    protected static int readRepeatedDouble(final RepeatedDouble store, final LimitedCodedInputStream input, final int tag)
+            throws IOException {
+        int nextTag;
+        do {
+            store.add(input.readDouble());
+        } while ((nextTag = input.readTag()) == tag);
+        return nextTag;
+    }
+
+    protected static void readPackedDouble(final RepeatedDouble store, final LimitedCodedInputStream input)
+            throws IOException {
+        final int length = input.readRawVarint32();
+        final int oldLimit = input.pushLimit(length);
+        store.reserve(length / 8);
+        while (input.getBytesUntilLimit() > 0) {
+            store.add(input.readDouble());
+        }
+        input.popLimit(oldLimit);
+    }
+
+    protected static int computeRepeatedDoubleSizeNoTag(final RepeatedDouble store) {
+        return 8 * store.length;
+    }
+
+    protected static int readRepeatedFloat(final RepeatedFloat store, final LimitedCodedInputStream input, final int tag)
+            throws IOException {
+        int nextTag;
+        do {
+            store.add(input.readFloat());
+        } while ((nextTag = input.readTag()) == tag);
+        return nextTag;
+    }
+
+    protected static void readPackedFloat(final RepeatedFloat store, final LimitedCodedInputStream input)
+            throws IOException {
+        final int length = input.readRawVarint32();
+        final int oldLimit = input.pushLimit(length);
+        store.reserve(length / 4);
+        while (input.getBytesUntilLimit() > 0) {
+            store.add(input.readFloat());
+        }
+        input.popLimit(oldLimit);
+    }
+
+    protected static int computeRepeatedFloatSizeNoTag(final RepeatedFloat store) {
+        return 4 * store.length;
+    }
+
+    protected static int readRepeatedInt64(final RepeatedLong store, final LimitedCodedInputStream input, final int tag)
+            throws IOException {
+        int nextTag;
+        do {
+            store.add(input.readInt64());
+        } while ((nextTag = input.readTag()) == tag);
+        return nextTag;
+    }
+
+    protected static void readPackedInt64(final RepeatedLong store, final LimitedCodedInputStream input)
+            throws IOException {
+        final int length = input.readRawVarint32();
+        final int oldLimit = input.pushLimit(length);
+        while (input.getBytesUntilLimit() > 0) {
+            store.add(input.readInt64());
+        }
+        input.popLimit(oldLimit);
+    }
+
+    protected static int computeRepeatedInt64SizeNoTag(final RepeatedLong store) {
+        final long[] array = store.array;
+        int dataSize = 0;
+        for (int i = 0; i < store.length; i++) {
+            dataSize += ProtoSink.computeInt64SizeNoTag(array[i]);
+        }
+        return dataSize;
+    }
+
+    protected static int readRepeatedUInt64(final RepeatedLong store, final LimitedCodedInputStream input, final int tag)
+            throws IOException {
+        int nextTag;
+        do {
+            store.add(input.readUInt64());
+        } while ((nextTag = input.readTag()) == tag);
+        return nextTag;
+    }
+
+    protected static void readPackedUInt64(final RepeatedLong store, final LimitedCodedInputStream input)
+            throws IOException {
+        final int length = input.readRawVarint32();
+        final int oldLimit = input.pushLimit(length);
+        while (input.getBytesUntilLimit() > 0) {
+            store.add(input.readUInt64());
+        }
+        input.popLimit(oldLimit);
+    }
+
+    protected static int computeRepeatedUInt64SizeNoTag(final RepeatedLong store) {
+        final long[] array = store.array;
+        int dataSize = 0;
+        for (int i = 0; i < store.length; i++) {
+            dataSize += ProtoSink.computeUInt64SizeNoTag(array[i]);
+        }
+        return dataSize;
+    }
+
+    protected static int readRepeatedSInt64(final RepeatedLong store, final LimitedCodedInputStream input, final int tag)
+            throws IOException {
+        int nextTag;
+        do {
+            store.add(input.readSInt64());
+        } while ((nextTag = input.readTag()) == tag);
+        return nextTag;
+    }
+
+    protected static void readPackedSInt64(final RepeatedLong store, final LimitedCodedInputStream input)
+            throws IOException {
+        final int length = input.readRawVarint32();
+        final int oldLimit = input.pushLimit(length);
+        while (input.getBytesUntilLimit() > 0) {
+            store.add(input.readSInt64());
+        }
+        input.popLimit(oldLimit);
+    }
+
+    protected static int computeRepeatedSInt64SizeNoTag(final RepeatedLong store) {
+        final long[] array = store.array;
+        int dataSize = 0;
+        for (int i = 0; i < store.length; i++) {
+            dataSize += ProtoSink.computeSInt64SizeNoTag(array[i]);
+        }
+        return dataSize;
+    }
+
+    protected static int readRepeatedFixed64(final RepeatedLong store, final LimitedCodedInputStream input, final int tag)
+            throws IOException {
+        int nextTag;
+        do {
+            store.add(input.readFixed64());
+        } while ((nextTag = input.readTag()) == tag);
+        return nextTag;
+    }
+
+    protected static void readPackedFixed64(final RepeatedLong store, final LimitedCodedInputStream input)
+            throws IOException {
+        final int length = input.readRawVarint32();
+        final int oldLimit = input.pushLimit(length);
+        store.reserve(length / 8);
+        while (input.getBytesUntilLimit() > 0) {
+            store.add(input.readFixed64());
+        }
+        input.popLimit(oldLimit);
+    }
+
+    protected static int computeRepeatedFixed64SizeNoTag(final RepeatedLong store) {
+        return 8 * store.length;
+    }
+
+    protected static int readRepeatedSFixed64(final RepeatedLong store, final LimitedCodedInputStream input, final int tag)
+            throws IOException {
+        int nextTag;
+        do {
+            store.add(input.readSFixed64());
+        } while ((nextTag = input.readTag()) == tag);
+        return nextTag;
+    }
+
+    protected static void readPackedSFixed64(final RepeatedLong store, final LimitedCodedInputStream input)
+            throws IOException {
+        final int length = input.readRawVarint32();
+        final int oldLimit = input.pushLimit(length);
+        store.reserve(length / 8);
+        while (input.getBytesUntilLimit() > 0) {
+            store.add(input.readSFixed64());
+        }
+        input.popLimit(oldLimit);
+    }
+
+    protected static int computeRepeatedSFixed64SizeNoTag(final RepeatedLong store) {
+        return 8 * store.length;
+    }
+
+    protected static int readRepeatedInt32(final RepeatedInt store, final LimitedCodedInputStream input, final int tag)
+            throws IOException {
+        int nextTag;
+        do {
+            store.add(input.readInt32());
+        } while ((nextTag = input.readTag()) == tag);
+        return nextTag;
+    }
+
+    protected static void readPackedInt32(final RepeatedInt store, final LimitedCodedInputStream input)
+            throws IOException {
+        final int length = input.readRawVarint32();
+        final int oldLimit = input.pushLimit(length);
+        while (input.getBytesUntilLimit() > 0) {
+            store.add(input.readInt32());
+        }
+        input.popLimit(oldLimit);
+    }
+
+    protected static int computeRepeatedInt32SizeNoTag(final RepeatedInt store) {
+        final int[] array = store.array;
+        int dataSize = 0;
+        for (int i = 0; i < store.length; i++) {
+            dataSize += ProtoSink.computeInt32SizeNoTag(array[i]);
+        }
+        return dataSize;
+    }
+
+    protected static int readRepeatedUInt32(final RepeatedInt store, final LimitedCodedInputStream input, final int tag)
+            throws IOException {
+        int nextTag;
+        do {
+            store.add(input.readUInt32());
+        } while ((nextTag = input.readTag()) == tag);
+        return nextTag;
+    }
+
+    protected static void readPackedUInt32(final RepeatedInt store, final LimitedCodedInputStream input)
+            throws IOException {
+        final int length = input.readRawVarint32();
+        final int oldLimit = input.pushLimit(length);
+        while (input.getBytesUntilLimit() > 0) {
+            store.add(input.readUInt32());
+        }
+        input.popLimit(oldLimit);
+    }
+
+    protected static int computeRepeatedUInt32SizeNoTag(final RepeatedInt store) {
+        final int[] array = store.array;
+        int dataSize = 0;
+        for (int i = 0; i < store.length; i++) {
+            dataSize += ProtoSink.computeUInt32SizeNoTag(array[i]);
+        }
+        return dataSize;
+    }
+
+    protected static int readRepeatedSInt32(final RepeatedInt store, final LimitedCodedInputStream input, final int tag)
+            throws IOException {
+        int nextTag;
+        do {
+            store.add(input.readSInt32());
+        } while ((nextTag = input.readTag()) == tag);
+        return nextTag;
+    }
+
+    protected static void readPackedSInt32(final RepeatedInt store, final LimitedCodedInputStream input)
+            throws IOException {
+        final int length = input.readRawVarint32();
+        final int oldLimit = input.pushLimit(length);
+        while (input.getBytesUntilLimit() > 0) {
+            store.add(input.readSInt32());
+        }
+        input.popLimit(oldLimit);
+    }
+
+    protected static int computeRepeatedSInt32SizeNoTag(final RepeatedInt store) {
+        final int[] array = store.array;
+        int dataSize = 0;
+        for (int i = 0; i < store.length; i++) {
+            dataSize += ProtoSink.computeSInt32SizeNoTag(array[i]);
+        }
+        return dataSize;
+    }
+
+    protected static int readRepeatedFixed32(final RepeatedInt store, final LimitedCodedInputStream input, final int tag)
+            throws IOException {
+        int nextTag;
+        do {
+            store.add(input.readFixed32());
+        } while ((nextTag = input.readTag()) == tag);
+        return nextTag;
+    }
+
+    protected static void readPackedFixed32(final RepeatedInt store, final LimitedCodedInputStream input)
+            throws IOException {
+        final int length = input.readRawVarint32();
+        final int oldLimit = input.pushLimit(length);
+        store.reserve(length / 4);
+        while (input.getBytesUntilLimit() > 0) {
+            store.add(input.readFixed32());
+        }
+        input.popLimit(oldLimit);
+    }
+
+    protected static int computeRepeatedFixed32SizeNoTag(final RepeatedInt store) {
+        return 4 * store.length;
+    }
+
+    protected static int readRepeatedSFixed32(final RepeatedInt store, final LimitedCodedInputStream input, final int tag)
+            throws IOException {
+        int nextTag;
+        do {
+            store.add(input.readSFixed32());
+        } while ((nextTag = input.readTag()) == tag);
+        return nextTag;
+    }
+
+    protected static void readPackedSFixed32(final RepeatedInt store, final LimitedCodedInputStream input)
+            throws IOException {
+        final int length = input.readRawVarint32();
+        final int oldLimit = input.pushLimit(length);
+        store.reserve(length / 4);
+        while (input.getBytesUntilLimit() > 0) {
+            store.add(input.readSFixed32());
+        }
+        input.popLimit(oldLimit);
+    }
+
+    protected static int computeRepeatedSFixed32SizeNoTag(final RepeatedInt store) {
+        return 4 * store.length;
+    }
+
+    protected static int readRepeatedBool(final RepeatedBoolean store, final LimitedCodedInputStream input, final int tag)
+            throws IOException {
+        int nextTag;
+        do {
+            store.add(input.readBool());
+        } while ((nextTag = input.readTag()) == tag);
+        return nextTag;
+    }
+
+    protected static void readPackedBool(final RepeatedBoolean store, final LimitedCodedInputStream input)
+            throws IOException {
+        final int length = input.readRawVarint32();
+        final int oldLimit = input.pushLimit(length);
+        store.reserve(length);
+        while (input.getBytesUntilLimit() > 0) {
+            store.add(input.readBool());
+        }
+        input.popLimit(oldLimit);
+    }
+
+    protected static int computeRepeatedBoolSizeNoTag(final RepeatedBoolean store) {
+        return 1 * store.length;
+    }
+
+    protected static int readRepeatedEnum(final RepeatedEnum<?> store, final LimitedCodedInputStream input, final int tag)
+            throws IOException {
+        int nextTag;
+        do {
+            // Unknown values are kept, like in proto3 open enums
+            store.addValue(input.readEnum());
+        } while ((nextTag = input.readTag()) == tag);
+        return nextTag;
+    }
+
+    protected static void readPackedEnum(final RepeatedEnum<?> store, final LimitedCodedInputStream input)
+            throws IOException {
+        final int length = input.readRawVarint32();
+        final int oldLimit = input.pushLimit(length);
+        while (input.getBytesUntilLimit() > 0) {
+            // Unknown values are kept, like in proto3 open enums
+            store.addValue(input.readEnum());
+        }
+        input.popLimit(oldLimit);
+    }
+
+    protected static int computeRepeatedEnumSizeNoTag(final RepeatedEnum<?> store) {
+        final int[] array = store.array;
+        int dataSize = 0;
+        for (int i = 0; i < store.length; i++) {
+            dataSize += ProtoSink.computeEnumSizeNoTag(array[i]);
+        }
+        return dataSize;
+    }
+
+    protected static int readRepeatedString(final RepeatedString store, final LimitedCodedInputStream input, final int tag)
+            throws IOException {
+        int nextTag;
+        do {
+            store.add(input.readStringRequireUtf8());
+        } while ((nextTag = input.readTag()) == tag);
+        return nextTag;
+    }
+
+    protected static int computeRepeatedStringSizeNoTag(final RepeatedString store) {
+        final String[] array = store.array;
+        int dataSize = 0;
+        for (int i = 0; i < store.length; i++) {
+            dataSize += ProtoSink.computeStringSizeNoTag(array[i]);
+        }
+        return dataSize;
+    }
+
+    /**
+     * Reads a message from {@code inputLimited} until the end of the input. Each occurrence of
+     * the repeated message field with {@code tag} is decoded into one element created with
+     * {@code factory} (after clearing it) and passed to {@code consumer}. All other fields are
+     * skipped, and so are elements dropped by a {@link ProjectionMask#filter filter}.
+     */
+    protected static <T extends ProtoMessage<T>> void streamRepeatedMessage(
+        final MessageFactory<T> factory,
+        final int tag,
+        final LimitedCodedInputStream inputLimited,
+        final Consumer<? super T> consumer
+    ) throws IOException {
+        final boolean filtered = inputLimited.isFiltered(factory);
+        final T element = factory.create();
+        int nextTag;
+        while ((nextTag = inputLimited.readTag()) != 0) {
+            if (nextTag == tag) {
+                element.clear();
+                mergeDelimitedFrom(element, inputLimited);
+                if (!filtered || element.hasOneOfMember()) {
+                    consumer.accept(element);
+                }
+            } else if (!inputLimited.skipField(nextTag)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Same as {@link #streamRepeatedMessage}, but reads one message written in length
+     * delimited form.
+     *
+     * @return false if there was no message to read
+     */
+    protected static <T extends ProtoMessage<T>> boolean streamDelimitedRepeatedMessage(
+        final MessageFactory<T> factory,
+        final int tag,
+        final InputStream input,
+        final Consumer<? super T> consumer
+    ) throws IOException {
+        final int size = readDelimitedSize(input);
+        if (size < 0) {
+            return false;
+        }
+        streamRepeatedMessage(factory, tag, LimitedCodedInputStream.newInstance(input, size), consumer);
+        return true;
+    }
+
+    /**
+     * Indicates whether another object is "equal to" this one.
+     * <p>
+     * An object is considered equal when it is of the same message
+     * type, contains the same fields (same has state), and all the
+     * field contents are equal.
+     * <p>
+     * This comparison ignores unknown fields, so the serialized binary
+     * form may not be equal. Messages generated with the {@code store_unknown_fields}
+     * option also compare their unknown fields.
+     *
+     * @param obj the reference object with which to compare
+     * @return {@code true} if this object is the same as the obj
+     * argument; {@code false} otherwise.
+     */
+    @Override
+    public abstract boolean equals(Object obj);
+
+    /**
+     * Creates a new instance of this message with the same content
+     */
+    @Override
+    public abstract MessageType clone();
+
+    @SuppressWarnings("unchecked")
+    private MessageType getThis() {
+        return (MessageType) this;
+    }
+    // endregion
+}
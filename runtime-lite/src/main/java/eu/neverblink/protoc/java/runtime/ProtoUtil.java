@@ -0,0 +1,44 @@
+package eu.neverblink.protoc.java.runtime;
+
+/**
+ * Utility methods used by the generated code. Same as the class of the runtime module, with
+ * {@link ProtoBytes} in place of ByteString.
+ *
+ * @author Piotr Sowiński
+ */
+public final class ProtoUtil {
+
+    private ProtoUtil() {
+    }
+
+    /**
+     * Compares two doubles bit by bit, like {@link Double#equals(Object)}.
+     * NaN is equal to itself, and 0.0 is not equal to -0.0.
+     */
+    public static boolean isEqual(final double a, final double b) {
+        return Double.doubleToLongBits(a) == Double.doubleToLongBits(b);
+    }
+
+    /**
+     * Compares two floats bit by bit, like {@link Float#equals(Object)}.
+     * NaN is equal to itself, and 0.0f is not equal to -0.0f.
+     */
+    public static boolean isEqual(final float a, final float b) {
+        return Float.floatToIntBits(a) == Float.floatToIntBits(b);
+    }
+
+    /**
+     * Compares two values of a oneof field whose string members are decoded lazily. A string
+     * member may be held as a String on one side and as its raw UTF-8 bytes on the other, in
+     * which case the encodings are compared.
+     */
+    public static boolean isEqualOneOfValue(final Object a, final Object b) {
+        if (a instanceof ProtoBytes && b instanceof String) {
+            return a.equals(ProtoBytes.copyFromUtf8((String) b));
+        }
+        if (a instanceof String && b instanceof ProtoBytes) {
+            return b.equals(ProtoBytes.copyFromUtf8((String) a));
+        }
+        return a.equals(b);
+    }
+}
@@ -0,0 +1,537 @@
+package eu.neverblink.protoc.java.runtime;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encoding of {@link ProtoSink}, shared by the runtime and runtime-lite modules. The variants
+ * of {@link ProtoSink} add the writes of the bytes type of their module, which is ByteString
+ * or ProtoBytes, and the code that depends on protobuf-java. They also declare the static
+ * factories and size computations, as static members of a superclass cannot be called through
+ * a subclass from Scala.
+ *
+ * @author Piotr Sowiński
+ */
+abstract class AbstractProtoSink {
+    private static final VarHandle SHORT_LE = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT_LE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle LONG_LE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    // The array, the next position to write, the end of the writable space and the start of
+    // the written data
+    final byte[] buffer;
+    int position;
+    final int limit;
+    private final int start;
+
+    // The target buffer, whose position is moved on flush(), or null
+    final ByteBuffer target;
+    // The stream that the array is drained to, or null
+    final OutputStream stream;
+    // True if the array is drained to the target buffer or the stream when it is full
+    final boolean drains;
+    // The number of bytes drained so far
+    long drained = 0;
+
+    AbstractProtoSink(byte[] buffer, int offset, int length, ByteBuffer target, OutputStream stream, boolean drains) {
+        if (offset < 0 || length < 0 || offset > buffer.length - length) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + length +
+                ") out of bounds for length " + buffer.length);
+        }
+        this.buffer = buffer;
+        this.position = offset;
+        this.limit = offset + length;
+        this.start = offset;
+        this.target = target;
+        this.stream = stream;
+        this.drains = drains;
+    }
+
+    /**
+     * @return the number of bytes that can still be written
+     * @throws UnsupportedOperationException if the sink writes to a stream
+     */
+    public int spaceLeft() {
+        if (stream != null) {
+            throw new UnsupportedOperationException("spaceLeft() can only be called on sinks that write " +
+                "into a fixed amount of space");
+        }
+        return drains ? target.remaining() - position : limit - position;
+    }
+
+    /**
+     * @throws IllegalStateException if the sink was not filled completely
+     */
+    public void checkNoSpaceLeft() {
+        if (spaceLeft() != 0) {
+            throw new IllegalStateException("Did not write as much data as expected.");
+        }
+    }
+
+    /**
+     * @return the number of bytes written to the sink, including the bytes that were not flushed
+     */
+    public long getTotalBytesWritten() {
+        return drained + position - start;
+    }
+
+    /**
+     * Writes the buffered bytes to the target stream or direct buffer, or moves the position of
+     * the target heap buffer past the written bytes. A target stream is not flushed.
+     */
+    public void flush() throws IOException {
+        if (drains) {
+            drain();
+        } else if (target != null) {
+            target.position(position - target.arrayOffset());
+        }
+    }
+
+    // Writing
+
+    public void writeRawByte(final byte value) throws IOException {
+        require(1);
+        buffer[position++] = value;
+    }
+
+    public void writeRawBytes(final byte[] value) throws IOException {
+        writeRawBytes(value, 0, value.length);
+    }
+
+    public void writeRawBytes(final byte[] value, final int offset, final int length) throws IOException {
+        if (limit - position >= length) {
+            System.arraycopy(value, offset, buffer, position, length);
+            position += length;
+            return;
+        }
+        makeSpace(length);
+        if (limit - position >= length) {
+            System.arraycopy(value, offset, buffer, position, length);
+            position += length;
+        } else if (stream != null) {
+            stream.write(value, offset, length);
+            drained += length;
+        } else if (target.remaining() >= length) {
+            target.put(value, offset, length);
+            drained += length;
+        } else {
+            throw outOfSpace(length);
+        }
+    }
+
+    /**
+     * Writes a single-byte tag followed by a uint32 value, such as the length of a nested
+     * message, with one check for the space of both.
+     *
+     * @param tag   a tag of a field numbered from 1 to 15
+     * @param value the value or length that follows
+     */
+    public void writeTagAndUInt32(final byte tag, final int value) throws IOException {
+        final int position = this.position;
+        if ((value & ~0x7F) == 0 && limit - position >= 2) {
+            buffer[position] = tag;
+            buffer[position + 1] = (byte) value;
+            this.position = position + 2;
+        } else {
+            writeRawByte(tag);
+            writeUInt32NoTag(value);
+        }
+    }
+
+    public void writeUInt32NoTag(final int value) throws IOException {
+        if ((value & ~0x7F) == 0 && position < limit) {
+            buffer[position++] = (byte) value;
+        } else {
+            writeVarint32(value);
+        }
+    }
+
+    // The slow path of writeUInt32NoTag, kept separately so that the fast path is inlined
+    private void writeVarint32(final int value) throws IOException {
+        if (limit - position >= 8) {
+            putVarint32Wide(value);
+        } else {
+            final int size = computeVarint32Size(value);
+            require(size);
+            putVarint32(value, size);
+        }
+    }
+
+    public void writeInt32NoTag(final int value) throws IOException {
+        if (value >= 0) {
+            writeUInt32NoTag(value);
+        } else {
+            // Negative values are sign-extended to 64 bits
+            writeUInt64NoTag(value);
+        }
+    }
+
+    public void writeSInt32NoTag(final int value) throws IOException {
+        writeUInt32NoTag((value << 1) ^ (value >> 31));
+    }
+
+    public void writeEnumNoTag(final int value) throws IOException {
+        writeInt32NoTag(value);
+    }
+
+    public void writeBoolNoTag(final boolean value) throws IOException {
+        require(1);
+        buffer[position++] = (byte) (value ? 1 : 0);
+    }
+
+    public void writeUInt64NoTag(long value) throws IOException {
+        if ((value & ~0x7FL) == 0) {
+            require(1);
+            buffer[position++] = (byte) value;
+            return;
+        }
+        final int size = (640 - Long.numberOfLeadingZeros(value) * 9) >>> 6;
+        require(size);
+        final byte[] buffer = this.buffer;
+        int position = this.position;
+        for (int i = 1; i < size; i++) {
+            buffer[position++] = (byte) (value | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        this.position = position;
+    }
+
+    public void writeInt64NoTag(final long value) throws IOException {
+        writeUInt64NoTag(value);
+    }
+
+    public void writeSInt64NoTag(final long value) throws IOException {
+        writeUInt64NoTag((value << 1) ^ (value >> 63));
+    }
+
+    public void writeFixed32NoTag(final int value) throws IOException {
+        require(4);
+        INT_LE.set(buffer, position, value);
+        position += 4;
+    }
+
+    public void writeSFixed32NoTag(final int value) throws IOException {
+        writeFixed32NoTag(value);
+    }
+
+    public void writeFloatNoTag(final float value) throws IOException {
+        writeFixed32NoTag(Float.floatToRawIntBits(value));
+    }
+
+    public void writeFixed64NoTag(final long value) throws IOException {
+        require(8);
+        LONG_LE.set(buffer, position, value);
+        position += 8;
+    }
+
+    public void writeSFixed64NoTag(final long value) throws IOException {
+        writeFixed64NoTag(value);
+    }
+
+    public void writeDoubleNoTag(final double value) throws IOException {
+        writeFixed64NoTag(Double.doubleToRawLongBits(value));
+    }
+
+    /**
+     * Writes the length prefix and the UTF-8 encoding of the string. Unpaired surrogates are
+     * replaced with '?', as by CodedOutputStream.
+     */
+    public void writeStringNoTag(final String value) throws IOException {
+        final int length = value.length();
+        // Short strings, whose encoding always has a single-byte length prefix
+        if (length <= 42 && 3 * length < limit - position) {
+            final int begin = position + 1;
+            final int end = encodeUtf8(value, buffer, begin);
+            if (end >= 0) {
+                buffer[position] = (byte) (end - begin);
+                position = end;
+                return;
+            }
+        }
+        writeString(value);
+    }
+
+    // The slow path of writeStringNoTag
+    private void writeString(final String value) throws IOException {
+        final int length = value.length();
+        final int prefixSize = computeVarint32Size(length);
+        // Encode in place if the prefix of the maximum encoded size has the same length
+        if (3L * length <= limit - position - prefixSize && prefixSize == computeVarint32Size(3 * length)) {
+            final int begin = position + prefixSize;
+            final int end = encodeUtf8(value, buffer, begin);
+            if (end >= 0) {
+                putVarint32(end - begin, prefixSize);
+                position = end;
+                return;
+            }
+        } else {
+            final int size = encodedUtf8Size(value);
+            if (size >= 0) {
+                writeUInt32NoTag(size);
+                if (limit - position < size && drains && size <= buffer.length) {
+                    drain();
+                }
+                if (limit - position >= size) {
+                    position = encodeUtf8(value, buffer, position);
+                } else {
+                    // Larger than the array, or out of space
+                    writeRawBytes(value.getBytes(StandardCharsets.UTF_8));
+                }
+                return;
+            }
+        }
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeUInt32NoTag(bytes.length);
+        writeRawBytes(bytes);
+    }
+
+    // Repeated scalar fields, see ProtoMessage
+
+    public void writePackedDoubleNoTag(final RepeatedDouble store) throws IOException {
+        writeUInt32NoTag(ProtoMessage.computeRepeatedDoubleSizeNoTag(store));
+        final double[] array = store.array;
+        for (int i = 0; i < store.length; i++) {
+            writeDoubleNoTag(array[i]);
+        }
+    }
+
+    public void writePackedFloatNoTag(final RepeatedFloat store) throws IOException {
+        writeUInt32NoTag(ProtoMessage.computeRepeatedFloatSizeNoTag(store));
+        final float[] array = store.array;
+        for (int i = 0; i < store.length; i++) {
+            writeFloatNoTag(array[i]);
+        }
+    }
+
+    public void writePackedInt64NoTag(final RepeatedLong store) throws IOException {
+        writeUInt32NoTag(ProtoMessage.computeRepeatedInt64SizeNoTag(store));
+        final long[] array = store.array;
+        for (int i = 0; i < store.length; i++) {
+            writeInt64NoTag(array[i]);
+        }
+    }
+
+    public void writePackedUInt64NoTag(final RepeatedLong store) throws IOException {
+        writeUInt32NoTag(ProtoMessage.computeRepeatedUInt64SizeNoTag(store));
+        final long[] array = store.array;
+        for (int i = 0; i < store.length; i++) {
+            writeUInt64NoTag(array[i]);
+        }
+    }
+
+    public void writePackedSInt64NoTag(final RepeatedLong store) throws IOException {
+        writeUInt32NoTag(ProtoMessage.computeRepeatedSInt64SizeNoTag(store));
+        final long[] array = store.array;
+        for (int i = 0; i < store.length; i++) {
+            writeSInt64NoTag(array[i]);
+        }
+    }
+
+    public void writePackedFixed64NoTag(final RepeatedLong store) throws IOException {
+        writeUInt32NoTag(ProtoMessage.computeRepeatedFixed64SizeNoTag(store));
+        final long[] array = store.array;
+        for (int i = 0; i < store.length; i++) {
+            writeFixed64NoTag(array[i]);
+        }
+    }
+
+    public void writePackedSFixed64NoTag(final RepeatedLong store) throws IOException {
+        writeUInt32NoTag(ProtoMessage.computeRepeatedSFixed64SizeNoTag(store));
+        final long[] array = store.array;
+        for (int i = 0; i < store.length; i++) {
+            writeSFixed64NoTag(array[i]);
+        }
+    }
+
+    public void writePackedInt32NoTag(final RepeatedInt store) throws IOException {
+        writeUInt32NoTag(ProtoMessage.computeRepeatedInt32SizeNoTag(store));
+        final int[] array = store.array;
+        for (int i = 0; i < store.length; i++) {
+            writeInt32NoTag(array[i]);
+        }
+    }
+
+    public void writePackedUInt32NoTag(final RepeatedInt store) throws IOException {
+        writeUInt32NoTag(ProtoMessage.computeRepeatedUInt32SizeNoTag(store));
+        final int[] array = store.array;
+        for (int i = 0; i < store.length; i++) {
+            writeUInt32NoTag(array[i]);
+        }
+    }
+
+    public void writePackedSInt32NoTag(final RepeatedInt store) throws IOException {
+        writeUInt32NoTag(ProtoMessage.computeRepeatedSInt32SizeNoTag(store));
+        final int[] array = store.array;
+        for (int i = 0; i < store.length; i++) {
+            writeSInt32NoTag(array[i]);
+        }
+    }
+
+    public void writePackedFixed32NoTag(final RepeatedInt store) throws IOException {
+        writeUInt32NoTag(ProtoMessage.computeRepeatedFixed32SizeNoTag(store));
+        final int[] array = store.array;
+        for (int i = 0; i < store.length; i++) {
+            writeFixed32NoTag(array[i]);
+        }
+    }
+
+    public void writePackedSFixed32NoTag(final RepeatedInt store) throws IOException {
+        writeUInt32NoTag(ProtoMessage.computeRepeatedSFixed32SizeNoTag(store));
+        final int[] array = store.array;
+        for (int i = 0; i < store.length; i++) {
+            writeSFixed32NoTag(array[i]);
+        }
+    }
+
+    public void writePackedBoolNoTag(final RepeatedBoolean store) throws IOException {
+        writeUInt32NoTag(ProtoMessage.computeRepeatedBoolSizeNoTag(store));
+        final boolean[] array = store.array;
+        for (int i = 0; i < store.length; i++) {
+            writeBoolNoTag(array[i]);
+        }
+    }
+
+    public void writePackedEnumNoTag(final RepeatedEnum<?> store) throws IOException {
+        writeUInt32NoTag(ProtoMessage.computeRepeatedEnumSizeNoTag(store));
+        final int[] array = store.array;
+        for (int i = 0; i < store.length; i++) {
+            writeEnumNoTag(array[i]);
+        }
+    }
+
+    // Varint of the given size, for which there is space
+    private void putVarint32(int value, final int size) {
+        final byte[] buffer = this.buffer;
+        int position = this.position;
+        for (int i = 1; i < size; i++) {
+            buffer[position++] = (byte) (value | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        this.position = position;
+    }
+
+    // Varint written with a single 8-byte store, without branching on its size. There must be
+    // space for 8 bytes, and the bytes after the varint are overwritten.
+    private void putVarint32Wide(final int value) {
+        final long v = value & 0xFFFFFFFFL;
+        final int size = computeVarint32Size(value);
+        // Spread the 7-bit groups to separate bytes and set the continuation bits of all but the last
+        final long groups = v & 0x7F | (v << 1) & 0x7F00 | (v << 2) & 0x7F0000 | (v << 3) & 0x7F000000L
+            | (v << 4) & 0x7F00000000L;
+        LONG_LE.set(buffer, position, groups | 0x80808080L >>> (40 - 8 * size));
+        position += size;
+    }
+
+    static int computeVarint32Size(final int value) {
+        return (352 - Integer.numberOfLeadingZeros(value) * 9) >>> 6;
+    }
+
+    /**
+     * @return the position after the encoded string, or -1 if it has an unpaired surrogate
+     */
+    private static int encodeUtf8(final String value, final byte[] buffer, final int position) {
+        final int length = value.length();
+        // ASCII prefix
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            if (c >= 0x80) {
+                return encodeUtf8(value, i, buffer, position + i);
+            }
+            buffer[position + i] = (byte) c;
+        }
+        return position + length;
+    }
+
+    // Encodes the string from the index of its first non-ASCII char
+    private static int encodeUtf8(final String value, int i, final byte[] buffer, int position) {
+        final int length = value.length();
+        for (; i < length; i++) {
+            final char c = value.charAt(i);
+            if (c < 0x80) {
+                buffer[position++] = (byte) c;
+            } else if (c < 0x800) {
+                SHORT_LE.set(buffer, position, (short) (0x80C0 | c >>> 6 | (c & 0x3F) << 8));
+                position += 2;
+            } else if (!Character.isSurrogate(c)) {
+                buffer[position++] = (byte) (0xE0 | c >>> 12);
+                SHORT_LE.set(buffer, position, (short) (0x8080 | c >>> 6 & 0x3F | (c & 0x3F) << 8));
+                position += 2;
+            } else {
+                if (!Character.isHighSurrogate(c) || i + 1 == length || !Character.isLowSurrogate(value.charAt(i + 1))) {
+                    return -1;
+                }
+                final int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                INT_LE.set(buffer, position, 0x808080F0 | codePoint >>> 18 | (codePoint >>> 12 & 0x3F) << 8
+                    | (codePoint >>> 6 & 0x3F) << 16 | (codePoint & 0x3F) << 24);
+                position += 4;
+            }
+        }
+        return position;
+    }
+
+    /**
+     * @return the size of the UTF-8 encoding of the string, or -1 if it has an unpaired surrogate
+     */
+    static int encodedUtf8Size(final String value) {
+        final int length = value.length();
+        int size = length;
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            if (c >= 0x80) {
+                if (c < 0x800) {
+                    size += 1;
+                } else if (!Character.isSurrogate(c)) {
+                    size += 2;
+                } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    // Four bytes for two chars
+                    size += 2;
+                    i++;
+                } else {
+                    return -1;
+                }
+            }
+        }
+        return size;
+    }
+
+    private void require(final int size) throws IOException {
+        if (limit - position < size) {
+            makeSpace(size);
+        }
+    }
+
+    // Drains the array if possible. Afterwards, writes of up to ProtoSink.MIN_BUFFER_SIZE bytes fit.
+    void makeSpace(final int size) throws IOException {
+        if (!drains) {
+            throw outOfSpace(size);
+        }
+        drain();
+    }
+
+    void drain() throws IOException {
+        if (position == 0) {
+            return;
+        }
+        if (stream != null) {
+            stream.write(buffer, 0, position);
+        } else if (target.remaining() >= position) {
+            target.put(buffer, 0, position);
+        } else {
+            throw outOfSpace(position - target.remaining());
+        }
+        drained += position;
+        position = 0;
+    }
+
+    ProtoSink.OutOfSpaceException outOfSpace(final int size) {
+        return new ProtoSink.OutOfSpaceException("Out of space: written " + getTotalBytesWritten() +
+            " bytes, requested " + size + " more");
+    }
+}
@@ -0,0 +1,187 @@
+package eu.neverblink.protoc.java.runtime;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Incrementally decodes a stream of length-delimited messages that arrives in chunks of
+ * arbitrary size, for example from a non-blocking socket.
+ * <p>
+ * Each call to {@link #decode} consumes the whole chunk and passes every message completed
+ * by it to the consumer, so the decoder never blocks waiting for more input. The partially
+ * received size prefix and message are kept between calls. Messages that lie entirely within
+ * one chunk are parsed in place. Only the bytes of a message that spans several chunks are
+ * copied, into a buffer that grows with the bytes received and is reused for the next such
+ * message. The size prefix is not trusted, so a decoder holds at most twice the bytes of the
+ * message it has received, and buffers over 1 MiB are released after their message.
+ * <p>
+ * This class is not thread-safe, but one thread may drive any number of decoders.
+ *
+ * @author Piotr Sowiński
+ */
+public final class DelimitedMessageDecoder<T extends ProtoMessage<T>> {
+
+    private static final int DEFAULT_MAX_MESSAGE_SIZE = 64 << 20;
+    private static final byte[] EMPTY = new byte[0];
+    private static final int MAX_RETAINED_SIZE = 1 << 20;
+
+    private final MessageFactory<T> factory;
+    private final int maxMessageSize;
+    private MessageInterner interner = null;
+
+    // Value and bit shift of the size prefix being read
+    private int prefix = 0;
+    private int prefixShift = 0;
+    // Size of the message being received, or -1 while reading its size prefix
+    private int size = -1;
+    // Bytes of a message that spans several chunks
+    private byte[] partial = EMPTY;
+    private int partialLength = 0;
+
+    private DelimitedMessageDecoder(MessageFactory<T> factory, int maxMessageSize) {
+        if (maxMessageSize < 0) {
+            throw new IllegalArgumentException("Max message size must not be negative, got: " + maxMessageSize);
+        }
+        this.factory = factory;
+        this.maxMessageSize = maxMessageSize;
+    }
+
+    /**
+     * Creates a decoder that accepts messages of up to 64 MiB.
+     */
+    public static <T extends ProtoMessage<T>> DelimitedMessageDecoder<T> of(MessageFactory<T> factory) {
+        return of(factory, DEFAULT_MAX_MESSAGE_SIZE);
+    }
+
+    /**
+     * @param maxMessageSize the largest accepted message, which bounds the buffered bytes
+     */
+    public static <T extends ProtoMessage<T>> DelimitedMessageDecoder<T> of(
+        MessageFactory<T> factory,
+        int maxMessageSize
+    ) {
+        return new DelimitedMessageDecoder<>(factory, maxMessageSize);
+    }
+
+    /**
+     * Sets the interner used to deduplicate leaf messages, or null to disable interning.
+     *
+     * @return this
+     * @see MessageInterner
+     */
+    public DelimitedMessageDecoder<T> setInterner(MessageInterner interner) {
+        this.interner = interner;
+        return this;
+    }
+
+    /**
+     * Consumes all remaining bytes of {@code chunk}, passing the completed messages to
+     * {@code consumer} in order. The chunk is not referenced after this method returns.
+     *
+     * @throws InvalidProtocolBufferException if the input is malformed. The decoder must be
+     *                                        {@link #reset()} before it is used again.
+     */
+    public void decode(ByteBuffer chunk, Consumer<? super T> consumer) throws InvalidProtocolBufferException {
+        while (true) {
+            if (size < 0 && !readPrefix(chunk)) {
+                return;
+            }
+            if (partialLength == 0 && chunk.remaining() >= size) {
+                final int start = chunk.position();
+                chunk.position(start + size);
+                size = -1;
+                consumer.accept(parse(chunk.slice(start, chunk.position() - start)));
+            } else if (!chunk.hasRemaining()) {
+                return;
+            } else {
+                final int length = Math.min(chunk.remaining(), size - partialLength);
+                ensurePartialSpace(partialLength + length);
+                chunk.get(partial, partialLength, length);
+                partialLength += length;
+                if (partialLength == size) {
+                    final ByteBuffer message = ByteBuffer.wrap(partial, 0, partialLength);
+                    partialLength = 0;
+                    size = -1;
+                    final T msg = parse(message);
+                    releaseLargePartial();
+                    consumer.accept(msg);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return true if the decoder holds the beginning of a message that is not yet complete.
+     * At the end of the input, this means that the last message was truncated.
+     */
+    public boolean hasPartialMessage() {
+        return size >= 0 || prefixShift > 0;
+    }
+
+    /**
+     * Discards the partially received message, if any.
+     *
+     * @return this
+     */
+    public DelimitedMessageDecoder<T> reset() {
+        prefix = 0;
+        prefixShift = 0;
+        size = -1;
+        partialLength = 0;
+        releaseLargePartial();
+        return this;
+    }
+
+    // Doubles the buffer up to the size of the message, so that an untrusted size prefix
+    // does not allocate more than twice the bytes that actually arrived
+    private void ensurePartialSpace(int required) {
+        if (partial.length < required) {
+            final int doubled = partial.length << 1;
+            partial = Arrays.copyOf(partial, Math.min(size, Math.max(required, doubled)));
+        }
+    }
+
+    private void releaseLargePartial() {
+        if (partial.length > MAX_RETAINED_SIZE) {
+            partial = EMPTY;
+        }
+    }
+
+    private boolean readPrefix(ByteBuffer chunk) throws InvalidProtocolBufferException {
+        while (chunk.hasRemaining()) {
+            final byte b = chunk.get();
+            prefix |= (b & 0x7f) << prefixShift;
+            prefixShift += 7;
+            if (b >= 0) {
+                if (prefix < 0 || prefix > maxMessageSize) {
+                    throw new InvalidProtocolBufferException(
+                        "Message size " + Integer.toUnsignedString(prefix) + " exceeds the limit of " + maxMessageSize
+                    );
+                }
+                size = prefix;
+                prefix = 0;
+                prefixShift = 0;
+                return true;
+            }
+            if (prefixShift >= 35) {
+                throw new InvalidProtocolBufferException("Malformed size prefix of a delimited message");
+            }
+        }
+        return false;
+    }
+
+    private T parse(ByteBuffer message) throws InvalidProtocolBufferException {
+        try {
+            final T msg = factory.create();
+            return ProtoMessage.mergeFrom(msg, ProtoMessage.newInput(msg, message).setInterner(interner));
+        } catch (InvalidProtocolBufferException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new RuntimeException("Reading from a ByteBuffer threw an IOException (should never happen).");
+        }
+    }
+}
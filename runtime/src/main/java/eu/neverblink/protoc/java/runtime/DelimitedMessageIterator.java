@@ -0,0 +1,249 @@
+package eu.neverblink.protoc.java.runtime;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterates over length-delimited messages stored in a {@link ByteBuffer} or in a file.
+ * <p>
+ * The messages are parsed directly from the buffer, without copying the bytes through an
+ * {@link java.io.InputStream} first. Files are memory-mapped in windows of limited size,
+ * so files larger than 2 GB are supported. A message that crosses the end of a window
+ * causes the next window to be mapped starting at that message.
+ * <p>
+ * The channel is not closed by this iterator. Mapped windows are released by the garbage
+ * collector once they are no longer referenced.
+ *
+ * @author Piotr Sowiński
+ */
+public final class DelimitedMessageIterator<T extends ProtoMessage<T>> implements Iterator<T> {
+
+    private static final long DEFAULT_WINDOW_SIZE = 1L << 30;
+    private static final String TRUNCATED_MESSAGE = "The input ended in the middle of a delimited message";
+
+    private final MessageFactory<T> factory;
+    private final FileChannel channel;
+    private final long channelSize;
+    private final long windowSize;
+    private MessageInterner interner = null;
+    private ProjectionMask projection = null;
+    private ProtoMetrics metrics = null;
+
+    private ByteBuffer window;
+    private long windowOffset = 0;
+    private int position = 0;
+    // Length of the size prefix and size of the next message, valid if headerLength > 0
+    private int headerLength = 0;
+    private int messageSize = 0;
+
+    private DelimitedMessageIterator(
+        ByteBuffer window,
+        MessageFactory<T> factory,
+        FileChannel channel,
+        long channelSize,
+        long windowSize
+    ) {
+        this.window = window;
+        this.factory = factory;
+        this.channel = channel;
+        this.channelSize = channelSize;
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Iterates over the messages in the remaining bytes of {@code buffer}. The position of the
+     * buffer is not modified.
+     */
+    public static <T extends ProtoMessage<T>> DelimitedMessageIterator<T> of(
+        ByteBuffer buffer,
+        MessageFactory<T> factory
+    ) {
+        return new DelimitedMessageIterator<>(buffer.slice(), factory, null, buffer.remaining(), buffer.remaining());
+    }
+
+    /**
+     * Iterates over the messages in the file, starting at the current position of the channel.
+     */
+    public static <T extends ProtoMessage<T>> DelimitedMessageIterator<T> ofFile(
+        FileChannel channel,
+        MessageFactory<T> factory
+    ) throws IOException {
+        return ofFile(channel, factory, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Iterates over the messages in the file, starting at the current position of the channel.
+     *
+     * @param windowSize the number of bytes to map at once. Windows are enlarged as needed to
+     *                   fit messages that are larger than this.
+     */
+    public static <T extends ProtoMessage<T>> DelimitedMessageIterator<T> ofFile(
+        FileChannel channel,
+        MessageFactory<T> factory,
+        long windowSize
+    ) throws IOException {
+        if (windowSize <= 0 || windowSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Window size must be between 1 and 2^31-1, got: " + windowSize);
+        }
+        final var iterator = new DelimitedMessageIterator<>(
+            ByteBuffer.allocate(0), factory, channel, channel.size(), windowSize
+        );
+        iterator.windowOffset = channel.position();
+        return iterator;
+    }
+
+    /**
+     * Sets the interner used to deduplicate leaf messages, or null to disable interning.
+     *
+     * @return this
+     * @see MessageInterner
+     */
+    public DelimitedMessageIterator<T> setInterner(MessageInterner interner) {
+        this.interner = interner;
+        return this;
+    }
+
+    /**
+     * Sets the mask of fields that are skipped while parsing, or null to parse all fields.
+     *
+     * @return this
+     * @see ProjectionMask
+     */
+    public DelimitedMessageIterator<T> setProjection(ProjectionMask projection) {
+        this.projection = projection;
+        return this;
+    }
+
+    /**
+     * Sets the listener for the decoded messages, or null to disable metrics.
+     *
+     * @return this
+     * @see ProtoMetrics
+     */
+    public DelimitedMessageIterator<T> setMetrics(ProtoMetrics metrics) {
+        this.metrics = metrics;
+        return this;
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            return readHeader();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public T next() {
+        return mergeNext(factory.create());
+    }
+
+    /**
+     * Parses the next message into {@code msg}, which allows reusing message instances.
+     * Call {@link ProtoMessage#clear()} on the message first to replace its contents.
+     *
+     * @return msg
+     */
+    public T mergeNext(T msg) {
+        try {
+            if (!readHeader()) {
+                throw new NoSuchElementException();
+            }
+            final int start = position + headerLength;
+            final var limitedInput = ProtoMessage.newInput(msg, window.slice(start, messageSize))
+                .setInterner(interner)
+                .setProjection(projection)
+                .setMetrics(metrics);
+            ProtoMessage.mergeFrom(msg, limitedInput);
+            position = start + messageSize;
+            headerLength = 0;
+            return msg;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Makes sure that the size prefix and the whole next message are in the current window.
+     *
+     * @return false if there are no more messages
+     */
+    private boolean readHeader() throws IOException {
+        if (headerLength > 0) {
+            return true;
+        }
+        if (position >= window.limit() && !remap(1)) {
+            return false;
+        }
+        while (!peekHeader() || (long) position + headerLength + messageSize > window.limit()) {
+            // The message crosses the end of the window, map again starting at the message
+            final long required = headerLength > 0
+                ? (long) headerLength + messageSize
+                : window.limit() - position + 1L;
+            if (!remap(required)) {
+                headerLength = 0;
+                throw new InvalidProtocolBufferException(TRUNCATED_MESSAGE);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Decodes the varint size prefix at the current position.
+     *
+     * @return false if the window ends before the end of the varint
+     */
+    private boolean peekHeader() throws InvalidProtocolBufferException {
+        int result = 0;
+        for (int i = 0; i < 5; i++) {
+            if (position + i >= window.limit()) {
+                headerLength = 0;
+                return false;
+            }
+            final byte b = window.get(position + i);
+            result |= (b & 0x7F) << (7 * i);
+            if (b >= 0) {
+                if (result < 0) {
+                    throw new InvalidProtocolBufferException("Negative message size: " + result);
+                }
+                headerLength = i + 1;
+                messageSize = result;
+                return true;
+            }
+        }
+        throw new InvalidProtocolBufferException("Malformed message size varint");
+    }
+
+    /**
+     * Maps a new window starting at the current position.
+     *
+     * @param required minimum number of bytes that the new window must contain
+     * @return false if there is not enough data left
+     */
+    private boolean remap(long required) throws IOException {
+        if (channel == null) {
+            return false;
+        }
+        final long offset = windowOffset + position;
+        final long available = channelSize - offset;
+        if (available <= 0 || available < required) {
+            return false;
+        }
+        if (required > Integer.MAX_VALUE) {
+            throw new InvalidProtocolBufferException("Message too large to be mapped: " + required + " bytes");
+        }
+        final long size = Math.min(available, Math.max(windowSize, required));
+        window = channel.map(FileChannel.MapMode.READ_ONLY, offset, size);
+        windowOffset = offset;
+        position = 0;
+        headerLength = 0;
+        return true;
+    }
+}
@@ -0,0 +1,147 @@
+package eu.neverblink.protoc.java.runtime;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes the length-delimited messages of an input stream to a single subscriber.
+ * <p>
+ * Messages are only parsed when the subscriber has requested them, so a slow subscriber
+ * slows down reading instead of causing messages to be buffered. Reading and parsing run on
+ * the executor, and all signals to the subscriber are sent from it one at a time. As reading
+ * blocks, an executor with enough threads should be used, for example one creating a virtual
+ * thread per task on Java 21 and newer.
+ * <p>
+ * The input is read once, so only one subscriber is accepted. It is not closed by this class.
+ *
+ * @author Piotr Sowiński
+ */
+public final class DelimitedMessagePublisher<T extends ProtoMessage<T>> implements Flow.Publisher<T> {
+
+    private final InputStream input;
+    private final MessageFactory<T> factory;
+    private final Executor executor;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    private DelimitedMessagePublisher(InputStream input, MessageFactory<T> factory, Executor executor) {
+        this.input = input;
+        this.factory = factory;
+        this.executor = executor;
+    }
+
+    /**
+     * Creates a publisher that parses the messages in the common fork-join pool.
+     */
+    public static <T extends ProtoMessage<T>> DelimitedMessagePublisher<T> of(
+        InputStream input,
+        MessageFactory<T> factory
+    ) {
+        return of(input, factory, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param executor executor that reads and parses the messages
+     */
+    public static <T extends ProtoMessage<T>> DelimitedMessagePublisher<T> of(
+        InputStream input,
+        MessageFactory<T> factory,
+        Executor executor
+    ) {
+        return new DelimitedMessagePublisher<>(input, factory, executor);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        final var subscription = new MessageSubscription(subscriber);
+        if (!subscribed.compareAndSet(false, true)) {
+            subscription.fail(new IllegalStateException("The publisher only accepts one subscriber"));
+        }
+        subscriber.onSubscribe(subscription);
+        subscription.schedule();
+    }
+
+    private final class MessageSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super T> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        // Number of times the drain loop was requested to run, so that it runs on one thread at a time
+        private final AtomicInteger pendingDrains = new AtomicInteger();
+        private volatile boolean cancelled = false;
+        private volatile Throwable error = null;
+        private boolean done = false;
+
+        MessageSubscription(Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                fail(new IllegalArgumentException("Requested a non-positive number of messages: " + n));
+            } else {
+                demand.getAndAccumulate(n, (current, added) -> {
+                    final long sum = current + added;
+                    return sum < 0 ? Long.MAX_VALUE : sum;
+                });
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        void fail(Throwable e) {
+            if (error == null) {
+                error = e;
+            }
+        }
+
+        void schedule() {
+            if (pendingDrains.getAndIncrement() == 0) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+            do {
+                while (!done && !cancelled) {
+                    if (error != null) {
+                        done = true;
+                        subscriber.onError(error);
+                    } else if (demand.get() > 0) {
+                        emitNext();
+                    } else {
+                        break;
+                    }
+                }
+                missed = pendingDrains.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emitNext() {
+            final T msg;
+            try {
+                msg = ProtoMessage.parseDelimitedFrom(input, factory);
+            } catch (IOException | RuntimeException e) {
+                fail(e);
+                return;
+            }
+            if (msg == null) {
+                done = true;
+                subscriber.onComplete();
+            } else {
+                demand.decrementAndGet();
+                subscriber.onNext(msg);
+            }
+        }
+    }
+}
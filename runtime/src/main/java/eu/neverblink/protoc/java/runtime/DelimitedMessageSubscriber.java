@@ -0,0 +1,118 @@
+package eu.neverblink.protoc.java.runtime;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+/**
+ * Writes the messages it receives to an output stream in length-delimited form.
+ * <p>
+ * Messages are requested in batches. They are encoded into a buffer that is written to the
+ * output whenever it fills up and at the end of every batch, so small messages are combined
+ * into larger writes. The next batch is only requested after the previous one was written,
+ * which keeps the number of buffered messages bounded.
+ * <p>
+ * {@link #completion()} completes when the publisher has finished and the output was flushed,
+ * or completes exceptionally if the stream or writing failed. The output is not closed.
+ *
+ * @author Piotr Sowiński
+ */
+public final class DelimitedMessageSubscriber<T extends ProtoMessage<?>> implements Flow.Subscriber<T> {
+
+    private static final int DEFAULT_BATCH_SIZE = 256;
+
+    private final OutputStream output;
+    private final ProtoSink encoder;
+    private final int batchSize;
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+    private Flow.Subscription subscription = null;
+    // Messages left in the current batch
+    private int remaining = 0;
+
+    private DelimitedMessageSubscriber(OutputStream output, int batchSize, int bufferSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive, got: " + batchSize);
+        }
+        this.output = output;
+        this.encoder = ProtoSink.newInstance(output, bufferSize);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Creates a subscriber that requests 256 messages at a time and writes them through
+     * a buffer of 64 KiB.
+     */
+    public static <T extends ProtoMessage<?>> DelimitedMessageSubscriber<T> of(OutputStream output) {
+        return of(output, DEFAULT_BATCH_SIZE, 1 << 16);
+    }
+
+    /**
+     * @param batchSize  number of messages requested at a time
+     * @param bufferSize size of the buffer for combining messages into writes
+     */
+    public static <T extends ProtoMessage<?>> DelimitedMessageSubscriber<T> of(
+        OutputStream output,
+        int batchSize,
+        int bufferSize
+    ) {
+        return new DelimitedMessageSubscriber<>(output, batchSize, bufferSize);
+    }
+
+    /**
+     * @return a future that completes when all messages were written and flushed
+     */
+    public CompletableFuture<Void> completion() {
+        return completion;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (this.subscription != null) {
+            subscription.cancel();
+            return;
+        }
+        this.subscription = subscription;
+        remaining = batchSize;
+        subscription.request(batchSize);
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (completion.isDone()) {
+            return;
+        }
+        try {
+            item.writeDelimitedTo(encoder);
+            if (--remaining == 0) {
+                encoder.flush();
+                remaining = batchSize;
+                subscription.request(batchSize);
+            }
+        } catch (IOException | RuntimeException e) {
+            subscription.cancel();
+            completion.completeExceptionally(e);
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        try {
+            encoder.flush();
+        } catch (IOException e) {
+            throwable.addSuppressed(e);
+        }
+        completion.completeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        try {
+            encoder.flush();
+            output.flush();
+            completion.complete(null);
+        } catch (IOException e) {
+            completion.completeExceptionally(e);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package eu.neverblink.protoc.java.runtime;
+
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Writes many messages in length-delimited form into one reusable buffer.
+ * <p>
+ * Messages are serialized straight into the buffer, so no buffer is allocated per message
+ * and the bytes are not copied through an intermediate stream. This holds for heap buffers,
+ * which are used by default. A direct buffer is filled through the array of a
+ * {@link ProtoSink}, which copies the bytes once more. A writer created with
+ * {@link #toChannel} sends the buffer to the channel in large chunks whenever it fills up.
+ * A writer created with {@link #inMemory} grows its buffer instead, and the result is
+ * retrieved with {@link #toByteArray()} or {@link #toByteBuffer()}.
+ * <p>
+ * The buffer is only enlarged in channel mode when a single message does not fit into it.
+ * This class is not thread-safe, and the channel is not closed by {@link #flush()}.
+ *
+ * @author Piotr Sowiński
+ */
+public final class DelimitedMessageWriter implements Flushable, Closeable {
+
+    private static final int DEFAULT_CAPACITY = 1 << 16;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private final WritableByteChannel channel;
+    private final boolean direct;
+    private ByteBuffer buffer;
+    // Encoder over the remaining space of the buffer, replaced after every flush or resize
+    private ProtoSink output;
+    // Position of the buffer at which the current encoder started writing
+    private int base;
+    private ProtoMetrics metrics = null;
+
+    private DelimitedMessageWriter(WritableByteChannel channel, int capacity, boolean direct) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive, got: " + capacity);
+        }
+        this.channel = channel;
+        this.direct = direct;
+        this.buffer = allocate(capacity);
+        newEncoder();
+    }
+
+    /**
+     * Creates a writer that sends the serialized messages to {@code channel} in chunks of
+     * 64 KiB, using a heap buffer that the messages are serialized into directly.
+     */
+    public static DelimitedMessageWriter toChannel(WritableByteChannel channel) {
+        return toChannel(channel, DEFAULT_CAPACITY, false);
+    }
+
+    /**
+     * Creates a writer that sends the serialized messages to {@code channel}.
+     *
+     * @param capacity the size of the buffer, which is the size of the written chunks
+     * @param direct   whether to use a direct buffer, which the messages are copied into from
+     *                 the array of a {@link ProtoSink}
+     */
+    public static DelimitedMessageWriter toChannel(WritableByteChannel channel, int capacity, boolean direct) {
+        if (channel == null) {
+            throw new NullPointerException("channel");
+        }
+        return new DelimitedMessageWriter(channel, capacity, direct);
+    }
+
+    /**
+     * Creates a writer that collects the serialized messages in a growable heap buffer.
+     */
+    public static DelimitedMessageWriter inMemory() {
+        return inMemory(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a writer that collects the serialized messages in a growable heap buffer.
+     *
+     * @param capacity the initial size of the buffer
+     */
+    public static DelimitedMessageWriter inMemory(int capacity) {
+        return new DelimitedMessageWriter(null, capacity, false);
+    }
+
+    /**
+     * Serializes the message with its size prefix.
+     *
+     * @return this
+     */
+    public DelimitedMessageWriter writeDelimited(ProtoMessage<?> msg) throws IOException {
+        final int size = msg.getSerializedSize();
+        ensureSpace(CodedOutputStream.computeUInt32SizeNoTag(size) + size);
+        output.writeUInt32NoTag(size);
+        ProtoMessage.writeSized(msg, output, size);
+        if (ProtoMetrics.ENABLED && metrics != null) {
+            metrics.messageEncoded(msg, size);
+        }
+        return this;
+    }
+
+    /**
+     * Serializes the message without a size prefix.
+     *
+     * @return this
+     */
+    public DelimitedMessageWriter write(ProtoMessage<?> msg) throws IOException {
+        final int size = msg.getSerializedSize();
+        ensureSpace(size);
+        ProtoMessage.writeSized(msg, output, size);
+        if (ProtoMetrics.ENABLED && metrics != null) {
+            metrics.messageEncoded(msg, size);
+        }
+        return this;
+    }
+
+    /**
+     * Sets the listener for the written messages, or null to disable metrics.
+     *
+     * @return this
+     * @see ProtoMetrics
+     */
+    public DelimitedMessageWriter setMetrics(ProtoMetrics metrics) {
+        this.metrics = metrics;
+        return this;
+    }
+
+    /**
+     * @return the number of bytes in the buffer that were not yet sent to the channel
+     */
+    public int size() {
+        return base + (int) output.getTotalBytesWritten();
+    }
+
+    /**
+     * Sends the buffered bytes to the channel. Does nothing in in-memory mode.
+     */
+    @Override
+    public void flush() throws IOException {
+        if (channel == null) {
+            return;
+        }
+        // Moves the position of the buffer past the bytes written by the encoder
+        output.flush();
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+        newEncoder();
+    }
+
+    /**
+     * Flushes the buffered bytes. The channel is not closed.
+     */
+    @Override
+    public void close() throws IOException {
+        flush();
+    }
+
+    /**
+     * @return a copy of the buffered bytes
+     */
+    public byte[] toByteArray() {
+        final ByteBuffer bytes = toByteBuffer();
+        final byte[] result = new byte[bytes.remaining()];
+        bytes.get(result);
+        return result;
+    }
+
+    /**
+     * Returns the buffered bytes without copying them. The returned buffer is read-only and
+     * only valid until the next call to a write method or {@link #reset()}.
+     */
+    public ByteBuffer toByteBuffer() {
+        return buffer.asReadOnlyBuffer().clear().limit(size());
+    }
+
+    /**
+     * Discards the buffered bytes, keeping the buffer for reuse.
+     *
+     * @return this
+     */
+    public DelimitedMessageWriter reset() {
+        buffer.clear();
+        newEncoder();
+        return this;
+    }
+
+    private void ensureSpace(int required) throws IOException {
+        if (output.spaceLeft() >= required) {
+            return;
+        }
+        flush();
+        if (output.spaceLeft() >= required) {
+            return;
+        }
+        // In-memory mode, or a message larger than the whole buffer
+        final long minCapacity = (long) size() + required;
+        if (minCapacity > MAX_CAPACITY) {
+            throw new IOException("Buffered data would exceed 2 GB: " + minCapacity + " bytes");
+        }
+        final ByteBuffer larger = allocate((int) Math.min(MAX_CAPACITY, Math.max(minCapacity, 2L * buffer.capacity())));
+        output.flush();
+        buffer.flip();
+        larger.put(buffer);
+        buffer = larger;
+        newEncoder();
+    }
+
+    private void newEncoder() {
+        base = buffer.position();
+        output = ProtoSink.newInstance(buffer);
+    }
+
+    private ByteBuffer allocate(int capacity) {
+        return direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+    }
+
+}
@@ -1,30 +1,78 @@
 package eu.neverblink.protoc.java.runtime;
 
+import com.google.protobuf.ByteString;
 import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.WireFormat;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Wrapper for {@link com.google.protobuf.CodedInputStream} which limits the recursion depth.
- * 
+ * <p>
+ * An input created with {@link #newInstance(byte[], int, int)} reads the array itself instead,
+ * with decoding fast paths for single-byte tags and short varints. Its read methods are only
+ * called by code generated with the {@code array_input} option, which reads all fields
+ * through this final class, so the calls do not depend on the kind of the source.
+ * Inputs created from a {@link CodedInputStream} delegate the read methods to it.
+ *
  * @author Piotr Sowiński
  */
 public final class LimitedCodedInputStream {
+    private static final VarHandle INT_LE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle LONG_LE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
     private final CodedInputStream in;
     private int recursionDepth;
     private final int maxRecursionDepth;
+    private MessageInterner interner = null;
+    private ProjectionMask projection = null;
+    private ProtoMetrics metrics = null;
     private static final int DEFAULT_RECURSION_DEPTH = 64;
+    private int maxStackDepth = DEFAULT_STACK_DEPTH;
+    private static final int DEFAULT_STACK_DEPTH = 1_000_000;
+
+    // Array mode: the array, the next position to read, the current limit and the start of
+    // the data. The limit never exceeds the end of the data.
+    private final byte[] buffer;
+    private int pos;
+    private int limit;
+    private final int start;
+    private int lastTag;
 
     public LimitedCodedInputStream(CodedInputStream input, int maxRecursionDepth) {
         this.in = input;
         this.maxRecursionDepth = maxRecursionDepth;
         this.recursionDepth = 0;
+        this.buffer = null;
+        this.start = 0;
     }
 
     public LimitedCodedInputStream(CodedInputStream input) {
         this(input, DEFAULT_RECURSION_DEPTH);
     }
 
+    private LimitedCodedInputStream(byte[] buffer, int offset, int length, int maxRecursionDepth) {
+        if (offset < 0 || length < 0 || offset > buffer.length - length) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + length +
+                ") out of bounds for length " + buffer.length);
+        }
+        this.in = null;
+        this.maxRecursionDepth = maxRecursionDepth;
+        this.recursionDepth = 0;
+        this.buffer = buffer;
+        this.pos = offset;
+        this.limit = offset + length;
+        this.start = offset;
+    }
+
+    // region shared: recursion-depth
     public void incrementRecursionDepth() {
         recursionDepth++;
     }
@@ -33,18 +81,610 @@ public final class LimitedCodedInputStream {
         recursionDepth--;
     }
 
+    /**
+     * @return the number of nested messages that are being parsed
+     */
+    public int getRecursionDepth() {
+        return recursionDepth;
+    }
+
     public void checkRecursionDepth() {
         if (recursionDepth > maxRecursionDepth) {
             throw new RuntimeException("Maximum recursion depth exceeded: " + recursionDepth);
         }
     }
 
+    /**
+     * Sets the maximum number of nested messages of the same type that code generated with the
+     * {@code explicit_stack} option keeps on its heap-allocated stack, instead of recursing.
+     *
+     * @return this
+     */
+    public LimitedCodedInputStream setMaxStackDepth(int maxStackDepth) {
+        this.maxStackDepth = maxStackDepth;
+        return this;
+    }
+
+    public void checkStackDepth(int stackDepth) {
+        if (stackDepth > maxStackDepth) {
+            throw new RuntimeException("Maximum stack depth exceeded: " + stackDepth);
+        }
+    }
+    // endregion
+
+    /**
+     * @throws IllegalStateException if the input reads an array, see {@link #newInstance(byte[], int, int)}
+     */
     public CodedInputStream in() {
+        if (in == null) {
+            throw new IllegalStateException("The input reads an array, which is only supported by code " +
+                "generated with the array_input option");
+        }
         return in;
     }
 
+    /**
+     * @return true if the input reads an array itself, see {@link #newInstance(byte[], int, int)}
+     */
+    public boolean isArrayBacked() {
+        return in == null;
+    }
+
+    // region shared: settings
+    /**
+     * Sets the interner used to deduplicate leaf messages, or null to disable interning.
+     *
+     * @return this
+     * @see MessageInterner
+     */
+    public LimitedCodedInputStream setInterner(MessageInterner interner) {
+        this.interner = interner;
+        return this;
+    }
+
+    public MessageInterner getInterner() {
+        return interner;
+    }
+
+    /**
+     * Sets the mask of fields that are skipped while parsing, or null to parse all fields.
+     *
+     * @return this
+     * @see ProjectionMask
+     */
+    public LimitedCodedInputStream setProjection(ProjectionMask projection) {
+        this.projection = projection;
+        return this;
+    }
+
+    public ProjectionMask getProjection() {
+        return projection;
+    }
+
+    /**
+     * @return the bit set of fields of the message type that are skipped, or null if all of
+     * its fields are parsed
+     * @see ProjectionMask#getSkippedFields(MessageFactory)
+     */
+    public long[] getSkippedFields(MessageFactory<?> type) {
+        return projection == null ? null : projection.getSkippedFields(type);
+    }
+
+    /**
+     * @return true if messages of the type without a oneof member are dropped from repeated fields
+     * @see ProjectionMask#filter(MessageFactory, int...)
+     */
+    public boolean isFiltered(MessageFactory<?> type) {
+        return projection != null && projection.isFiltered(type);
+    }
+
+    /**
+     * Sets the listener for the decoded messages, or null to disable metrics.
+     *
+     * @return this
+     * @see ProtoMetrics
+     */
+    public LimitedCodedInputStream setMetrics(ProtoMetrics metrics) {
+        this.metrics = metrics;
+        return this;
+    }
+
+    public ProtoMetrics getMetrics() {
+        return metrics;
+    }
+    // endregion
+
     public static LimitedCodedInputStream newInstance(InputStream input, int sizeLimit) {
         InputStream limitedInput = new LimitedInputStream(input, sizeLimit);
         return new LimitedCodedInputStream(CodedInputStream.newInstance(limitedInput));
     }
+
+    /**
+     * Creates an input that reads the array itself instead of through a {@link CodedInputStream}.
+     * It can only parse messages generated with the {@code array_input} option, and
+     * {@link #in()} throws an exception. The array is not copied, so it must not be modified
+     * while it is parsed.
+     */
+    public static LimitedCodedInputStream newInstance(byte[] buffer, int offset, int length) {
+        return new LimitedCodedInputStream(buffer, offset, length, DEFAULT_RECURSION_DEPTH);
+    }
+
+    /**
+     * Same as {@link #newInstance(byte[], int, int)} for the whole array.
+     */
+    public static LimitedCodedInputStream newInstance(byte[] buffer) {
+        return newInstance(buffer, 0, buffer.length);
+    }
+
+    // Reading. The methods behave like the methods of CodedInputStream with the same names.
+
+    public int readTag() throws IOException {
+        if (in != null) {
+            return in.readTag();
+        }
+        // region shared: read-tag
+        if (pos < limit) {
+            // Single-byte tags of fields 1 to 15
+            final int tag = buffer[pos];
+            if (tag >= 8) {
+                pos++;
+                return lastTag = tag;
+            }
+            lastTag = readRawVarint32();
+            if ((lastTag >>> 3) == 0) {
+                throw new InvalidProtocolBufferException("Protocol message contained an invalid tag (zero).");
+            }
+            return lastTag;
+        }
+        return lastTag = 0;
+        // endregion
+    }
+
+    public void checkLastTagWas(final int value) throws InvalidProtocolBufferException {
+        if (in != null) {
+            in.checkLastTagWas(value);
+        } else if (lastTag != value) {
+            throw new InvalidProtocolBufferException("Protocol message end-group tag did not match expected tag.");
+        }
+    }
+
+    public int getLastTag() {
+        return in != null ? in.getLastTag() : lastTag;
+    }
+
+    public boolean isAtEnd() throws IOException {
+        return in != null ? in.isAtEnd() : pos == limit;
+    }
+
+    public int getTotalBytesRead() {
+        return in != null ? in.getTotalBytesRead() : pos - start;
+    }
+
+    public int pushLimit(final int byteLimit) throws InvalidProtocolBufferException {
+        if (in != null) {
+            return in.pushLimit(byteLimit);
+        }
+        if (byteLimit < 0) {
+            throw negativeSize();
+        }
+        if (byteLimit > limit - pos) {
+            throw truncatedMessage();
+        }
+        final int oldLimit = limit;
+        limit = pos + byteLimit;
+        return oldLimit;
+    }
+
+    public void popLimit(final int oldLimit) {
+        if (in != null) {
+            in.popLimit(oldLimit);
+        } else {
+            limit = oldLimit;
+        }
+    }
+
+    public int getBytesUntilLimit() {
+        return in != null ? in.getBytesUntilLimit() : limit - pos;
+    }
+
+    // region shared: read-scalars
+    public int readUInt32() throws IOException {
+        return readRawVarint32();
+    }
+
+    public int readInt32() throws IOException {
+        return readRawVarint32();
+    }
+
+    public int readEnum() throws IOException {
+        return readRawVarint32();
+    }
+
+    public int readSInt32() throws IOException {
+        return decodeZigZag32(readRawVarint32());
+    }
+
+    public long readUInt64() throws IOException {
+        return readRawVarint64();
+    }
+
+    public long readInt64() throws IOException {
+        return readRawVarint64();
+    }
+
+    public long readSInt64() throws IOException {
+        return decodeZigZag64(readRawVarint64());
+    }
+
+    public int readFixed32() throws IOException {
+        return readRawLittleEndian32();
+    }
+
+    public int readSFixed32() throws IOException {
+        return readRawLittleEndian32();
+    }
+
+    public long readFixed64() throws IOException {
+        return readRawLittleEndian64();
+    }
+
+    public long readSFixed64() throws IOException {
+        return readRawLittleEndian64();
+    }
+
+    public float readFloat() throws IOException {
+        return Float.intBitsToFloat(readRawLittleEndian32());
+    }
+
+    public double readDouble() throws IOException {
+        return Double.longBitsToDouble(readRawLittleEndian64());
+    }
+
+    public boolean readBool() throws IOException {
+        return readRawVarint64() != 0;
+    }
+    // endregion
+
+    public String readString() throws IOException {
+        if (in != null) {
+            return in.readString();
+        }
+        final int size = readSize();
+        final String value = new String(buffer, pos, size, StandardCharsets.UTF_8);
+        pos += size;
+        return value;
+    }
+
+    public String readStringRequireUtf8() throws IOException {
+        if (in != null) {
+            return in.readStringRequireUtf8();
+        }
+        // region shared: read-string-require-utf8
+        final int size = readSize();
+        final int end = pos + size;
+        final int nonAscii = Utf8.skipAscii(buffer, pos, end);
+        final String value;
+        if (nonAscii == end) {
+            // ASCII is copied into a Latin-1 string without being decoded
+            value = new String(buffer, pos, size, StandardCharsets.ISO_8859_1);
+        } else if (Utf8.isValidUtf8(buffer, nonAscii, end - nonAscii)) {
+            value = new String(buffer, pos, size, StandardCharsets.UTF_8);
+        } else {
+            throw invalidUtf8();
+        }
+        pos = end;
+        return value;
+        // endregion
+    }
+
+    /**
+     * Reads a length-delimited value. In array mode, the bytes are copied.
+     */
+    public ByteString readBytes() throws IOException {
+        if (in != null) {
+            return in.readBytes();
+        }
+        final int size = readSize();
+        if (size == 0) {
+            return ByteString.EMPTY;
+        }
+        final ByteString value = ByteString.copyFrom(buffer, pos, size);
+        pos += size;
+        return value;
+    }
+
+    /**
+     * Reads a length-delimited value that must be valid UTF-8. In array mode, the bytes are
+     * validated before they are copied.
+     */
+    public ByteString readBytesRequireUtf8() throws IOException {
+        if (in != null) {
+            final ByteString value = in.readBytes();
+            if (!value.isValidUtf8()) {
+                throw invalidUtf8();
+            }
+            return value;
+        }
+        final int size = readSize();
+        if (size == 0) {
+            return ByteString.EMPTY;
+        }
+        if (!Utf8.isValidUtf8(buffer, pos, size)) {
+            throw invalidUtf8();
+        }
+        final ByteString value = ByteString.copyFrom(buffer, pos, size);
+        pos += size;
+        return value;
+    }
+
+    // region shared: read-size
+    // Reads the size of a length-delimited value that must fit before the limit
+    private int readSize() throws IOException {
+        final int size = readRawVarint32();
+        if (size < 0) {
+            throw negativeSize();
+        }
+        if (size > limit - pos) {
+            throw truncatedMessage();
+        }
+        return size;
+    }
+    // endregion
+
+    public int readRawVarint32() throws IOException {
+        if (in != null) {
+            return in.readRawVarint32();
+        }
+        // region shared: read-varint32
+        // Unrolled decoding of up to 5 bytes, with the bytes past the 5th only checked for
+        // termination, like in protobuf-java
+        int p = pos;
+        if (p == limit) {
+            throw truncatedMessage();
+        }
+        final byte[] b = buffer;
+        int x;
+        if ((x = b[p++]) >= 0) {
+            pos = p;
+            return x;
+        } else if (limit - p < 9) {
+            return (int) readRawVarint64SlowPath();
+        } else if ((x ^= (b[p++] << 7)) < 0) {
+            x ^= (~0 << 7);
+        } else if ((x ^= (b[p++] << 14)) >= 0) {
+            x ^= (~0 << 7) ^ (~0 << 14);
+        } else if ((x ^= (b[p++] << 21)) < 0) {
+            x ^= (~0 << 7) ^ (~0 << 14) ^ (~0 << 21);
+        } else {
+            final int y = b[p++];
+            x ^= y << 28;
+            x ^= (~0 << 7) ^ (~0 << 14) ^ (~0 << 21) ^ (~0 << 28);
+            if (y < 0 && b[p++] < 0 && b[p++] < 0 && b[p++] < 0 && b[p++] < 0 && b[p++] < 0) {
+                throw malformedVarint();
+            }
+        }
+        pos = p;
+        return x;
+        // endregion
+    }
+
+    public long readRawVarint64() throws IOException {
+        if (in != null) {
+            return in.readRawVarint64();
+        }
+        // region shared: read-varint64
+        int p = pos;
+        if (p == limit) {
+            throw truncatedMessage();
+        }
+        final byte[] b = buffer;
+        long x;
+        int y;
+        if ((y = b[p++]) >= 0) {
+            pos = p;
+            return y;
+        } else if (limit - p < 9) {
+            return readRawVarint64SlowPath();
+        } else if ((y ^= (b[p++] << 7)) < 0) {
+            x = y ^ (~0 << 7);
+        } else if ((y ^= (b[p++] << 14)) >= 0) {
+            x = y ^ ((~0 << 7) ^ (~0 << 14));
+        } else if ((y ^= (b[p++] << 21)) < 0) {
+            x = y ^ ((~0 << 7) ^ (~0 << 14) ^ (~0 << 21));
+        } else if ((x = y ^ ((long) b[p++] << 28)) >= 0L) {
+            x ^= (~0L << 7) ^ (~0L << 14) ^ (~0L << 21) ^ (~0L << 28);
+        } else if ((x ^= ((long) b[p++] << 35)) < 0L) {
+            x ^= (~0L << 7) ^ (~0L << 14) ^ (~0L << 21) ^ (~0L << 28) ^ (~0L << 35);
+        } else if ((x ^= ((long) b[p++] << 42)) >= 0L) {
+            x ^= (~0L << 7) ^ (~0L << 14) ^ (~0L << 21) ^ (~0L << 28) ^ (~0L << 35) ^ (~0L << 42);
+        } else if ((x ^= ((long) b[p++] << 49)) < 0L) {
+            x ^= (~0L << 7) ^ (~0L << 14) ^ (~0L << 21) ^ (~0L << 28) ^ (~0L << 35) ^ (~0L << 42)
+                ^ (~0L << 49);
+        } else {
+            x ^= ((long) b[p++] << 56);
+            x ^= (~0L << 7) ^ (~0L << 14) ^ (~0L << 21) ^ (~0L << 28) ^ (~0L << 35) ^ (~0L << 42)
+                ^ (~0L << 49) ^ (~0L << 56);
+            if (x < 0L && b[p++] < 0L) {
+                throw malformedVarint();
+            }
+        }
+        pos = p;
+        return x;
+        // endregion
+    }
+
+    // region shared: read-varint64-slow-path
+    // Byte by byte, for varints that may end at the limit
+    private long readRawVarint64SlowPath() throws IOException {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            if (pos == limit) {
+                throw truncatedMessage();
+            }
+            final byte b = buffer[pos++];
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw malformedVarint();
+    }
+    // endregion
+
+    public int readRawLittleEndian32() throws IOException {
+        if (in != null) {
+            return in.readRawLittleEndian32();
+        }
+        if (limit - pos < 4) {
+            throw truncatedMessage();
+        }
+        final int value = (int) INT_LE.get(buffer, pos);
+        pos += 4;
+        return value;
+    }
+
+    public long readRawLittleEndian64() throws IOException {
+        if (in != null) {
+            return in.readRawLittleEndian64();
+        }
+        if (limit - pos < 8) {
+            throw truncatedMessage();
+        }
+        final long value = (long) LONG_LE.get(buffer, pos);
+        pos += 8;
+        return value;
+    }
+
+    /**
+     * Skips a field.
+     *
+     * @return false if the tag is an end-group tag, in which case nothing is skipped
+     */
+    public boolean skipField(final int tag) throws IOException {
+        if (in != null) {
+            return in.skipField(tag);
+        }
+        switch (WireFormat.getTagWireType(tag)) {
+            case WireFormat.WIRETYPE_VARINT:
+                readRawVarint64();
+                return true;
+            case WireFormat.WIRETYPE_FIXED64:
+                skipRawBytes(8);
+                return true;
+            case WireFormat.WIRETYPE_LENGTH_DELIMITED:
+                skipRawBytes(readRawVarint32());
+                return true;
+            case WireFormat.WIRETYPE_START_GROUP:
+                skipGroup(tag, null);
+                return true;
+            case WireFormat.WIRETYPE_END_GROUP:
+                return false;
+            case WireFormat.WIRETYPE_FIXED32:
+                skipRawBytes(4);
+                return true;
+            default:
+                throw invalidWireType();
+        }
+    }
+
+    /**
+     * Skips a field and writes it, including its tag, to {@code output}. The field is copied the
+     * same way in both modes, as the overload of CodedInputStream that does this is deprecated.
+     *
+     * @return false if the tag is an end-group tag, in which case nothing is skipped or written
+     */
+    public boolean skipField(final int tag, final CodedOutputStream output) throws IOException {
+        switch (WireFormat.getTagWireType(tag)) {
+            case WireFormat.WIRETYPE_VARINT: {
+                final long value = readRawVarint64();
+                output.writeUInt32NoTag(tag);
+                output.writeUInt64NoTag(value);
+                return true;
+            }
+            case WireFormat.WIRETYPE_FIXED64: {
+                final long value = readRawLittleEndian64();
+                output.writeUInt32NoTag(tag);
+                output.writeFixed64NoTag(value);
+                return true;
+            }
+            case WireFormat.WIRETYPE_LENGTH_DELIMITED: {
+                final ByteString value = readBytes();
+                output.writeUInt32NoTag(tag);
+                output.writeBytesNoTag(value);
+                return true;
+            }
+            case WireFormat.WIRETYPE_START_GROUP:
+                output.writeUInt32NoTag(tag);
+                skipGroup(tag, output);
+                output.writeUInt32NoTag(getLastTag());
+                return true;
+            case WireFormat.WIRETYPE_END_GROUP:
+                return false;
+            case WireFormat.WIRETYPE_FIXED32: {
+                final int value = readRawLittleEndian32();
+                output.writeUInt32NoTag(tag);
+                output.writeFixed32NoTag(value);
+                return true;
+            }
+            default:
+                throw invalidWireType();
+        }
+    }
+
+    // Skips the fields of a group up to its end tag, writing them to output if it is not null
+    private void skipGroup(final int tag, final CodedOutputStream output) throws IOException {
+        checkRecursionDepth();
+        incrementRecursionDepth();
+        while (true) {
+            final int fieldTag = readTag();
+            if (fieldTag == 0 || !(output == null ? skipField(fieldTag) : skipField(fieldTag, output))) {
+                break;
+            }
+        }
+        decrementRecursionDepth();
+        checkLastTagWas((tag & ~7) | WireFormat.WIRETYPE_END_GROUP);
+    }
+
+    // region shared: skip-bytes
+    private void skipRawBytes(final int size) throws IOException {
+        if (size < 0) {
+            throw negativeSize();
+        }
+        if (size > limit - pos) {
+            throw truncatedMessage();
+        }
+        pos += size;
+    }
+
+    private static int decodeZigZag32(final int n) {
+        return (n >>> 1) ^ -(n & 1);
+    }
+
+    private static long decodeZigZag64(final long n) {
+        return (n >>> 1) ^ -(n & 1);
+    }
+
+    private static InvalidProtocolBufferException truncatedMessage() {
+        return new InvalidProtocolBufferException("While parsing a protocol message, the input ended unexpectedly " +
+            "in the middle of a field.  This could mean either that the input has been truncated or that an " +
+            "embedded message misreported its own length.");
+    }
+    // endregion
+
+    private static InvalidProtocolBufferException negativeSize() {
+        return new InvalidProtocolBufferException("CodedInputStream encountered an embedded string or message " +
+            "which claimed to have negative size.");
+    }
+
+    private static InvalidProtocolBufferException malformedVarint() {
+        return new InvalidProtocolBufferException("CodedInputStream encountered a malformed varint.");
+    }
+
+    private static InvalidProtocolBufferException invalidWireType() {
+        return new InvalidProtocolBufferException("Protocol message tag had invalid wire type.");
+    }
+
+    private static InvalidProtocolBufferException invalidUtf8() {
+        return new InvalidProtocolBufferException("Protocol message had invalid UTF-8.");
+    }
 }
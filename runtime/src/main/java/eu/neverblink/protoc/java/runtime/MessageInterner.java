@@ -0,0 +1,97 @@
+package eu.neverblink.protoc.java.runtime;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+
+/**
+ * Deduplicates small leaf messages while parsing. Equal messages decoded through the same
+ * interner are returned as one shared instance, which reduces the retained heap of buffered
+ * messages and allows comparing them by identity.
+ * <p>
+ * To enable interning, generate the code with the {@code intern_messages} option and set
+ * the interner on the input with {@link LimitedCodedInputStream#setInterner(MessageInterner)}.
+ * Only oneof members whose type has no message fields are interned, because they are stored
+ * by reference.
+ * <p>
+ * Interned instances are shared, so they must not be modified after parsing. This includes
+ * recycling them with the {@code reuse_messages} option: a message parsed with an interner
+ * must always be parsed again with an interner after {@link ProtoMessage#clear()}.
+ * <p>
+ * The table is cleared when it reaches its maximum size. This class is not thread-safe.
+ *
+ * @author Piotr Sowiński
+ */
+public final class MessageInterner {
+
+    private static final int DEFAULT_MAX_SIZE = 1 << 16;
+
+    private final int maxSize;
+    private final HashMap<ProtoMessage<?>, ProtoMessage<?>> table = new HashMap<>();
+    // Instances to parse into, kept per message type when the previous one was a duplicate
+    private final IdentityHashMap<MessageFactory<?>, ProtoMessage<?>> scratch = new IdentityHashMap<>();
+
+    public MessageInterner() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @param maxSize the number of distinct messages after which the table is cleared
+     */
+    public MessageInterner(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Max size must be positive, got: " + maxSize);
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Reads a length-delimited message and returns the shared instance equal to it.
+     *
+     * @param previous the current value of the field, which the message is merged into,
+     *                 or null. It is not modified.
+     * @return the interned message
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends ProtoMessage<T>> T readDelimited(
+        final T previous,
+        final MessageFactory<T> factory,
+        final LimitedCodedInputStream input
+    ) throws IOException {
+        T msg = (T) scratch.remove(factory);
+        if (msg == null) {
+            msg = factory.create();
+        } else {
+            msg.clear();
+        }
+        if (previous != null) {
+            msg.copyFrom(previous);
+        }
+        ProtoMessage.mergeDelimitedFrom(msg, input);
+        final ProtoMessage<?> existing = table.get(msg);
+        if (existing != null) {
+            scratch.put(factory, msg);
+            return (T) existing;
+        }
+        if (table.size() >= maxSize) {
+            table.clear();
+        }
+        table.put(msg, msg);
+        return msg;
+    }
+
+    /**
+     * @return the number of distinct messages in the table
+     */
+    public int size() {
+        return table.size();
+    }
+
+    /**
+     * Removes all messages from the table.
+     */
+    public void clear() {
+        table.clear();
+        scratch.clear();
+    }
+}
@@ -0,0 +1,75 @@
+package eu.neverblink.protoc.java.runtime;
+
+import java.util.Arrays;
+
+/**
+ * Heap-allocated stack used by messages generated with the {@code explicit_stack} option to
+ * parse and serialize nested messages of their own type without recursion. Each entry holds
+ * the message to return to and an int with its saved state, such as a pushed limit, and
+ * optionally the input offset at which the nested message starts.
+ *
+ * @author Piotr Sowiński
+ */
+public final class MessageStack<T extends ProtoMessage<?>> {
+
+    private Object[] messages = new Object[8];
+    private int[] states = new int[8];
+    // Allocated by the first push with an offset
+    private int[] offsets = null;
+    private int size = 0;
+
+    public void push(final T message, final int state) {
+        if (size == messages.length) {
+            messages = Arrays.copyOf(messages, size * 2);
+            states = Arrays.copyOf(states, size * 2);
+        }
+        messages[size] = message;
+        states[size] = state;
+        size++;
+    }
+
+    public void push(final T message, final int state, final int offset) {
+        push(message, state);
+        if (offsets == null || offsets.length < messages.length) {
+            offsets = offsets == null ? new int[messages.length] : Arrays.copyOf(offsets, messages.length);
+        }
+        offsets[size - 1] = offset;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return the message on top of the stack
+     */
+    @SuppressWarnings("unchecked")
+    public T message() {
+        return (T) messages[size - 1];
+    }
+
+    /**
+     * @return the state saved with the message on top of the stack
+     */
+    public int state() {
+        return states[size - 1];
+    }
+
+    /**
+     * @return the offset saved with the message on top of the stack
+     */
+    public int offset() {
+        return offsets[size - 1];
+    }
+
+    public void pop() {
+        messages[--size] = null;
+    }
+
+    /**
+     * @return the number of messages on the stack
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,150 @@
+package eu.neverblink.protoc.java.runtime;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Parses a stream of length-delimited messages on multiple threads, returning the messages
+ * in their original order.
+ * <p>
+ * The thread calling {@link #next()} only reads the size prefixes and cuts the input into
+ * one byte array per message. The arrays are parsed by the executor, with up to
+ * {@code maxInFlight} messages being read ahead of the one returned last. Because the
+ * messages are independent of each other, this scales with the number of threads as long
+ * as reading the input is faster than parsing it.
+ * <p>
+ * The input stream is not closed by this reader. Errors are thrown as
+ * {@link UncheckedIOException} in place of the message that could not be read.
+ *
+ * @author Piotr Sowiński
+ */
+public final class ParallelDelimitedReader<T extends ProtoMessage<T>> implements Iterator<T> {
+
+    private final InputStream input;
+    private final MessageFactory<T> factory;
+    private final Executor executor;
+    private final int maxInFlight;
+    private final ArrayDeque<CompletableFuture<T>> pending = new ArrayDeque<>();
+    private boolean endOfInput = false;
+    // Read error, thrown once the messages before it have been returned
+    private IOException failure = null;
+
+    private ParallelDelimitedReader(
+        InputStream input,
+        MessageFactory<T> factory,
+        Executor executor,
+        int maxInFlight
+    ) {
+        this.input = input;
+        this.factory = factory;
+        this.executor = executor;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Parses the messages in the common fork-join pool, reading ahead up to twice as many
+     * messages as there are processors.
+     */
+    public static <T extends ProtoMessage<T>> ParallelDelimitedReader<T> of(
+        InputStream input,
+        MessageFactory<T> factory
+    ) {
+        return of(input, factory, ForkJoinPool.commonPool(), 2 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param executor    executor that parses the messages
+     * @param maxInFlight maximum number of messages that are read ahead. This limits the
+     *                    memory used for buffering.
+     */
+    public static <T extends ProtoMessage<T>> ParallelDelimitedReader<T> of(
+        InputStream input,
+        MessageFactory<T> factory,
+        Executor executor,
+        int maxInFlight
+    ) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("Max in-flight messages must be positive, got: " + maxInFlight);
+        }
+        return new ParallelDelimitedReader<>(input, factory, executor, maxInFlight);
+    }
+
+    @Override
+    public boolean hasNext() {
+        fill();
+        return !pending.isEmpty() || failure != null;
+    }
+
+    @Override
+    public T next() {
+        fill();
+        final CompletableFuture<T> head = pending.poll();
+        if (head == null) {
+            if (failure != null) {
+                final IOException e = failure;
+                failure = null;
+                throw new UncheckedIOException(e);
+            }
+            throw new NoSuchElementException();
+        }
+        // Keep the workers busy while waiting for the head
+        fill();
+        try {
+            return head.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private void fill() {
+        try {
+            while (!endOfInput && pending.size() < maxInFlight) {
+                final byte[] data = readMessageBytes();
+                if (data == null) {
+                    endOfInput = true;
+                } else {
+                    pending.add(CompletableFuture.supplyAsync(() -> parse(data), executor));
+                }
+            }
+        } catch (IOException e) {
+            endOfInput = true;
+            failure = e;
+        }
+    }
+
+    private byte[] readMessageBytes() throws IOException {
+        final int size = ProtoMessage.readDelimitedSize(input);
+        if (size == -1) {
+            return null;
+        }
+        if (size < 0) {
+            throw new InvalidProtocolBufferException("Negative message size: " + size);
+        }
+        final byte[] data = input.readNBytes(size);
+        if (data.length < size) {
+            throw new InvalidProtocolBufferException("The input ended in the middle of a delimited message");
+        }
+        return data;
+    }
+
+    private T parse(byte[] data) {
+        try {
+            return ProtoMessage.mergeFrom(factory.create(), data);
+        } catch (InvalidProtocolBufferException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
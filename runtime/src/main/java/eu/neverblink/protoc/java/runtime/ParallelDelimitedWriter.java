@@ -0,0 +1,153 @@
+package eu.neverblink.protoc.java.runtime;
+
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Serializes messages in length-delimited form on multiple threads, writing them to the
+ * output in the order in which they were submitted.
+ * <p>
+ * Each submitted message is encoded by the executor into a byte array taken from a pool.
+ * The thread submitting the messages writes the encoded arrays to the output in order.
+ * When {@code maxInFlight} messages are waiting, {@link #writeDelimited} first waits for the
+ * oldest one and writes it, which bounds the memory used for buffering.
+ * <p>
+ * A submitted message is read by another thread, so it must not be modified until
+ * {@link #flush()} returns. The output is not closed by {@link #close()}. This class is
+ * not thread-safe.
+ *
+ * @author Piotr Sowiński
+ */
+public final class ParallelDelimitedWriter implements Flushable, Closeable {
+
+    private final OutputStream output;
+    private final Executor executor;
+    private final int maxInFlight;
+    private final ArrayDeque<CompletableFuture<Chunk>> pending = new ArrayDeque<>();
+    // Arrays that were already written, reused by the workers
+    private final ConcurrentLinkedQueue<byte[]> pool = new ConcurrentLinkedQueue<>();
+
+    private static final class Chunk {
+        final byte[] data;
+        final int length;
+
+        Chunk(byte[] data, int length) {
+            this.data = data;
+            this.length = length;
+        }
+    }
+
+    private ParallelDelimitedWriter(OutputStream output, Executor executor, int maxInFlight) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("Max in-flight messages must be positive, got: " + maxInFlight);
+        }
+        this.output = output;
+        this.executor = executor;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Serializes the messages in the common fork-join pool, keeping up to twice as many
+     * messages in flight as there are processors.
+     */
+    public static ParallelDelimitedWriter of(OutputStream output) {
+        return of(output, ForkJoinPool.commonPool(), 2 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param executor    executor that serializes the messages
+     * @param maxInFlight maximum number of messages that are submitted but not yet written
+     */
+    public static ParallelDelimitedWriter of(OutputStream output, Executor executor, int maxInFlight) {
+        return new ParallelDelimitedWriter(output, executor, maxInFlight);
+    }
+
+    /**
+     * @param executor    executor that serializes the messages
+     * @param maxInFlight maximum number of messages that are submitted but not yet written
+     */
+    public static ParallelDelimitedWriter of(WritableByteChannel channel, Executor executor, int maxInFlight) {
+        // Writes the arrays to the channel without copying them
+        return new ParallelDelimitedWriter(Channels.newOutputStream(channel), executor, maxInFlight);
+    }
+
+    /**
+     * Submits the message to be serialized with its size prefix.
+     *
+     * @return this
+     */
+    public ParallelDelimitedWriter writeDelimited(ProtoMessage<?> msg) throws IOException {
+        if (pending.size() >= maxInFlight) {
+            writeHead();
+        }
+        pending.add(CompletableFuture.supplyAsync(() -> encode(msg), executor));
+        return this;
+    }
+
+    /**
+     * Waits for all submitted messages, writes them and flushes the output.
+     */
+    @Override
+    public void flush() throws IOException {
+        while (!pending.isEmpty()) {
+            writeHead();
+        }
+        output.flush();
+    }
+
+    /**
+     * Flushes the submitted messages. The output is not closed.
+     */
+    @Override
+    public void close() throws IOException {
+        flush();
+    }
+
+    private void writeHead() throws IOException {
+        final Chunk chunk;
+        try {
+            chunk = pending.poll().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        output.write(chunk.data, 0, chunk.length);
+        pool.offer(chunk.data);
+    }
+
+    private Chunk encode(ProtoMessage<?> msg) {
+        final int size = msg.getSerializedSize();
+        final int length = CodedOutputStream.computeUInt32SizeNoTag(size) + size;
+        byte[] data = pool.poll();
+        if (data == null || data.length < length) {
+            data = new byte[length];
+        }
+        try {
+            final ProtoSink encoder = ProtoSink.newInstance(data, 0, length);
+            encoder.writeUInt32NoTag(size);
+            ProtoMessage.writeSized(msg, encoder, size);
+            encoder.checkNoSpaceLeft();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new Chunk(data, length);
+    }
+}
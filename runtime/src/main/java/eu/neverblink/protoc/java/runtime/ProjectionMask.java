@@ -0,0 +1,132 @@
+package eu.neverblink.protoc.java.runtime;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Selects fields that are skipped while parsing, for consumers that only read a part of
+ * each message. Skipped fields are passed over at the tag level without decoding them, and
+ * skipped nested messages are never allocated. After parsing, skipped fields are unset.
+ * <p>
+ * Messages with a oneof, such as stream rows, can also be filtered by the kind of their
+ * member with {@link #filter}. Messages left without a member are then dropped from the
+ * repeated fields they are parsed into.
+ * <p>
+ * To enable projections, generate the code with the {@code projections} option and set
+ * the mask on the input with {@link LimitedCodedInputStream#setProjection(ProjectionMask)}.
+ * Skipped fields are dropped, so a message parsed with a projection should not be
+ * serialized to pass it on.
+ * <p>
+ * A mask must not be modified while it is used for parsing, but may be shared by any
+ * number of threads afterwards.
+ *
+ * @author Piotr Sowiński
+ */
+public final class ProjectionMask {
+
+    // Bit sets of skipped field numbers, per message type. The first word holds the bits of
+    // all numbers past the end of the array, so that it is either 0 or -1.
+    private final IdentityHashMap<MessageFactory<?>, long[]> skippedFields = new IdentityHashMap<>();
+    private final Set<MessageFactory<?>> filteredTypes = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Skips the given fields of a message type, wherever a message of this type is parsed.
+     *
+     * @param type         the factory of the message type, for example {@code RdfLiteral.getFactory()}
+     * @param fieldNumbers the numbers of the fields to skip
+     * @return this
+     */
+    public ProjectionMask skip(MessageFactory<?> type, int... fieldNumbers) {
+        long[] words = skippedFields.getOrDefault(type, new long[2]);
+        for (final int number : fieldNumbers) {
+            final int word = wordIndex(number);
+            if (word >= words.length) {
+                words = resize(words, word + 1);
+            }
+            words[word] |= 1L << number;
+        }
+        skippedFields.put(type, words);
+        return this;
+    }
+
+    /**
+     * Keeps only the given fields of a message type and skips all others. Messages of this
+     * type that are left without a oneof member are dropped from repeated fields, without
+     * parsing the bodies of their members. For example, filtering {@code RdfStreamRow} by
+     * its name, prefix and datatype members keeps only the lookup entries of each frame.
+     * <p>
+     * A message of this type parsed on its own, outside a repeated field, is returned with
+     * no oneof member set instead.
+     *
+     * @param type         the factory of the message type, for example {@code RdfStreamRow.getFactory()}
+     * @param fieldNumbers the numbers of the fields to keep
+     * @return this
+     */
+    public ProjectionMask filter(MessageFactory<?> type, int... fieldNumbers) {
+        long[] keptWords = new long[2];
+        for (final int number : fieldNumbers) {
+            final int word = wordIndex(number);
+            if (word >= keptWords.length) {
+                keptWords = Arrays.copyOf(keptWords, word + 1);
+            }
+            keptWords[word] |= 1L << number;
+        }
+        long[] words = skippedFields.getOrDefault(type, new long[2]);
+        words = resize(words, Math.max(words.length, keptWords.length));
+        words[0] = -1L;
+        for (int i = 1; i < words.length; i++) {
+            words[i] |= i < keptWords.length ? ~keptWords[i] : -1L;
+        }
+        // Field number 0 is never a field, tag 0 marks the end of the message
+        words[1] &= ~1L;
+        skippedFields.put(type, words);
+        filteredTypes.add(type);
+        return this;
+    }
+
+    /**
+     * @return the bit set of skipped field numbers of the message type, or null if all of its
+     * fields are parsed
+     */
+    public long[] getSkippedFields(MessageFactory<?> type) {
+        return skippedFields.get(type);
+    }
+
+    /**
+     * @return true if messages of the type without a oneof member are dropped from repeated fields
+     */
+    public boolean isFiltered(MessageFactory<?> type) {
+        return filteredTypes.contains(type);
+    }
+
+    /**
+     * @param skippedFields the bit set returned by {@link #getSkippedFields}
+     * @param tag           the tag of a field
+     * @return true if the field with this tag is skipped
+     */
+    public static boolean isSkipped(final long[] skippedFields, final int tag) {
+        final int number = tag >>> 3;
+        final int word = (number >>> 6) + 1;
+        return ((word < skippedFields.length ? skippedFields[word] : skippedFields[0]) & (1L << number)) != 0;
+    }
+
+    private static int wordIndex(int number) {
+        if (number <= 0) {
+            throw new IllegalArgumentException("Field numbers must be positive, got: " + number);
+        }
+        return (number >>> 6) + 1;
+    }
+
+    // Enlarges the bit set, filling the new words with the bits of the numbers past its end
+    private static long[] resize(long[] words, int length) {
+        final int oldLength = words.length;
+        if (length <= oldLength) {
+            return words;
+        }
+        final long[] resized = Arrays.copyOf(words, length);
+        Arrays.fill(resized, oldLength, length, words[0]);
+        return resized;
+    }
+}
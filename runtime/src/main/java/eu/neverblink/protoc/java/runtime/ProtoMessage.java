@@ -5,7 +5,9 @@ import com.google.protobuf.*;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.List;
+import java.util.function.Consumer;
 
 /*-
  * #%L
@@ -73,6 +75,7 @@ import java.util.List;
  */
 public abstract class ProtoMessage<MessageType extends ProtoMessage<?>> {
     
+    // region shared: members
     protected int cachedSize = -1;
 
     protected ProtoMessage() {
@@ -87,6 +90,14 @@ public abstract class ProtoMessage<MessageType extends ProtoMessage<?>> {
      */
     public abstract MessageType copyFrom(MessageType other);
 
+    /**
+     * Sets all fields and data to their default values, so that the message
+     * can be reused for parsing or building another message.
+     *
+     * @return this
+     */
+    public abstract MessageType clear();
+
     /**
      * Get the number of bytes required to encode this message.
      * Returns the cached size or calls getSerializedSize which
@@ -125,6 +136,88 @@ public abstract class ProtoMessage<MessageType extends ProtoMessage<?>> {
      */
     protected abstract int computeSerializedSize();
 
+    /**
+     * Discards the cached size after the message was modified. Messages generated with
+     * the {@code track_sizes} option also discard the cached size of the message that
+     * contains them.
+     */
+    protected void invalidateSize() {
+        cachedSize = -1;
+    }
+
+    /**
+     * Sets the message whose size includes the size of this message. Only messages
+     * generated with the {@code track_sizes} option keep track of it. A message linked to
+     * a second parent is marked as shared, as it can only discard the cached sizes of one
+     * of them, and the cached size of the first parent is discarded.
+     *
+     * @param parent the containing message
+     */
+    protected void setSizeParent(ProtoMessage<?> parent) {
+    }
+
+    /**
+     * @return the message whose size includes the size of this message, or null
+     */
+    protected ProtoMessage<?> getSizeParent() {
+        return null;
+    }
+
+    /**
+     * @return false if the messages containing this one cannot rely on its size being tracked,
+     * because it is shared by several parents or its cached size includes such a message
+     */
+    protected boolean isSizeTracked() {
+        return true;
+    }
+
+    /**
+     * Marks the cached size as including messages shared by several parents, whose
+     * modifications may not discard it. {@link #getSerializedSize()} then computes the
+     * size again, like for messages generated without the {@code track_sizes} option.
+     */
+    protected void untrackSize() {
+    }
+
+    /**
+     * Discards the cached sizes of the message and of the messages containing it, up to the
+     * first one without a cached size. This is a loop rather than a recursion, so that it
+     * works for messages nested arbitrarily deep.
+     */
+    protected static void invalidateSizes(ProtoMessage<?> msg) {
+        while (msg != null && msg.cachedSize >= 0) {
+            msg.cachedSize = -1;
+            msg = msg.getSizeParent();
+        }
+    }
+
+    /**
+     * Computes the size of a nested message and links it to its parent, so that the
+     * cached size of the parent is discarded when the nested message is modified.
+     */
+    protected static int computeNestedSize(final ProtoMessage<?> child, final ProtoMessage<?> parent) {
+        child.setSizeParent(parent);
+        final int size = child.getSerializedSize();
+        if (!child.isSizeTracked()) {
+            parent.untrackSize();
+        }
+        return size;
+    }
+
+    /**
+     * Returns the size of a nested message that was computed beforehand, linking it to its
+     * parent like {@link #computeNestedSize}.
+     */
+    protected static int getCachedNestedSize(final ProtoMessage<?> child, final ProtoMessage<?> parent) {
+        child.setSizeParent(parent);
+        final int size = child.getCachedSize();
+        if (!child.isSizeTracked()) {
+            parent.untrackSize();
+        }
+        return size;
+    }
+    // endregion
+
     /**
      * Serializes the message and writes it to {@code output}.
      *
@@ -133,6 +226,34 @@ public abstract class ProtoMessage<MessageType extends ProtoMessage<?>> {
      */
     public abstract void writeTo(CodedOutputStream output) throws IOException;
 
+    /**
+     * Serializes the message and writes it to {@code output}. Overridden by messages generated
+     * with the {@code proto_sink} option, others are written through a {@link CodedOutputStream}.
+     *
+     * @param output the output to receive the serialized form.
+     * @throws IOException if an error occurred writing to {@code output}.
+     */
+    public void writeTo(ProtoSink output) throws IOException {
+        output.writeCoded(this, getSerializedSize());
+    }
+
+    /**
+     * @return true if the message is written by code generated with the {@code proto_sink} option,
+     * which overrides {@link #writeTo(ProtoSink)}
+     */
+    protected boolean writesProtoSink() {
+        return false;
+    }
+
+    // Writes a message of the given serialized size without computing the size again
+    static void writeSized(ProtoMessage<?> msg, ProtoSink output, int size) throws IOException {
+        if (msg.writesProtoSink()) {
+            msg.writeTo(output);
+        } else {
+            output.writeCoded(msg, size);
+        }
+    }
+
     /**
      * Serializes the message and writes it to the {@code output} in
      * length delimited form.
@@ -140,31 +261,92 @@ public abstract class ProtoMessage<MessageType extends ProtoMessage<?>> {
      * @return this
      */
     public final MessageType writeDelimitedTo(CodedOutputStream output) throws IOException {
+        final var event = new ProtoWriteEvent();
+        if (event.isEnabled()) {
+            event.begin();
+        }
         // Force cached size to be recomputed
         // TODO: is this needed?
-        output.writeUInt32NoTag(getSerializedSize());
+        final int size = getSerializedSize();
+        output.writeUInt32NoTag(size);
         this.writeTo(output);
+        if (event.isEnabled()) {
+            event.commit(this, size);
+        }
+        return getThis();
+    }
+
+    /**
+     * Serializes the message and writes it to the {@code output} in
+     * length delimited form.
+     *
+     * @return this
+     */
+    public final MessageType writeDelimitedTo(ProtoSink output) throws IOException {
+        final var event = new ProtoWriteEvent();
+        if (event.isEnabled()) {
+            event.begin();
+        }
+        final int size = getSerializedSize();
+        output.writeUInt32NoTag(size);
+        writeSized(this, output, size);
+        if (event.isEnabled()) {
+            event.commit(this, size);
+        }
         return getThis();
     }
 
     public final MessageType writeDelimitedTo(OutputStream output) throws IOException {
+        final var event = new ProtoWriteEvent();
+        if (event.isEnabled()) {
+            event.begin();
+        }
         int size = getSerializedSize();
-        int bufferSize = CodedOutputStream.computeUInt32SizeNoTag(size) + size;
-        if (bufferSize > CodedOutputStream.DEFAULT_BUFFER_SIZE) {
-            bufferSize = CodedOutputStream.DEFAULT_BUFFER_SIZE;
-        }
-        final var codedOutput = CodedOutputStream.newInstance(output, bufferSize);
-        codedOutput.writeUInt32NoTag(size);
-        writeTo(codedOutput);
-        codedOutput.flush();
+        int bufferSize = ProtoSink.computeUInt32SizeNoTag(size) + size;
+        if (bufferSize > ProtoSink.DEFAULT_BUFFER_SIZE) {
+            bufferSize = ProtoSink.DEFAULT_BUFFER_SIZE;
+        }
+        if (writesProtoSink()) {
+            final var sink = ProtoSink.newInstance(output, bufferSize);
+            sink.writeUInt32NoTag(size);
+            writeTo(sink);
+            sink.flush();
+        } else {
+            final var coded = CodedOutputStream.newInstance(output, bufferSize);
+            coded.writeUInt32NoTag(size);
+            writeTo(coded);
+            coded.flush();
+        }
+        if (event.isEnabled()) {
+            event.commit(this, size);
+        }
         return getThis();
     }
 
+    /**
+     * @return the number of elements in the repeated message fields of this message, other than
+     * maps, such as the rows of a stream frame. Reported by {@link ProtoParseEvent} and
+     * {@link ProtoWriteEvent}.
+     */
+    protected int getRowCount() {
+        return 0;
+    }
+
     public final MessageType writeTo(OutputStream output) throws IOException {
-        writeTo(CodedOutputStream.newInstance(output));
+        final int bufferSize = Math.min(getSerializedSize(), ProtoSink.DEFAULT_BUFFER_SIZE);
+        if (writesProtoSink()) {
+            final var sink = ProtoSink.newInstance(output, bufferSize);
+            writeTo(sink);
+            sink.flush();
+        } else {
+            final var coded = CodedOutputStream.newInstance(output, bufferSize);
+            writeTo(coded);
+            coded.flush();
+        }
         return getThis();
     }
 
+    // region shared: parse-delimited-stream
     /**
      * Parses the contents for one message written in length delimited form.
      *
@@ -174,22 +356,42 @@ public abstract class ProtoMessage<MessageType extends ProtoMessage<?>> {
         InputStream input,
         MessageFactory<T> factory
     ) throws IOException {
-        int size;
+        final int size = readDelimitedSize(input);
+        if (size < 0) {
+            return null;
+        }
+        final var event = new ProtoParseEvent();
+        if (event.isEnabled()) {
+            event.begin();
+        }
+        final var msg = factory.create();
+        final var limitedInput = LimitedCodedInputStream.newInstance(input, size);
+        msg.mergeFrom(limitedInput);
+        if (event.isEnabled()) {
+            event.commit(msg, size);
+        }
+        return msg;
+    }
+    // endregion
+
+    /**
+     * Reads the size prefix of a length delimited message.
+     *
+     * @return the size of the message or -1 if the stream has ended
+     */
+    static int readDelimitedSize(InputStream input) throws IOException {
         try {
             int firstByte = input.read();
             if (firstByte == -1) {
-                return null;
+                return -1;
             }
-            size = CodedInputStream.readRawVarint32(firstByte, input);
+            return CodedInputStream.readRawVarint32(firstByte, input);
         } catch (IOException e) {
             throw new InvalidProtocolBufferException(e);
         }
-        final var msg = factory.create();
-        final var limitedInput = LimitedCodedInputStream.newInstance(input, size);
-        msg.mergeFrom(limitedInput);
-        return msg;
     }
 
+    // region shared: merge-and-serialize
     /**
      * Parse {@code input} as a message of this type and merge it with the
      * message being built.
@@ -240,6 +442,7 @@ public abstract class ProtoMessage<MessageType extends ProtoMessage<?>> {
         toByteArray(msg, result, 0, result.length);
         return result;
     }
+    // endregion
 
     /**
      * Serialize to a byte array starting at offset through length. The
@@ -251,15 +454,52 @@ public abstract class ProtoMessage<MessageType extends ProtoMessage<?>> {
      */
     public static void toByteArray(ProtoMessage<?> msg, byte[] data, int offset, int length) {
         try {
-            final CodedOutputStream output = CodedOutputStream.newInstance(data, offset, length);
-            msg.writeTo(output);
-            output.checkNoSpaceLeft();
+            if (msg.writesProtoSink()) {
+                final ProtoSink output = ProtoSink.newInstance(data, offset, length);
+                msg.writeTo(output);
+                output.checkNoSpaceLeft();
+            } else {
+                final CodedOutputStream output = CodedOutputStream.newInstance(data, offset, length);
+                msg.writeTo(output);
+                output.checkNoSpaceLeft();
+            }
         } catch (IOException e) {
             throw new RuntimeException("Serializing to a byte array threw an IOException "
                     + "(should never happen).", e);
         }
     }
 
+    /**
+     * Parses one message written in length delimited form, starting at the position of
+     * {@code input}. The message is read directly from the buffer without copying it first.
+     * On success, the position of the buffer is advanced past the message.
+     *
+     * @return a new message parsed from the buffer or null if there are no bytes remaining.
+     */
+    protected static <T extends ProtoMessage<T>> T parseDelimitedFrom(
+        ByteBuffer input,
+        MessageFactory<T> factory
+    ) throws IOException {
+        if (!input.hasRemaining()) {
+            return null;
+        }
+        final var event = new ProtoParseEvent();
+        if (event.isEnabled()) {
+            event.begin();
+        }
+        final var msg = factory.create();
+        final var limitedInput = newInput(msg, input);
+        final int size = limitedInput.readRawVarint32();
+        final int oldLimit = limitedInput.pushLimit(size);
+        mergeFrom(msg, limitedInput);
+        limitedInput.popLimit(oldLimit);
+        input.position(input.position() + limitedInput.getTotalBytesRead());
+        if (event.isEnabled()) {
+            event.commit(msg, size);
+        }
+        return msg;
+    }
+
     /**
      * Parse {@code data} as a message of this type and merge it with the message being built.
      */
@@ -272,22 +512,76 @@ public abstract class ProtoMessage<MessageType extends ProtoMessage<?>> {
      */
     public static <T extends ProtoMessage<T>> T mergeFrom(T msg, final byte[] data, final int off, final int len)
             throws InvalidProtocolBufferException {
+        final var event = new ProtoParseEvent();
+        if (event.isEnabled()) {
+            event.begin();
+        }
         try {
-            final var input = CodedInputStream.newInstance(data, off, len);
-            return mergeFrom(msg, new LimitedCodedInputStream(input));
+            mergeFrom(msg, newInput(msg, data, off, len));
         } catch (InvalidProtocolBufferException e) {
             throw e;
         } catch (IOException e) {
             throw new RuntimeException("Reading from a byte array threw an IOException (should never happen).");
         }
+        if (event.isEnabled()) {
+            event.commit(msg, len);
+        }
+        return msg;
     }
 
+    /**
+     * Parse the remaining bytes of {@code data} as a message of this type and merge it with the
+     * message being built. Direct and memory-mapped buffers are read in place, without copying
+     * them to the heap. The position of the buffer is not modified.
+     */
+    public static <T extends ProtoMessage<T>> T mergeFrom(T msg, final ByteBuffer data)
+            throws InvalidProtocolBufferException {
+        final var event = new ProtoParseEvent();
+        if (event.isEnabled()) {
+            event.begin();
+        }
+        try {
+            mergeFrom(msg, newInput(msg, data));
+        } catch (InvalidProtocolBufferException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new RuntimeException("Reading from a ByteBuffer threw an IOException (should never happen).");
+        }
+        if (event.isEnabled()) {
+            event.commit(msg, data.remaining());
+        }
+        return msg;
+    }
+
+    /**
+     * @return true if the message is parsed by code generated with the {@code array_input} option,
+     * which can read an input created with {@link LimitedCodedInputStream#newInstance(byte[], int, int)}
+     */
+    protected boolean readsArrayInput() {
+        return false;
+    }
+
+    // Reads the array directly if the message supports it
+    static LimitedCodedInputStream newInput(ProtoMessage<?> msg, byte[] data, int off, int len) {
+        return msg.readsArrayInput()
+            ? LimitedCodedInputStream.newInstance(data, off, len)
+            : new LimitedCodedInputStream(CodedInputStream.newInstance(data, off, len));
+    }
+
+    // Reads the backing array of heap buffers directly if the message supports it
+    static LimitedCodedInputStream newInput(ProtoMessage<?> msg, ByteBuffer data) {
+        return msg.readsArrayInput() && data.hasArray()
+            ? LimitedCodedInputStream.newInstance(data.array(), data.arrayOffset() + data.position(), data.remaining())
+            : new LimitedCodedInputStream(CodedInputStream.newInstance(data));
+    }
+
+    // region shared: nested-messages
     /**
      * Parse {@code input} as a message of this type and merge it with the message being built.
      */
     public static <T extends ProtoMessage<T>> T mergeFrom(T msg, LimitedCodedInputStream input) throws IOException {
         msg.mergeFrom(input);
-        input.in().checkLastTagWas(0);
+        input.checkLastTagWas(0);
         return msg;
     }
 
@@ -296,12 +590,11 @@ public abstract class ProtoMessage<MessageType extends ProtoMessage<?>> {
     ) throws IOException {
         inputLimited.checkRecursionDepth();
         inputLimited.incrementRecursionDepth();
-        final CodedInputStream input = inputLimited.in();
-        final int length = input.readRawVarint32();
-        final int oldLimit = input.pushLimit(length);
+        final int length = inputLimited.readRawVarint32();
+        final int oldLimit = inputLimited.pushLimit(length);
         msg.mergeFrom(inputLimited);
-        input.checkLastTagWas(0);
-        input.popLimit(oldLimit);
+        inputLimited.checkLastTagWas(0);
+        inputLimited.popLimit(oldLimit);
         inputLimited.decrementRecursionDepth();
     }
 
@@ -309,26 +602,707 @@ public abstract class ProtoMessage<MessageType extends ProtoMessage<?>> {
         int dataSize = 0;
         for (final ProtoMessage<?> value : values) {
             int valSize = value.getSerializedSize();
-            dataSize += CodedOutputStream.computeUInt32SizeNoTag(valSize) + valSize;
+            dataSize += ProtoSink.computeUInt32SizeNoTag(valSize) + valSize;
+        }
+        return dataSize;
+    }
+
+    protected static <T extends ProtoMessage<T>> int computeRepeatedMessageSizeNoTag(
+        final List<T> values,
+        final ProtoMessage<?> parent
+    ) {
+        int dataSize = 0;
+        for (final ProtoMessage<?> value : values) {
+            int valSize = computeNestedSize(value, parent);
+            dataSize += ProtoSink.computeUInt32SizeNoTag(valSize) + valSize;
         }
         return dataSize;
     }
 
+    /**
+     * @return true if a oneof of the message has a member set, or if the message has no oneofs.
+     * Messages without a member are dropped by a {@link ProjectionMask#filter filtering} parser.
+     */
+    protected boolean hasOneOfMember() {
+        return true;
+    }
+
     protected static <T extends ProtoMessage<T>> int readRepeatedMessage(
         final List<T> store,
         final MessageFactory<T> factory,
         final LimitedCodedInputStream input,
         final int tag
     ) throws IOException {
+        if (input.isFiltered(factory)) {
+            return readFilteredMessages(store, factory, input, tag);
+        }
         int nextTag;
         do {
             final var msg = factory.create();
             mergeDelimitedFrom(msg, input);
             store.add(msg);
-        } while((nextTag = input.in().readTag()) == tag);
+        } while((nextTag = input.readTag()) == tag);
+        return nextTag;
+    }
+
+    protected static <T extends ProtoMessage<T>> int readRepeatedMessage(
+        final RepeatedMessage<T> store,
+        final MessageFactory<T> factory,
+        final LimitedCodedInputStream input,
+        final int tag
+    ) throws IOException {
+        final boolean filtered = input.isFiltered(factory);
+        int nextTag;
+        do {
+            final T msg = store.next();
+            mergeDelimitedFrom(msg, input);
+            if (filtered && !msg.hasOneOfMember()) {
+                store.discardLast();
+            }
+        } while((nextTag = input.readTag()) == tag);
+        return nextTag;
+    }
+
+    // Drops the messages that were left without a oneof member, and parses the next message
+    // into the dropped instance
+    private static <T extends ProtoMessage<T>> int readFilteredMessages(
+        final List<T> store,
+        final MessageFactory<T> factory,
+        final LimitedCodedInputStream input,
+        final int tag
+    ) throws IOException {
+        T dropped = null;
+        int nextTag;
+        do {
+            final T msg = dropped == null ? factory.create() : dropped;
+            dropped = null;
+            mergeDelimitedFrom(msg, input);
+            if (msg.hasOneOfMember()) {
+                store.add(msg);
+            } else {
+                msg.clear();
+                dropped = msg;
+            }
+        } while((nextTag = input.readTag()) == tag);
         return nextTag;
     }
 
+    /**
+     * Computes the size of a length-delimited field with {@code dataSize} bytes
+     * of payload, excluding the tag.
+     */
+    protected static int computeDelimitedSize(final int dataSize) {
+        return ProtoSink.computeUInt32SizeNoTag(dataSize) + dataSize;
+    }
+    // endregion
+
+    /**
+     * Reads a field that is not known to the message and appends it, including its tag, to
+     * {@code unknownBytes}. The field is copied as raw bytes without being parsed. The value
+     * of a length-delimited field is read with {@link LimitedCodedInputStream#readBytes()}, so
+     * it is a slice of the input rather than a copy if aliasing is enabled on the underlying
+     * {@link CodedInputStream}.
+     *
+     * @return the unknown bytes with the field appended, or null if the tag ends a group
+     */
+    protected static ByteString readUnknownField(
+        final LimitedCodedInputStream input,
+        final int tag,
+        final ByteString unknownBytes
+    ) throws IOException {
+        switch (WireFormat.getTagWireType(tag)) {
+            case WireFormat.WIRETYPE_END_GROUP:
+                return null;
+            case WireFormat.WIRETYPE_LENGTH_DELIMITED: {
+                final ByteString value = input.readBytes();
+                final byte[] header = new byte[CodedOutputStream.computeUInt32SizeNoTag(tag)
+                    + CodedOutputStream.computeUInt32SizeNoTag(value.size())];
+                final CodedOutputStream output = CodedOutputStream.newInstance(header);
+                output.writeUInt32NoTag(tag);
+                output.writeUInt32NoTag(value.size());
+                return unknownBytes.concat(UnsafeByteOperations.unsafeWrap(header)).concat(value);
+            }
+            default: {
+                final ByteString.Output field = ByteString.newOutput(16);
+                final CodedOutputStream output = CodedOutputStream.newInstance(field, 16);
+                input.skipField(tag, output);
+                output.flush();
+                return unknownBytes.concat(field.toByteString());
+            }
+        }
+    }
+
+    // Packed repeated scalar fields written to a CodedOutputStream by code generated without
+    // the proto_sink option. writePackedXNoTag writes the length prefix and the packed values,
+    // but not the tag.
+
+    protected static void writePackedDoubleNoTag(final CodedOutputStream output, final RepeatedDouble store)
+            throws IOException {
+        output.writeUInt32NoTag(computeRepeatedDoubleSizeNoTag(store));
+        final double[] array = store.array;
+        for (int i = 0; i < store.length; i++) {
+            output.writeDoubleNoTag(array[i]);
+        }
+    }
+
+    protected static void writePackedFloatNoTag(final CodedOutputStream output, final RepeatedFloat store)
+            throws IOException {
+        output.writeUInt32NoTag(computeRepeatedFloatSizeNoTag(store));
+        final float[] array = store.array;
+        for (int i = 0; i < store.length; i++) {
+            output.writeFloatNoTag(array[i]);
+        }
+    }
+
+    protected static void writePackedInt64NoTag(final CodedOutputStream output, final RepeatedLong store)
+            throws IOException {
+        output.writeUInt32NoTag(computeRepeatedInt64SizeNoTag(store));
+        final long[] array = store.array;
+        for (int i = 0; i < store.length; i++) {
+            output.writeInt64NoTag(array[i]);
+        }
+    }
+
+    protected static void writePackedUInt64NoTag(final CodedOutputStream output, final RepeatedLong store)
+            throws IOException {
+        output.writeUInt32NoTag(computeRepeatedUInt64SizeNoTag(store));
+        final long[] array = store.array;
+        for (int i = 0; i < store.length; i++) {
+            output.writeUInt64NoTag(array[i]);
+        }
+    }
+
+    protected static void writePackedSInt64NoTag(final CodedOutputStream output, final RepeatedLong store)
+            throws IOException {
+        output.writeUInt32NoTag(computeRepeatedSInt64SizeNoTag(store));
+        final long[] array = store.array;
+        for (int i = 0; i < store.length; i++) {
+            output.writeSInt64NoTag(array[i]);
+        }
+    }
+
+    protected static void writePackedFixed64NoTag(final CodedOutputStream output, final RepeatedLong store)
+            throws IOException {
+        output.writeUInt32NoTag(computeRepeatedFixed64SizeNoTag(store));
+        final long[] array = store.array;
+        for (int i = 0; i < store.length; i++) {
+            output.writeFixed64NoTag(array[i]);
+        }
+    }
+
+    protected static void writePackedSFixed64NoTag(final CodedOutputStream output, final RepeatedLong store)
+            throws IOException {
+        output.writeUInt32NoTag(computeRepeatedSFixed64SizeNoTag(store));
+        final long[] array = store.array;
+        for (int i = 0; i < store.length; i++) {
+            output.writeSFixed64NoTag(array[i]);
+        }
+    }
+
+    protected static void writePackedInt32NoTag(final CodedOutputStream output, final RepeatedInt store)
+            throws IOException {
+        output.writeUInt32NoTag(computeRepeatedInt32SizeNoTag(store));
+        final int[] array = store.array;
+        for (int i = 0; i < store.length; i++) {
+            output.writeInt32NoTag(array[i]);
+        }
+    }
+
+    protected static void writePackedUInt32NoTag(final CodedOutputStream output, final RepeatedInt store)
+            throws IOException {
+        output.writeUInt32NoTag(computeRepeatedUInt32SizeNoTag(store));
+        final int[] array = store.array;
+        for (int i = 0; i < store.length; i++) {
+            output.writeUInt32NoTag(array[i]);
+        }
+    }
+
+    protected static void writePackedSInt32NoTag(final CodedOutputStream output, final RepeatedInt store)
+            throws IOException {
+        output.writeUInt32NoTag(computeRepeatedSInt32SizeNoTag(store));
+        final int[] array = store.array;
+        for (int i = 0; i < store.length; i++) {
+            output.writeSInt32NoTag(array[i]);
+        }
+    }
+
+    protected static void writePackedFixed32NoTag(final CodedOutputStream output, final RepeatedInt store)
+            throws IOException {
+        output.writeUInt32NoTag(computeRepeatedFixed32SizeNoTag(store));
+        final int[] array = store.array;
+        for (int i = 0; i < store.length; i++) {
+            output.writeFixed32NoTag(array[i]);
+        }
+    }
+
+    protected static void writePackedSFixed32NoTag(final CodedOutputStream output, final RepeatedInt store)
+            throws IOException {
+        output.writeUInt32NoTag(computeRepeatedSFixed32SizeNoTag(store));
+        final int[] array = store.array;
+        for (int i = 0; i < store.length; i++) {
+            output.writeSFixed32NoTag(array[i]);
+        }
+    }
+
+    protected static void writePackedBoolNoTag(final CodedOutputStream output, final RepeatedBoolean store)
+            throws IOException {
+        output.writeUInt32NoTag(computeRepeatedBoolSizeNoTag(store));
+        final boolean[] array = store.array;
+        for (int i = 0; i < store.length; i++) {
+            output.writeBoolNoTag(array[i]);
+        }
+    }
+
+    protected static void writePackedEnumNoTag(final CodedOutputStream output, final RepeatedEnum<?> store)
+            throws IOException {
+        output.writeUInt32NoTag(computeRepeatedEnumSizeNoTag(store));
+        final int[] array = store.array;
+        for (int i = 0; i < store.length; i++) {
+            output.writeEnumNoTag(array[i]);
+        }
+    }
+
+    // region shared: repeated-fields
+    // Repeated scalar fields
+    //
+    // readRepeatedX reads consecutive non-packed elements with the same tag and returns
+    // the first tag that does not belong to the field. readPackedX reads a single
+    // length-delimited packed block. computeRepeatedXSizeNoTag returns the size of all
+    // values without tags and without the length prefix. The packed values are written
+    // by the writePackedXNoTag methods of ProtoSink.
+
+    protected static int readRepeatedDouble(final RepeatedDouble store, final LimitedCodedInputStream input, final int tag)
+            throws IOException {
+        int nextTag;
+        do {
+            store.add(input.readDouble());
+        } while ((nextTag = input.readTag()) == tag);
+        return nextTag;
+    }
+
+    protected static void readPackedDouble(final RepeatedDouble store, final LimitedCodedInputStream input)
+            throws IOException {
+        final int length = input.readRawVarint32();
+        final int oldLimit = input.pushLimit(length);
+        store.reserve(length / 8);
+        while (input.getBytesUntilLimit() > 0) {
+            store.add(input.readDouble());
+        }
+        input.popLimit(oldLimit);
+    }
+
+    protected static int computeRepeatedDoubleSizeNoTag(final RepeatedDouble store) {
+        return 8 * store.length;
+    }
+
+    protected static int readRepeatedFloat(final RepeatedFloat store, final LimitedCodedInputStream input, final int tag)
+            throws IOException {
+        int nextTag;
+        do {
+            store.add(input.readFloat());
+        } while ((nextTag = input.readTag()) == tag);
+        return nextTag;
+    }
+
+    protected static void readPackedFloat(final RepeatedFloat store, final LimitedCodedInputStream input)
+            throws IOException {
+        final int length = input.readRawVarint32();
+        final int oldLimit = input.pushLimit(length);
+        store.reserve(length / 4);
+        while (input.getBytesUntilLimit() > 0) {
+            store.add(input.readFloat());
+        }
+        input.popLimit(oldLimit);
+    }
+
+    protected static int computeRepeatedFloatSizeNoTag(final RepeatedFloat store) {
+        return 4 * store.length;
+    }
+
+    protected static int readRepeatedInt64(final RepeatedLong store, final LimitedCodedInputStream input, final int tag)
+            throws IOException {
+        int nextTag;
+        do {
+            store.add(input.readInt64());
+        } while ((nextTag = input.readTag()) == tag);
+        return nextTag;
+    }
+
+    protected static void readPackedInt64(final RepeatedLong store, final LimitedCodedInputStream input)
+            throws IOException {
+        final int length = input.readRawVarint32();
+        final int oldLimit = input.pushLimit(length);
+        while (input.getBytesUntilLimit() > 0) {
+            store.add(input.readInt64());
+        }
+        input.popLimit(oldLimit);
+    }
+
+    protected static int computeRepeatedInt64SizeNoTag(final RepeatedLong store) {
+        final long[] array = store.array;
+        int dataSize = 0;
+        for (int i = 0; i < store.length; i++) {
+            dataSize += ProtoSink.computeInt64SizeNoTag(array[i]);
+        }
+        return dataSize;
+    }
+
+    protected static int readRepeatedUInt64(final RepeatedLong store, final LimitedCodedInputStream input, final int tag)
+            throws IOException {
+        int nextTag;
+        do {
+            store.add(input.readUInt64());
+        } while ((nextTag = input.readTag()) == tag);
+        return nextTag;
+    }
+
+    protected static void readPackedUInt64(final RepeatedLong store, final LimitedCodedInputStream input)
+            throws IOException {
+        final int length = input.readRawVarint32();
+        final int oldLimit = input.pushLimit(length);
+        while (input.getBytesUntilLimit() > 0) {
+            store.add(input.readUInt64());
+        }
+        input.popLimit(oldLimit);
+    }
+
+    protected static int computeRepeatedUInt64SizeNoTag(final RepeatedLong store) {
+        final long[] array = store.array;
+        int dataSize = 0;
+        for (int i = 0; i < store.length; i++) {
+            dataSize += ProtoSink.computeUInt64SizeNoTag(array[i]);
+        }
+        return dataSize;
+    }
+
+    protected static int readRepeatedSInt64(final RepeatedLong store, final LimitedCodedInputStream input, final int tag)
+            throws IOException {
+        int nextTag;
+        do {
+            store.add(input.readSInt64());
+        } while ((nextTag = input.readTag()) == tag);
+        return nextTag;
+    }
+
+    protected static void readPackedSInt64(final RepeatedLong store, final LimitedCodedInputStream input)
+            throws IOException {
+        final int length = input.readRawVarint32();
+        final int oldLimit = input.pushLimit(length);
+        while (input.getBytesUntilLimit() > 0) {
+            store.add(input.readSInt64());
+        }
+        input.popLimit(oldLimit);
+    }
+
+    protected static int computeRepeatedSInt64SizeNoTag(final RepeatedLong store) {
+        final long[] array = store.array;
+        int dataSize = 0;
+        for (int i = 0; i < store.length; i++) {
+            dataSize += ProtoSink.computeSInt64SizeNoTag(array[i]);
+        }
+        return dataSize;
+    }
+
+    protected static int readRepeatedFixed64(final RepeatedLong store, final LimitedCodedInputStream input, final int tag)
+            throws IOException {
+        int nextTag;
+        do {
+            store.add(input.readFixed64());
+        } while ((nextTag = input.readTag()) == tag);
+        return nextTag;
+    }
+
+    protected static void readPackedFixed64(final RepeatedLong store, final LimitedCodedInputStream input)
+            throws IOException {
+        final int length = input.readRawVarint32();
+        final int oldLimit = input.pushLimit(length);
+        store.reserve(length / 8);
+        while (input.getBytesUntilLimit() > 0) {
+            store.add(input.readFixed64());
+        }
+        input.popLimit(oldLimit);
+    }
+
+    protected static int computeRepeatedFixed64SizeNoTag(final RepeatedLong store) {
+        return 8 * store.length;
+    }
+
+    protected static int readRepeatedSFixed64(final RepeatedLong store, final LimitedCodedInputStream input, final int tag)
+            throws IOException {
+        int nextTag;
+        do {
+            store.add(input.readSFixed64());
+        } while ((nextTag = input.readTag()) == tag);
+        return nextTag;
+    }
+
+    protected static void readPackedSFixed64(final RepeatedLong store, final LimitedCodedInputStream input)
+            throws IOException {
+        final int length = input.readRawVarint32();
+        final int oldLimit = input.pushLimit(length);
+        store.reserve(length / 8);
+        while (input.getBytesUntilLimit() > 0) {
+            store.add(input.readSFixed64());
+        }
+        input.popLimit(oldLimit);
+    }
+
+    protected static int computeRepeatedSFixed64SizeNoTag(final RepeatedLong store) {
+        return 8 * store.length;
+    }
+
+    protected static int readRepeatedInt32(final RepeatedInt store, final LimitedCodedInputStream input, final int tag)
+            throws IOException {
+        int nextTag;
+        do {
+            store.add(input.readInt32());
+        } while ((nextTag = input.readTag()) == tag);
+        return nextTag;
+    }
+
+    protected static void readPackedInt32(final RepeatedInt store, final LimitedCodedInputStream input)
+            throws IOException {
+        final int length = input.readRawVarint32();
+        final int oldLimit = input.pushLimit(length);
+        while (input.getBytesUntilLimit() > 0) {
+            store.add(input.readInt32());
+        }
+        input.popLimit(oldLimit);
+    }
+
+    protected static int computeRepeatedInt32SizeNoTag(final RepeatedInt store) {
+        final int[] array = store.array;
+        int dataSize = 0;
+        for (int i = 0; i < store.length; i++) {
+            dataSize += ProtoSink.computeInt32SizeNoTag(array[i]);
+        }
+        return dataSize;
+    }
+
+    protected static int readRepeatedUInt32(final RepeatedInt store, final LimitedCodedInputStream input, final int tag)
+            throws IOException {
+        int nextTag;
+        do {
+            store.add(input.readUInt32());
+        } while ((nextTag = input.readTag()) == tag);
+        return nextTag;
+    }
+
+    protected static void readPackedUInt32(final RepeatedInt store, final LimitedCodedInputStream input)
+            throws IOException {
+        final int length = input.readRawVarint32();
+        final int oldLimit = input.pushLimit(length);
+        while (input.getBytesUntilLimit() > 0) {
+            store.add(input.readUInt32());
+        }
+        input.popLimit(oldLimit);
+    }
+
+    protected static int computeRepeatedUInt32SizeNoTag(final RepeatedInt store) {
+        final int[] array = store.array;
+        int dataSize = 0;
+        for (int i = 0; i < store.length; i++) {
+            dataSize += ProtoSink.computeUInt32SizeNoTag(array[i]);
+        }
+        return dataSize;
+    }
+
+    protected static int readRepeatedSInt32(final RepeatedInt store, final LimitedCodedInputStream input, final int tag)
+            throws IOException {
+        int nextTag;
+        do {
+            store.add(input.readSInt32());
+        } while ((nextTag = input.readTag()) == tag);
+        return nextTag;
+    }
+
+    protected static void readPackedSInt32(final RepeatedInt store, final LimitedCodedInputStream input)
+            throws IOException {
+        final int length = input.readRawVarint32();
+        final int oldLimit = input.pushLimit(length);
+        while (input.getBytesUntilLimit() > 0) {
+            store.add(input.readSInt32());
+        }
+        input.popLimit(oldLimit);
+    }
+
+    protected static int computeRepeatedSInt32SizeNoTag(final RepeatedInt store) {
+        final int[] array = store.array;
+        int dataSize = 0;
+        for (int i = 0; i < store.length; i++) {
+            dataSize += ProtoSink.computeSInt32SizeNoTag(array[i]);
+        }
+        return dataSize;
+    }
+
+    protected static int readRepeatedFixed32(final RepeatedInt store, final LimitedCodedInputStream input, final int tag)
+            throws IOException {
+        int nextTag;
+        do {
+            store.add(input.readFixed32());
+        } while ((nextTag = input.readTag()) == tag);
+        return nextTag;
+    }
+
+    protected static void readPackedFixed32(final RepeatedInt store, final LimitedCodedInputStream input)
+            throws IOException {
+        final int length = input.readRawVarint32();
+        final int oldLimit = input.pushLimit(length);
+        store.reserve(length / 4);
+        while (input.getBytesUntilLimit() > 0) {
+            store.add(input.readFixed32());
+        }
+        input.popLimit(oldLimit);
+    }
+
+    protected static int computeRepeatedFixed32SizeNoTag(final RepeatedInt store) {
+        return 4 * store.length;
+    }
+
+    protected static int readRepeatedSFixed32(final RepeatedInt store, final LimitedCodedInputStream input, final int tag)
+            throws IOException {
+        int nextTag;
+        do {
+            store.add(input.readSFixed32());
+        } while ((nextTag = input.readTag()) == tag);
+        return nextTag;
+    }
+
+    protected static void readPackedSFixed32(final RepeatedInt store, final LimitedCodedInputStream input)
+            throws IOException {
+        final int length = input.readRawVarint32();
+        final int oldLimit = input.pushLimit(length);
+        store.reserve(length / 4);
+        while (input.getBytesUntilLimit() > 0) {
+            store.add(input.readSFixed32());
+        }
+        input.popLimit(oldLimit);
+    }
+
+    protected static int computeRepeatedSFixed32SizeNoTag(final RepeatedInt store) {
+        return 4 * store.length;
+    }
+
+    protected static int readRepeatedBool(final RepeatedBoolean store, final LimitedCodedInputStream input, final int tag)
+            throws IOException {
+        int nextTag;
+        do {
+            store.add(input.readBool());
+        } while ((nextTag = input.readTag()) == tag);
+        return nextTag;
+    }
+
+    protected static void readPackedBool(final RepeatedBoolean store, final LimitedCodedInputStream input)
+            throws IOException {
+        final int length = input.readRawVarint32();
+        final int oldLimit = input.pushLimit(length);
+        store.reserve(length);
+        while (input.getBytesUntilLimit() > 0) {
+            store.add(input.readBool());
+        }
+        input.popLimit(oldLimit);
+    }
+
+    protected static int computeRepeatedBoolSizeNoTag(final RepeatedBoolean store) {
+        return 1 * store.length;
+    }
+
+    protected static int readRepeatedEnum(final RepeatedEnum<?> store, final LimitedCodedInputStream input, final int tag)
+            throws IOException {
+        int nextTag;
+        do {
+            // Unknown values are kept, like in proto3 open enums
+            store.addValue(input.readEnum());
+        } while ((nextTag = input.readTag()) == tag);
+        return nextTag;
+    }
+
+    protected static void readPackedEnum(final RepeatedEnum<?> store, final LimitedCodedInputStream input)
+            throws IOException {
+        final int length = input.readRawVarint32();
+        final int oldLimit = input.pushLimit(length);
+        while (input.getBytesUntilLimit() > 0) {
+            // Unknown values are kept, like in proto3 open enums
+            store.addValue(input.readEnum());
+        }
+        input.popLimit(oldLimit);
+    }
+
+    protected static int computeRepeatedEnumSizeNoTag(final RepeatedEnum<?> store) {
+        final int[] array = store.array;
+        int dataSize = 0;
+        for (int i = 0; i < store.length; i++) {
+            dataSize += ProtoSink.computeEnumSizeNoTag(array[i]);
+        }
+        return dataSize;
+    }
+
+    protected static int readRepeatedString(final RepeatedString store, final LimitedCodedInputStream input, final int tag)
+            throws IOException {
+        int nextTag;
+        do {
+            store.add(input.readStringRequireUtf8());
+        } while ((nextTag = input.readTag()) == tag);
+        return nextTag;
+    }
+
+    protected static int computeRepeatedStringSizeNoTag(final RepeatedString store) {
+        final String[] array = store.array;
+        int dataSize = 0;
+        for (int i = 0; i < store.length; i++) {
+            dataSize += ProtoSink.computeStringSizeNoTag(array[i]);
+        }
+        return dataSize;
+    }
+
+    /**
+     * Reads a message from {@code inputLimited} until the end of the input. Each occurrence of
+     * the repeated message field with {@code tag} is decoded into one element created with
+     * {@code factory} (after clearing it) and passed to {@code consumer}. All other fields are
+     * skipped, and so are elements dropped by a {@link ProjectionMask#filter filter}.
+     */
+    protected static <T extends ProtoMessage<T>> void streamRepeatedMessage(
+        final MessageFactory<T> factory,
+        final int tag,
+        final LimitedCodedInputStream inputLimited,
+        final Consumer<? super T> consumer
+    ) throws IOException {
+        final boolean filtered = inputLimited.isFiltered(factory);
+        final T element = factory.create();
+        int nextTag;
+        while ((nextTag = inputLimited.readTag()) != 0) {
+            if (nextTag == tag) {
+                element.clear();
+                mergeDelimitedFrom(element, inputLimited);
+                if (!filtered || element.hasOneOfMember()) {
+                    consumer.accept(element);
+                }
+            } else if (!inputLimited.skipField(nextTag)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Same as {@link #streamRepeatedMessage}, but reads one message written in length
+     * delimited form.
+     *
+     * @return false if there was no message to read
+     */
+    protected static <T extends ProtoMessage<T>> boolean streamDelimitedRepeatedMessage(
+        final MessageFactory<T> factory,
+        final int tag,
+        final InputStream input,
+        final Consumer<? super T> consumer
+    ) throws IOException {
+        final int size = readDelimitedSize(input);
+        if (size < 0) {
+            return false;
+        }
+        streamRepeatedMessage(factory, tag, LimitedCodedInputStream.newInstance(input, size), consumer);
+        return true;
+    }
+
     /**
      * Indicates whether another object is "equal to" this one.
      * <p>
@@ -337,7 +1311,8 @@ public abstract class ProtoMessage<MessageType extends ProtoMessage<?>> {
      * field contents are equal.
      * <p>
      * This comparison ignores unknown fields, so the serialized binary
-     * form may not be equal.
+     * form may not be equal. Messages generated with the {@code store_unknown_fields}
+     * option also compare their unknown fields.
      *
      * @param obj the reference object with which to compare
      * @return {@code true} if this object is the same as the obj
@@ -356,4 +1331,5 @@ public abstract class ProtoMessage<MessageType extends ProtoMessage<?>> {
     private MessageType getThis() {
         return (MessageType) this;
     }
+    // endregion
 }
@@ -0,0 +1,56 @@
+package eu.neverblink.protoc.java.runtime;
+
+/**
+ * Listener for the messages decoded from an input and encoded into a writer, for collecting
+ * statistics such as messages per second or bytes per message without wrapping the calls.
+ * <p>
+ * Decoded messages and unknown fields are reported by code generated with the
+ * {@code metrics} option, for inputs with a listener set with
+ * {@link LimitedCodedInputStream#setMetrics(ProtoMetrics)}. Every message is reported
+ * once it is parsed, nested messages before their parents. Encoded messages are reported
+ * by a {@link DelimitedMessageWriter} with a listener, once per written message.
+ * <p>
+ * The hooks are guarded by {@link #ENABLED}, so setting the system property
+ * {@code eu.neverblink.protoc.metrics.disabled} to true removes them from the compiled code.
+ * Listeners are called on the parsing or writing thread and should be cheap.
+ *
+ * @author Piotr Sowiński
+ */
+public interface ProtoMetrics {
+
+    /**
+     * False if the {@code eu.neverblink.protoc.metrics.disabled} system property is true at
+     * startup, in which case no listener is ever called.
+     */
+    boolean ENABLED = !Boolean.getBoolean("eu.neverblink.protoc.metrics.disabled");
+
+    /**
+     * Called after a message is parsed.
+     *
+     * @param message the parsed message, only valid until the parser continues
+     * @param bytes   the size of the message, excluding its tag and length prefix
+     * @param depth   the nesting depth of the message, 0 for the message parsed from the input.
+     *                Messages nested in a message on the explicit stack do not count the levels
+     *                of the stack.
+     */
+    default void messageDecoded(ProtoMessage<?> message, int bytes, int depth) {
+    }
+
+    /**
+     * Called after a message is written.
+     *
+     * @param message the written message
+     * @param bytes   the size of the message, excluding its length prefix
+     */
+    default void messageEncoded(ProtoMessage<?> message, int bytes) {
+    }
+
+    /**
+     * Called before a field that is not known to the message is skipped or stored.
+     *
+     * @param message the message that is parsed
+     * @param tag     the tag of the field
+     */
+    default void unknownField(ProtoMessage<?> message, int tag) {
+    }
+}
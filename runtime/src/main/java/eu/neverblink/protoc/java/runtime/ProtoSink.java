@@ -0,0 +1,229 @@
+package eu.neverblink.protoc.java.runtime;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Final replacement for {@link CodedOutputStream}, used by code generated with the
+ * {@code proto_sink} option. The write methods behave like the methods of
+ * {@link CodedOutputStream} with the same names.
+ * <p>
+ * All backends encode into a byte array. A sink created for an array or a heap
+ * {@link ByteBuffer} writes into its backing array directly. A sink for a direct buffer or
+ * an {@link OutputStream} fills an internal array and drains it to the target when it is
+ * full and on {@link #flush()}. Varints are written with their length computed up front,
+ * and strings are encoded as UTF-8 straight into the array.
+ * <p>
+ * Messages generated without the {@code proto_sink} option can also be written. They are
+ * encoded with a {@link CodedOutputStream} over the same array. This class is not thread-safe.
+ * <p>
+ * The encoding is shared with the variant of runtime-lite and kept in {@code AbstractProtoSink}.
+ * The regions marked as shared are kept identical to that variant, which the build checks.
+ *
+ * @author Piotr Sowiński
+ */
+public final class ProtoSink extends AbstractProtoSink {
+    // region shared: buffer-size
+    /**
+     * Size of the internal array of sinks that drain to an {@link OutputStream} or a direct buffer.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 4096;
+
+    // Large enough for the longest write that does not check the space itself
+    private static final int MIN_BUFFER_SIZE = 16;
+    // endregion
+
+    ProtoSink(byte[] buffer, int offset, int length, ByteBuffer target, OutputStream stream, boolean drains) {
+        super(buffer, offset, length, target, stream, drains);
+    }
+
+    // region shared: factories
+    /**
+     * Creates a sink that writes into {@code length} bytes of the array, starting at {@code offset}.
+     */
+    public static ProtoSink newInstance(byte[] buffer, int offset, int length) {
+        return new ProtoSink(buffer, offset, length, null, null, false);
+    }
+
+    /**
+     * Same as {@link #newInstance(byte[], int, int)} for the whole array.
+     */
+    public static ProtoSink newInstance(byte[] buffer) {
+        return newInstance(buffer, 0, buffer.length);
+    }
+
+    /**
+     * Creates a sink that writes into the remaining space of the buffer. The position of the
+     * buffer is moved past the written bytes by {@link #flush()}.
+     */
+    public static ProtoSink newInstance(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            return new ProtoSink(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(),
+                buffer, null, false);
+        }
+        final int size = Math.max(MIN_BUFFER_SIZE, Math.min(DEFAULT_BUFFER_SIZE, buffer.remaining()));
+        return new ProtoSink(new byte[size], 0, size, buffer, null, true);
+    }
+
+    /**
+     * Creates a sink that writes to the stream through an array of {@link #DEFAULT_BUFFER_SIZE}
+     * bytes. The stream is written to when the array is full and on {@link #flush()}.
+     */
+    public static ProtoSink newInstance(OutputStream stream) {
+        return newInstance(stream, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Same as {@link #newInstance(OutputStream)}, with an array of {@code bufferSize} bytes.
+     */
+    public static ProtoSink newInstance(OutputStream stream, int bufferSize) {
+        if (stream == null) {
+            throw new NullPointerException("stream");
+        }
+        final int size = Math.max(MIN_BUFFER_SIZE, bufferSize);
+        return new ProtoSink(new byte[size], 0, size, null, stream, true);
+    }
+    // endregion
+
+    public void writeRawBytes(final ByteString value) throws IOException {
+        final int length = value.size();
+        if (limit - position >= length) {
+            value.copyTo(buffer, position);
+            position += length;
+            return;
+        }
+        makeSpace(length);
+        if (limit - position >= length) {
+            value.copyTo(buffer, position);
+            position += length;
+        } else if (stream != null) {
+            value.writeTo(stream);
+            drained += length;
+        } else if (target.remaining() >= length) {
+            value.copyTo(target);
+            drained += length;
+        } else {
+            throw outOfSpace(length);
+        }
+    }
+
+    public void writeBytesNoTag(final ByteString value) throws IOException {
+        writeUInt32NoTag(value.size());
+        writeRawBytes(value);
+    }
+
+    /**
+     * Writes a message that does not override {@link ProtoMessage#writeTo(ProtoSink)}, through
+     * a {@link CodedOutputStream} over the array, or over the target if it does not fit.
+     * The {@code size} is the serialized size the caller has already computed.
+     */
+    void writeCoded(final ProtoMessage<?> message, final int size) throws IOException {
+        if (limit - position < size && drains) {
+            drain();
+        }
+        final CodedOutputStream output;
+        if (limit - position >= size) {
+            output = CodedOutputStream.newInstance(buffer, position, size);
+            position += size;
+        } else if (stream != null) {
+            output = CodedOutputStream.newInstance(stream, Math.min(size, DEFAULT_BUFFER_SIZE));
+            drained += size;
+        } else if (drains && target.remaining() >= size) {
+            output = CodedOutputStream.newInstance(target);
+            drained += size;
+        } else {
+            throw outOfSpace(size);
+        }
+        message.writeTo(output);
+        output.flush();
+    }
+
+    // region shared: compute-sizes
+    // Sizes of the values without tags, see the methods of CodedOutputStream with the same names
+
+    public static int computeUInt32SizeNoTag(final int value) {
+        return computeVarint32Size(value);
+    }
+
+    public static int computeInt32SizeNoTag(final int value) {
+        return value >= 0 ? computeVarint32Size(value) : 10;
+    }
+
+    public static int computeSInt32SizeNoTag(final int value) {
+        return computeVarint32Size((value << 1) ^ (value >> 31));
+    }
+
+    public static int computeEnumSizeNoTag(final int value) {
+        return computeInt32SizeNoTag(value);
+    }
+
+    public static int computeBoolSizeNoTag(final boolean value) {
+        return 1;
+    }
+
+    public static int computeUInt64SizeNoTag(final long value) {
+        return (640 - Long.numberOfLeadingZeros(value) * 9) >>> 6;
+    }
+
+    public static int computeInt64SizeNoTag(final long value) {
+        return computeUInt64SizeNoTag(value);
+    }
+
+    public static int computeSInt64SizeNoTag(final long value) {
+        return computeUInt64SizeNoTag((value << 1) ^ (value >> 63));
+    }
+
+    public static int computeFixed32SizeNoTag(final int value) {
+        return 4;
+    }
+
+    public static int computeSFixed32SizeNoTag(final int value) {
+        return 4;
+    }
+
+    public static int computeFloatSizeNoTag(final float value) {
+        return 4;
+    }
+
+    public static int computeFixed64SizeNoTag(final long value) {
+        return 8;
+    }
+
+    public static int computeSFixed64SizeNoTag(final long value) {
+        return 8;
+    }
+
+    public static int computeDoubleSizeNoTag(final double value) {
+        return 8;
+    }
+
+    /**
+     * Unpaired surrogates count as one byte, like the '?' that they are written as.
+     */
+    public static int computeStringSizeNoTag(final String value) {
+        int size = encodedUtf8Size(value);
+        if (size < 0) {
+            size = value.getBytes(StandardCharsets.UTF_8).length;
+        }
+        return computeVarint32Size(size) + size;
+    }
+    // endregion
+
+    // region shared: OutOfSpaceException
+    /**
+     * Thrown when a sink with a fixed amount of space is full.
+     */
+    public static final class OutOfSpaceException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        public OutOfSpaceException(String message) {
+            super(message);
+        }
+    }
+    // endregion
+}
@@ -0,0 +1,69 @@
+package eu.neverblink.protoc.java.runtime;
+
+import com.google.protobuf.ByteString;
+
+/*-
+ * #%L
+ * quickbuf-generator / CrunchyProtocPlugin
+ * %%
+ * Copyright (C) 2019 HEBI Robotics
+ * %%
+ * Copyright (C) 2025 NeverBlink
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * Utility methods used by the generated code.
+ *
+ * @author Florian Enner
+ * @author Piotr Sowiński
+ */
+public final class ProtoUtil {
+
+    private ProtoUtil() {
+    }
+
+    /**
+     * Compares two doubles bit by bit, like {@link Double#equals(Object)}.
+     * NaN is equal to itself, and 0.0 is not equal to -0.0.
+     */
+    public static boolean isEqual(final double a, final double b) {
+        return Double.doubleToLongBits(a) == Double.doubleToLongBits(b);
+    }
+
+    /**
+     * Compares two floats bit by bit, like {@link Float#equals(Object)}.
+     * NaN is equal to itself, and 0.0f is not equal to -0.0f.
+     */
+    public static boolean isEqual(final float a, final float b) {
+        return Float.floatToIntBits(a) == Float.floatToIntBits(b);
+    }
+
+    /**
+     * Compares two values of a oneof field whose string members are decoded lazily. A string
+     * member may be held as a String on one side and as its raw UTF-8 bytes on the other, in
+     * which case the encodings are compared.
+     */
+    public static boolean isEqualOneOfValue(final Object a, final Object b) {
+        if (a instanceof ByteString && b instanceof String) {
+            return a.equals(ByteString.copyFromUtf8((String) b));
+        }
+        if (a instanceof String && b instanceof ByteString) {
+            return b.equals(ByteString.copyFromUtf8((String) a));
+        }
+        return a.equals(b);
+    }
+
+}
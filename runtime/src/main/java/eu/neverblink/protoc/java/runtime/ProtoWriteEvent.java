@@ -0,0 +1,46 @@
+package eu.neverblink.protoc.java.runtime;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event for serializing a whole message in length delimited form, such as
+ * one stream frame. Only writes that take longer than the threshold of the recording, 1 ms
+ * by default, are recorded.
+ *
+ * @author Piotr Sowiński
+ */
+@Name("eu.neverblink.protoc.Write")
+@Label("Protobuf Write")
+@Category("Protobuf")
+@Description("Serialization of a message, with its size and the number of rows in it")
+@Threshold("1 ms")
+public final class ProtoWriteEvent extends Event {
+
+    @Label("Message Type")
+    Class<?> messageType;
+
+    @Label("Size")
+    @DataAmount
+    int bytes;
+
+    @Label("Rows")
+    @Description("The number of elements in the repeated message fields of the message, other than maps")
+    int rows;
+
+    // Ends the event, and fills in and commits it if it is longer than the threshold
+    void commit(final ProtoMessage<?> message, final int bytes) {
+        end();
+        if (shouldCommit()) {
+            this.messageType = message.getClass();
+            this.bytes = bytes;
+            this.rows = message.getRowCount();
+            commit();
+        }
+    }
+}
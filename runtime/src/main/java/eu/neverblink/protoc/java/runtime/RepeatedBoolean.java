@@ -0,0 +1,131 @@
+package eu.neverblink.protoc.java.runtime;
+
+import java.util.Arrays;
+
+/*-
+ * #%L
+ * quickbuf-generator / CrunchyProtocPlugin
+ * %%
+ * Copyright (C) 2019 HEBI Robotics
+ * %%
+ * Copyright (C) 2025 NeverBlink
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * Repeated field of boolean values, backed by a growable boolean[] array.
+ *
+ * @author Florian Enner
+ * @author Piotr Sowiński
+ */
+public final class RepeatedBoolean extends RepeatedField<RepeatedBoolean> {
+
+    private static final boolean[] EMPTY_ARRAY = new boolean[0];
+
+    protected boolean[] array = EMPTY_ARRAY;
+
+    private RepeatedBoolean() {
+    }
+
+    public static RepeatedBoolean newEmptyInstance() {
+        return new RepeatedBoolean();
+    }
+
+    public boolean get(final int index) {
+        checkIndex(index);
+        return array[index];
+    }
+
+    public void set(final int index, final boolean value) {
+        checkIndex(index);
+        array[index] = value;
+    }
+
+    public void add(final boolean value) {
+        requireCapacity(length + 1);
+        array[length++] = value;
+    }
+
+    public void addAll(final boolean[] values) {
+        addAll(values, 0, values.length);
+    }
+
+    public void addAll(final boolean[] values, final int offset, final int count) {
+        requireCapacity(length + count);
+        System.arraycopy(values, offset, array, length, count);
+        length += count;
+    }
+
+    @Override
+    public RepeatedBoolean addAll(final RepeatedBoolean other) {
+        addAll(other.array, 0, other.length);
+        return this;
+    }
+
+    /**
+     * Provides direct access to the backing array. Only the first
+     * {@link #length()} elements are valid, and the array may be replaced
+     * once more elements are added.
+     *
+     * @return the backing array
+     */
+    public boolean[] array() {
+        return array;
+    }
+
+    /**
+     * @return a copy of the valid elements
+     */
+    public boolean[] toArray() {
+        return Arrays.copyOf(array, length);
+    }
+
+    @Override
+    protected int capacity() {
+        return array.length;
+    }
+
+    @Override
+    protected void extendCapacityTo(final int capacity) {
+        array = Arrays.copyOf(array, capacity);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof RepeatedBoolean)) {
+            return false;
+        }
+        final RepeatedBoolean other = (RepeatedBoolean) obj;
+        return Arrays.equals(array, 0, length, other.array, 0, other.length);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < length; i++) {
+            result = 31 * result + Boolean.hashCode(array[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+}
@@ -0,0 +1,153 @@
+package eu.neverblink.protoc.java.runtime;
+
+import java.util.Arrays;
+
+/*-
+ * #%L
+ * quickbuf-generator / CrunchyProtocPlugin
+ * %%
+ * Copyright (C) 2019 HEBI Robotics
+ * %%
+ * Copyright (C) 2025 NeverBlink
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * Repeated field of enum values. The numeric wire values are stored in a
+ * growable int[] array, and converted to the enum type only when accessed
+ * with {@link #get(int)}.
+ *
+ * @author Florian Enner
+ * @author Piotr Sowiński
+ */
+public final class RepeatedEnum<E extends ProtoEnum<?>> extends RepeatedField<RepeatedEnum<E>> {
+
+    private static final int[] EMPTY_ARRAY = new int[0];
+
+    protected int[] array = EMPTY_ARRAY;
+    protected final ProtoEnum.EnumConverter<E> converter;
+
+    private RepeatedEnum(final ProtoEnum.EnumConverter<E> converter) {
+        this.converter = converter;
+    }
+
+    public static <E extends ProtoEnum<?>> RepeatedEnum<E> newEmptyInstance(final ProtoEnum.EnumConverter<E> converter) {
+        return new RepeatedEnum<>(converter);
+    }
+
+    /**
+     * @return the enum value at {@code index}, or null if the stored wire value is unknown
+     */
+    public E get(final int index) {
+        return converter.forNumber(getValue(index));
+    }
+
+    /**
+     * @return the numeric wire value at {@code index}
+     */
+    public int getValue(final int index) {
+        checkIndex(index);
+        return array[index];
+    }
+
+    public void set(final int index, final E value) {
+        setValue(index, value.getNumber());
+    }
+
+    public void setValue(final int index, final int value) {
+        checkIndex(index);
+        array[index] = value;
+    }
+
+    public void add(final E value) {
+        addValue(value.getNumber());
+    }
+
+    public void addValue(final int value) {
+        requireCapacity(length + 1);
+        array[length++] = value;
+    }
+
+    public void addAllValues(final int[] values) {
+        addAllValues(values, 0, values.length);
+    }
+
+    public void addAllValues(final int[] values, final int offset, final int count) {
+        requireCapacity(length + count);
+        System.arraycopy(values, offset, array, length, count);
+        length += count;
+    }
+
+    @Override
+    public RepeatedEnum<E> addAll(final RepeatedEnum<E> other) {
+        addAllValues(other.array, 0, other.length);
+        return this;
+    }
+
+    /**
+     * Provides direct access to the backing array. Only the first
+     * {@link #length()} elements are valid, and the array may be replaced
+     * once more elements are added.
+     *
+     * @return the backing array
+     */
+    public int[] array() {
+        return array;
+    }
+
+    /**
+     * @return a copy of the valid numeric wire values
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(array, length);
+    }
+
+    @Override
+    protected int capacity() {
+        return array.length;
+    }
+
+    @Override
+    protected void extendCapacityTo(final int capacity) {
+        array = Arrays.copyOf(array, capacity);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof RepeatedEnum)) {
+            return false;
+        }
+        final RepeatedEnum<?> other = (RepeatedEnum<?>) obj;
+        return Arrays.equals(array, 0, length, other.array, 0, other.length);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < length; i++) {
+            result = 31 * result + Integer.hashCode(array[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+}
@@ -0,0 +1,110 @@
+package eu.neverblink.protoc.java.runtime;
+
+/*-
+ * #%L
+ * quickbuf-generator / CrunchyProtocPlugin
+ * %%
+ * Copyright (C) 2019 HEBI Robotics
+ * %%
+ * Copyright (C) 2025 NeverBlink
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * Base class for repeated fields of primitive values. The values are stored
+ * in a growable array of the primitive type, so no boxing takes place when
+ * adding, reading or serializing elements.
+ *
+ * @author Florian Enner
+ * @author Piotr Sowiński
+ */
+public abstract class RepeatedField<RepeatedType extends RepeatedField<RepeatedType>> {
+
+    static final int DEFAULT_CAPACITY = 10;
+
+    protected int length = 0;
+
+    RepeatedField() {
+    }
+
+    /**
+     * @return the number of elements in this field
+     */
+    public final int length() {
+        return length;
+    }
+
+    /**
+     * @return the number of elements in this field. Same as {@link #length()}.
+     */
+    public final int size() {
+        return length;
+    }
+
+    public final boolean isEmpty() {
+        return length == 0;
+    }
+
+    /**
+     * Sets the length to zero. The backing array is kept for reuse.
+     */
+    public final void clear() {
+        length = 0;
+    }
+
+    /**
+     * Ensures that the backing array can hold at least {@code count} more
+     * elements without having to grow again.
+     *
+     * @param count number of elements that will be added
+     * @return this
+     */
+    @SuppressWarnings("unchecked")
+    public final RepeatedType reserve(final int count) {
+        requireCapacity(length + count);
+        return (RepeatedType) this;
+    }
+
+    /**
+     * Copies all elements of {@code other} to the end of this field.
+     *
+     * @return this
+     */
+    public abstract RepeatedType addAll(RepeatedType other);
+
+    /**
+     * @return the current size of the backing array
+     */
+    protected abstract int capacity();
+
+    /**
+     * Grows the backing array to exactly {@code capacity} elements, keeping
+     * the existing contents.
+     */
+    protected abstract void extendCapacityTo(int capacity);
+
+    protected final void requireCapacity(final int desiredSize) {
+        if (desiredSize > capacity()) {
+            extendCapacityTo(Math.max(desiredSize, Math.max(DEFAULT_CAPACITY, capacity() * 2)));
+        }
+    }
+
+    protected final void checkIndex(final int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+        }
+    }
+
+}
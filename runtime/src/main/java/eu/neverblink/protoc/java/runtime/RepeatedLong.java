@@ -0,0 +1,131 @@
+package eu.neverblink.protoc.java.runtime;
+
+import java.util.Arrays;
+
+/*-
+ * #%L
+ * quickbuf-generator / CrunchyProtocPlugin
+ * %%
+ * Copyright (C) 2019 HEBI Robotics
+ * %%
+ * Copyright (C) 2025 NeverBlink
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * Repeated field of long values, backed by a growable long[] array.
+ *
+ * @author Florian Enner
+ * @author Piotr Sowiński
+ */
+public final class RepeatedLong extends RepeatedField<RepeatedLong> {
+
+    private static final long[] EMPTY_ARRAY = new long[0];
+
+    protected long[] array = EMPTY_ARRAY;
+
+    private RepeatedLong() {
+    }
+
+    public static RepeatedLong newEmptyInstance() {
+        return new RepeatedLong();
+    }
+
+    public long get(final int index) {
+        checkIndex(index);
+        return array[index];
+    }
+
+    public void set(final int index, final long value) {
+        checkIndex(index);
+        array[index] = value;
+    }
+
+    public void add(final long value) {
+        requireCapacity(length + 1);
+        array[length++] = value;
+    }
+
+    public void addAll(final long[] values) {
+        addAll(values, 0, values.length);
+    }
+
+    public void addAll(final long[] values, final int offset, final int count) {
+        requireCapacity(length + count);
+        System.arraycopy(values, offset, array, length, count);
+        length += count;
+    }
+
+    @Override
+    public RepeatedLong addAll(final RepeatedLong other) {
+        addAll(other.array, 0, other.length);
+        return this;
+    }
+
+    /**
+     * Provides direct access to the backing array. Only the first
+     * {@link #length()} elements are valid, and the array may be replaced
+     * once more elements are added.
+     *
+     * @return the backing array
+     */
+    public long[] array() {
+        return array;
+    }
+
+    /**
+     * @return a copy of the valid elements
+     */
+    public long[] toArray() {
+        return Arrays.copyOf(array, length);
+    }
+
+    @Override
+    protected int capacity() {
+        return array.length;
+    }
+
+    @Override
+    protected void extendCapacityTo(final int capacity) {
+        array = Arrays.copyOf(array, capacity);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof RepeatedLong)) {
+            return false;
+        }
+        final RepeatedLong other = (RepeatedLong) obj;
+        return Arrays.equals(array, 0, length, other.array, 0, other.length);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < length; i++) {
+            result = 31 * result + Long.hashCode(array[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+}
@@ -0,0 +1,158 @@
+package eu.neverblink.protoc.java.runtime;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/*-
+ * #%L
+ * quickbuf-generator / CrunchyProtocPlugin
+ * %%
+ * Copyright (C) 2019 HEBI Robotics
+ * %%
+ * Copyright (C) 2025 NeverBlink
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * Store for repeated message fields that keeps the allocated elements around
+ * after {@link #clear()}, so that they can be reused when parsing the next
+ * message. Used by the generated code when the <code>reuse_messages</code>
+ * option is enabled.
+ * <p>
+ * Elements obtained from this list are only valid until the next time the
+ * owning message is cleared or parsed into. Use {@link ProtoMessage#clone()}
+ * to keep an element for longer.
+ *
+ * @author Florian Enner
+ * @author Piotr Sowiński
+ */
+public final class RepeatedMessage<T extends ProtoMessage<T>> extends AbstractList<T> implements RandomAccess {
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private static final ProtoMessage<?>[] EMPTY = new ProtoMessage<?>[0];
+
+    private final MessageFactory<T> factory;
+    private ProtoMessage<?>[] elements = EMPTY;
+    private int size = 0;
+
+    private RepeatedMessage(MessageFactory<T> factory) {
+        this.factory = factory;
+    }
+
+    public static <T extends ProtoMessage<T>> RepeatedMessage<T> newEmptyInstance(MessageFactory<T> factory) {
+        return new RepeatedMessage<>(factory);
+    }
+
+    /**
+     * Returns the next element for writing. The element is reused from a previous
+     * use of this list if possible, otherwise a new one is created with the factory.
+     * The returned element is always cleared.
+     *
+     * @return the element that was appended to the end of the list
+     */
+    @SuppressWarnings("unchecked")
+    public T next() {
+        ensureCapacity(size + 1);
+        modCount++;
+        T element = (T) elements[size];
+        if (element == null) {
+            element = factory.create();
+            elements[size] = element;
+        } else {
+            element.clear();
+        }
+        size++;
+        return element;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        checkIndex(index);
+        return (T) elements[index];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T set(int index, T element) {
+        checkIndex(index);
+        final T previous = (T) elements[index];
+        elements[index] = element;
+        return previous;
+    }
+
+    @Override
+    public void add(int index, T element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        ensureCapacity(size + 1);
+        modCount++;
+        if (index < size) {
+            // Overwrites the pooled element at position [size], if there was one
+            System.arraycopy(elements, index, elements, index + 1, size - index);
+        }
+        elements[index] = element;
+        size++;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T remove(int index) {
+        checkIndex(index);
+        modCount++;
+        final T removed = (T) elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        elements[--size] = null;
+        return removed;
+    }
+
+    /**
+     * Removes the last element, but keeps it for reuse by {@link #next()}.
+     */
+    void discardLast() {
+        modCount++;
+        size--;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Sets the size to zero, but keeps the elements for reuse.
+     */
+    @Override
+    public void clear() {
+        modCount++;
+        size = 0;
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            final int newCapacity = Math.max(minCapacity, Math.max(DEFAULT_CAPACITY, elements.length * 2));
+            elements = Arrays.copyOf(elements, newCapacity);
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
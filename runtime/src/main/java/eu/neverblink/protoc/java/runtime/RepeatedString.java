@@ -0,0 +1,142 @@
+package eu.neverblink.protoc.java.runtime;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/*-
+ * #%L
+ * quickbuf-generator / CrunchyProtocPlugin
+ * %%
+ * Copyright (C) 2019 HEBI Robotics
+ * %%
+ * Copyright (C) 2025 NeverBlink
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * Repeated field of String values. Unlike the primitive repeated fields, this
+ * is a regular {@link java.util.List}, backed by a growable String[] array.
+ *
+ * @author Florian Enner
+ * @author Piotr Sowiński
+ */
+public final class RepeatedString extends AbstractList<String> implements RandomAccess {
+
+    private static final String[] EMPTY_ARRAY = new String[0];
+
+    protected String[] array = EMPTY_ARRAY;
+    protected int length = 0;
+
+    private RepeatedString() {
+    }
+
+    public static RepeatedString newEmptyInstance() {
+        return new RepeatedString();
+    }
+
+    @Override
+    public String get(final int index) {
+        checkIndex(index);
+        return array[index];
+    }
+
+    @Override
+    public String set(final int index, final String value) {
+        checkIndex(index);
+        final String previous = array[index];
+        array[index] = value;
+        return previous;
+    }
+
+    @Override
+    public boolean add(final String value) {
+        requireCapacity(length + 1);
+        modCount++;
+        array[length++] = value;
+        return true;
+    }
+
+    public boolean add(final CharSequence value) {
+        return add(value.toString());
+    }
+
+    public void addAll(final String[] values) {
+        requireCapacity(length + values.length);
+        modCount++;
+        System.arraycopy(values, 0, array, length, values.length);
+        length += values.length;
+    }
+
+    public RepeatedString addAll(final RepeatedString other) {
+        requireCapacity(length + other.length);
+        modCount++;
+        System.arraycopy(other.array, 0, array, length, other.length);
+        length += other.length;
+        return this;
+    }
+
+    @Override
+    public String remove(final int index) {
+        checkIndex(index);
+        modCount++;
+        final String removed = array[index];
+        System.arraycopy(array, index + 1, array, index, length - index - 1);
+        array[--length] = null;
+        return removed;
+    }
+
+    @Override
+    public int size() {
+        return length;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Ensures that the backing array can hold at least {@code count} more
+     * elements without having to grow again.
+     *
+     * @param count number of elements that will be added
+     * @return this
+     */
+    public RepeatedString reserve(final int count) {
+        requireCapacity(length + count);
+        return this;
+    }
+
+    @Override
+    public void clear() {
+        modCount++;
+        Arrays.fill(array, 0, length, null);
+        length = 0;
+    }
+
+    private void requireCapacity(final int desiredSize) {
+        if (desiredSize > array.length) {
+            final int capacity = Math.max(desiredSize, Math.max(RepeatedField.DEFAULT_CAPACITY, array.length * 2));
+            array = Arrays.copyOf(array, capacity);
+        }
+    }
+
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+        }
+    }
+
+}
@@ -0,0 +1,149 @@
+package eu.neverblink.protoc.java.runtime;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.WireFormat;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Records how often each field is followed by each other field in serialized messages, to
+ * let the generator order the parsers for the recorded traffic.
+ * <p>
+ * The generated parsers are fastest when the fields arrive in the order of the fall-through
+ * chain of their switch. Record a profile from a representative sample of the data, write it
+ * to a file with {@link #writeTo(Writer)}, and pass the file to the generator with the
+ * {@code field_order_profile} option. The chain of each message type then follows its most
+ * frequent transitions.
+ * <p>
+ * Recording walks the serialized bytes with the descriptor of the message type, so it is
+ * independent of the generated parsers and does not slow them down. Field number 0 stands
+ * for the start and the end of a message. This class is not thread-safe.
+ *
+ * @author Piotr Sowiński
+ */
+public final class TagTransitionProfile {
+
+    private static final int MAX_DEPTH = 100;
+
+    // Transition counts per full name of the message type, keyed by (from << 32 | to)
+    private final Map<String, Map<Long, long[]>> transitions = new TreeMap<>();
+
+    /**
+     * Records the transitions in a serialized message and in all messages nested in it.
+     *
+     * @param type the descriptor of the message, for example {@code RdfStreamFrame.getDescriptor()}
+     */
+    public TagTransitionProfile record(Descriptors.Descriptor type, byte[] data) throws IOException {
+        record(type, CodedInputStream.newInstance(data), 0);
+        return this;
+    }
+
+    /**
+     * Records the transitions in the remaining bytes of {@code data}, which hold one
+     * serialized message. The position of the buffer is not modified.
+     */
+    public TagTransitionProfile record(Descriptors.Descriptor type, ByteBuffer data) throws IOException {
+        record(type, CodedInputStream.newInstance(data.duplicate()), 0);
+        return this;
+    }
+
+    private void record(Descriptors.Descriptor type, CodedInputStream input, int depth) throws IOException {
+        if (depth > MAX_DEPTH) {
+            throw new IOException("Maximum nesting depth exceeded: " + depth);
+        }
+        final var counts = transitions.computeIfAbsent(type.getFullName(), name -> new HashMap<>());
+        int previous = 0;
+        while (true) {
+            final int tag = input.readTag();
+            final int number = WireFormat.getTagFieldNumber(tag);
+            counts.computeIfAbsent(((long) previous << 32) | number, key -> new long[1])[0]++;
+            if (tag == 0) {
+                return;
+            }
+            previous = number;
+            final var field = type.findFieldByNumber(number);
+            if (field != null
+                && field.getJavaType() == Descriptors.FieldDescriptor.JavaType.MESSAGE
+                && WireFormat.getTagWireType(tag) == WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+                final int oldLimit = input.pushLimit(input.readRawVarint32());
+                record(field.getMessageType(), input, depth + 1);
+                input.popLimit(oldLimit);
+            } else if (!input.skipField(tag)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @param typeName the full name of the message type in the proto schema
+     * @param from     the number of the previous field, or 0 for the start of the message
+     * @param to       the number of the next field, or 0 for the end of the message
+     * @return the number of times that the transition was recorded
+     */
+    public long getCount(String typeName, int from, int to) {
+        final var counts = transitions.get(typeName);
+        if (counts == null) {
+            return 0;
+        }
+        final long[] count = counts.get(((long) from << 32) | to);
+        return count == null ? 0 : count[0];
+    }
+
+    /**
+     * @return true if messages of the type were recorded
+     */
+    public boolean hasType(String typeName) {
+        return transitions.containsKey(typeName);
+    }
+
+    /**
+     * Writes the profile as text, one transition per line.
+     */
+    public void writeTo(Writer writer) throws IOException {
+        writer.write("# <message type> <from field> <to field> <count>, field 0 is the start or end of the message\n");
+        for (final var type : transitions.entrySet()) {
+            for (final var transition : new TreeMap<>(type.getValue()).entrySet()) {
+                final long key = transition.getKey();
+                writer.write(type.getKey() + " " + (key >>> 32) + " " + (int) key + " " + transition.getValue()[0] + "\n");
+            }
+        }
+        writer.flush();
+    }
+
+    /**
+     * Reads a profile written with {@link #writeTo(Writer)}. Lines starting with # are ignored.
+     */
+    public static TagTransitionProfile readFrom(Reader reader) throws IOException {
+        final var profile = new TagTransitionProfile();
+        final var lines = new BufferedReader(reader);
+        String line;
+        int lineNumber = 0;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            final String[] parts = line.split("\\s+");
+            if (parts.length != 4) {
+                throw new IOException("Malformed tag transition profile at line " + lineNumber + ": " + line);
+            }
+            try {
+                final long key = (Long.parseLong(parts[1]) << 32) | Integer.parseInt(parts[2]);
+                profile.transitions.computeIfAbsent(parts[0], name -> new HashMap<>())
+                    .computeIfAbsent(key, k -> new long[1])[0] += Long.parseLong(parts[3]);
+            } catch (NumberFormatException e) {
+                throw new IOException("Malformed tag transition profile at line " + lineNumber + ": " + line, e);
+            }
+        }
+        return profile;
+    }
+}
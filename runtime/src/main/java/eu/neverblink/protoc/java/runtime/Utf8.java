@@ -0,0 +1,78 @@
+package eu.neverblink.protoc.java.runtime;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Validation of UTF-8 in byte arrays, shared by the decoders of the runtime and runtime-lite
+ * modules. It does not allocate, unlike wrapping the bytes to validate them with protobuf-java.
+ *
+ * @author Piotr Sowiński
+ */
+final class Utf8 {
+    private static final VarHandle LONG_LE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private Utf8() {
+    }
+
+    /**
+     * @return the index of the first byte from {@code offset} that is not ASCII, or {@code end}
+     */
+    static int skipAscii(final byte[] bytes, int offset, final int end) {
+        // Eight bytes at a time, until one of them has its high bit set
+        while (end - offset >= 8 && ((long) LONG_LE.get(bytes, offset) & 0x8080808080808080L) == 0) {
+            offset += 8;
+        }
+        while (offset < end && bytes[offset] >= 0) {
+            offset++;
+        }
+        return offset;
+    }
+
+    /**
+     * Checks that the bytes are well-formed UTF-8, rejecting overlong encodings, surrogates and
+     * code points above U+10FFFF like the validation of protobuf-java.
+     */
+    static boolean isValidUtf8(final byte[] bytes, int offset, final int length) {
+        final int end = offset + length;
+        offset = skipAscii(bytes, offset, end);
+        while (offset < end) {
+            final int b = bytes[offset++];
+            if (b >= 0) {
+                continue;
+            }
+            if (b < (byte) 0xE0) {
+                // Two bytes, at least U+0080
+                if (b < (byte) 0xC2 || offset >= end || bytes[offset++] > (byte) 0xBF) {
+                    return false;
+                }
+            } else if (b < (byte) 0xF0) {
+                // Three bytes, at least U+0800 and not a surrogate
+                if (end - offset < 2) {
+                    return false;
+                }
+                final int b2 = bytes[offset++];
+                if (b2 > (byte) 0xBF
+                    || (b == (byte) 0xE0 && b2 < (byte) 0xA0)
+                    || (b == (byte) 0xED && b2 >= (byte) 0xA0)
+                    || bytes[offset++] > (byte) 0xBF) {
+                    return false;
+                }
+            } else {
+                // Four bytes, from U+10000 to U+10FFFF
+                if (end - offset < 3) {
+                    return false;
+                }
+                final int b2 = bytes[offset++];
+                if (b2 > (byte) 0xBF
+                    || (((b << 28) + (b2 - (byte) 0x90)) >> 30) != 0
+                    || bytes[offset++] > (byte) 0xBF
+                    || bytes[offset++] > (byte) 0xBF) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
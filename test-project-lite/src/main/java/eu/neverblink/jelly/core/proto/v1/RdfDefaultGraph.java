@@ -0,0 +1,321 @@
+// Code generated by NeverBlink protoc-java-fast. Do not edit!
+package eu.neverblink.jelly.core.proto.v1;
+
+import eu.neverblink.protoc.java.runtime.InvalidProtocolBufferException;
+import eu.neverblink.protoc.java.runtime.LimitedCodedInputStream;
+import eu.neverblink.protoc.java.runtime.MessageFactory;
+import eu.neverblink.protoc.java.runtime.ProjectionMask;
+import eu.neverblink.protoc.java.runtime.ProtoBytes;
+import eu.neverblink.protoc.java.runtime.ProtoMessage;
+import eu.neverblink.protoc.java.runtime.ProtoMetrics;
+import eu.neverblink.protoc.java.runtime.ProtoSink;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Protobuf type {@code RdfDefaultGraph}
+ * DO NOT INHERIT FROM THIS CLASS!
+ * It's not <code>final</code> only to facilitate the Mutable nested subclass.
+ */
+@SuppressWarnings("hiding")
+public abstract class RdfDefaultGraph extends ProtoMessage<RdfDefaultGraph> implements Cloneable {
+  /**
+   * Result of {@link #hashCode()}, or 0 if it needs to be computed.
+   */
+  protected int cachedHashCode;
+
+  /**
+   * Message whose cached size includes the size of this message, or null.
+   */
+  protected ProtoMessage<?> sizeParent;
+
+  /**
+   * Whether this message was linked to more than one size parent.
+   */
+  protected boolean sizeShared;
+
+  /**
+   * Whether the cached size includes shared messages, so that it has to be computed again.
+   */
+  protected boolean sizeUntracked;
+
+  /**
+   * Fields that were not recognized while parsing, in their serialized form.
+   */
+  protected ProtoBytes unknownBytes = ProtoBytes.EMPTY;
+
+  private RdfDefaultGraph() {
+  }
+
+  /**
+   * @return a new empty instance of {@code Mutable}
+   */
+  public static Mutable newInstance() {
+    return new Mutable();
+  }
+
+  /**
+   * Returns the fields that were not recognized while parsing, for example fields added
+   * in a newer version of the schema. They are written back as they were read when this
+   * message is serialized.
+   *
+   * @return the unknown fields in their serialized form, including their tags
+   */
+  public ProtoBytes getUnknownBytes() {
+    return unknownBytes;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (o == this) {
+      return true;
+    }
+    if (!(o instanceof RdfDefaultGraph)) {
+      return false;
+    }
+    RdfDefaultGraph other = (RdfDefaultGraph) o;
+    return unknownBytes.equals(other.unknownBytes);
+  }
+
+  @Override
+  public int hashCode() {
+    int _hash = cachedHashCode;
+    if (_hash == 0) {
+      _hash = 1;
+      _hash = 0x01000193 * _hash + unknownBytes.hashCode();
+      cachedHashCode = _hash;
+    }
+    return _hash;
+  }
+
+  @Override
+  public void writeTo(final ProtoSink output) throws IOException {
+    if (!unknownBytes.isEmpty()) {
+      output.writeRawBytes(unknownBytes);
+    }
+  }
+
+  @Override
+  protected int computeSerializedSize() {
+    int size = 0;
+    size += unknownBytes.size();
+    return size;
+  }
+
+  /**
+   * Returns the cached size if the message was not modified since it was computed.
+   */
+  @Override
+  public int getSerializedSize() {
+    if (cachedSize >= 0 && !sizeUntracked) {
+      return cachedSize;
+    }
+    sizeUntracked = false;
+    return super.getSerializedSize();
+  }
+
+  @Override
+  protected void invalidateSize() {
+    ProtoMessage.invalidateSizes(this);
+  }
+
+  @Override
+  protected ProtoMessage<?> getSizeParent() {
+    return sizeParent;
+  }
+
+  @Override
+  protected void setSizeParent(final ProtoMessage<?> parent) {
+    if (sizeParent != parent) {
+      if (sizeParent != null && !sizeShared) {
+        // Modifications are not tracked by the first parent anymore
+        sizeShared = true;
+        ProtoMessage.invalidateSizes(sizeParent);
+      }
+      sizeParent = parent;
+    }
+  }
+
+  @Override
+  protected boolean isSizeTracked() {
+    return !sizeShared && !sizeUntracked;
+  }
+
+  @Override
+  protected void untrackSize() {
+    sizeUntracked = true;
+  }
+
+  @Override
+  public Mutable clone() {
+    return newInstance().copyFrom(this);
+  }
+
+  public static RdfDefaultGraph parseFrom(final byte[] data) throws InvalidProtocolBufferException {
+    return ProtoMessage.mergeFrom(newInstance(), data);
+  }
+
+  public static RdfDefaultGraph parseFrom(final ByteBuffer data) throws
+      InvalidProtocolBufferException {
+    return ProtoMessage.mergeFrom(newInstance(), data);
+  }
+
+  public static RdfDefaultGraph parseFrom(final LimitedCodedInputStream input) throws IOException {
+    return ProtoMessage.mergeFrom(newInstance(), input);
+  }
+
+  public static RdfDefaultGraph parseDelimitedFrom(final InputStream input) throws IOException {
+    return ProtoMessage.parseDelimitedFrom(input, RdfDefaultGraph.getFactory());
+  }
+
+  public static RdfDefaultGraph parseDelimitedFrom(final ByteBuffer input) throws IOException {
+    return ProtoMessage.parseDelimitedFrom(input, RdfDefaultGraph.getFactory());
+  }
+
+  /**
+   * @return factory for creating RdfDefaultGraph messages
+   */
+  public static MessageFactory<RdfDefaultGraph> getFactory() {
+    return RdfDefaultGraphFactory.INSTANCE;
+  }
+
+  private enum RdfDefaultGraphFactory implements MessageFactory<RdfDefaultGraph> {
+    INSTANCE;
+
+    @Override
+    public RdfDefaultGraph create() {
+      return RdfDefaultGraph.newInstance();
+    }
+  }
+
+  /**
+   * Mutable subclass of the parent class.
+   * You can call setters on this class to set the values.
+   * When passing the constructed message to the serializer,
+   * you should use the parent class (using .asImmutable()) to
+   * ensure the message won't be modified by accident.
+   */
+  public static final class Mutable extends RdfDefaultGraph {
+    private Mutable() {
+    }
+
+    @Override
+    public Mutable copyFrom(final RdfDefaultGraph other) {
+      invalidateSize();
+      cachedHashCode = 0;
+      unknownBytes = other.unknownBytes;
+      return this;
+    }
+
+    @Override
+    public Mutable clear() {
+      invalidateSize();
+      cachedHashCode = 0;
+      unknownBytes = ProtoBytes.EMPTY;
+      return this;
+    }
+
+    @Override
+    public Mutable mergeFrom(final RdfDefaultGraph other) {
+      invalidateSize();
+      cachedHashCode = 0;
+      unknownBytes = unknownBytes.concat(other.unknownBytes);
+      return this;
+    }
+
+    /**
+     * Parses this message like {@link #mergeFrom(LimitedCodedInputStream)}, without reporting it
+     * to the metrics of the input.
+     */
+    @SuppressWarnings("fallthrough")
+    private Mutable mergeMessageFrom(final LimitedCodedInputStream inputLimited) throws
+        IOException {
+      final long[] skippedFields = inputLimited.getSkippedFields(RdfDefaultGraph.getFactory());
+      if (skippedFields != null) {
+        return mergeProjectedFrom(inputLimited, skippedFields);
+      }
+      invalidateSize();
+      cachedHashCode = 0;
+      // Enabled Fall-Through Optimization
+      final LimitedCodedInputStream input = inputLimited;
+      int tag = input.readTag();
+      while (true) {
+        switch (tag) {
+          case 0: {
+            return this;
+          }
+          default: {
+            if (ProtoMetrics.ENABLED && inputLimited.getMetrics() != null) {
+              inputLimited.getMetrics().unknownField(this, tag);
+            }
+            final ProtoBytes unknown = ProtoMessage.readUnknownField(inputLimited, tag, unknownBytes);
+            if (unknown == null) {
+              return this;
+            }
+            unknownBytes = unknown;
+            tag = input.readTag();
+            break;
+          }
+        }
+      }
+    }
+
+    /**
+     * Parses this message like {@link #mergeFrom(LimitedCodedInputStream)}, but skips the fields
+     * in the given bit set.
+     */
+    private Mutable mergeProjectedFrom(final LimitedCodedInputStream inputLimited,
+        final long[] skippedFields) throws IOException {
+      invalidateSize();
+      cachedHashCode = 0;
+      final LimitedCodedInputStream input = inputLimited;
+      int tag = input.readTag();
+      while (true) {
+        if (ProjectionMask.isSkipped(skippedFields, tag)) {
+          if (!input.skipField(tag)) {
+            return this;
+          }
+          tag = input.readTag();
+          continue;
+        }
+        switch (tag) {
+          case 0: {
+            return this;
+          }
+          default: {
+            if (ProtoMetrics.ENABLED && inputLimited.getMetrics() != null) {
+              inputLimited.getMetrics().unknownField(this, tag);
+            }
+            final ProtoBytes unknown = ProtoMessage.readUnknownField(inputLimited, tag, unknownBytes);
+            if (unknown == null) {
+              return this;
+            }
+            unknownBytes = unknown;
+            tag = input.readTag();
+            break;
+          }
+        }
+      }
+    }
+
+    @Override
+    public Mutable mergeFrom(final LimitedCodedInputStream inputLimited) throws IOException {
+      if (ProtoMetrics.ENABLED && inputLimited.getMetrics() != null) {
+        final int start = inputLimited.getTotalBytesRead();
+        mergeMessageFrom(inputLimited);
+        final int bytes = inputLimited.getTotalBytesRead() - start;
+        inputLimited.getMetrics().messageDecoded(this, bytes, inputLimited.getRecursionDepth());
+        return this;
+      }
+      return mergeMessageFrom(inputLimited);
+    }
+
+    /**
+     * Returns this message as an immutable message, without any copies.
+     */
+    public RdfDefaultGraph asImmutable() {
+      return this;
+    }
+  }
+}
@@ -0,0 +1,750 @@
+// Code generated by NeverBlink protoc-java-fast. Do not edit!
+package eu.neverblink.jelly.core.proto.v1;
+
+import eu.neverblink.protoc.java.runtime.InvalidProtocolBufferException;
+import eu.neverblink.protoc.java.runtime.LimitedCodedInputStream;
+import eu.neverblink.protoc.java.runtime.MessageFactory;
+import eu.neverblink.protoc.java.runtime.MessageInterner;
+import eu.neverblink.protoc.java.runtime.ProjectionMask;
+import eu.neverblink.protoc.java.runtime.ProtoBytes;
+import eu.neverblink.protoc.java.runtime.ProtoMessage;
+import eu.neverblink.protoc.java.runtime.ProtoMetrics;
+import eu.neverblink.protoc.java.runtime.ProtoSink;
+import eu.neverblink.protoc.java.runtime.ProtoUtil;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Protobuf type {@code RdfGraphStart}
+ * DO NOT INHERIT FROM THIS CLASS!
+ * It's not <code>final</code> only to facilitate the Mutable nested subclass.
+ */
+@SuppressWarnings("hiding")
+public abstract class RdfGraphStart extends ProtoMessage<RdfGraphStart> implements Cloneable {
+  public static final byte G_IRI = 1;
+
+  public static final byte G_BNODE = 2;
+
+  public static final byte G_DEFAULT_GRAPH = 3;
+
+  public static final byte G_LITERAL = 4;
+
+  public static final int G_IRI_FIELD_NUMBER = 1;
+
+  public static final int G_BNODE_FIELD_NUMBER = 2;
+
+  public static final int G_DEFAULT_GRAPH_FIELD_NUMBER = 3;
+
+  public static final int G_LITERAL_FIELD_NUMBER = 4;
+
+  /**
+   * <code>oneof graph { ... }</code>
+   */
+  protected Object graph = null;
+
+  protected byte graphNumber = 0;
+
+  /**
+   * Result of {@link #hashCode()}, or 0 if it needs to be computed.
+   */
+  protected int cachedHashCode;
+
+  /**
+   * Message whose cached size includes the size of this message, or null.
+   */
+  protected ProtoMessage<?> sizeParent;
+
+  /**
+   * Whether this message was linked to more than one size parent.
+   */
+  protected boolean sizeShared;
+
+  /**
+   * Whether the cached size includes shared messages, so that it has to be computed again.
+   */
+  protected boolean sizeUntracked;
+
+  /**
+   * Fields that were not recognized while parsing, in their serialized form.
+   */
+  protected ProtoBytes unknownBytes = ProtoBytes.EMPTY;
+
+  private RdfGraphStart() {
+  }
+
+  /**
+   * @return a new empty instance of {@code Mutable}
+   */
+  public static Mutable newInstance() {
+    return new Mutable();
+  }
+
+  /**
+   * Returns the fields that were not recognized while parsing, for example fields added
+   * in a newer version of the schema. They are written back as they were read when this
+   * message is serialized.
+   *
+   * @return the unknown fields in their serialized form, including their tags
+   */
+  public ProtoBytes getUnknownBytes() {
+    return unknownBytes;
+  }
+
+  public boolean hasGraph() {
+    return graphNumber != 0;
+  }
+
+  /**
+   * Returns the <code>graph</code> oneof field.
+   */
+  public Object getGraph() {
+    switch (graphNumber) {
+      case 2: return getGBnode();
+      default: return graph;
+    }
+  }
+
+  /**
+   * Returns the set field number of the <code>graph</code> oneof field.
+   */
+  public byte getGraphFieldNumber() {
+    return graphNumber;
+  }
+
+  /**
+   * Returns the <code>graph</code> oneof field.
+   * Use with care, as it will not check if the correct field number is actually set.
+   */
+  public RdfIri getGIri() {
+    return (RdfIri) graph;
+  }
+
+  /**
+   * Checks if the <code>graph</code> oneof is set to gIri.
+   */
+  public boolean hasGIri() {
+    return graphNumber == 1;
+  }
+
+  /**
+   * Returns the <code>graph</code> oneof field.
+   * Use with care, as it will not check if the correct field number is actually set.
+   */
+  public String getGBnode() {
+    if (graph instanceof ProtoBytes) {
+      graph = ((ProtoBytes) graph).toStringUtf8();
+    }
+    return (String) graph;
+  }
+
+  /**
+   * Checks if the <code>graph</code> oneof is set to gBnode.
+   */
+  public boolean hasGBnode() {
+    return graphNumber == 2;
+  }
+
+  /**
+   * Returns the <code>graph</code> oneof field.
+   * Use with care, as it will not check if the correct field number is actually set.
+   */
+  public RdfDefaultGraph getGDefaultGraph() {
+    return (RdfDefaultGraph) graph;
+  }
+
+  /**
+   * Checks if the <code>graph</code> oneof is set to gDefaultGraph.
+   */
+  public boolean hasGDefaultGraph() {
+    return graphNumber == 3;
+  }
+
+  /**
+   * Returns the <code>graph</code> oneof field.
+   * Use with care, as it will not check if the correct field number is actually set.
+   */
+  public RdfLiteral getGLiteral() {
+    return (RdfLiteral) graph;
+  }
+
+  /**
+   * Checks if the <code>graph</code> oneof is set to gLiteral.
+   */
+  public boolean hasGLiteral() {
+    return graphNumber == 4;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (o == this) {
+      return true;
+    }
+    if (!(o instanceof RdfGraphStart)) {
+      return false;
+    }
+    RdfGraphStart other = (RdfGraphStart) o;
+    return graphNumber == other.graphNumber && (graphNumber == 0 || ProtoUtil.isEqualOneOfValue(graph, other.graph))
+      && unknownBytes.equals(other.unknownBytes);
+  }
+
+  @Override
+  public int hashCode() {
+    int _hash = cachedHashCode;
+    if (_hash == 0) {
+      _hash = 1;
+      _hash = 0x01000193 * _hash + graphNumber;
+      if (graphNumber != 0) {
+        _hash = 0x01000193 * _hash + getGraph().hashCode();
+      }
+      _hash = 0x01000193 * _hash + unknownBytes.hashCode();
+      cachedHashCode = _hash;
+    }
+    return _hash;
+  }
+
+  @Override
+  public void writeTo(final ProtoSink output) throws IOException {
+    switch (graphNumber) {
+      case 1: {
+        final var gIri = getGIri();
+        output.writeTagAndUInt32((byte) 10, gIri.getCachedSize());
+        gIri.writeTo(output);
+        break;
+      }
+      case 2: {
+        final var gBnodeUtf8 = graph instanceof ProtoBytes ? (ProtoBytes) graph : null;
+        final var gBnode = gBnodeUtf8 == null ? (String) graph : null;
+        output.writeRawByte((byte) 18);
+        if (gBnodeUtf8 != null) {
+          output.writeBytesNoTag(gBnodeUtf8);
+        } else {
+          output.writeStringNoTag(gBnode);
+        }
+        break;
+      }
+      case 3: {
+        final var gDefaultGraph = getGDefaultGraph();
+        output.writeTagAndUInt32((byte) 26, gDefaultGraph.getCachedSize());
+        gDefaultGraph.writeTo(output);
+        break;
+      }
+      case 4: {
+        final var gLiteral = getGLiteral();
+        output.writeTagAndUInt32((byte) 34, gLiteral.getCachedSize());
+        gLiteral.writeTo(output);
+        break;
+      }
+    }
+    if (!unknownBytes.isEmpty()) {
+      output.writeRawBytes(unknownBytes);
+    }
+  }
+
+  @Override
+  protected int computeSerializedSize() {
+    int size = 0;
+    switch (graphNumber) {
+      case 1: {
+        final var gIri = getGIri();
+        final int dataSize = ProtoMessage.computeNestedSize(gIri, this);
+        size += 1 + ProtoSink.computeUInt32SizeNoTag(dataSize) + dataSize;
+        break;
+      }
+      case 2: {
+        final var gBnodeUtf8 = graph instanceof ProtoBytes ? (ProtoBytes) graph : null;
+        final var gBnode = gBnodeUtf8 == null ? (String) graph : null;
+        size += 1 + (gBnodeUtf8 != null ? ProtoSink.computeBytesSizeNoTag(gBnodeUtf8) : ProtoSink.computeStringSizeNoTag(gBnode));
+        break;
+      }
+      case 3: {
+        final var gDefaultGraph = getGDefaultGraph();
+        final int dataSize = ProtoMessage.computeNestedSize(gDefaultGraph, this);
+        size += 1 + ProtoSink.computeUInt32SizeNoTag(dataSize) + dataSize;
+        break;
+      }
+      case 4: {
+        final var gLiteral = getGLiteral();
+        final int dataSize = ProtoMessage.computeNestedSize(gLiteral, this);
+        size += 1 + ProtoSink.computeUInt32SizeNoTag(dataSize) + dataSize;
+        break;
+      }
+    }
+    size += unknownBytes.size();
+    return size;
+  }
+
+  /**
+   * Returns the cached size if the message was not modified since it was computed.
+   */
+  @Override
+  public int getSerializedSize() {
+    if (cachedSize >= 0 && !sizeUntracked) {
+      return cachedSize;
+    }
+    sizeUntracked = false;
+    return super.getSerializedSize();
+  }
+
+  @Override
+  protected void invalidateSize() {
+    ProtoMessage.invalidateSizes(this);
+  }
+
+  @Override
+  protected ProtoMessage<?> getSizeParent() {
+    return sizeParent;
+  }
+
+  @Override
+  protected void setSizeParent(final ProtoMessage<?> parent) {
+    if (sizeParent != parent) {
+      if (sizeParent != null && !sizeShared) {
+        // Modifications are not tracked by the first parent anymore
+        sizeShared = true;
+        ProtoMessage.invalidateSizes(sizeParent);
+      }
+      sizeParent = parent;
+    }
+  }
+
+  @Override
+  protected boolean isSizeTracked() {
+    return !sizeShared && !sizeUntracked;
+  }
+
+  @Override
+  protected void untrackSize() {
+    sizeUntracked = true;
+  }
+
+  @Override
+  protected boolean hasOneOfMember() {
+    return graphNumber != 0;
+  }
+
+  @Override
+  public Mutable clone() {
+    return newInstance().copyFrom(this);
+  }
+
+  public static RdfGraphStart parseFrom(final byte[] data) throws InvalidProtocolBufferException {
+    return ProtoMessage.mergeFrom(newInstance(), data);
+  }
+
+  public static RdfGraphStart parseFrom(final ByteBuffer data) throws
+      InvalidProtocolBufferException {
+    return ProtoMessage.mergeFrom(newInstance(), data);
+  }
+
+  public static RdfGraphStart parseFrom(final LimitedCodedInputStream input) throws IOException {
+    return ProtoMessage.mergeFrom(newInstance(), input);
+  }
+
+  public static RdfGraphStart parseDelimitedFrom(final InputStream input) throws IOException {
+    return ProtoMessage.parseDelimitedFrom(input, RdfGraphStart.getFactory());
+  }
+
+  public static RdfGraphStart parseDelimitedFrom(final ByteBuffer input) throws IOException {
+    return ProtoMessage.parseDelimitedFrom(input, RdfGraphStart.getFactory());
+  }
+
+  /**
+   * @return factory for creating RdfGraphStart messages
+   */
+  public static MessageFactory<RdfGraphStart> getFactory() {
+    return RdfGraphStartFactory.INSTANCE;
+  }
+
+  private enum RdfGraphStartFactory implements MessageFactory<RdfGraphStart> {
+    INSTANCE;
+
+    @Override
+    public RdfGraphStart create() {
+      return RdfGraphStart.newInstance();
+    }
+  }
+
+  /**
+   * Mutable subclass of the parent class.
+   * You can call setters on this class to set the values.
+   * When passing the constructed message to the serializer,
+   * you should use the parent class (using .asImmutable()) to
+   * ensure the message won't be modified by accident.
+   */
+  public static final class Mutable extends RdfGraphStart {
+    private Mutable() {
+    }
+
+    /**
+     * Low-level setter for the <code>graph</code> oneof field.
+     * Use with care, as it will not check the type of the value.
+     */
+    public Mutable setGraph(Object graph, byte number) {
+      this.graph = graph;
+      this.graphNumber = number;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * Sets the <code>graph</code> oneof field to gIri.
+     */
+    public Mutable setGIri(RdfIri gIri) {
+      this.graph = gIri;
+      this.graphNumber = 1;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * Sets the <code>graph</code> oneof field to gBnode.
+     */
+    public Mutable setGBnode(String gBnode) {
+      this.graph = gBnode;
+      this.graphNumber = 2;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * Sets the <code>graph</code> oneof field to gDefaultGraph.
+     */
+    public Mutable setGDefaultGraph(RdfDefaultGraph gDefaultGraph) {
+      this.graph = gDefaultGraph;
+      this.graphNumber = 3;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * Sets the <code>graph</code> oneof field to gLiteral.
+     */
+    public Mutable setGLiteral(RdfLiteral gLiteral) {
+      this.graph = gLiteral;
+      this.graphNumber = 4;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    @Override
+    public Mutable copyFrom(final RdfGraphStart other) {
+      invalidateSize();
+      cachedHashCode = 0;
+      unknownBytes = other.unknownBytes;
+      switch (other.graphNumber) {
+        case 1: {
+          this.graph = ((RdfIri) other.graph).clone();
+          break;
+        }
+        case 3: {
+          this.graph = ((RdfDefaultGraph) other.graph).clone();
+          break;
+        }
+        case 4: {
+          this.graph = ((RdfLiteral) other.graph).clone();
+          break;
+        }
+        default: {
+          this.graph = other.graph;
+        }
+      }
+      this.graphNumber = other.graphNumber;
+      return this;
+    }
+
+    @Override
+    public Mutable clear() {
+      invalidateSize();
+      cachedHashCode = 0;
+      unknownBytes = ProtoBytes.EMPTY;
+      this.graphNumber = 0;
+      return this;
+    }
+
+    @Override
+    public Mutable mergeFrom(final RdfGraphStart other) {
+      invalidateSize();
+      cachedHashCode = 0;
+      unknownBytes = unknownBytes.concat(other.unknownBytes);
+      switch (other.graphNumber) {
+        case 1: {
+          this.graph = ((RdfIri) other.graph).clone();
+          break;
+        }
+        case 3: {
+          this.graph = ((RdfDefaultGraph) other.graph).clone();
+          break;
+        }
+        case 4: {
+          this.graph = ((RdfLiteral) other.graph).clone();
+          break;
+        }
+        default: {
+          this.graph = other.graph;
+        }
+      }
+      this.graphNumber = other.graphNumber;
+      return this;
+    }
+
+    /**
+     * Parses this message like {@link #mergeFrom(LimitedCodedInputStream)}, without reporting it
+     * to the metrics of the input.
+     */
+    @SuppressWarnings("fallthrough")
+    private Mutable mergeMessageFrom(final LimitedCodedInputStream inputLimited) throws
+        IOException {
+      final long[] skippedFields = inputLimited.getSkippedFields(RdfGraphStart.getFactory());
+      if (skippedFields != null) {
+        return mergeProjectedFrom(inputLimited, skippedFields);
+      }
+      invalidateSize();
+      cachedHashCode = 0;
+      // Enabled Fall-Through Optimization
+      final LimitedCodedInputStream input = inputLimited;
+      int tag = input.readTag();
+      while (true) {
+        switch (tag) {
+          case 10: {
+            // gIri
+            final MessageInterner interner = inputLimited.getInterner();
+            if (interner != null) {
+              setGIri(interner.readDelimited(graphNumber == 1 ? getGIri() : null, RdfIri.getFactory(), inputLimited));
+            } else {
+              final RdfIri gIri;
+              if (graphNumber == 1) {
+                gIri = getGIri();
+              }
+              else if (graphNumber == 0 && graph instanceof RdfIri) {
+                gIri = ((RdfIri) graph).clear();
+                setGIri(gIri);
+              }
+              else {
+                gIri = RdfIri.newInstance();
+                setGIri(gIri);
+              }
+              ProtoMessage.mergeDelimitedFrom(gIri, inputLimited);
+            }
+            tag = input.readTag();
+            if (tag != 18) {
+              break;
+            }
+          }
+          case 18: {
+            // gBnode
+            this.graph = input.readBytesRequireUtf8();
+            this.graphNumber = 2;
+            tag = input.readTag();
+            if (tag != 26) {
+              break;
+            }
+          }
+          case 26: {
+            // gDefaultGraph
+            final MessageInterner interner = inputLimited.getInterner();
+            if (interner != null) {
+              setGDefaultGraph(interner.readDelimited(graphNumber == 3 ? getGDefaultGraph() : null, RdfDefaultGraph.getFactory(), inputLimited));
+            } else {
+              final RdfDefaultGraph gDefaultGraph;
+              if (graphNumber == 3) {
+                gDefaultGraph = getGDefaultGraph();
+              }
+              else if (graphNumber == 0 && graph instanceof RdfDefaultGraph) {
+                gDefaultGraph = ((RdfDefaultGraph) graph).clear();
+                setGDefaultGraph(gDefaultGraph);
+              }
+              else {
+                gDefaultGraph = RdfDefaultGraph.newInstance();
+                setGDefaultGraph(gDefaultGraph);
+              }
+              ProtoMessage.mergeDelimitedFrom(gDefaultGraph, inputLimited);
+            }
+            tag = input.readTag();
+            if (tag != 34) {
+              break;
+            }
+          }
+          case 34: {
+            // gLiteral
+            final MessageInterner interner = inputLimited.getInterner();
+            if (interner != null) {
+              setGLiteral(interner.readDelimited(graphNumber == 4 ? getGLiteral() : null, RdfLiteral.getFactory(), inputLimited));
+            } else {
+              final RdfLiteral gLiteral;
+              if (graphNumber == 4) {
+                gLiteral = getGLiteral();
+              }
+              else if (graphNumber == 0 && graph instanceof RdfLiteral) {
+                gLiteral = ((RdfLiteral) graph).clear();
+                setGLiteral(gLiteral);
+              }
+              else {
+                gLiteral = RdfLiteral.newInstance();
+                setGLiteral(gLiteral);
+              }
+              ProtoMessage.mergeDelimitedFrom(gLiteral, inputLimited);
+            }
+            tag = input.readTag();
+            if (tag != 0) {
+              break;
+            }
+          }
+          case 0: {
+            return this;
+          }
+          default: {
+            if (ProtoMetrics.ENABLED && inputLimited.getMetrics() != null) {
+              inputLimited.getMetrics().unknownField(this, tag);
+            }
+            final ProtoBytes unknown = ProtoMessage.readUnknownField(inputLimited, tag, unknownBytes);
+            if (unknown == null) {
+              return this;
+            }
+            unknownBytes = unknown;
+            tag = input.readTag();
+            break;
+          }
+        }
+      }
+    }
+
+    /**
+     * Parses this message like {@link #mergeFrom(LimitedCodedInputStream)}, but skips the fields
+     * in the given bit set.
+     */
+    private Mutable mergeProjectedFrom(final LimitedCodedInputStream inputLimited,
+        final long[] skippedFields) throws IOException {
+      invalidateSize();
+      cachedHashCode = 0;
+      final LimitedCodedInputStream input = inputLimited;
+      int tag = input.readTag();
+      while (true) {
+        if (ProjectionMask.isSkipped(skippedFields, tag)) {
+          if (!input.skipField(tag)) {
+            return this;
+          }
+          tag = input.readTag();
+          continue;
+        }
+        switch (tag) {
+          case 10: {
+            // gIri
+            final MessageInterner interner = inputLimited.getInterner();
+            if (interner != null) {
+              setGIri(interner.readDelimited(graphNumber == 1 ? getGIri() : null, RdfIri.getFactory(), inputLimited));
+            } else {
+              final RdfIri gIri;
+              if (graphNumber == 1) {
+                gIri = getGIri();
+              }
+              else if (graphNumber == 0 && graph instanceof RdfIri) {
+                gIri = ((RdfIri) graph).clear();
+                setGIri(gIri);
+              }
+              else {
+                gIri = RdfIri.newInstance();
+                setGIri(gIri);
+              }
+              ProtoMessage.mergeDelimitedFrom(gIri, inputLimited);
+            }
+            tag = input.readTag();
+            break;
+          }
+          case 18: {
+            // gBnode
+            this.graph = input.readBytesRequireUtf8();
+            this.graphNumber = 2;
+            tag = input.readTag();
+            break;
+          }
+          case 26: {
+            // gDefaultGraph
+            final MessageInterner interner = inputLimited.getInterner();
+            if (interner != null) {
+              setGDefaultGraph(interner.readDelimited(graphNumber == 3 ? getGDefaultGraph() : null, RdfDefaultGraph.getFactory(), inputLimited));
+            } else {
+              final RdfDefaultGraph gDefaultGraph;
+              if (graphNumber == 3) {
+                gDefaultGraph = getGDefaultGraph();
+              }
+              else if (graphNumber == 0 && graph instanceof RdfDefaultGraph) {
+                gDefaultGraph = ((RdfDefaultGraph) graph).clear();
+                setGDefaultGraph(gDefaultGraph);
+              }
+              else {
+                gDefaultGraph = RdfDefaultGraph.newInstance();
+                setGDefaultGraph(gDefaultGraph);
+              }
+              ProtoMessage.mergeDelimitedFrom(gDefaultGraph, inputLimited);
+            }
+            tag = input.readTag();
+            break;
+          }
+          case 34: {
+            // gLiteral
+            final MessageInterner interner = inputLimited.getInterner();
+            if (interner != null) {
+              setGLiteral(interner.readDelimited(graphNumber == 4 ? getGLiteral() : null, RdfLiteral.getFactory(), inputLimited));
+            } else {
+              final RdfLiteral gLiteral;
+              if (graphNumber == 4) {
+                gLiteral = getGLiteral();
+              }
+              else if (graphNumber == 0 && graph instanceof RdfLiteral) {
+                gLiteral = ((RdfLiteral) graph).clear();
+                setGLiteral(gLiteral);
+              }
+              else {
+                gLiteral = RdfLiteral.newInstance();
+                setGLiteral(gLiteral);
+              }
+              ProtoMessage.mergeDelimitedFrom(gLiteral, inputLimited);
+            }
+            tag = input.readTag();
+            break;
+          }
+          case 0: {
+            return this;
+          }
+          default: {
+            if (ProtoMetrics.ENABLED && inputLimited.getMetrics() != null) {
+              inputLimited.getMetrics().unknownField(this, tag);
+            }
+            final ProtoBytes unknown = ProtoMessage.readUnknownField(inputLimited, tag, unknownBytes);
+            if (unknown == null) {
+              return this;
+            }
+            unknownBytes = unknown;
+            tag = input.readTag();
+            break;
+          }
+        }
+      }
+    }
+
+    @Override
+    public Mutable mergeFrom(final LimitedCodedInputStream inputLimited) throws IOException {
+      if (ProtoMetrics.ENABLED && inputLimited.getMetrics() != null) {
+        final int start = inputLimited.getTotalBytesRead();
+        mergeMessageFrom(inputLimited);
+        final int bytes = inputLimited.getTotalBytesRead() - start;
+        inputLimited.getMetrics().messageDecoded(this, bytes, inputLimited.getRecursionDepth());
+        return this;
+      }
+      return mergeMessageFrom(inputLimited);
+    }
+
+    /**
+     * Returns this message as an immutable message, without any copies.
+     */
+    public RdfGraphStart asImmutable() {
+      return this;
+    }
+  }
+}
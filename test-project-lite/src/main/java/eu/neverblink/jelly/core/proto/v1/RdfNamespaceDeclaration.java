@@ -0,0 +1,493 @@
+// Code generated by NeverBlink protoc-java-fast. Do not edit!
+package eu.neverblink.jelly.core.proto.v1;
+
+import eu.neverblink.protoc.java.runtime.InvalidProtocolBufferException;
+import eu.neverblink.protoc.java.runtime.LimitedCodedInputStream;
+import eu.neverblink.protoc.java.runtime.MessageFactory;
+import eu.neverblink.protoc.java.runtime.ProjectionMask;
+import eu.neverblink.protoc.java.runtime.ProtoBytes;
+import eu.neverblink.protoc.java.runtime.ProtoMessage;
+import eu.neverblink.protoc.java.runtime.ProtoMetrics;
+import eu.neverblink.protoc.java.runtime.ProtoSink;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Protobuf type {@code RdfNamespaceDeclaration}
+ * DO NOT INHERIT FROM THIS CLASS!
+ * It's not <code>final</code> only to facilitate the Mutable nested subclass.
+ */
+@SuppressWarnings("hiding")
+public abstract class RdfNamespaceDeclaration extends ProtoMessage<RdfNamespaceDeclaration> implements Cloneable {
+  public static final int NAME_FIELD_NUMBER = 1;
+
+  public static final int VALUE__FIELD_NUMBER = 2;
+
+  /**
+   * <code>optional string name = 1;</code>
+   */
+  protected String name = "";
+
+  /**
+   * Raw UTF-8 bytes of {@code name} as read from the wire, or null if the value was set
+   * as a String. While this is set, {@code name} is null until it is first decoded.
+   */
+  protected ProtoBytes nameUtf8 = null;
+
+  /**
+   * <code>optional .eu.ostrzyciel.jelly.core.proto.v1.RdfIri value = 2;</code>
+   */
+  protected RdfIri value_ = null;
+
+  /**
+   * Result of {@link #hashCode()}, or 0 if it needs to be computed.
+   */
+  protected int cachedHashCode;
+
+  /**
+   * Message whose cached size includes the size of this message, or null.
+   */
+  protected ProtoMessage<?> sizeParent;
+
+  /**
+   * Whether this message was linked to more than one size parent.
+   */
+  protected boolean sizeShared;
+
+  /**
+   * Whether the cached size includes shared messages, so that it has to be computed again.
+   */
+  protected boolean sizeUntracked;
+
+  /**
+   * Fields that were not recognized while parsing, in their serialized form.
+   */
+  protected ProtoBytes unknownBytes = ProtoBytes.EMPTY;
+
+  private RdfNamespaceDeclaration() {
+  }
+
+  /**
+   * @return a new empty instance of {@code Mutable}
+   */
+  public static Mutable newInstance() {
+    return new Mutable();
+  }
+
+  /**
+   * Returns the fields that were not recognized while parsing, for example fields added
+   * in a newer version of the schema. They are written back as they were read when this
+   * message is serialized.
+   *
+   * @return the unknown fields in their serialized form, including their tags
+   */
+  public ProtoBytes getUnknownBytes() {
+    return unknownBytes;
+  }
+
+  /**
+   * <code>optional string name = 1;</code>
+   * @return the name
+   */
+  public String getName() {
+    if (name == null) {
+      name = nameUtf8.toStringUtf8();
+    }
+    return name;
+  }
+
+  /**
+   * <code>optional string name = 1;</code>
+   * Returns the UTF-8 encoding of this field without decoding it.
+   * @return the UTF-8 encoded name
+   */
+  public ProtoBytes getNameUtf8() {
+    if (nameUtf8 == null) {
+      nameUtf8 = ProtoBytes.copyFromUtf8(name);
+    }
+    return nameUtf8;
+  }
+
+  /**
+   * <code>optional .eu.ostrzyciel.jelly.core.proto.v1.RdfIri value = 2;</code>
+   *
+   * @return value for this field
+   */
+  public RdfIri getValue() {
+    return value_;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (o == this) {
+      return true;
+    }
+    if (!(o instanceof RdfNamespaceDeclaration)) {
+      return false;
+    }
+    RdfNamespaceDeclaration other = (RdfNamespaceDeclaration) o;
+    return (nameUtf8 != null && other.nameUtf8 != null ? nameUtf8.equals(other.nameUtf8) : getName().equals(other.getName()))
+      && value_.equals(other.value_)
+      && unknownBytes.equals(other.unknownBytes);
+  }
+
+  @Override
+  public int hashCode() {
+    int _hash = cachedHashCode;
+    if (_hash == 0) {
+      _hash = 1;
+      _hash = 0x01000193 * _hash + getNameUtf8().hashCode();
+      _hash = 0x01000193 * _hash + (value_ == null ? 0 : value_.hashCode());
+      _hash = 0x01000193 * _hash + unknownBytes.hashCode();
+      cachedHashCode = _hash;
+    }
+    return _hash;
+  }
+
+  @Override
+  public void writeTo(final ProtoSink output) throws IOException {
+    if ((nameUtf8 != null ? !nameUtf8.isEmpty() : !name.isEmpty())) {
+      output.writeRawByte((byte) 10);
+      if (nameUtf8 != null) {
+        output.writeBytesNoTag(nameUtf8);
+      } else {
+        output.writeStringNoTag(name);
+      }
+    }
+    if (value_ != null) {
+      output.writeTagAndUInt32((byte) 18, value_.getCachedSize());
+      value_.writeTo(output);
+    }
+    if (!unknownBytes.isEmpty()) {
+      output.writeRawBytes(unknownBytes);
+    }
+  }
+
+  @Override
+  protected int computeSerializedSize() {
+    int size = 0;
+    if ((nameUtf8 != null ? !nameUtf8.isEmpty() : !name.isEmpty())) {
+      size += 1 + (nameUtf8 != null ? ProtoSink.computeBytesSizeNoTag(nameUtf8) : ProtoSink.computeStringSizeNoTag(name));
+    }
+    if (value_ != null) {
+      final int dataSize = ProtoMessage.computeNestedSize(value_, this);
+      size += 1 + ProtoSink.computeUInt32SizeNoTag(dataSize) + dataSize;
+    }
+    size += unknownBytes.size();
+    return size;
+  }
+
+  /**
+   * Returns the cached size if the message was not modified since it was computed.
+   */
+  @Override
+  public int getSerializedSize() {
+    if (cachedSize >= 0 && !sizeUntracked) {
+      return cachedSize;
+    }
+    sizeUntracked = false;
+    return super.getSerializedSize();
+  }
+
+  @Override
+  protected void invalidateSize() {
+    ProtoMessage.invalidateSizes(this);
+  }
+
+  @Override
+  protected ProtoMessage<?> getSizeParent() {
+    return sizeParent;
+  }
+
+  @Override
+  protected void setSizeParent(final ProtoMessage<?> parent) {
+    if (sizeParent != parent) {
+      if (sizeParent != null && !sizeShared) {
+        // Modifications are not tracked by the first parent anymore
+        sizeShared = true;
+        ProtoMessage.invalidateSizes(sizeParent);
+      }
+      sizeParent = parent;
+    }
+  }
+
+  @Override
+  protected boolean isSizeTracked() {
+    return !sizeShared && !sizeUntracked;
+  }
+
+  @Override
+  protected void untrackSize() {
+    sizeUntracked = true;
+  }
+
+  @Override
+  public Mutable clone() {
+    return newInstance().copyFrom(this);
+  }
+
+  public static RdfNamespaceDeclaration parseFrom(final byte[] data) throws
+      InvalidProtocolBufferException {
+    return ProtoMessage.mergeFrom(newInstance(), data);
+  }
+
+  public static RdfNamespaceDeclaration parseFrom(final ByteBuffer data) throws
+      InvalidProtocolBufferException {
+    return ProtoMessage.mergeFrom(newInstance(), data);
+  }
+
+  public static RdfNamespaceDeclaration parseFrom(final LimitedCodedInputStream input) throws
+      IOException {
+    return ProtoMessage.mergeFrom(newInstance(), input);
+  }
+
+  public static RdfNamespaceDeclaration parseDelimitedFrom(final InputStream input) throws
+      IOException {
+    return ProtoMessage.parseDelimitedFrom(input, RdfNamespaceDeclaration.getFactory());
+  }
+
+  public static RdfNamespaceDeclaration parseDelimitedFrom(final ByteBuffer input) throws
+      IOException {
+    return ProtoMessage.parseDelimitedFrom(input, RdfNamespaceDeclaration.getFactory());
+  }
+
+  /**
+   * @return factory for creating RdfNamespaceDeclaration messages
+   */
+  public static MessageFactory<RdfNamespaceDeclaration> getFactory() {
+    return RdfNamespaceDeclarationFactory.INSTANCE;
+  }
+
+  private enum RdfNamespaceDeclarationFactory implements MessageFactory<RdfNamespaceDeclaration> {
+    INSTANCE;
+
+    @Override
+    public RdfNamespaceDeclaration create() {
+      return RdfNamespaceDeclaration.newInstance();
+    }
+  }
+
+  /**
+   * Mutable subclass of the parent class.
+   * You can call setters on this class to set the values.
+   * When passing the constructed message to the serializer,
+   * you should use the parent class (using .asImmutable()) to
+   * ensure the message won't be modified by accident.
+   */
+  public static final class Mutable extends RdfNamespaceDeclaration {
+    private Mutable() {
+    }
+
+    /**
+     * <code>optional string name = 1;</code>
+     * @param value the name to set
+     * @return this
+     */
+    public Mutable setName(final String value) {
+      name = value;
+      nameUtf8 = null;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * <code>optional string name = 1;</code>
+     * Sets the raw UTF-8 bytes of this field. They are validated here and only decoded
+     * when the field is read as a String.
+     * @param value the UTF-8 encoded name to set
+     * @return this
+     * @throws IllegalArgumentException if the bytes are not valid UTF-8
+     */
+    public Mutable setNameUtf8(final ProtoBytes value) {
+      if (!value.isValidUtf8()) {
+        throw new IllegalArgumentException("Byte string is not UTF-8.");
+      }
+      nameUtf8 = value;
+      name = null;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    private void initValue() {
+      if (value_ == null) {
+        value_ = RdfIri.newInstance();
+      }
+    }
+
+    /**
+     * <code>optional .eu.ostrzyciel.jelly.core.proto.v1.RdfIri value = 2;</code>
+     * @param value the value_ to set
+     * @return this
+     */
+    public Mutable setValue(final RdfIri value) {
+      initValue();
+      value_.copyFrom(value);
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    @Override
+    public Mutable copyFrom(final RdfNamespaceDeclaration other) {
+      invalidateSize();
+      cachedHashCode = 0;
+      unknownBytes = other.unknownBytes;
+      name = other.name;
+      nameUtf8 = other.nameUtf8;
+      initValue();
+      value_.copyFrom(other.value_);
+      return this;
+    }
+
+    @Override
+    public Mutable clear() {
+      invalidateSize();
+      cachedHashCode = 0;
+      unknownBytes = ProtoBytes.EMPTY;
+      name = "";
+      nameUtf8 = null;
+      value_ = null;
+      return this;
+    }
+
+    @Override
+    public Mutable mergeFrom(final RdfNamespaceDeclaration other) {
+      invalidateSize();
+      cachedHashCode = 0;
+      unknownBytes = unknownBytes.concat(other.unknownBytes);
+      name = other.name;
+      nameUtf8 = other.nameUtf8;
+      getValue().mergeFrom(other.value_);
+      return this;
+    }
+
+    /**
+     * Parses this message like {@link #mergeFrom(LimitedCodedInputStream)}, without reporting it
+     * to the metrics of the input.
+     */
+    @SuppressWarnings("fallthrough")
+    private Mutable mergeMessageFrom(final LimitedCodedInputStream inputLimited) throws
+        IOException {
+      final long[] skippedFields = inputLimited.getSkippedFields(RdfNamespaceDeclaration.getFactory());
+      if (skippedFields != null) {
+        return mergeProjectedFrom(inputLimited, skippedFields);
+      }
+      invalidateSize();
+      cachedHashCode = 0;
+      // Enabled Fall-Through Optimization
+      final LimitedCodedInputStream input = inputLimited;
+      int tag = input.readTag();
+      while (true) {
+        switch (tag) {
+          case 10: {
+            // name
+            nameUtf8 = input.readBytesRequireUtf8();
+            name = null;
+            tag = input.readTag();
+            if (tag != 18) {
+              break;
+            }
+          }
+          case 18: {
+            // value_
+            initValue();
+            ProtoMessage.mergeDelimitedFrom(value_, inputLimited);
+            tag = input.readTag();
+            if (tag != 0) {
+              break;
+            }
+          }
+          case 0: {
+            return this;
+          }
+          default: {
+            if (ProtoMetrics.ENABLED && inputLimited.getMetrics() != null) {
+              inputLimited.getMetrics().unknownField(this, tag);
+            }
+            final ProtoBytes unknown = ProtoMessage.readUnknownField(inputLimited, tag, unknownBytes);
+            if (unknown == null) {
+              return this;
+            }
+            unknownBytes = unknown;
+            tag = input.readTag();
+            break;
+          }
+        }
+      }
+    }
+
+    /**
+     * Parses this message like {@link #mergeFrom(LimitedCodedInputStream)}, but skips the fields
+     * in the given bit set.
+     */
+    private Mutable mergeProjectedFrom(final LimitedCodedInputStream inputLimited,
+        final long[] skippedFields) throws IOException {
+      invalidateSize();
+      cachedHashCode = 0;
+      final LimitedCodedInputStream input = inputLimited;
+      int tag = input.readTag();
+      while (true) {
+        if (ProjectionMask.isSkipped(skippedFields, tag)) {
+          if (!input.skipField(tag)) {
+            return this;
+          }
+          tag = input.readTag();
+          continue;
+        }
+        switch (tag) {
+          case 10: {
+            // name
+            nameUtf8 = input.readBytesRequireUtf8();
+            name = null;
+            tag = input.readTag();
+            break;
+          }
+          case 18: {
+            // value_
+            initValue();
+            ProtoMessage.mergeDelimitedFrom(value_, inputLimited);
+            tag = input.readTag();
+            break;
+          }
+          case 0: {
+            return this;
+          }
+          default: {
+            if (ProtoMetrics.ENABLED && inputLimited.getMetrics() != null) {
+              inputLimited.getMetrics().unknownField(this, tag);
+            }
+            final ProtoBytes unknown = ProtoMessage.readUnknownField(inputLimited, tag, unknownBytes);
+            if (unknown == null) {
+              return this;
+            }
+            unknownBytes = unknown;
+            tag = input.readTag();
+            break;
+          }
+        }
+      }
+    }
+
+    @Override
+    public Mutable mergeFrom(final LimitedCodedInputStream inputLimited) throws IOException {
+      if (ProtoMetrics.ENABLED && inputLimited.getMetrics() != null) {
+        final int start = inputLimited.getTotalBytesRead();
+        mergeMessageFrom(inputLimited);
+        final int bytes = inputLimited.getTotalBytesRead() - start;
+        inputLimited.getMetrics().messageDecoded(this, bytes, inputLimited.getRecursionDepth());
+        return this;
+      }
+      return mergeMessageFrom(inputLimited);
+    }
+
+    /**
+     * Returns this message as an immutable message, without any copies.
+     */
+    public RdfNamespaceDeclaration asImmutable() {
+      return this;
+    }
+  }
+}
@@ -0,0 +1,1987 @@
+// Code generated by NeverBlink protoc-java-fast. Do not edit!
+package eu.neverblink.jelly.core.proto.v1;
+
+import eu.neverblink.protoc.java.runtime.InvalidProtocolBufferException;
+import eu.neverblink.protoc.java.runtime.LimitedCodedInputStream;
+import eu.neverblink.protoc.java.runtime.MessageFactory;
+import eu.neverblink.protoc.java.runtime.MessageInterner;
+import eu.neverblink.protoc.java.runtime.ProjectionMask;
+import eu.neverblink.protoc.java.runtime.ProtoBytes;
+import eu.neverblink.protoc.java.runtime.ProtoMessage;
+import eu.neverblink.protoc.java.runtime.ProtoMetrics;
+import eu.neverblink.protoc.java.runtime.ProtoSink;
+import eu.neverblink.protoc.java.runtime.ProtoUtil;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Protobuf type {@code RdfQuad}
+ * DO NOT INHERIT FROM THIS CLASS!
+ * It's not <code>final</code> only to facilitate the Mutable nested subclass.
+ */
+@SuppressWarnings("hiding")
+public abstract class RdfQuad extends ProtoMessage<RdfQuad> implements Cloneable {
+  public static final byte S_IRI = 1;
+
+  public static final byte S_BNODE = 2;
+
+  public static final byte S_LITERAL = 3;
+
+  public static final byte S_TRIPLE_TERM = 4;
+
+  public static final byte P_IRI = 5;
+
+  public static final byte P_BNODE = 6;
+
+  public static final byte P_LITERAL = 7;
+
+  public static final byte P_TRIPLE_TERM = 8;
+
+  public static final byte O_IRI = 9;
+
+  public static final byte O_BNODE = 10;
+
+  public static final byte O_LITERAL = 11;
+
+  public static final byte O_TRIPLE_TERM = 12;
+
+  public static final byte G_IRI = 13;
+
+  public static final byte G_BNODE = 14;
+
+  public static final byte G_DEFAULT_GRAPH = 15;
+
+  public static final byte G_LITERAL = 16;
+
+  public static final int S_IRI_FIELD_NUMBER = 1;
+
+  public static final int S_BNODE_FIELD_NUMBER = 2;
+
+  public static final int S_LITERAL_FIELD_NUMBER = 3;
+
+  public static final int S_TRIPLE_TERM_FIELD_NUMBER = 4;
+
+  public static final int P_IRI_FIELD_NUMBER = 5;
+
+  public static final int P_BNODE_FIELD_NUMBER = 6;
+
+  public static final int P_LITERAL_FIELD_NUMBER = 7;
+
+  public static final int P_TRIPLE_TERM_FIELD_NUMBER = 8;
+
+  public static final int O_IRI_FIELD_NUMBER = 9;
+
+  public static final int O_BNODE_FIELD_NUMBER = 10;
+
+  public static final int O_LITERAL_FIELD_NUMBER = 11;
+
+  public static final int O_TRIPLE_TERM_FIELD_NUMBER = 12;
+
+  public static final int G_IRI_FIELD_NUMBER = 13;
+
+  public static final int G_BNODE_FIELD_NUMBER = 14;
+
+  public static final int G_DEFAULT_GRAPH_FIELD_NUMBER = 15;
+
+  public static final int G_LITERAL_FIELD_NUMBER = 16;
+
+  /**
+   * <code>oneof subject { ... }</code>
+   */
+  protected Object subject = null;
+
+  protected byte subjectNumber = 0;
+
+  /**
+   * <code>oneof predicate { ... }</code>
+   */
+  protected Object predicate = null;
+
+  protected byte predicateNumber = 0;
+
+  /**
+   * <code>oneof object { ... }</code>
+   */
+  protected Object object = null;
+
+  protected byte objectNumber = 0;
+
+  /**
+   * <code>oneof graph { ... }</code>
+   */
+  protected Object graph = null;
+
+  protected byte graphNumber = 0;
+
+  /**
+   * Result of {@link #hashCode()}, or 0 if it needs to be computed.
+   */
+  protected int cachedHashCode;
+
+  /**
+   * Message whose cached size includes the size of this message, or null.
+   */
+  protected ProtoMessage<?> sizeParent;
+
+  /**
+   * Whether this message was linked to more than one size parent.
+   */
+  protected boolean sizeShared;
+
+  /**
+   * Whether the cached size includes shared messages, so that it has to be computed again.
+   */
+  protected boolean sizeUntracked;
+
+  /**
+   * Fields that were not recognized while parsing, in their serialized form.
+   */
+  protected ProtoBytes unknownBytes = ProtoBytes.EMPTY;
+
+  private RdfQuad() {
+  }
+
+  /**
+   * @return a new empty instance of {@code Mutable}
+   */
+  public static Mutable newInstance() {
+    return new Mutable();
+  }
+
+  /**
+   * Returns the fields that were not recognized while parsing, for example fields added
+   * in a newer version of the schema. They are written back as they were read when this
+   * message is serialized.
+   *
+   * @return the unknown fields in their serialized form, including their tags
+   */
+  public ProtoBytes getUnknownBytes() {
+    return unknownBytes;
+  }
+
+  public boolean hasSubject() {
+    return subjectNumber != 0;
+  }
+
+  /**
+   * Returns the <code>subject</code> oneof field.
+   */
+  public Object getSubject() {
+    switch (subjectNumber) {
+      case 2: return getSBnode();
+      default: return subject;
+    }
+  }
+
+  /**
+   * Returns the set field number of the <code>subject</code> oneof field.
+   */
+  public byte getSubjectFieldNumber() {
+    return subjectNumber;
+  }
+
+  /**
+   * Returns the <code>subject</code> oneof field.
+   * Use with care, as it will not check if the correct field number is actually set.
+   */
+  public RdfIri getSIri() {
+    return (RdfIri) subject;
+  }
+
+  /**
+   * Checks if the <code>subject</code> oneof is set to sIri.
+   */
+  public boolean hasSIri() {
+    return subjectNumber == 1;
+  }
+
+  /**
+   * Returns the <code>subject</code> oneof field.
+   * Use with care, as it will not check if the correct field number is actually set.
+   */
+  public String getSBnode() {
+    if (subject instanceof ProtoBytes) {
+      subject = ((ProtoBytes) subject).toStringUtf8();
+    }
+    return (String) subject;
+  }
+
+  /**
+   * Checks if the <code>subject</code> oneof is set to sBnode.
+   */
+  public boolean hasSBnode() {
+    return subjectNumber == 2;
+  }
+
+  /**
+   * Returns the <code>subject</code> oneof field.
+   * Use with care, as it will not check if the correct field number is actually set.
+   */
+  public RdfLiteral getSLiteral() {
+    return (RdfLiteral) subject;
+  }
+
+  /**
+   * Checks if the <code>subject</code> oneof is set to sLiteral.
+   */
+  public boolean hasSLiteral() {
+    return subjectNumber == 3;
+  }
+
+  /**
+   * Returns the <code>subject</code> oneof field.
+   * Use with care, as it will not check if the correct field number is actually set.
+   */
+  public RdfTriple getSTripleTerm() {
+    return (RdfTriple) subject;
+  }
+
+  /**
+   * Checks if the <code>subject</code> oneof is set to sTripleTerm.
+   */
+  public boolean hasSTripleTerm() {
+    return subjectNumber == 4;
+  }
+
+  public boolean hasPredicate() {
+    return predicateNumber != 0;
+  }
+
+  /**
+   * Returns the <code>predicate</code> oneof field.
+   */
+  public Object getPredicate() {
+    switch (predicateNumber) {
+      case 6: return getPBnode();
+      default: return predicate;
+    }
+  }
+
+  /**
+   * Returns the set field number of the <code>predicate</code> oneof field.
+   */
+  public byte getPredicateFieldNumber() {
+    return predicateNumber;
+  }
+
+  /**
+   * Returns the <code>predicate</code> oneof field.
+   * Use with care, as it will not check if the correct field number is actually set.
+   */
+  public RdfIri getPIri() {
+    return (RdfIri) predicate;
+  }
+
+  /**
+   * Checks if the <code>predicate</code> oneof is set to pIri.
+   */
+  public boolean hasPIri() {
+    return predicateNumber == 5;
+  }
+
+  /**
+   * Returns the <code>predicate</code> oneof field.
+   * Use with care, as it will not check if the correct field number is actually set.
+   */
+  public String getPBnode() {
+    if (predicate instanceof ProtoBytes) {
+      predicate = ((ProtoBytes) predicate).toStringUtf8();
+    }
+    return (String) predicate;
+  }
+
+  /**
+   * Checks if the <code>predicate</code> oneof is set to pBnode.
+   */
+  public boolean hasPBnode() {
+    return predicateNumber == 6;
+  }
+
+  /**
+   * Returns the <code>predicate</code> oneof field.
+   * Use with care, as it will not check if the correct field number is actually set.
+   */
+  public RdfLiteral getPLiteral() {
+    return (RdfLiteral) predicate;
+  }
+
+  /**
+   * Checks if the <code>predicate</code> oneof is set to pLiteral.
+   */
+  public boolean hasPLiteral() {
+    return predicateNumber == 7;
+  }
+
+  /**
+   * Returns the <code>predicate</code> oneof field.
+   * Use with care, as it will not check if the correct field number is actually set.
+   */
+  public RdfTriple getPTripleTerm() {
+    return (RdfTriple) predicate;
+  }
+
+  /**
+   * Checks if the <code>predicate</code> oneof is set to pTripleTerm.
+   */
+  public boolean hasPTripleTerm() {
+    return predicateNumber == 8;
+  }
+
+  public boolean hasObject() {
+    return objectNumber != 0;
+  }
+
+  /**
+   * Returns the <code>object</code> oneof field.
+   */
+  public Object getObject() {
+    switch (objectNumber) {
+      case 10: return getOBnode();
+      default: return object;
+    }
+  }
+
+  /**
+   * Returns the set field number of the <code>object</code> oneof field.
+   */
+  public byte getObjectFieldNumber() {
+    return objectNumber;
+  }
+
+  /**
+   * Returns the <code>object</code> oneof field.
+   * Use with care, as it will not check if the correct field number is actually set.
+   */
+  public RdfIri getOIri() {
+    return (RdfIri) object;
+  }
+
+  /**
+   * Checks if the <code>object</code> oneof is set to oIri.
+   */
+  public boolean hasOIri() {
+    return objectNumber == 9;
+  }
+
+  /**
+   * Returns the <code>object</code> oneof field.
+   * Use with care, as it will not check if the correct field number is actually set.
+   */
+  public String getOBnode() {
+    if (object instanceof ProtoBytes) {
+      object = ((ProtoBytes) object).toStringUtf8();
+    }
+    return (String) object;
+  }
+
+  /**
+   * Checks if the <code>object</code> oneof is set to oBnode.
+   */
+  public boolean hasOBnode() {
+    return objectNumber == 10;
+  }
+
+  /**
+   * Returns the <code>object</code> oneof field.
+   * Use with care, as it will not check if the correct field number is actually set.
+   */
+  public RdfLiteral getOLiteral() {
+    return (RdfLiteral) object;
+  }
+
+  /**
+   * Checks if the <code>object</code> oneof is set to oLiteral.
+   */
+  public boolean hasOLiteral() {
+    return objectNumber == 11;
+  }
+
+  /**
+   * Returns the <code>object</code> oneof field.
+   * Use with care, as it will not check if the correct field number is actually set.
+   */
+  public RdfTriple getOTripleTerm() {
+    return (RdfTriple) object;
+  }
+
+  /**
+   * Checks if the <code>object</code> oneof is set to oTripleTerm.
+   */
+  public boolean hasOTripleTerm() {
+    return objectNumber == 12;
+  }
+
+  public boolean hasGraph() {
+    return graphNumber != 0;
+  }
+
+  /**
+   * Returns the <code>graph</code> oneof field.
+   */
+  public Object getGraph() {
+    switch (graphNumber) {
+      case 14: return getGBnode();
+      default: return graph;
+    }
+  }
+
+  /**
+   * Returns the set field number of the <code>graph</code> oneof field.
+   */
+  public byte getGraphFieldNumber() {
+    return graphNumber;
+  }
+
+  /**
+   * Returns the <code>graph</code> oneof field.
+   * Use with care, as it will not check if the correct field number is actually set.
+   */
+  public RdfIri getGIri() {
+    return (RdfIri) graph;
+  }
+
+  /**
+   * Checks if the <code>graph</code> oneof is set to gIri.
+   */
+  public boolean hasGIri() {
+    return graphNumber == 13;
+  }
+
+  /**
+   * Returns the <code>graph</code> oneof field.
+   * Use with care, as it will not check if the correct field number is actually set.
+   */
+  public String getGBnode() {
+    if (graph instanceof ProtoBytes) {
+      graph = ((ProtoBytes) graph).toStringUtf8();
+    }
+    return (String) graph;
+  }
+
+  /**
+   * Checks if the <code>graph</code> oneof is set to gBnode.
+   */
+  public boolean hasGBnode() {
+    return graphNumber == 14;
+  }
+
+  /**
+   * Returns the <code>graph</code> oneof field.
+   * Use with care, as it will not check if the correct field number is actually set.
+   */
+  public RdfDefaultGraph getGDefaultGraph() {
+    return (RdfDefaultGraph) graph;
+  }
+
+  /**
+   * Checks if the <code>graph</code> oneof is set to gDefaultGraph.
+   */
+  public boolean hasGDefaultGraph() {
+    return graphNumber == 15;
+  }
+
+  /**
+   * Returns the <code>graph</code> oneof field.
+   * Use with care, as it will not check if the correct field number is actually set.
+   */
+  public RdfLiteral getGLiteral() {
+    return (RdfLiteral) graph;
+  }
+
+  /**
+   * Checks if the <code>graph</code> oneof is set to gLiteral.
+   */
+  public boolean hasGLiteral() {
+    return graphNumber == 16;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (o == this) {
+      return true;
+    }
+    if (!(o instanceof RdfQuad)) {
+      return false;
+    }
+    RdfQuad other = (RdfQuad) o;
+    return subjectNumber == other.subjectNumber && (subjectNumber == 0 || ProtoUtil.isEqualOneOfValue(subject, other.subject))
+      && predicateNumber == other.predicateNumber && (predicateNumber == 0 || ProtoUtil.isEqualOneOfValue(predicate, other.predicate))
+      && objectNumber == other.objectNumber && (objectNumber == 0 || ProtoUtil.isEqualOneOfValue(object, other.object))
+      && graphNumber == other.graphNumber && (graphNumber == 0 || ProtoUtil.isEqualOneOfValue(graph, other.graph))
+      && unknownBytes.equals(other.unknownBytes);
+  }
+
+  @Override
+  public int hashCode() {
+    int _hash = cachedHashCode;
+    if (_hash == 0) {
+      _hash = 1;
+      _hash = 0x01000193 * _hash + subjectNumber;
+      if (subjectNumber != 0) {
+        _hash = 0x01000193 * _hash + getSubject().hashCode();
+      }
+      _hash = 0x01000193 * _hash + predicateNumber;
+      if (predicateNumber != 0) {
+        _hash = 0x01000193 * _hash + getPredicate().hashCode();
+      }
+      _hash = 0x01000193 * _hash + objectNumber;
+      if (objectNumber != 0) {
+        _hash = 0x01000193 * _hash + getObject().hashCode();
+      }
+      _hash = 0x01000193 * _hash + graphNumber;
+      if (graphNumber != 0) {
+        _hash = 0x01000193 * _hash + getGraph().hashCode();
+      }
+      _hash = 0x01000193 * _hash + unknownBytes.hashCode();
+      cachedHashCode = _hash;
+    }
+    return _hash;
+  }
+
+  @Override
+  public void writeTo(final ProtoSink output) throws IOException {
+    switch (subjectNumber) {
+      case 1: {
+        final var sIri = getSIri();
+        output.writeTagAndUInt32((byte) 10, sIri.getCachedSize());
+        sIri.writeTo(output);
+        break;
+      }
+      case 2: {
+        final var sBnodeUtf8 = subject instanceof ProtoBytes ? (ProtoBytes) subject : null;
+        final var sBnode = sBnodeUtf8 == null ? (String) subject : null;
+        output.writeRawByte((byte) 18);
+        if (sBnodeUtf8 != null) {
+          output.writeBytesNoTag(sBnodeUtf8);
+        } else {
+          output.writeStringNoTag(sBnode);
+        }
+        break;
+      }
+      case 3: {
+        final var sLiteral = getSLiteral();
+        output.writeTagAndUInt32((byte) 26, sLiteral.getCachedSize());
+        sLiteral.writeTo(output);
+        break;
+      }
+      case 4: {
+        final var sTripleTerm = getSTripleTerm();
+        output.writeTagAndUInt32((byte) 34, sTripleTerm.getCachedSize());
+        sTripleTerm.writeTo(output);
+        break;
+      }
+    }
+    switch (predicateNumber) {
+      case 5: {
+        final var pIri = getPIri();
+        output.writeTagAndUInt32((byte) 42, pIri.getCachedSize());
+        pIri.writeTo(output);
+        break;
+      }
+      case 6: {
+        final var pBnodeUtf8 = predicate instanceof ProtoBytes ? (ProtoBytes) predicate : null;
+        final var pBnode = pBnodeUtf8 == null ? (String) predicate : null;
+        output.writeRawByte((byte) 50);
+        if (pBnodeUtf8 != null) {
+          output.writeBytesNoTag(pBnodeUtf8);
+        } else {
+          output.writeStringNoTag(pBnode);
+        }
+        break;
+      }
+      case 7: {
+        final var pLiteral = getPLiteral();
+        output.writeTagAndUInt32((byte) 58, pLiteral.getCachedSize());
+        pLiteral.writeTo(output);
+        break;
+      }
+      case 8: {
+        final var pTripleTerm = getPTripleTerm();
+        output.writeTagAndUInt32((byte) 66, pTripleTerm.getCachedSize());
+        pTripleTerm.writeTo(output);
+        break;
+      }
+    }
+    switch (objectNumber) {
+      case 9: {
+        final var oIri = getOIri();
+        output.writeTagAndUInt32((byte) 74, oIri.getCachedSize());
+        oIri.writeTo(output);
+        break;
+      }
+      case 10: {
+        final var oBnodeUtf8 = object instanceof ProtoBytes ? (ProtoBytes) object : null;
+        final var oBnode = oBnodeUtf8 == null ? (String) object : null;
+        output.writeRawByte((byte) 82);
+        if (oBnodeUtf8 != null) {
+          output.writeBytesNoTag(oBnodeUtf8);
+        } else {
+          output.writeStringNoTag(oBnode);
+        }
+        break;
+      }
+      case 11: {
+        final var oLiteral = getOLiteral();
+        output.writeTagAndUInt32((byte) 90, oLiteral.getCachedSize());
+        oLiteral.writeTo(output);
+        break;
+      }
+      case 12: {
+        final var oTripleTerm = getOTripleTerm();
+        output.writeTagAndUInt32((byte) 98, oTripleTerm.getCachedSize());
+        oTripleTerm.writeTo(output);
+        break;
+      }
+    }
+    switch (graphNumber) {
+      case 13: {
+        final var gIri = getGIri();
+        output.writeTagAndUInt32((byte) 106, gIri.getCachedSize());
+        gIri.writeTo(output);
+        break;
+      }
+      case 14: {
+        final var gBnodeUtf8 = graph instanceof ProtoBytes ? (ProtoBytes) graph : null;
+        final var gBnode = gBnodeUtf8 == null ? (String) graph : null;
+        output.writeRawByte((byte) 114);
+        if (gBnodeUtf8 != null) {
+          output.writeBytesNoTag(gBnodeUtf8);
+        } else {
+          output.writeStringNoTag(gBnode);
+        }
+        break;
+      }
+      case 15: {
+        final var gDefaultGraph = getGDefaultGraph();
+        output.writeTagAndUInt32((byte) 122, gDefaultGraph.getCachedSize());
+        gDefaultGraph.writeTo(output);
+        break;
+      }
+      case 16: {
+        final var gLiteral = getGLiteral();
+        output.writeRawByte((byte) 130);
+        output.writeRawByte((byte) 1);
+        output.writeUInt32NoTag(gLiteral.getCachedSize());
+        gLiteral.writeTo(output);
+        break;
+      }
+    }
+    if (!unknownBytes.isEmpty()) {
+      output.writeRawBytes(unknownBytes);
+    }
+  }
+
+  @Override
+  protected int computeSerializedSize() {
+    int size = 0;
+    switch (subjectNumber) {
+      case 1: {
+        final var sIri = getSIri();
+        final int dataSize = ProtoMessage.computeNestedSize(sIri, this);
+        size += 1 + ProtoSink.computeUInt32SizeNoTag(dataSize) + dataSize;
+        break;
+      }
+      case 2: {
+        final var sBnodeUtf8 = subject instanceof ProtoBytes ? (ProtoBytes) subject : null;
+        final var sBnode = sBnodeUtf8 == null ? (String) subject : null;
+        size += 1 + (sBnodeUtf8 != null ? ProtoSink.computeBytesSizeNoTag(sBnodeUtf8) : ProtoSink.computeStringSizeNoTag(sBnode));
+        break;
+      }
+      case 3: {
+        final var sLiteral = getSLiteral();
+        final int dataSize = ProtoMessage.computeNestedSize(sLiteral, this);
+        size += 1 + ProtoSink.computeUInt32SizeNoTag(dataSize) + dataSize;
+        break;
+      }
+      case 4: {
+        final var sTripleTerm = getSTripleTerm();
+        final int dataSize = ProtoMessage.computeNestedSize(sTripleTerm, this);
+        size += 1 + ProtoSink.computeUInt32SizeNoTag(dataSize) + dataSize;
+        break;
+      }
+    }
+    switch (predicateNumber) {
+      case 5: {
+        final var pIri = getPIri();
+        final int dataSize = ProtoMessage.computeNestedSize(pIri, this);
+        size += 1 + ProtoSink.computeUInt32SizeNoTag(dataSize) + dataSize;
+        break;
+      }
+      case 6: {
+        final var pBnodeUtf8 = predicate instanceof ProtoBytes ? (ProtoBytes) predicate : null;
+        final var pBnode = pBnodeUtf8 == null ? (String) predicate : null;
+        size += 1 + (pBnodeUtf8 != null ? ProtoSink.computeBytesSizeNoTag(pBnodeUtf8) : ProtoSink.computeStringSizeNoTag(pBnode));
+        break;
+      }
+      case 7: {
+        final var pLiteral = getPLiteral();
+        final int dataSize = ProtoMessage.computeNestedSize(pLiteral, this);
+        size += 1 + ProtoSink.computeUInt32SizeNoTag(dataSize) + dataSize;
+        break;
+      }
+      case 8: {
+        final var pTripleTerm = getPTripleTerm();
+        final int dataSize = ProtoMessage.computeNestedSize(pTripleTerm, this);
+        size += 1 + ProtoSink.computeUInt32SizeNoTag(dataSize) + dataSize;
+        break;
+      }
+    }
+    switch (objectNumber) {
+      case 9: {
+        final var oIri = getOIri();
+        final int dataSize = ProtoMessage.computeNestedSize(oIri, this);
+        size += 1 + ProtoSink.computeUInt32SizeNoTag(dataSize) + dataSize;
+        break;
+      }
+      case 10: {
+        final var oBnodeUtf8 = object instanceof ProtoBytes ? (ProtoBytes) object : null;
+        final var oBnode = oBnodeUtf8 == null ? (String) object : null;
+        size += 1 + (oBnodeUtf8 != null ? ProtoSink.computeBytesSizeNoTag(oBnodeUtf8) : ProtoSink.computeStringSizeNoTag(oBnode));
+        break;
+      }
+      case 11: {
+        final var oLiteral = getOLiteral();
+        final int dataSize = ProtoMessage.computeNestedSize(oLiteral, this);
+        size += 1 + ProtoSink.computeUInt32SizeNoTag(dataSize) + dataSize;
+        break;
+      }
+      case 12: {
+        final var oTripleTerm = getOTripleTerm();
+        final int dataSize = ProtoMessage.computeNestedSize(oTripleTerm, this);
+        size += 1 + ProtoSink.computeUInt32SizeNoTag(dataSize) + dataSize;
+        break;
+      }
+    }
+    switch (graphNumber) {
+      case 13: {
+        final var gIri = getGIri();
+        final int dataSize = ProtoMessage.computeNestedSize(gIri, this);
+        size += 1 + ProtoSink.computeUInt32SizeNoTag(dataSize) + dataSize;
+        break;
+      }
+      case 14: {
+        final var gBnodeUtf8 = graph instanceof ProtoBytes ? (ProtoBytes) graph : null;
+        final var gBnode = gBnodeUtf8 == null ? (String) graph : null;
+        size += 1 + (gBnodeUtf8 != null ? ProtoSink.computeBytesSizeNoTag(gBnodeUtf8) : ProtoSink.computeStringSizeNoTag(gBnode));
+        break;
+      }
+      case 15: {
+        final var gDefaultGraph = getGDefaultGraph();
+        final int dataSize = ProtoMessage.computeNestedSize(gDefaultGraph, this);
+        size += 1 + ProtoSink.computeUInt32SizeNoTag(dataSize) + dataSize;
+        break;
+      }
+      case 16: {
+        final var gLiteral = getGLiteral();
+        final int dataSize = ProtoMessage.computeNestedSize(gLiteral, this);
+        size += 2 + ProtoSink.computeUInt32SizeNoTag(dataSize) + dataSize;
+        break;
+      }
+    }
+    size += unknownBytes.size();
+    return size;
+  }
+
+  /**
+   * Returns the cached size if the message was not modified since it was computed.
+   */
+  @Override
+  public int getSerializedSize() {
+    if (cachedSize >= 0 && !sizeUntracked) {
+      return cachedSize;
+    }
+    sizeUntracked = false;
+    return super.getSerializedSize();
+  }
+
+  @Override
+  protected void invalidateSize() {
+    ProtoMessage.invalidateSizes(this);
+  }
+
+  @Override
+  protected ProtoMessage<?> getSizeParent() {
+    return sizeParent;
+  }
+
+  @Override
+  protected void setSizeParent(final ProtoMessage<?> parent) {
+    if (sizeParent != parent) {
+      if (sizeParent != null && !sizeShared) {
+        // Modifications are not tracked by the first parent anymore
+        sizeShared = true;
+        ProtoMessage.invalidateSizes(sizeParent);
+      }
+      sizeParent = parent;
+    }
+  }
+
+  @Override
+  protected boolean isSizeTracked() {
+    return !sizeShared && !sizeUntracked;
+  }
+
+  @Override
+  protected void untrackSize() {
+    sizeUntracked = true;
+  }
+
+  @Override
+  protected boolean hasOneOfMember() {
+    return subjectNumber != 0 || predicateNumber != 0 || objectNumber != 0 || graphNumber != 0;
+  }
+
+  @Override
+  public Mutable clone() {
+    return newInstance().copyFrom(this);
+  }
+
+  public static RdfQuad parseFrom(final byte[] data) throws InvalidProtocolBufferException {
+    return ProtoMessage.mergeFrom(newInstance(), data);
+  }
+
+  public static RdfQuad parseFrom(final ByteBuffer data) throws InvalidProtocolBufferException {
+    return ProtoMessage.mergeFrom(newInstance(), data);
+  }
+
+  public static RdfQuad parseFrom(final LimitedCodedInputStream input) throws IOException {
+    return ProtoMessage.mergeFrom(newInstance(), input);
+  }
+
+  public static RdfQuad parseDelimitedFrom(final InputStream input) throws IOException {
+    return ProtoMessage.parseDelimitedFrom(input, RdfQuad.getFactory());
+  }
+
+  public static RdfQuad parseDelimitedFrom(final ByteBuffer input) throws IOException {
+    return ProtoMessage.parseDelimitedFrom(input, RdfQuad.getFactory());
+  }
+
+  /**
+   * @return factory for creating RdfQuad messages
+   */
+  public static MessageFactory<RdfQuad> getFactory() {
+    return RdfQuadFactory.INSTANCE;
+  }
+
+  private enum RdfQuadFactory implements MessageFactory<RdfQuad> {
+    INSTANCE;
+
+    @Override
+    public RdfQuad create() {
+      return RdfQuad.newInstance();
+    }
+  }
+
+  /**
+   * Mutable subclass of the parent class.
+   * You can call setters on this class to set the values.
+   * When passing the constructed message to the serializer,
+   * you should use the parent class (using .asImmutable()) to
+   * ensure the message won't be modified by accident.
+   */
+  public static final class Mutable extends RdfQuad {
+    private Mutable() {
+    }
+
+    /**
+     * Low-level setter for the <code>subject</code> oneof field.
+     * Use with care, as it will not check the type of the value.
+     */
+    public Mutable setSubject(Object subject, byte number) {
+      this.subject = subject;
+      this.subjectNumber = number;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * Sets the <code>subject</code> oneof field to sIri.
+     */
+    public Mutable setSIri(RdfIri sIri) {
+      this.subject = sIri;
+      this.subjectNumber = 1;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * Sets the <code>subject</code> oneof field to sBnode.
+     */
+    public Mutable setSBnode(String sBnode) {
+      this.subject = sBnode;
+      this.subjectNumber = 2;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * Sets the <code>subject</code> oneof field to sLiteral.
+     */
+    public Mutable setSLiteral(RdfLiteral sLiteral) {
+      this.subject = sLiteral;
+      this.subjectNumber = 3;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * Sets the <code>subject</code> oneof field to sTripleTerm.
+     */
+    public Mutable setSTripleTerm(RdfTriple sTripleTerm) {
+      this.subject = sTripleTerm;
+      this.subjectNumber = 4;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * Low-level setter for the <code>predicate</code> oneof field.
+     * Use with care, as it will not check the type of the value.
+     */
+    public Mutable setPredicate(Object predicate, byte number) {
+      this.predicate = predicate;
+      this.predicateNumber = number;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * Sets the <code>predicate</code> oneof field to pIri.
+     */
+    public Mutable setPIri(RdfIri pIri) {
+      this.predicate = pIri;
+      this.predicateNumber = 5;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * Sets the <code>predicate</code> oneof field to pBnode.
+     */
+    public Mutable setPBnode(String pBnode) {
+      this.predicate = pBnode;
+      this.predicateNumber = 6;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * Sets the <code>predicate</code> oneof field to pLiteral.
+     */
+    public Mutable setPLiteral(RdfLiteral pLiteral) {
+      this.predicate = pLiteral;
+      this.predicateNumber = 7;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * Sets the <code>predicate</code> oneof field to pTripleTerm.
+     */
+    public Mutable setPTripleTerm(RdfTriple pTripleTerm) {
+      this.predicate = pTripleTerm;
+      this.predicateNumber = 8;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * Low-level setter for the <code>object</code> oneof field.
+     * Use with care, as it will not check the type of the value.
+     */
+    public Mutable setObject(Object object, byte number) {
+      this.object = object;
+      this.objectNumber = number;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * Sets the <code>object</code> oneof field to oIri.
+     */
+    public Mutable setOIri(RdfIri oIri) {
+      this.object = oIri;
+      this.objectNumber = 9;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * Sets the <code>object</code> oneof field to oBnode.
+     */
+    public Mutable setOBnode(String oBnode) {
+      this.object = oBnode;
+      this.objectNumber = 10;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * Sets the <code>object</code> oneof field to oLiteral.
+     */
+    public Mutable setOLiteral(RdfLiteral oLiteral) {
+      this.object = oLiteral;
+      this.objectNumber = 11;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * Sets the <code>object</code> oneof field to oTripleTerm.
+     */
+    public Mutable setOTripleTerm(RdfTriple oTripleTerm) {
+      this.object = oTripleTerm;
+      this.objectNumber = 12;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * Low-level setter for the <code>graph</code> oneof field.
+     * Use with care, as it will not check the type of the value.
+     */
+    public Mutable setGraph(Object graph, byte number) {
+      this.graph = graph;
+      this.graphNumber = number;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * Sets the <code>graph</code> oneof field to gIri.
+     */
+    public Mutable setGIri(RdfIri gIri) {
+      this.graph = gIri;
+      this.graphNumber = 13;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * Sets the <code>graph</code> oneof field to gBnode.
+     */
+    public Mutable setGBnode(String gBnode) {
+      this.graph = gBnode;
+      this.graphNumber = 14;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * Sets the <code>graph</code> oneof field to gDefaultGraph.
+     */
+    public Mutable setGDefaultGraph(RdfDefaultGraph gDefaultGraph) {
+      this.graph = gDefaultGraph;
+      this.graphNumber = 15;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * Sets the <code>graph</code> oneof field to gLiteral.
+     */
+    public Mutable setGLiteral(RdfLiteral gLiteral) {
+      this.graph = gLiteral;
+      this.graphNumber = 16;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    @Override
+    public Mutable copyFrom(final RdfQuad other) {
+      invalidateSize();
+      cachedHashCode = 0;
+      unknownBytes = other.unknownBytes;
+      switch (other.subjectNumber) {
+        case 1: {
+          this.subject = ((RdfIri) other.subject).clone();
+          break;
+        }
+        case 3: {
+          this.subject = ((RdfLiteral) other.subject).clone();
+          break;
+        }
+        case 4: {
+          this.subject = ((RdfTriple) other.subject).clone();
+          break;
+        }
+        default: {
+          this.subject = other.subject;
+        }
+      }
+      this.subjectNumber = other.subjectNumber;
+      switch (other.predicateNumber) {
+        case 5: {
+          this.predicate = ((RdfIri) other.predicate).clone();
+          break;
+        }
+        case 7: {
+          this.predicate = ((RdfLiteral) other.predicate).clone();
+          break;
+        }
+        case 8: {
+          this.predicate = ((RdfTriple) other.predicate).clone();
+          break;
+        }
+        default: {
+          this.predicate = other.predicate;
+        }
+      }
+      this.predicateNumber = other.predicateNumber;
+      switch (other.objectNumber) {
+        case 9: {
+          this.object = ((RdfIri) other.object).clone();
+          break;
+        }
+        case 11: {
+          this.object = ((RdfLiteral) other.object).clone();
+          break;
+        }
+        case 12: {
+          this.object = ((RdfTriple) other.object).clone();
+          break;
+        }
+        default: {
+          this.object = other.object;
+        }
+      }
+      this.objectNumber = other.objectNumber;
+      switch (other.graphNumber) {
+        case 13: {
+          this.graph = ((RdfIri) other.graph).clone();
+          break;
+        }
+        case 15: {
+          this.graph = ((RdfDefaultGraph) other.graph).clone();
+          break;
+        }
+        case 16: {
+          this.graph = ((RdfLiteral) other.graph).clone();
+          break;
+        }
+        default: {
+          this.graph = other.graph;
+        }
+      }
+      this.graphNumber = other.graphNumber;
+      return this;
+    }
+
+    @Override
+    public Mutable clear() {
+      invalidateSize();
+      cachedHashCode = 0;
+      unknownBytes = ProtoBytes.EMPTY;
+      this.subjectNumber = 0;
+      this.predicateNumber = 0;
+      this.objectNumber = 0;
+      this.graphNumber = 0;
+      return this;
+    }
+
+    @Override
+    public Mutable mergeFrom(final RdfQuad other) {
+      invalidateSize();
+      cachedHashCode = 0;
+      unknownBytes = unknownBytes.concat(other.unknownBytes);
+      switch (other.subjectNumber) {
+        case 1: {
+          this.subject = ((RdfIri) other.subject).clone();
+          break;
+        }
+        case 3: {
+          this.subject = ((RdfLiteral) other.subject).clone();
+          break;
+        }
+        case 4: {
+          this.subject = ((RdfTriple) other.subject).clone();
+          break;
+        }
+        default: {
+          this.subject = other.subject;
+        }
+      }
+      this.subjectNumber = other.subjectNumber;
+      switch (other.predicateNumber) {
+        case 5: {
+          this.predicate = ((RdfIri) other.predicate).clone();
+          break;
+        }
+        case 7: {
+          this.predicate = ((RdfLiteral) other.predicate).clone();
+          break;
+        }
+        case 8: {
+          this.predicate = ((RdfTriple) other.predicate).clone();
+          break;
+        }
+        default: {
+          this.predicate = other.predicate;
+        }
+      }
+      this.predicateNumber = other.predicateNumber;
+      switch (other.objectNumber) {
+        case 9: {
+          this.object = ((RdfIri) other.object).clone();
+          break;
+        }
+        case 11: {
+          this.object = ((RdfLiteral) other.object).clone();
+          break;
+        }
+        case 12: {
+          this.object = ((RdfTriple) other.object).clone();
+          break;
+        }
+        default: {
+          this.object = other.object;
+        }
+      }
+      this.objectNumber = other.objectNumber;
+      switch (other.graphNumber) {
+        case 13: {
+          this.graph = ((RdfIri) other.graph).clone();
+          break;
+        }
+        case 15: {
+          this.graph = ((RdfDefaultGraph) other.graph).clone();
+          break;
+        }
+        case 16: {
+          this.graph = ((RdfLiteral) other.graph).clone();
+          break;
+        }
+        default: {
+          this.graph = other.graph;
+        }
+      }
+      this.graphNumber = other.graphNumber;
+      return this;
+    }
+
+    /**
+     * Parses this message like {@link #mergeFrom(LimitedCodedInputStream)}, without reporting it
+     * to the metrics of the input.
+     */
+    @SuppressWarnings("fallthrough")
+    private Mutable mergeMessageFrom(final LimitedCodedInputStream inputLimited) throws
+        IOException {
+      final long[] skippedFields = inputLimited.getSkippedFields(RdfQuad.getFactory());
+      if (skippedFields != null) {
+        return mergeProjectedFrom(inputLimited, skippedFields);
+      }
+      invalidateSize();
+      cachedHashCode = 0;
+      // Enabled Fall-Through Optimization
+      final LimitedCodedInputStream input = inputLimited;
+      int tag = input.readTag();
+      while (true) {
+        switch (tag) {
+          case 18: {
+            // sBnode
+            this.subject = input.readBytesRequireUtf8();
+            this.subjectNumber = 2;
+            tag = input.readTag();
+            if (tag != 50) {
+              break;
+            }
+          }
+          case 50: {
+            // pBnode
+            this.predicate = input.readBytesRequireUtf8();
+            this.predicateNumber = 6;
+            tag = input.readTag();
+            if (tag != 82) {
+              break;
+            }
+          }
+          case 82: {
+            // oBnode
+            this.object = input.readBytesRequireUtf8();
+            this.objectNumber = 10;
+            tag = input.readTag();
+            if (tag != 114) {
+              break;
+            }
+          }
+          case 114: {
+            // gBnode
+            this.graph = input.readBytesRequireUtf8();
+            this.graphNumber = 14;
+            tag = input.readTag();
+            if (tag != 26) {
+              break;
+            }
+          }
+          case 26: {
+            // sLiteral
+            final MessageInterner interner = inputLimited.getInterner();
+            if (interner != null) {
+              setSLiteral(interner.readDelimited(subjectNumber == 3 ? getSLiteral() : null, RdfLiteral.getFactory(), inputLimited));
+            } else {
+              final RdfLiteral sLiteral;
+              if (subjectNumber == 3) {
+                sLiteral = getSLiteral();
+              }
+              else if (subjectNumber == 0 && subject instanceof RdfLiteral) {
+                sLiteral = ((RdfLiteral) subject).clear();
+                setSLiteral(sLiteral);
+              }
+              else {
+                sLiteral = RdfLiteral.newInstance();
+                setSLiteral(sLiteral);
+              }
+              ProtoMessage.mergeDelimitedFrom(sLiteral, inputLimited);
+            }
+            tag = input.readTag();
+            if (tag != 58) {
+              break;
+            }
+          }
+          case 58: {
+            // pLiteral
+            final MessageInterner interner = inputLimited.getInterner();
+            if (interner != null) {
+              setPLiteral(interner.readDelimited(predicateNumber == 7 ? getPLiteral() : null, RdfLiteral.getFactory(), inputLimited));
+            } else {
+              final RdfLiteral pLiteral;
+              if (predicateNumber == 7) {
+                pLiteral = getPLiteral();
+              }
+              else if (predicateNumber == 0 && predicate instanceof RdfLiteral) {
+                pLiteral = ((RdfLiteral) predicate).clear();
+                setPLiteral(pLiteral);
+              }
+              else {
+                pLiteral = RdfLiteral.newInstance();
+                setPLiteral(pLiteral);
+              }
+              ProtoMessage.mergeDelimitedFrom(pLiteral, inputLimited);
+            }
+            tag = input.readTag();
+            if (tag != 90) {
+              break;
+            }
+          }
+          case 90: {
+            // oLiteral
+            final MessageInterner interner = inputLimited.getInterner();
+            if (interner != null) {
+              setOLiteral(interner.readDelimited(objectNumber == 11 ? getOLiteral() : null, RdfLiteral.getFactory(), inputLimited));
+            } else {
+              final RdfLiteral oLiteral;
+              if (objectNumber == 11) {
+                oLiteral = getOLiteral();
+              }
+              else if (objectNumber == 0 && object instanceof RdfLiteral) {
+                oLiteral = ((RdfLiteral) object).clear();
+                setOLiteral(oLiteral);
+              }
+              else {
+                oLiteral = RdfLiteral.newInstance();
+                setOLiteral(oLiteral);
+              }
+              ProtoMessage.mergeDelimitedFrom(oLiteral, inputLimited);
+            }
+            tag = input.readTag();
+            if (tag != 122) {
+              break;
+            }
+          }
+          case 122: {
+            // gDefaultGraph
+            final MessageInterner interner = inputLimited.getInterner();
+            if (interner != null) {
+              setGDefaultGraph(interner.readDelimited(graphNumber == 15 ? getGDefaultGraph() : null, RdfDefaultGraph.getFactory(), inputLimited));
+            } else {
+              final RdfDefaultGraph gDefaultGraph;
+              if (graphNumber == 15) {
+                gDefaultGraph = getGDefaultGraph();
+              }
+              else if (graphNumber == 0 && graph instanceof RdfDefaultGraph) {
+                gDefaultGraph = ((RdfDefaultGraph) graph).clear();
+                setGDefaultGraph(gDefaultGraph);
+              }
+              else {
+                gDefaultGraph = RdfDefaultGraph.newInstance();
+                setGDefaultGraph(gDefaultGraph);
+              }
+              ProtoMessage.mergeDelimitedFrom(gDefaultGraph, inputLimited);
+            }
+            tag = input.readTag();
+            if (tag != 34) {
+              break;
+            }
+          }
+          case 34: {
+            // sTripleTerm
+            final RdfTriple sTripleTerm;
+            if (subjectNumber == 4) {
+              sTripleTerm = getSTripleTerm();
+            }
+            else if (subjectNumber == 0 && subject instanceof RdfTriple) {
+              sTripleTerm = ((RdfTriple) subject).clear();
+              setSTripleTerm(sTripleTerm);
+            }
+            else {
+              sTripleTerm = RdfTriple.newInstance();
+              setSTripleTerm(sTripleTerm);
+            }
+            ProtoMessage.mergeDelimitedFrom(sTripleTerm, inputLimited);
+            tag = input.readTag();
+            if (tag != 66) {
+              break;
+            }
+          }
+          case 66: {
+            // pTripleTerm
+            final RdfTriple pTripleTerm;
+            if (predicateNumber == 8) {
+              pTripleTerm = getPTripleTerm();
+            }
+            else if (predicateNumber == 0 && predicate instanceof RdfTriple) {
+              pTripleTerm = ((RdfTriple) predicate).clear();
+              setPTripleTerm(pTripleTerm);
+            }
+            else {
+              pTripleTerm = RdfTriple.newInstance();
+              setPTripleTerm(pTripleTerm);
+            }
+            ProtoMessage.mergeDelimitedFrom(pTripleTerm, inputLimited);
+            tag = input.readTag();
+            if (tag != 98) {
+              break;
+            }
+          }
+          case 98: {
+            // oTripleTerm
+            final RdfTriple oTripleTerm;
+            if (objectNumber == 12) {
+              oTripleTerm = getOTripleTerm();
+            }
+            else if (objectNumber == 0 && object instanceof RdfTriple) {
+              oTripleTerm = ((RdfTriple) object).clear();
+              setOTripleTerm(oTripleTerm);
+            }
+            else {
+              oTripleTerm = RdfTriple.newInstance();
+              setOTripleTerm(oTripleTerm);
+            }
+            ProtoMessage.mergeDelimitedFrom(oTripleTerm, inputLimited);
+            tag = input.readTag();
+            if (tag != 130) {
+              break;
+            }
+          }
+          case 130: {
+            // gLiteral
+            final MessageInterner interner = inputLimited.getInterner();
+            if (interner != null) {
+              setGLiteral(interner.readDelimited(graphNumber == 16 ? getGLiteral() : null, RdfLiteral.getFactory(), inputLimited));
+            } else {
+              final RdfLiteral gLiteral;
+              if (graphNumber == 16) {
+                gLiteral = getGLiteral();
+              }
+              else if (graphNumber == 0 && graph instanceof RdfLiteral) {
+                gLiteral = ((RdfLiteral) graph).clear();
+                setGLiteral(gLiteral);
+              }
+              else {
+                gLiteral = RdfLiteral.newInstance();
+                setGLiteral(gLiteral);
+              }
+              ProtoMessage.mergeDelimitedFrom(gLiteral, inputLimited);
+            }
+            tag = input.readTag();
+            if (tag != 10) {
+              break;
+            }
+          }
+          case 10: {
+            // sIri
+            final MessageInterner interner = inputLimited.getInterner();
+            if (interner != null) {
+              setSIri(interner.readDelimited(subjectNumber == 1 ? getSIri() : null, RdfIri.getFactory(), inputLimited));
+            } else {
+              final RdfIri sIri;
+              if (subjectNumber == 1) {
+                sIri = getSIri();
+              }
+              else if (subjectNumber == 0 && subject instanceof RdfIri) {
+                sIri = ((RdfIri) subject).clear();
+                setSIri(sIri);
+              }
+              else {
+                sIri = RdfIri.newInstance();
+                setSIri(sIri);
+              }
+              ProtoMessage.mergeDelimitedFrom(sIri, inputLimited);
+            }
+            tag = input.readTag();
+            if (tag != 42) {
+              break;
+            }
+          }
+          case 42: {
+            // pIri
+            final MessageInterner interner = inputLimited.getInterner();
+            if (interner != null) {
+              setPIri(interner.readDelimited(predicateNumber == 5 ? getPIri() : null, RdfIri.getFactory(), inputLimited));
+            } else {
+              final RdfIri pIri;
+              if (predicateNumber == 5) {
+                pIri = getPIri();
+              }
+              else if (predicateNumber == 0 && predicate instanceof RdfIri) {
+                pIri = ((RdfIri) predicate).clear();
+                setPIri(pIri);
+              }
+              else {
+                pIri = RdfIri.newInstance();
+                setPIri(pIri);
+              }
+              ProtoMessage.mergeDelimitedFrom(pIri, inputLimited);
+            }
+            tag = input.readTag();
+            if (tag != 74) {
+              break;
+            }
+          }
+          case 74: {
+            // oIri
+            final MessageInterner interner = inputLimited.getInterner();
+            if (interner != null) {
+              setOIri(interner.readDelimited(objectNumber == 9 ? getOIri() : null, RdfIri.getFactory(), inputLimited));
+            } else {
+              final RdfIri oIri;
+              if (objectNumber == 9) {
+                oIri = getOIri();
+              }
+              else if (objectNumber == 0 && object instanceof RdfIri) {
+                oIri = ((RdfIri) object).clear();
+                setOIri(oIri);
+              }
+              else {
+                oIri = RdfIri.newInstance();
+                setOIri(oIri);
+              }
+              ProtoMessage.mergeDelimitedFrom(oIri, inputLimited);
+            }
+            tag = input.readTag();
+            if (tag != 106) {
+              break;
+            }
+          }
+          case 106: {
+            // gIri
+            final MessageInterner interner = inputLimited.getInterner();
+            if (interner != null) {
+              setGIri(interner.readDelimited(graphNumber == 13 ? getGIri() : null, RdfIri.getFactory(), inputLimited));
+            } else {
+              final RdfIri gIri;
+              if (graphNumber == 13) {
+                gIri = getGIri();
+              }
+              else if (graphNumber == 0 && graph instanceof RdfIri) {
+                gIri = ((RdfIri) graph).clear();
+                setGIri(gIri);
+              }
+              else {
+                gIri = RdfIri.newInstance();
+                setGIri(gIri);
+              }
+              ProtoMessage.mergeDelimitedFrom(gIri, inputLimited);
+            }
+            tag = input.readTag();
+            if (tag != 0) {
+              break;
+            }
+          }
+          case 0: {
+            return this;
+          }
+          default: {
+            if (ProtoMetrics.ENABLED && inputLimited.getMetrics() != null) {
+              inputLimited.getMetrics().unknownField(this, tag);
+            }
+            final ProtoBytes unknown = ProtoMessage.readUnknownField(inputLimited, tag, unknownBytes);
+            if (unknown == null) {
+              return this;
+            }
+            unknownBytes = unknown;
+            tag = input.readTag();
+            break;
+          }
+        }
+      }
+    }
+
+    /**
+     * Parses this message like {@link #mergeFrom(LimitedCodedInputStream)}, but skips the fields
+     * in the given bit set.
+     */
+    private Mutable mergeProjectedFrom(final LimitedCodedInputStream inputLimited,
+        final long[] skippedFields) throws IOException {
+      invalidateSize();
+      cachedHashCode = 0;
+      final LimitedCodedInputStream input = inputLimited;
+      int tag = input.readTag();
+      while (true) {
+        if (ProjectionMask.isSkipped(skippedFields, tag)) {
+          if (!input.skipField(tag)) {
+            return this;
+          }
+          tag = input.readTag();
+          continue;
+        }
+        switch (tag) {
+          case 18: {
+            // sBnode
+            this.subject = input.readBytesRequireUtf8();
+            this.subjectNumber = 2;
+            tag = input.readTag();
+            break;
+          }
+          case 50: {
+            // pBnode
+            this.predicate = input.readBytesRequireUtf8();
+            this.predicateNumber = 6;
+            tag = input.readTag();
+            break;
+          }
+          case 82: {
+            // oBnode
+            this.object = input.readBytesRequireUtf8();
+            this.objectNumber = 10;
+            tag = input.readTag();
+            break;
+          }
+          case 114: {
+            // gBnode
+            this.graph = input.readBytesRequireUtf8();
+            this.graphNumber = 14;
+            tag = input.readTag();
+            break;
+          }
+          case 26: {
+            // sLiteral
+            final MessageInterner interner = inputLimited.getInterner();
+            if (interner != null) {
+              setSLiteral(interner.readDelimited(subjectNumber == 3 ? getSLiteral() : null, RdfLiteral.getFactory(), inputLimited));
+            } else {
+              final RdfLiteral sLiteral;
+              if (subjectNumber == 3) {
+                sLiteral = getSLiteral();
+              }
+              else if (subjectNumber == 0 && subject instanceof RdfLiteral) {
+                sLiteral = ((RdfLiteral) subject).clear();
+                setSLiteral(sLiteral);
+              }
+              else {
+                sLiteral = RdfLiteral.newInstance();
+                setSLiteral(sLiteral);
+              }
+              ProtoMessage.mergeDelimitedFrom(sLiteral, inputLimited);
+            }
+            tag = input.readTag();
+            break;
+          }
+          case 58: {
+            // pLiteral
+            final MessageInterner interner = inputLimited.getInterner();
+            if (interner != null) {
+              setPLiteral(interner.readDelimited(predicateNumber == 7 ? getPLiteral() : null, RdfLiteral.getFactory(), inputLimited));
+            } else {
+              final RdfLiteral pLiteral;
+              if (predicateNumber == 7) {
+                pLiteral = getPLiteral();
+              }
+              else if (predicateNumber == 0 && predicate instanceof RdfLiteral) {
+                pLiteral = ((RdfLiteral) predicate).clear();
+                setPLiteral(pLiteral);
+              }
+              else {
+                pLiteral = RdfLiteral.newInstance();
+                setPLiteral(pLiteral);
+              }
+              ProtoMessage.mergeDelimitedFrom(pLiteral, inputLimited);
+            }
+            tag = input.readTag();
+            break;
+          }
+          case 90: {
+            // oLiteral
+            final MessageInterner interner = inputLimited.getInterner();
+            if (interner != null) {
+              setOLiteral(interner.readDelimited(objectNumber == 11 ? getOLiteral() : null, RdfLiteral.getFactory(), inputLimited));
+            } else {
+              final RdfLiteral oLiteral;
+              if (objectNumber == 11) {
+                oLiteral = getOLiteral();
+              }
+              else if (objectNumber == 0 && object instanceof RdfLiteral) {
+                oLiteral = ((RdfLiteral) object).clear();
+                setOLiteral(oLiteral);
+              }
+              else {
+                oLiteral = RdfLiteral.newInstance();
+                setOLiteral(oLiteral);
+              }
+              ProtoMessage.mergeDelimitedFrom(oLiteral, inputLimited);
+            }
+            tag = input.readTag();
+            break;
+          }
+          case 122: {
+            // gDefaultGraph
+            final MessageInterner interner = inputLimited.getInterner();
+            if (interner != null) {
+              setGDefaultGraph(interner.readDelimited(graphNumber == 15 ? getGDefaultGraph() : null, RdfDefaultGraph.getFactory(), inputLimited));
+            } else {
+              final RdfDefaultGraph gDefaultGraph;
+              if (graphNumber == 15) {
+                gDefaultGraph = getGDefaultGraph();
+              }
+              else if (graphNumber == 0 && graph instanceof RdfDefaultGraph) {
+                gDefaultGraph = ((RdfDefaultGraph) graph).clear();
+                setGDefaultGraph(gDefaultGraph);
+              }
+              else {
+                gDefaultGraph = RdfDefaultGraph.newInstance();
+                setGDefaultGraph(gDefaultGraph);
+              }
+              ProtoMessage.mergeDelimitedFrom(gDefaultGraph, inputLimited);
+            }
+            tag = input.readTag();
+            break;
+          }
+          case 34: {
+            // sTripleTerm
+            final RdfTriple sTripleTerm;
+            if (subjectNumber == 4) {
+              sTripleTerm = getSTripleTerm();
+            }
+            else if (subjectNumber == 0 && subject instanceof RdfTriple) {
+              sTripleTerm = ((RdfTriple) subject).clear();
+              setSTripleTerm(sTripleTerm);
+            }
+            else {
+              sTripleTerm = RdfTriple.newInstance();
+              setSTripleTerm(sTripleTerm);
+            }
+            ProtoMessage.mergeDelimitedFrom(sTripleTerm, inputLimited);
+            tag = input.readTag();
+            break;
+          }
+          case 66: {
+            // pTripleTerm
+            final RdfTriple pTripleTerm;
+            if (predicateNumber == 8) {
+              pTripleTerm = getPTripleTerm();
+            }
+            else if (predicateNumber == 0 && predicate instanceof RdfTriple) {
+              pTripleTerm = ((RdfTriple) predicate).clear();
+              setPTripleTerm(pTripleTerm);
+            }
+            else {
+              pTripleTerm = RdfTriple.newInstance();
+              setPTripleTerm(pTripleTerm);
+            }
+            ProtoMessage.mergeDelimitedFrom(pTripleTerm, inputLimited);
+            tag = input.readTag();
+            break;
+          }
+          case 98: {
+            // oTripleTerm
+            final RdfTriple oTripleTerm;
+            if (objectNumber == 12) {
+              oTripleTerm = getOTripleTerm();
+            }
+            else if (objectNumber == 0 && object instanceof RdfTriple) {
+              oTripleTerm = ((RdfTriple) object).clear();
+              setOTripleTerm(oTripleTerm);
+            }
+            else {
+              oTripleTerm = RdfTriple.newInstance();
+              setOTripleTerm(oTripleTerm);
+            }
+            ProtoMessage.mergeDelimitedFrom(oTripleTerm, inputLimited);
+            tag = input.readTag();
+            break;
+          }
+          case 130: {
+            // gLiteral
+            final MessageInterner interner = inputLimited.getInterner();
+            if (interner != null) {
+              setGLiteral(interner.readDelimited(graphNumber == 16 ? getGLiteral() : null, RdfLiteral.getFactory(), inputLimited));
+            } else {
+              final RdfLiteral gLiteral;
+              if (graphNumber == 16) {
+                gLiteral = getGLiteral();
+              }
+              else if (graphNumber == 0 && graph instanceof RdfLiteral) {
+                gLiteral = ((RdfLiteral) graph).clear();
+                setGLiteral(gLiteral);
+              }
+              else {
+                gLiteral = RdfLiteral.newInstance();
+                setGLiteral(gLiteral);
+              }
+              ProtoMessage.mergeDelimitedFrom(gLiteral, inputLimited);
+            }
+            tag = input.readTag();
+            break;
+          }
+          case 10: {
+            // sIri
+            final MessageInterner interner = inputLimited.getInterner();
+            if (interner != null) {
+              setSIri(interner.readDelimited(subjectNumber == 1 ? getSIri() : null, RdfIri.getFactory(), inputLimited));
+            } else {
+              final RdfIri sIri;
+              if (subjectNumber == 1) {
+                sIri = getSIri();
+              }
+              else if (subjectNumber == 0 && subject instanceof RdfIri) {
+                sIri = ((RdfIri) subject).clear();
+                setSIri(sIri);
+              }
+              else {
+                sIri = RdfIri.newInstance();
+                setSIri(sIri);
+              }
+              ProtoMessage.mergeDelimitedFrom(sIri, inputLimited);
+            }
+            tag = input.readTag();
+            break;
+          }
+          case 42: {
+            // pIri
+            final MessageInterner interner = inputLimited.getInterner();
+            if (interner != null) {
+              setPIri(interner.readDelimited(predicateNumber == 5 ? getPIri() : null, RdfIri.getFactory(), inputLimited));
+            } else {
+              final RdfIri pIri;
+              if (predicateNumber == 5) {
+                pIri = getPIri();
+              }
+              else if (predicateNumber == 0 && predicate instanceof RdfIri) {
+                pIri = ((RdfIri) predicate).clear();
+                setPIri(pIri);
+              }
+              else {
+                pIri = RdfIri.newInstance();
+                setPIri(pIri);
+              }
+              ProtoMessage.mergeDelimitedFrom(pIri, inputLimited);
+            }
+            tag = input.readTag();
+            break;
+          }
+          case 74: {
+            // oIri
+            final MessageInterner interner = inputLimited.getInterner();
+            if (interner != null) {
+              setOIri(interner.readDelimited(objectNumber == 9 ? getOIri() : null, RdfIri.getFactory(), inputLimited));
+            } else {
+              final RdfIri oIri;
+              if (objectNumber == 9) {
+                oIri = getOIri();
+              }
+              else if (objectNumber == 0 && object instanceof RdfIri) {
+                oIri = ((RdfIri) object).clear();
+                setOIri(oIri);
+              }
+              else {
+                oIri = RdfIri.newInstance();
+                setOIri(oIri);
+              }
+              ProtoMessage.mergeDelimitedFrom(oIri, inputLimited);
+            }
+            tag = input.readTag();
+            break;
+          }
+          case 106: {
+            // gIri
+            final MessageInterner interner = inputLimited.getInterner();
+            if (interner != null) {
+              setGIri(interner.readDelimited(graphNumber == 13 ? getGIri() : null, RdfIri.getFactory(), inputLimited));
+            } else {
+              final RdfIri gIri;
+              if (graphNumber == 13) {
+                gIri = getGIri();
+              }
+              else if (graphNumber == 0 && graph instanceof RdfIri) {
+                gIri = ((RdfIri) graph).clear();
+                setGIri(gIri);
+              }
+              else {
+                gIri = RdfIri.newInstance();
+                setGIri(gIri);
+              }
+              ProtoMessage.mergeDelimitedFrom(gIri, inputLimited);
+            }
+            tag = input.readTag();
+            break;
+          }
+          case 0: {
+            return this;
+          }
+          default: {
+            if (ProtoMetrics.ENABLED && inputLimited.getMetrics() != null) {
+              inputLimited.getMetrics().unknownField(this, tag);
+            }
+            final ProtoBytes unknown = ProtoMessage.readUnknownField(inputLimited, tag, unknownBytes);
+            if (unknown == null) {
+              return this;
+            }
+            unknownBytes = unknown;
+            tag = input.readTag();
+            break;
+          }
+        }
+      }
+    }
+
+    @Override
+    public Mutable mergeFrom(final LimitedCodedInputStream inputLimited) throws IOException {
+      if (ProtoMetrics.ENABLED && inputLimited.getMetrics() != null) {
+        final int start = inputLimited.getTotalBytesRead();
+        mergeMessageFrom(inputLimited);
+        final int bytes = inputLimited.getTotalBytesRead() - start;
+        inputLimited.getMetrics().messageDecoded(this, bytes, inputLimited.getRecursionDepth());
+        return this;
+      }
+      return mergeMessageFrom(inputLimited);
+    }
+
+    /**
+     * Returns this message as an immutable message, without any copies.
+     */
+    public RdfQuad asImmutable() {
+      return this;
+    }
+  }
+}
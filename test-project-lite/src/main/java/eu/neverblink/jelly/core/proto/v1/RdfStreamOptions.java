@@ -0,0 +1,909 @@
+// Code generated by NeverBlink protoc-java-fast. Do not edit!
+package eu.neverblink.jelly.core.proto.v1;
+
+import eu.neverblink.protoc.java.runtime.InvalidProtocolBufferException;
+import eu.neverblink.protoc.java.runtime.LimitedCodedInputStream;
+import eu.neverblink.protoc.java.runtime.MessageFactory;
+import eu.neverblink.protoc.java.runtime.ProjectionMask;
+import eu.neverblink.protoc.java.runtime.ProtoBytes;
+import eu.neverblink.protoc.java.runtime.ProtoMessage;
+import eu.neverblink.protoc.java.runtime.ProtoMetrics;
+import eu.neverblink.protoc.java.runtime.ProtoSink;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Protobuf type {@code RdfStreamOptions}
+ * DO NOT INHERIT FROM THIS CLASS!
+ * It's not <code>final</code> only to facilitate the Mutable nested subclass.
+ */
+@SuppressWarnings("hiding")
+public abstract class RdfStreamOptions extends ProtoMessage<RdfStreamOptions> implements Cloneable {
+  public static final int STREAM_NAME_FIELD_NUMBER = 1;
+
+  public static final int PHYSICAL_TYPE_FIELD_NUMBER = 2;
+
+  public static final int GENERALIZED_STATEMENTS_FIELD_NUMBER = 3;
+
+  public static final int RDF_STAR_FIELD_NUMBER = 4;
+
+  public static final int MAX_NAME_TABLE_SIZE_FIELD_NUMBER = 9;
+
+  public static final int MAX_PREFIX_TABLE_SIZE_FIELD_NUMBER = 10;
+
+  public static final int MAX_DATATYPE_TABLE_SIZE_FIELD_NUMBER = 11;
+
+  public static final int LOGICAL_TYPE_FIELD_NUMBER = 14;
+
+  public static final int VERSION_FIELD_NUMBER = 15;
+
+  /**
+   * <code>optional string stream_name = 1;</code>
+   */
+  protected String streamName = "";
+
+  /**
+   * Raw UTF-8 bytes of {@code streamName} as read from the wire, or null if the value was set
+   * as a String. While this is set, {@code streamName} is null until it is first decoded.
+   */
+  protected ProtoBytes streamNameUtf8 = null;
+
+  /**
+   * <code>optional .eu.ostrzyciel.jelly.core.proto.v1.PhysicalStreamType physical_type = 2;</code>
+   */
+  protected int physicalType;
+
+  /**
+   * <code>optional bool generalized_statements = 3;</code>
+   */
+  protected boolean generalizedStatements;
+
+  /**
+   * <code>optional bool rdf_star = 4;</code>
+   */
+  protected boolean rdfStar;
+
+  /**
+   * <code>optional uint32 max_name_table_size = 9;</code>
+   */
+  protected int maxNameTableSize;
+
+  /**
+   * <code>optional uint32 max_prefix_table_size = 10;</code>
+   */
+  protected int maxPrefixTableSize;
+
+  /**
+   * <code>optional uint32 max_datatype_table_size = 11;</code>
+   */
+  protected int maxDatatypeTableSize;
+
+  /**
+   * <code>optional .eu.ostrzyciel.jelly.core.proto.v1.LogicalStreamType logical_type = 14;</code>
+   */
+  protected int logicalType;
+
+  /**
+   * <code>optional uint32 version = 15;</code>
+   */
+  protected int version;
+
+  /**
+   * Result of {@link #hashCode()}, or 0 if it needs to be computed.
+   */
+  protected int cachedHashCode;
+
+  /**
+   * Message whose cached size includes the size of this message, or null.
+   */
+  protected ProtoMessage<?> sizeParent;
+
+  /**
+   * Whether this message was linked to more than one size parent.
+   */
+  protected boolean sizeShared;
+
+  /**
+   * Whether the cached size includes shared messages, so that it has to be computed again.
+   */
+  protected boolean sizeUntracked;
+
+  /**
+   * Fields that were not recognized while parsing, in their serialized form.
+   */
+  protected ProtoBytes unknownBytes = ProtoBytes.EMPTY;
+
+  private RdfStreamOptions() {
+  }
+
+  /**
+   * @return a new empty instance of {@code Mutable}
+   */
+  public static Mutable newInstance() {
+    return new Mutable();
+  }
+
+  /**
+   * Returns the fields that were not recognized while parsing, for example fields added
+   * in a newer version of the schema. They are written back as they were read when this
+   * message is serialized.
+   *
+   * @return the unknown fields in their serialized form, including their tags
+   */
+  public ProtoBytes getUnknownBytes() {
+    return unknownBytes;
+  }
+
+  /**
+   * <code>optional string stream_name = 1;</code>
+   * @return the streamName
+   */
+  public String getStreamName() {
+    if (streamName == null) {
+      streamName = streamNameUtf8.toStringUtf8();
+    }
+    return streamName;
+  }
+
+  /**
+   * <code>optional string stream_name = 1;</code>
+   * Returns the UTF-8 encoding of this field without decoding it.
+   * @return the UTF-8 encoded streamName
+   */
+  public ProtoBytes getStreamNameUtf8() {
+    if (streamNameUtf8 == null) {
+      streamNameUtf8 = ProtoBytes.copyFromUtf8(streamName);
+    }
+    return streamNameUtf8;
+  }
+
+  /**
+   * <code>optional .eu.ostrzyciel.jelly.core.proto.v1.PhysicalStreamType physical_type = 2;</code>
+   * @return the physicalType
+   */
+  public PhysicalStreamType getPhysicalType() {
+    return PhysicalStreamType.forNumber(physicalType);
+  }
+
+  /**
+   * Gets the value of the internal enum store. The result is
+   * equivalent to {@link RdfStreamOptions#getPhysicalType()}.getNumber().
+   *
+   * @return numeric wire representation
+   */
+  public int getPhysicalTypeValue() {
+    return physicalType;
+  }
+
+  /**
+   * Sets the value of the internal enum store. This does not
+   * do any validity checks, so be sure to use appropriate value
+   * constants from {@link PhysicalStreamType}. Setting an invalid value
+   * can cause {@link RdfStreamOptions#getPhysicalType()} to return null
+   *
+   * @param value the numeric wire value to set
+   * @return this
+   */
+  public RdfStreamOptions setPhysicalTypeValue(final int value) {
+    physicalType = value;
+    invalidateSize();
+    cachedHashCode = 0;
+    return this;
+  }
+
+  /**
+   * <code>optional bool generalized_statements = 3;</code>
+   * @return the generalizedStatements
+   */
+  public boolean getGeneralizedStatements() {
+    return generalizedStatements;
+  }
+
+  /**
+   * <code>optional bool rdf_star = 4;</code>
+   * @return the rdfStar
+   */
+  public boolean getRdfStar() {
+    return rdfStar;
+  }
+
+  /**
+   * <code>optional uint32 max_name_table_size = 9;</code>
+   * @return the maxNameTableSize
+   */
+  public int getMaxNameTableSize() {
+    return maxNameTableSize;
+  }
+
+  /**
+   * <code>optional uint32 max_prefix_table_size = 10;</code>
+   * @return the maxPrefixTableSize
+   */
+  public int getMaxPrefixTableSize() {
+    return maxPrefixTableSize;
+  }
+
+  /**
+   * <code>optional uint32 max_datatype_table_size = 11;</code>
+   * @return the maxDatatypeTableSize
+   */
+  public int getMaxDatatypeTableSize() {
+    return maxDatatypeTableSize;
+  }
+
+  /**
+   * <code>optional .eu.ostrzyciel.jelly.core.proto.v1.LogicalStreamType logical_type = 14;</code>
+   * @return the logicalType
+   */
+  public LogicalStreamType getLogicalType() {
+    return LogicalStreamType.forNumber(logicalType);
+  }
+
+  /**
+   * Gets the value of the internal enum store. The result is
+   * equivalent to {@link RdfStreamOptions#getLogicalType()}.getNumber().
+   *
+   * @return numeric wire representation
+   */
+  public int getLogicalTypeValue() {
+    return logicalType;
+  }
+
+  /**
+   * Sets the value of the internal enum store. This does not
+   * do any validity checks, so be sure to use appropriate value
+   * constants from {@link LogicalStreamType}. Setting an invalid value
+   * can cause {@link RdfStreamOptions#getLogicalType()} to return null
+   *
+   * @param value the numeric wire value to set
+   * @return this
+   */
+  public RdfStreamOptions setLogicalTypeValue(final int value) {
+    logicalType = value;
+    invalidateSize();
+    cachedHashCode = 0;
+    return this;
+  }
+
+  /**
+   * <code>optional uint32 version = 15;</code>
+   * @return the version
+   */
+  public int getVersion() {
+    return version;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (o == this) {
+      return true;
+    }
+    if (!(o instanceof RdfStreamOptions)) {
+      return false;
+    }
+    RdfStreamOptions other = (RdfStreamOptions) o;
+    return (streamNameUtf8 != null && other.streamNameUtf8 != null ? streamNameUtf8.equals(other.streamNameUtf8) : getStreamName().equals(other.getStreamName()))
+      && physicalType == other.physicalType
+      && generalizedStatements == other.generalizedStatements
+      && rdfStar == other.rdfStar
+      && maxNameTableSize == other.maxNameTableSize
+      && maxPrefixTableSize == other.maxPrefixTableSize
+      && maxDatatypeTableSize == other.maxDatatypeTableSize
+      && logicalType == other.logicalType
+      && version == other.version
+      && unknownBytes.equals(other.unknownBytes);
+  }
+
+  @Override
+  public int hashCode() {
+    int _hash = cachedHashCode;
+    if (_hash == 0) {
+      _hash = 1;
+      _hash = 0x01000193 * _hash + getStreamNameUtf8().hashCode();
+      _hash = 0x01000193 * _hash + physicalType;
+      _hash = 0x01000193 * _hash + Boolean.hashCode(generalizedStatements);
+      _hash = 0x01000193 * _hash + Boolean.hashCode(rdfStar);
+      _hash = 0x01000193 * _hash + maxNameTableSize;
+      _hash = 0x01000193 * _hash + maxPrefixTableSize;
+      _hash = 0x01000193 * _hash + maxDatatypeTableSize;
+      _hash = 0x01000193 * _hash + logicalType;
+      _hash = 0x01000193 * _hash + version;
+      _hash = 0x01000193 * _hash + unknownBytes.hashCode();
+      cachedHashCode = _hash;
+    }
+    return _hash;
+  }
+
+  @Override
+  public void writeTo(final ProtoSink output) throws IOException {
+    if ((streamNameUtf8 != null ? !streamNameUtf8.isEmpty() : !streamName.isEmpty())) {
+      output.writeRawByte((byte) 10);
+      if (streamNameUtf8 != null) {
+        output.writeBytesNoTag(streamNameUtf8);
+      } else {
+        output.writeStringNoTag(streamName);
+      }
+    }
+    if (physicalType != 0) {
+      output.writeRawByte((byte) 16);
+      output.writeEnumNoTag(physicalType);
+    }
+    if (generalizedStatements != false) {
+      output.writeRawByte((byte) 24);
+      output.writeBoolNoTag(generalizedStatements);
+    }
+    if (rdfStar != false) {
+      output.writeRawByte((byte) 32);
+      output.writeBoolNoTag(rdfStar);
+    }
+    if (maxNameTableSize != 0) {
+      output.writeTagAndUInt32((byte) 72, maxNameTableSize);
+    }
+    if (maxPrefixTableSize != 0) {
+      output.writeTagAndUInt32((byte) 80, maxPrefixTableSize);
+    }
+    if (maxDatatypeTableSize != 0) {
+      output.writeTagAndUInt32((byte) 88, maxDatatypeTableSize);
+    }
+    if (logicalType != 0) {
+      output.writeRawByte((byte) 112);
+      output.writeEnumNoTag(logicalType);
+    }
+    if (version != 0) {
+      output.writeTagAndUInt32((byte) 120, version);
+    }
+    if (!unknownBytes.isEmpty()) {
+      output.writeRawBytes(unknownBytes);
+    }
+  }
+
+  @Override
+  protected int computeSerializedSize() {
+    int size = 0;
+    if ((streamNameUtf8 != null ? !streamNameUtf8.isEmpty() : !streamName.isEmpty())) {
+      size += 1 + (streamNameUtf8 != null ? ProtoSink.computeBytesSizeNoTag(streamNameUtf8) : ProtoSink.computeStringSizeNoTag(streamName));
+    }
+    if (physicalType != 0) {
+      size += 1 + ProtoSink.computeEnumSizeNoTag(physicalType);
+    }
+    if (generalizedStatements != false) {
+      size += 2;
+    }
+    if (rdfStar != false) {
+      size += 2;
+    }
+    if (maxNameTableSize != 0) {
+      size += 1 + ProtoSink.computeUInt32SizeNoTag(maxNameTableSize);
+    }
+    if (maxPrefixTableSize != 0) {
+      size += 1 + ProtoSink.computeUInt32SizeNoTag(maxPrefixTableSize);
+    }
+    if (maxDatatypeTableSize != 0) {
+      size += 1 + ProtoSink.computeUInt32SizeNoTag(maxDatatypeTableSize);
+    }
+    if (logicalType != 0) {
+      size += 1 + ProtoSink.computeEnumSizeNoTag(logicalType);
+    }
+    if (version != 0) {
+      size += 1 + ProtoSink.computeUInt32SizeNoTag(version);
+    }
+    size += unknownBytes.size();
+    return size;
+  }
+
+  /**
+   * Returns the cached size if the message was not modified since it was computed.
+   */
+  @Override
+  public int getSerializedSize() {
+    if (cachedSize >= 0 && !sizeUntracked) {
+      return cachedSize;
+    }
+    sizeUntracked = false;
+    return super.getSerializedSize();
+  }
+
+  @Override
+  protected void invalidateSize() {
+    ProtoMessage.invalidateSizes(this);
+  }
+
+  @Override
+  protected ProtoMessage<?> getSizeParent() {
+    return sizeParent;
+  }
+
+  @Override
+  protected void setSizeParent(final ProtoMessage<?> parent) {
+    if (sizeParent != parent) {
+      if (sizeParent != null && !sizeShared) {
+        // Modifications are not tracked by the first parent anymore
+        sizeShared = true;
+        ProtoMessage.invalidateSizes(sizeParent);
+      }
+      sizeParent = parent;
+    }
+  }
+
+  @Override
+  protected boolean isSizeTracked() {
+    return !sizeShared && !sizeUntracked;
+  }
+
+  @Override
+  protected void untrackSize() {
+    sizeUntracked = true;
+  }
+
+  @Override
+  public Mutable clone() {
+    return newInstance().copyFrom(this);
+  }
+
+  public static RdfStreamOptions parseFrom(final byte[] data) throws
+      InvalidProtocolBufferException {
+    return ProtoMessage.mergeFrom(newInstance(), data);
+  }
+
+  public static RdfStreamOptions parseFrom(final ByteBuffer data) throws
+      InvalidProtocolBufferException {
+    return ProtoMessage.mergeFrom(newInstance(), data);
+  }
+
+  public static RdfStreamOptions parseFrom(final LimitedCodedInputStream input) throws IOException {
+    return ProtoMessage.mergeFrom(newInstance(), input);
+  }
+
+  public static RdfStreamOptions parseDelimitedFrom(final InputStream input) throws IOException {
+    return ProtoMessage.parseDelimitedFrom(input, RdfStreamOptions.getFactory());
+  }
+
+  public static RdfStreamOptions parseDelimitedFrom(final ByteBuffer input) throws IOException {
+    return ProtoMessage.parseDelimitedFrom(input, RdfStreamOptions.getFactory());
+  }
+
+  /**
+   * @return factory for creating RdfStreamOptions messages
+   */
+  public static MessageFactory<RdfStreamOptions> getFactory() {
+    return RdfStreamOptionsFactory.INSTANCE;
+  }
+
+  private enum RdfStreamOptionsFactory implements MessageFactory<RdfStreamOptions> {
+    INSTANCE;
+
+    @Override
+    public RdfStreamOptions create() {
+      return RdfStreamOptions.newInstance();
+    }
+  }
+
+  /**
+   * Mutable subclass of the parent class.
+   * You can call setters on this class to set the values.
+   * When passing the constructed message to the serializer,
+   * you should use the parent class (using .asImmutable()) to
+   * ensure the message won't be modified by accident.
+   */
+  public static final class Mutable extends RdfStreamOptions {
+    private Mutable() {
+    }
+
+    /**
+     * <code>optional string stream_name = 1;</code>
+     * @param value the streamName to set
+     * @return this
+     */
+    public Mutable setStreamName(final String value) {
+      streamName = value;
+      streamNameUtf8 = null;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * <code>optional string stream_name = 1;</code>
+     * Sets the raw UTF-8 bytes of this field. They are validated here and only decoded
+     * when the field is read as a String.
+     * @param value the UTF-8 encoded streamName to set
+     * @return this
+     * @throws IllegalArgumentException if the bytes are not valid UTF-8
+     */
+    public Mutable setStreamNameUtf8(final ProtoBytes value) {
+      if (!value.isValidUtf8()) {
+        throw new IllegalArgumentException("Byte string is not UTF-8.");
+      }
+      streamNameUtf8 = value;
+      streamName = null;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * <code>optional .eu.ostrzyciel.jelly.core.proto.v1.PhysicalStreamType physical_type = 2;</code>
+     * @param value the physicalType to set
+     * @return this
+     */
+    public Mutable setPhysicalType(final PhysicalStreamType value) {
+      physicalType = value.getNumber();
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * <code>optional bool generalized_statements = 3;</code>
+     * @param value the generalizedStatements to set
+     * @return this
+     */
+    public Mutable setGeneralizedStatements(final boolean value) {
+      generalizedStatements = value;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * <code>optional bool rdf_star = 4;</code>
+     * @param value the rdfStar to set
+     * @return this
+     */
+    public Mutable setRdfStar(final boolean value) {
+      rdfStar = value;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * <code>optional uint32 max_name_table_size = 9;</code>
+     * @param value the maxNameTableSize to set
+     * @return this
+     */
+    public Mutable setMaxNameTableSize(final int value) {
+      maxNameTableSize = value;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * <code>optional uint32 max_prefix_table_size = 10;</code>
+     * @param value the maxPrefixTableSize to set
+     * @return this
+     */
+    public Mutable setMaxPrefixTableSize(final int value) {
+      maxPrefixTableSize = value;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * <code>optional uint32 max_datatype_table_size = 11;</code>
+     * @param value the maxDatatypeTableSize to set
+     * @return this
+     */
+    public Mutable setMaxDatatypeTableSize(final int value) {
+      maxDatatypeTableSize = value;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * <code>optional .eu.ostrzyciel.jelly.core.proto.v1.LogicalStreamType logical_type = 14;</code>
+     * @param value the logicalType to set
+     * @return this
+     */
+    public Mutable setLogicalType(final LogicalStreamType value) {
+      logicalType = value.getNumber();
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * <code>optional uint32 version = 15;</code>
+     * @param value the version to set
+     * @return this
+     */
+    public Mutable setVersion(final int value) {
+      version = value;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    @Override
+    public Mutable copyFrom(final RdfStreamOptions other) {
+      invalidateSize();
+      cachedHashCode = 0;
+      unknownBytes = other.unknownBytes;
+      streamName = other.streamName;
+      streamNameUtf8 = other.streamNameUtf8;
+      physicalType = other.physicalType;
+      generalizedStatements = other.generalizedStatements;
+      rdfStar = other.rdfStar;
+      maxNameTableSize = other.maxNameTableSize;
+      maxPrefixTableSize = other.maxPrefixTableSize;
+      maxDatatypeTableSize = other.maxDatatypeTableSize;
+      logicalType = other.logicalType;
+      version = other.version;
+      return this;
+    }
+
+    @Override
+    public Mutable clear() {
+      invalidateSize();
+      cachedHashCode = 0;
+      unknownBytes = ProtoBytes.EMPTY;
+      streamName = "";
+      streamNameUtf8 = null;
+      physicalType = 0;
+      generalizedStatements = false;
+      rdfStar = false;
+      maxNameTableSize = 0;
+      maxPrefixTableSize = 0;
+      maxDatatypeTableSize = 0;
+      logicalType = 0;
+      version = 0;
+      return this;
+    }
+
+    @Override
+    public Mutable mergeFrom(final RdfStreamOptions other) {
+      invalidateSize();
+      cachedHashCode = 0;
+      unknownBytes = unknownBytes.concat(other.unknownBytes);
+      streamName = other.streamName;
+      streamNameUtf8 = other.streamNameUtf8;
+      setPhysicalTypeValue(other.physicalType);
+      setGeneralizedStatements(other.generalizedStatements);
+      setRdfStar(other.rdfStar);
+      setMaxNameTableSize(other.maxNameTableSize);
+      setMaxPrefixTableSize(other.maxPrefixTableSize);
+      setMaxDatatypeTableSize(other.maxDatatypeTableSize);
+      setLogicalTypeValue(other.logicalType);
+      setVersion(other.version);
+      return this;
+    }
+
+    /**
+     * Parses this message like {@link #mergeFrom(LimitedCodedInputStream)}, without reporting it
+     * to the metrics of the input.
+     */
+    @SuppressWarnings("fallthrough")
+    private Mutable mergeMessageFrom(final LimitedCodedInputStream inputLimited) throws
+        IOException {
+      final long[] skippedFields = inputLimited.getSkippedFields(RdfStreamOptions.getFactory());
+      if (skippedFields != null) {
+        return mergeProjectedFrom(inputLimited, skippedFields);
+      }
+      invalidateSize();
+      cachedHashCode = 0;
+      // Enabled Fall-Through Optimization
+      final LimitedCodedInputStream input = inputLimited;
+      int tag = input.readTag();
+      while (true) {
+        switch (tag) {
+          case 10: {
+            // streamName
+            streamNameUtf8 = input.readBytesRequireUtf8();
+            streamName = null;
+            tag = input.readTag();
+            if (tag != 16) {
+              break;
+            }
+          }
+          case 16: {
+            // physicalType
+            final int value = input.readInt32();
+            if (PhysicalStreamType.forNumber(value) != null) {
+              physicalType = value;
+            }
+            tag = input.readTag();
+            if (tag != 24) {
+              break;
+            }
+          }
+          case 24: {
+            // generalizedStatements
+            generalizedStatements = input.readBool();
+            tag = input.readTag();
+            if (tag != 32) {
+              break;
+            }
+          }
+          case 32: {
+            // rdfStar
+            rdfStar = input.readBool();
+            tag = input.readTag();
+            if (tag != 72) {
+              break;
+            }
+          }
+          case 72: {
+            // maxNameTableSize
+            maxNameTableSize = input.readUInt32();
+            tag = input.readTag();
+            if (tag != 80) {
+              break;
+            }
+          }
+          case 80: {
+            // maxPrefixTableSize
+            maxPrefixTableSize = input.readUInt32();
+            tag = input.readTag();
+            if (tag != 88) {
+              break;
+            }
+          }
+          case 88: {
+            // maxDatatypeTableSize
+            maxDatatypeTableSize = input.readUInt32();
+            tag = input.readTag();
+            if (tag != 112) {
+              break;
+            }
+          }
+          case 112: {
+            // logicalType
+            final int value = input.readInt32();
+            if (LogicalStreamType.forNumber(value) != null) {
+              logicalType = value;
+            }
+            tag = input.readTag();
+            if (tag != 120) {
+              break;
+            }
+          }
+          case 120: {
+            // version
+            version = input.readUInt32();
+            tag = input.readTag();
+            if (tag != 0) {
+              break;
+            }
+          }
+          case 0: {
+            return this;
+          }
+          default: {
+            if (ProtoMetrics.ENABLED && inputLimited.getMetrics() != null) {
+              inputLimited.getMetrics().unknownField(this, tag);
+            }
+            final ProtoBytes unknown = ProtoMessage.readUnknownField(inputLimited, tag, unknownBytes);
+            if (unknown == null) {
+              return this;
+            }
+            unknownBytes = unknown;
+            tag = input.readTag();
+            break;
+          }
+        }
+      }
+    }
+
+    /**
+     * Parses this message like {@link #mergeFrom(LimitedCodedInputStream)}, but skips the fields
+     * in the given bit set.
+     */
+    private Mutable mergeProjectedFrom(final LimitedCodedInputStream inputLimited,
+        final long[] skippedFields) throws IOException {
+      invalidateSize();
+      cachedHashCode = 0;
+      final LimitedCodedInputStream input = inputLimited;
+      int tag = input.readTag();
+      while (true) {
+        if (ProjectionMask.isSkipped(skippedFields, tag)) {
+          if (!input.skipField(tag)) {
+            return this;
+          }
+          tag = input.readTag();
+          continue;
+        }
+        switch (tag) {
+          case 10: {
+            // streamName
+            streamNameUtf8 = input.readBytesRequireUtf8();
+            streamName = null;
+            tag = input.readTag();
+            break;
+          }
+          case 16: {
+            // physicalType
+            final int value = input.readInt32();
+            if (PhysicalStreamType.forNumber(value) != null) {
+              physicalType = value;
+            }
+            tag = input.readTag();
+            break;
+          }
+          case 24: {
+            // generalizedStatements
+            generalizedStatements = input.readBool();
+            tag = input.readTag();
+            break;
+          }
+          case 32: {
+            // rdfStar
+            rdfStar = input.readBool();
+            tag = input.readTag();
+            break;
+          }
+          case 72: {
+            // maxNameTableSize
+            maxNameTableSize = input.readUInt32();
+            tag = input.readTag();
+            break;
+          }
+          case 80: {
+            // maxPrefixTableSize
+            maxPrefixTableSize = input.readUInt32();
+            tag = input.readTag();
+            break;
+          }
+          case 88: {
+            // maxDatatypeTableSize
+            maxDatatypeTableSize = input.readUInt32();
+            tag = input.readTag();
+            break;
+          }
+          case 112: {
+            // logicalType
+            final int value = input.readInt32();
+            if (LogicalStreamType.forNumber(value) != null) {
+              logicalType = value;
+            }
+            tag = input.readTag();
+            break;
+          }
+          case 120: {
+            // version
+            version = input.readUInt32();
+            tag = input.readTag();
+            break;
+          }
+          case 0: {
+            return this;
+          }
+          default: {
+            if (ProtoMetrics.ENABLED && inputLimited.getMetrics() != null) {
+              inputLimited.getMetrics().unknownField(this, tag);
+            }
+            final ProtoBytes unknown = ProtoMessage.readUnknownField(inputLimited, tag, unknownBytes);
+            if (unknown == null) {
+              return this;
+            }
+            unknownBytes = unknown;
+            tag = input.readTag();
+            break;
+          }
+        }
+      }
+    }
+
+    @Override
+    public Mutable mergeFrom(final LimitedCodedInputStream inputLimited) throws IOException {
+      if (ProtoMetrics.ENABLED && inputLimited.getMetrics() != null) {
+        final int start = inputLimited.getTotalBytesRead();
+        mergeMessageFrom(inputLimited);
+        final int bytes = inputLimited.getTotalBytesRead() - start;
+        inputLimited.getMetrics().messageDecoded(this, bytes, inputLimited.getRecursionDepth());
+        return this;
+      }
+      return mergeMessageFrom(inputLimited);
+    }
+
+    /**
+     * Returns this message as an immutable message, without any copies.
+     */
+    public RdfStreamOptions asImmutable() {
+      return this;
+    }
+  }
+}
@@ -0,0 +1,1228 @@
+// Code generated by NeverBlink protoc-java-fast. Do not edit!
+package eu.neverblink.jelly.core.proto.v1;
+
+import eu.neverblink.protoc.java.runtime.InvalidProtocolBufferException;
+import eu.neverblink.protoc.java.runtime.LimitedCodedInputStream;
+import eu.neverblink.protoc.java.runtime.MessageFactory;
+import eu.neverblink.protoc.java.runtime.MessageInterner;
+import eu.neverblink.protoc.java.runtime.ProjectionMask;
+import eu.neverblink.protoc.java.runtime.ProtoBytes;
+import eu.neverblink.protoc.java.runtime.ProtoMessage;
+import eu.neverblink.protoc.java.runtime.ProtoMetrics;
+import eu.neverblink.protoc.java.runtime.ProtoSink;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Protobuf type {@code RdfStreamRow}
+ * DO NOT INHERIT FROM THIS CLASS!
+ * It's not <code>final</code> only to facilitate the Mutable nested subclass.
+ */
+@SuppressWarnings("hiding")
+public abstract class RdfStreamRow extends ProtoMessage<RdfStreamRow> implements Cloneable {
+  public static final byte OPTIONS = 1;
+
+  public static final byte TRIPLE = 2;
+
+  public static final byte QUAD = 3;
+
+  public static final byte GRAPH_START = 4;
+
+  public static final byte GRAPH_END = 5;
+
+  public static final byte NAMESPACE = 6;
+
+  public static final byte NAME = 9;
+
+  public static final byte PREFIX = 10;
+
+  public static final byte DATATYPE = 11;
+
+  public static final int OPTIONS_FIELD_NUMBER = 1;
+
+  public static final int TRIPLE_FIELD_NUMBER = 2;
+
+  public static final int QUAD_FIELD_NUMBER = 3;
+
+  public static final int GRAPH_START_FIELD_NUMBER = 4;
+
+  public static final int GRAPH_END_FIELD_NUMBER = 5;
+
+  public static final int NAMESPACE_FIELD_NUMBER = 6;
+
+  public static final int NAME_FIELD_NUMBER = 9;
+
+  public static final int PREFIX_FIELD_NUMBER = 10;
+
+  public static final int DATATYPE_FIELD_NUMBER = 11;
+
+  /**
+   * <code>oneof row { ... }</code>
+   */
+  protected Object row = null;
+
+  protected byte rowNumber = 0;
+
+  /**
+   * Result of {@link #hashCode()}, or 0 if it needs to be computed.
+   */
+  protected int cachedHashCode;
+
+  /**
+   * Message whose cached size includes the size of this message, or null.
+   */
+  protected ProtoMessage<?> sizeParent;
+
+  /**
+   * Whether this message was linked to more than one size parent.
+   */
+  protected boolean sizeShared;
+
+  /**
+   * Whether the cached size includes shared messages, so that it has to be computed again.
+   */
+  protected boolean sizeUntracked;
+
+  /**
+   * Fields that were not recognized while parsing, in their serialized form.
+   */
+  protected ProtoBytes unknownBytes = ProtoBytes.EMPTY;
+
+  private RdfStreamRow() {
+  }
+
+  /**
+   * @return a new empty instance of {@code Mutable}
+   */
+  public static Mutable newInstance() {
+    return new Mutable();
+  }
+
+  /**
+   * Returns the fields that were not recognized while parsing, for example fields added
+   * in a newer version of the schema. They are written back as they were read when this
+   * message is serialized.
+   *
+   * @return the unknown fields in their serialized form, including their tags
+   */
+  public ProtoBytes getUnknownBytes() {
+    return unknownBytes;
+  }
+
+  public boolean hasRow() {
+    return rowNumber != 0;
+  }
+
+  /**
+   * Returns the <code>row</code> oneof field.
+   */
+  public Object getRow() {
+    return row;
+  }
+
+  /**
+   * Returns the set field number of the <code>row</code> oneof field.
+   */
+  public byte getRowFieldNumber() {
+    return rowNumber;
+  }
+
+  /**
+   * Returns the <code>row</code> oneof field.
+   * Use with care, as it will not check if the correct field number is actually set.
+   */
+  public RdfStreamOptions getOptions() {
+    return (RdfStreamOptions) row;
+  }
+
+  /**
+   * Checks if the <code>row</code> oneof is set to options.
+   */
+  public boolean hasOptions() {
+    return rowNumber == 1;
+  }
+
+  /**
+   * Returns the <code>row</code> oneof field.
+   * Use with care, as it will not check if the correct field number is actually set.
+   */
+  public RdfTriple getTriple() {
+    return (RdfTriple) row;
+  }
+
+  /**
+   * Checks if the <code>row</code> oneof is set to triple.
+   */
+  public boolean hasTriple() {
+    return rowNumber == 2;
+  }
+
+  /**
+   * Returns the <code>row</code> oneof field.
+   * Use with care, as it will not check if the correct field number is actually set.
+   */
+  public RdfQuad getQuad() {
+    return (RdfQuad) row;
+  }
+
+  /**
+   * Checks if the <code>row</code> oneof is set to quad.
+   */
+  public boolean hasQuad() {
+    return rowNumber == 3;
+  }
+
+  /**
+   * Returns the <code>row</code> oneof field.
+   * Use with care, as it will not check if the correct field number is actually set.
+   */
+  public RdfGraphStart getGraphStart() {
+    return (RdfGraphStart) row;
+  }
+
+  /**
+   * Checks if the <code>row</code> oneof is set to graphStart.
+   */
+  public boolean hasGraphStart() {
+    return rowNumber == 4;
+  }
+
+  /**
+   * Returns the <code>row</code> oneof field.
+   * Use with care, as it will not check if the correct field number is actually set.
+   */
+  public RdfGraphEnd getGraphEnd() {
+    return (RdfGraphEnd) row;
+  }
+
+  /**
+   * Checks if the <code>row</code> oneof is set to graphEnd.
+   */
+  public boolean hasGraphEnd() {
+    return rowNumber == 5;
+  }
+
+  /**
+   * Returns the <code>row</code> oneof field.
+   * Use with care, as it will not check if the correct field number is actually set.
+   */
+  public RdfNamespaceDeclaration getNamespace() {
+    return (RdfNamespaceDeclaration) row;
+  }
+
+  /**
+   * Checks if the <code>row</code> oneof is set to namespace.
+   */
+  public boolean hasNamespace() {
+    return rowNumber == 6;
+  }
+
+  /**
+   * Returns the <code>row</code> oneof field.
+   * Use with care, as it will not check if the correct field number is actually set.
+   */
+  public RdfNameEntry getName() {
+    return (RdfNameEntry) row;
+  }
+
+  /**
+   * Checks if the <code>row</code> oneof is set to name.
+   */
+  public boolean hasName() {
+    return rowNumber == 9;
+  }
+
+  /**
+   * Returns the <code>row</code> oneof field.
+   * Use with care, as it will not check if the correct field number is actually set.
+   */
+  public RdfPrefixEntry getPrefix() {
+    return (RdfPrefixEntry) row;
+  }
+
+  /**
+   * Checks if the <code>row</code> oneof is set to prefix.
+   */
+  public boolean hasPrefix() {
+    return rowNumber == 10;
+  }
+
+  /**
+   * Returns the <code>row</code> oneof field.
+   * Use with care, as it will not check if the correct field number is actually set.
+   */
+  public RdfDatatypeEntry getDatatype() {
+    return (RdfDatatypeEntry) row;
+  }
+
+  /**
+   * Checks if the <code>row</code> oneof is set to datatype.
+   */
+  public boolean hasDatatype() {
+    return rowNumber == 11;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (o == this) {
+      return true;
+    }
+    if (!(o instanceof RdfStreamRow)) {
+      return false;
+    }
+    RdfStreamRow other = (RdfStreamRow) o;
+    return rowNumber == other.rowNumber && (rowNumber == 0 || row.equals(other.row))
+      && unknownBytes.equals(other.unknownBytes);
+  }
+
+  @Override
+  public int hashCode() {
+    int _hash = cachedHashCode;
+    if (_hash == 0) {
+      _hash = 1;
+      _hash = 0x01000193 * _hash + rowNumber;
+      if (rowNumber != 0) {
+        _hash = 0x01000193 * _hash + row.hashCode();
+      }
+      _hash = 0x01000193 * _hash + unknownBytes.hashCode();
+      cachedHashCode = _hash;
+    }
+    return _hash;
+  }
+
+  @Override
+  public void writeTo(final ProtoSink output) throws IOException {
+    switch (rowNumber) {
+      case 1: {
+        final var options = getOptions();
+        output.writeTagAndUInt32((byte) 10, options.getCachedSize());
+        options.writeTo(output);
+        break;
+      }
+      case 2: {
+        final var triple = getTriple();
+        output.writeTagAndUInt32((byte) 18, triple.getCachedSize());
+        triple.writeTo(output);
+        break;
+      }
+      case 3: {
+        final var quad = getQuad();
+        output.writeTagAndUInt32((byte) 26, quad.getCachedSize());
+        quad.writeTo(output);
+        break;
+      }
+      case 4: {
+        final var graphStart = getGraphStart();
+        output.writeTagAndUInt32((byte) 34, graphStart.getCachedSize());
+        graphStart.writeTo(output);
+        break;
+      }
+      case 5: {
+        final var graphEnd = getGraphEnd();
+        output.writeTagAndUInt32((byte) 42, graphEnd.getCachedSize());
+        graphEnd.writeTo(output);
+        break;
+      }
+      case 6: {
+        final var namespace = getNamespace();
+        output.writeTagAndUInt32((byte) 50, namespace.getCachedSize());
+        namespace.writeTo(output);
+        break;
+      }
+      case 9: {
+        final var name = getName();
+        output.writeTagAndUInt32((byte) 74, name.getCachedSize());
+        name.writeTo(output);
+        break;
+      }
+      case 10: {
+        final var prefix = getPrefix();
+        output.writeTagAndUInt32((byte) 82, prefix.getCachedSize());
+        prefix.writeTo(output);
+        break;
+      }
+      case 11: {
+        final var datatype = getDatatype();
+        output.writeTagAndUInt32((byte) 90, datatype.getCachedSize());
+        datatype.writeTo(output);
+        break;
+      }
+    }
+    if (!unknownBytes.isEmpty()) {
+      output.writeRawBytes(unknownBytes);
+    }
+  }
+
+  @Override
+  protected int computeSerializedSize() {
+    int size = 0;
+    switch (rowNumber) {
+      case 1: {
+        final var options = getOptions();
+        final int dataSize = ProtoMessage.computeNestedSize(options, this);
+        size += 1 + ProtoSink.computeUInt32SizeNoTag(dataSize) + dataSize;
+        break;
+      }
+      case 2: {
+        final var triple = getTriple();
+        final int dataSize = ProtoMessage.computeNestedSize(triple, this);
+        size += 1 + ProtoSink.computeUInt32SizeNoTag(dataSize) + dataSize;
+        break;
+      }
+      case 3: {
+        final var quad = getQuad();
+        final int dataSize = ProtoMessage.computeNestedSize(quad, this);
+        size += 1 + ProtoSink.computeUInt32SizeNoTag(dataSize) + dataSize;
+        break;
+      }
+      case 4: {
+        final var graphStart = getGraphStart();
+        final int dataSize = ProtoMessage.computeNestedSize(graphStart, this);
+        size += 1 + ProtoSink.computeUInt32SizeNoTag(dataSize) + dataSize;
+        break;
+      }
+      case 5: {
+        final var graphEnd = getGraphEnd();
+        final int dataSize = ProtoMessage.computeNestedSize(graphEnd, this);
+        size += 1 + ProtoSink.computeUInt32SizeNoTag(dataSize) + dataSize;
+        break;
+      }
+      case 6: {
+        final var namespace = getNamespace();
+        final int dataSize = ProtoMessage.computeNestedSize(namespace, this);
+        size += 1 + ProtoSink.computeUInt32SizeNoTag(dataSize) + dataSize;
+        break;
+      }
+      case 9: {
+        final var name = getName();
+        final int dataSize = ProtoMessage.computeNestedSize(name, this);
+        size += 1 + ProtoSink.computeUInt32SizeNoTag(dataSize) + dataSize;
+        break;
+      }
+      case 10: {
+        final var prefix = getPrefix();
+        final int dataSize = ProtoMessage.computeNestedSize(prefix, this);
+        size += 1 + ProtoSink.computeUInt32SizeNoTag(dataSize) + dataSize;
+        break;
+      }
+      case 11: {
+        final var datatype = getDatatype();
+        final int dataSize = ProtoMessage.computeNestedSize(datatype, this);
+        size += 1 + ProtoSink.computeUInt32SizeNoTag(dataSize) + dataSize;
+        break;
+      }
+    }
+    size += unknownBytes.size();
+    return size;
+  }
+
+  /**
+   * Returns the cached size if the message was not modified since it was computed.
+   */
+  @Override
+  public int getSerializedSize() {
+    if (cachedSize >= 0 && !sizeUntracked) {
+      return cachedSize;
+    }
+    sizeUntracked = false;
+    return super.getSerializedSize();
+  }
+
+  @Override
+  protected void invalidateSize() {
+    ProtoMessage.invalidateSizes(this);
+  }
+
+  @Override
+  protected ProtoMessage<?> getSizeParent() {
+    return sizeParent;
+  }
+
+  @Override
+  protected void setSizeParent(final ProtoMessage<?> parent) {
+    if (sizeParent != parent) {
+      if (sizeParent != null && !sizeShared) {
+        // Modifications are not tracked by the first parent anymore
+        sizeShared = true;
+        ProtoMessage.invalidateSizes(sizeParent);
+      }
+      sizeParent = parent;
+    }
+  }
+
+  @Override
+  protected boolean isSizeTracked() {
+    return !sizeShared && !sizeUntracked;
+  }
+
+  @Override
+  protected void untrackSize() {
+    sizeUntracked = true;
+  }
+
+  @Override
+  protected boolean hasOneOfMember() {
+    return rowNumber != 0;
+  }
+
+  @Override
+  public Mutable clone() {
+    return newInstance().copyFrom(this);
+  }
+
+  public static RdfStreamRow parseFrom(final byte[] data) throws InvalidProtocolBufferException {
+    return ProtoMessage.mergeFrom(newInstance(), data);
+  }
+
+  public static RdfStreamRow parseFrom(final ByteBuffer data) throws
+      InvalidProtocolBufferException {
+    return ProtoMessage.mergeFrom(newInstance(), data);
+  }
+
+  public static RdfStreamRow parseFrom(final LimitedCodedInputStream input) throws IOException {
+    return ProtoMessage.mergeFrom(newInstance(), input);
+  }
+
+  public static RdfStreamRow parseDelimitedFrom(final InputStream input) throws IOException {
+    return ProtoMessage.parseDelimitedFrom(input, RdfStreamRow.getFactory());
+  }
+
+  public static RdfStreamRow parseDelimitedFrom(final ByteBuffer input) throws IOException {
+    return ProtoMessage.parseDelimitedFrom(input, RdfStreamRow.getFactory());
+  }
+
+  /**
+   * @return factory for creating RdfStreamRow messages
+   */
+  public static MessageFactory<RdfStreamRow> getFactory() {
+    return RdfStreamRowFactory.INSTANCE;
+  }
+
+  private enum RdfStreamRowFactory implements MessageFactory<RdfStreamRow> {
+    INSTANCE;
+
+    @Override
+    public RdfStreamRow create() {
+      return RdfStreamRow.newInstance();
+    }
+  }
+
+  /**
+   * Mutable subclass of the parent class.
+   * You can call setters on this class to set the values.
+   * When passing the constructed message to the serializer,
+   * you should use the parent class (using .asImmutable()) to
+   * ensure the message won't be modified by accident.
+   */
+  public static final class Mutable extends RdfStreamRow {
+    private Mutable() {
+    }
+
+    /**
+     * Low-level setter for the <code>row</code> oneof field.
+     * Use with care, as it will not check the type of the value.
+     */
+    public Mutable setRow(Object row, byte number) {
+      this.row = row;
+      this.rowNumber = number;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * Sets the <code>row</code> oneof field to options.
+     */
+    public Mutable setOptions(RdfStreamOptions options) {
+      this.row = options;
+      this.rowNumber = 1;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * Sets the <code>row</code> oneof field to triple.
+     */
+    public Mutable setTriple(RdfTriple triple) {
+      this.row = triple;
+      this.rowNumber = 2;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * Sets the <code>row</code> oneof field to quad.
+     */
+    public Mutable setQuad(RdfQuad quad) {
+      this.row = quad;
+      this.rowNumber = 3;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * Sets the <code>row</code> oneof field to graphStart.
+     */
+    public Mutable setGraphStart(RdfGraphStart graphStart) {
+      this.row = graphStart;
+      this.rowNumber = 4;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * Sets the <code>row</code> oneof field to graphEnd.
+     */
+    public Mutable setGraphEnd(RdfGraphEnd graphEnd) {
+      this.row = graphEnd;
+      this.rowNumber = 5;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * Sets the <code>row</code> oneof field to namespace.
+     */
+    public Mutable setNamespace(RdfNamespaceDeclaration namespace) {
+      this.row = namespace;
+      this.rowNumber = 6;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * Sets the <code>row</code> oneof field to name.
+     */
+    public Mutable setName(RdfNameEntry name) {
+      this.row = name;
+      this.rowNumber = 9;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * Sets the <code>row</code> oneof field to prefix.
+     */
+    public Mutable setPrefix(RdfPrefixEntry prefix) {
+      this.row = prefix;
+      this.rowNumber = 10;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * Sets the <code>row</code> oneof field to datatype.
+     */
+    public Mutable setDatatype(RdfDatatypeEntry datatype) {
+      this.row = datatype;
+      this.rowNumber = 11;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    @Override
+    public Mutable copyFrom(final RdfStreamRow other) {
+      invalidateSize();
+      cachedHashCode = 0;
+      unknownBytes = other.unknownBytes;
+      switch (other.rowNumber) {
+        case 1: {
+          this.row = ((RdfStreamOptions) other.row).clone();
+          break;
+        }
+        case 2: {
+          this.row = ((RdfTriple) other.row).clone();
+          break;
+        }
+        case 3: {
+          this.row = ((RdfQuad) other.row).clone();
+          break;
+        }
+        case 4: {
+          this.row = ((RdfGraphStart) other.row).clone();
+          break;
+        }
+        case 5: {
+          this.row = ((RdfGraphEnd) other.row).clone();
+          break;
+        }
+        case 6: {
+          this.row = ((RdfNamespaceDeclaration) other.row).clone();
+          break;
+        }
+        case 9: {
+          this.row = ((RdfNameEntry) other.row).clone();
+          break;
+        }
+        case 10: {
+          this.row = ((RdfPrefixEntry) other.row).clone();
+          break;
+        }
+        case 11: {
+          this.row = ((RdfDatatypeEntry) other.row).clone();
+          break;
+        }
+        default: {
+          this.row = other.row;
+        }
+      }
+      this.rowNumber = other.rowNumber;
+      return this;
+    }
+
+    @Override
+    public Mutable clear() {
+      invalidateSize();
+      cachedHashCode = 0;
+      unknownBytes = ProtoBytes.EMPTY;
+      this.rowNumber = 0;
+      return this;
+    }
+
+    @Override
+    public Mutable mergeFrom(final RdfStreamRow other) {
+      invalidateSize();
+      cachedHashCode = 0;
+      unknownBytes = unknownBytes.concat(other.unknownBytes);
+      switch (other.rowNumber) {
+        case 1: {
+          this.row = ((RdfStreamOptions) other.row).clone();
+          break;
+        }
+        case 2: {
+          this.row = ((RdfTriple) other.row).clone();
+          break;
+        }
+        case 3: {
+          this.row = ((RdfQuad) other.row).clone();
+          break;
+        }
+        case 4: {
+          this.row = ((RdfGraphStart) other.row).clone();
+          break;
+        }
+        case 5: {
+          this.row = ((RdfGraphEnd) other.row).clone();
+          break;
+        }
+        case 6: {
+          this.row = ((RdfNamespaceDeclaration) other.row).clone();
+          break;
+        }
+        case 9: {
+          this.row = ((RdfNameEntry) other.row).clone();
+          break;
+        }
+        case 10: {
+          this.row = ((RdfPrefixEntry) other.row).clone();
+          break;
+        }
+        case 11: {
+          this.row = ((RdfDatatypeEntry) other.row).clone();
+          break;
+        }
+        default: {
+          this.row = other.row;
+        }
+      }
+      this.rowNumber = other.rowNumber;
+      return this;
+    }
+
+    /**
+     * Parses this message like {@link #mergeFrom(LimitedCodedInputStream)}, without reporting it
+     * to the metrics of the input.
+     */
+    @SuppressWarnings("fallthrough")
+    private Mutable mergeMessageFrom(final LimitedCodedInputStream inputLimited) throws
+        IOException {
+      final long[] skippedFields = inputLimited.getSkippedFields(RdfStreamRow.getFactory());
+      if (skippedFields != null) {
+        return mergeProjectedFrom(inputLimited, skippedFields);
+      }
+      invalidateSize();
+      cachedHashCode = 0;
+      // Enabled Fall-Through Optimization
+      final LimitedCodedInputStream input = inputLimited;
+      int tag = input.readTag();
+      while (true) {
+        switch (tag) {
+          case 26: {
+            // quad
+            final RdfQuad quad;
+            if (rowNumber == 3) {
+              quad = getQuad();
+            }
+            else if (rowNumber == 0 && row instanceof RdfQuad) {
+              quad = ((RdfQuad) row).clear();
+              setQuad(quad);
+            }
+            else {
+              quad = RdfQuad.newInstance();
+              setQuad(quad);
+            }
+            ProtoMessage.mergeDelimitedFrom(quad, inputLimited);
+            tag = input.readTag();
+            if (tag != 74) {
+              break;
+            }
+          }
+          case 74: {
+            // name
+            final MessageInterner interner = inputLimited.getInterner();
+            if (interner != null) {
+              setName(interner.readDelimited(rowNumber == 9 ? getName() : null, RdfNameEntry.getFactory(), inputLimited));
+            } else {
+              final RdfNameEntry name;
+              if (rowNumber == 9) {
+                name = getName();
+              }
+              else if (rowNumber == 0 && row instanceof RdfNameEntry) {
+                name = ((RdfNameEntry) row).clear();
+                setName(name);
+              }
+              else {
+                name = RdfNameEntry.newInstance();
+                setName(name);
+              }
+              ProtoMessage.mergeDelimitedFrom(name, inputLimited);
+            }
+            tag = input.readTag();
+            if (tag != 82) {
+              break;
+            }
+          }
+          case 82: {
+            // prefix
+            final MessageInterner interner = inputLimited.getInterner();
+            if (interner != null) {
+              setPrefix(interner.readDelimited(rowNumber == 10 ? getPrefix() : null, RdfPrefixEntry.getFactory(), inputLimited));
+            } else {
+              final RdfPrefixEntry prefix;
+              if (rowNumber == 10) {
+                prefix = getPrefix();
+              }
+              else if (rowNumber == 0 && row instanceof RdfPrefixEntry) {
+                prefix = ((RdfPrefixEntry) row).clear();
+                setPrefix(prefix);
+              }
+              else {
+                prefix = RdfPrefixEntry.newInstance();
+                setPrefix(prefix);
+              }
+              ProtoMessage.mergeDelimitedFrom(prefix, inputLimited);
+            }
+            tag = input.readTag();
+            if (tag != 90) {
+              break;
+            }
+          }
+          case 90: {
+            // datatype
+            final MessageInterner interner = inputLimited.getInterner();
+            if (interner != null) {
+              setDatatype(interner.readDelimited(rowNumber == 11 ? getDatatype() : null, RdfDatatypeEntry.getFactory(), inputLimited));
+            } else {
+              final RdfDatatypeEntry datatype;
+              if (rowNumber == 11) {
+                datatype = getDatatype();
+              }
+              else if (rowNumber == 0 && row instanceof RdfDatatypeEntry) {
+                datatype = ((RdfDatatypeEntry) row).clear();
+                setDatatype(datatype);
+              }
+              else {
+                datatype = RdfDatatypeEntry.newInstance();
+                setDatatype(datatype);
+              }
+              ProtoMessage.mergeDelimitedFrom(datatype, inputLimited);
+            }
+            tag = input.readTag();
+            if (tag != 10) {
+              break;
+            }
+          }
+          case 10: {
+            // options
+            final MessageInterner interner = inputLimited.getInterner();
+            if (interner != null) {
+              setOptions(interner.readDelimited(rowNumber == 1 ? getOptions() : null, RdfStreamOptions.getFactory(), inputLimited));
+            } else {
+              final RdfStreamOptions options;
+              if (rowNumber == 1) {
+                options = getOptions();
+              }
+              else if (rowNumber == 0 && row instanceof RdfStreamOptions) {
+                options = ((RdfStreamOptions) row).clear();
+                setOptions(options);
+              }
+              else {
+                options = RdfStreamOptions.newInstance();
+                setOptions(options);
+              }
+              ProtoMessage.mergeDelimitedFrom(options, inputLimited);
+            }
+            tag = input.readTag();
+            if (tag != 34) {
+              break;
+            }
+          }
+          case 34: {
+            // graphStart
+            final RdfGraphStart graphStart;
+            if (rowNumber == 4) {
+              graphStart = getGraphStart();
+            }
+            else if (rowNumber == 0 && row instanceof RdfGraphStart) {
+              graphStart = ((RdfGraphStart) row).clear();
+              setGraphStart(graphStart);
+            }
+            else {
+              graphStart = RdfGraphStart.newInstance();
+              setGraphStart(graphStart);
+            }
+            ProtoMessage.mergeDelimitedFrom(graphStart, inputLimited);
+            tag = input.readTag();
+            if (tag != 42) {
+              break;
+            }
+          }
+          case 42: {
+            // graphEnd
+            final MessageInterner interner = inputLimited.getInterner();
+            if (interner != null) {
+              setGraphEnd(interner.readDelimited(rowNumber == 5 ? getGraphEnd() : null, RdfGraphEnd.getFactory(), inputLimited));
+            } else {
+              final RdfGraphEnd graphEnd;
+              if (rowNumber == 5) {
+                graphEnd = getGraphEnd();
+              }
+              else if (rowNumber == 0 && row instanceof RdfGraphEnd) {
+                graphEnd = ((RdfGraphEnd) row).clear();
+                setGraphEnd(graphEnd);
+              }
+              else {
+                graphEnd = RdfGraphEnd.newInstance();
+                setGraphEnd(graphEnd);
+              }
+              ProtoMessage.mergeDelimitedFrom(graphEnd, inputLimited);
+            }
+            tag = input.readTag();
+            if (tag != 50) {
+              break;
+            }
+          }
+          case 50: {
+            // namespace
+            final RdfNamespaceDeclaration namespace;
+            if (rowNumber == 6) {
+              namespace = getNamespace();
+            }
+            else if (rowNumber == 0 && row instanceof RdfNamespaceDeclaration) {
+              namespace = ((RdfNamespaceDeclaration) row).clear();
+              setNamespace(namespace);
+            }
+            else {
+              namespace = RdfNamespaceDeclaration.newInstance();
+              setNamespace(namespace);
+            }
+            ProtoMessage.mergeDelimitedFrom(namespace, inputLimited);
+            tag = input.readTag();
+            if (tag != 18) {
+              break;
+            }
+          }
+          case 18: {
+            // triple
+            final RdfTriple triple;
+            if (rowNumber == 2) {
+              triple = getTriple();
+            }
+            else if (rowNumber == 0 && row instanceof RdfTriple) {
+              triple = ((RdfTriple) row).clear();
+              setTriple(triple);
+            }
+            else {
+              triple = RdfTriple.newInstance();
+              setTriple(triple);
+            }
+            ProtoMessage.mergeDelimitedFrom(triple, inputLimited);
+            tag = input.readTag();
+            if (tag != 0) {
+              break;
+            }
+          }
+          case 0: {
+            return this;
+          }
+          default: {
+            if (ProtoMetrics.ENABLED && inputLimited.getMetrics() != null) {
+              inputLimited.getMetrics().unknownField(this, tag);
+            }
+            final ProtoBytes unknown = ProtoMessage.readUnknownField(inputLimited, tag, unknownBytes);
+            if (unknown == null) {
+              return this;
+            }
+            unknownBytes = unknown;
+            tag = input.readTag();
+            break;
+          }
+        }
+      }
+    }
+
+    /**
+     * Parses this message like {@link #mergeFrom(LimitedCodedInputStream)}, but skips the fields
+     * in the given bit set.
+     */
+    private Mutable mergeProjectedFrom(final LimitedCodedInputStream inputLimited,
+        final long[] skippedFields) throws IOException {
+      invalidateSize();
+      cachedHashCode = 0;
+      final LimitedCodedInputStream input = inputLimited;
+      int tag = input.readTag();
+      while (true) {
+        if (ProjectionMask.isSkipped(skippedFields, tag)) {
+          if (!input.skipField(tag)) {
+            return this;
+          }
+          tag = input.readTag();
+          continue;
+        }
+        switch (tag) {
+          case 26: {
+            // quad
+            final RdfQuad quad;
+            if (rowNumber == 3) {
+              quad = getQuad();
+            }
+            else if (rowNumber == 0 && row instanceof RdfQuad) {
+              quad = ((RdfQuad) row).clear();
+              setQuad(quad);
+            }
+            else {
+              quad = RdfQuad.newInstance();
+              setQuad(quad);
+            }
+            ProtoMessage.mergeDelimitedFrom(quad, inputLimited);
+            tag = input.readTag();
+            break;
+          }
+          case 74: {
+            // name
+            final MessageInterner interner = inputLimited.getInterner();
+            if (interner != null) {
+              setName(interner.readDelimited(rowNumber == 9 ? getName() : null, RdfNameEntry.getFactory(), inputLimited));
+            } else {
+              final RdfNameEntry name;
+              if (rowNumber == 9) {
+                name = getName();
+              }
+              else if (rowNumber == 0 && row instanceof RdfNameEntry) {
+                name = ((RdfNameEntry) row).clear();
+                setName(name);
+              }
+              else {
+                name = RdfNameEntry.newInstance();
+                setName(name);
+              }
+              ProtoMessage.mergeDelimitedFrom(name, inputLimited);
+            }
+            tag = input.readTag();
+            break;
+          }
+          case 82: {
+            // prefix
+            final MessageInterner interner = inputLimited.getInterner();
+            if (interner != null) {
+              setPrefix(interner.readDelimited(rowNumber == 10 ? getPrefix() : null, RdfPrefixEntry.getFactory(), inputLimited));
+            } else {
+              final RdfPrefixEntry prefix;
+              if (rowNumber == 10) {
+                prefix = getPrefix();
+              }
+              else if (rowNumber == 0 && row instanceof RdfPrefixEntry) {
+                prefix = ((RdfPrefixEntry) row).clear();
+                setPrefix(prefix);
+              }
+              else {
+                prefix = RdfPrefixEntry.newInstance();
+                setPrefix(prefix);
+              }
+              ProtoMessage.mergeDelimitedFrom(prefix, inputLimited);
+            }
+            tag = input.readTag();
+            break;
+          }
+          case 90: {
+            // datatype
+            final MessageInterner interner = inputLimited.getInterner();
+            if (interner != null) {
+              setDatatype(interner.readDelimited(rowNumber == 11 ? getDatatype() : null, RdfDatatypeEntry.getFactory(), inputLimited));
+            } else {
+              final RdfDatatypeEntry datatype;
+              if (rowNumber == 11) {
+                datatype = getDatatype();
+              }
+              else if (rowNumber == 0 && row instanceof RdfDatatypeEntry) {
+                datatype = ((RdfDatatypeEntry) row).clear();
+                setDatatype(datatype);
+              }
+              else {
+                datatype = RdfDatatypeEntry.newInstance();
+                setDatatype(datatype);
+              }
+              ProtoMessage.mergeDelimitedFrom(datatype, inputLimited);
+            }
+            tag = input.readTag();
+            break;
+          }
+          case 10: {
+            // options
+            final MessageInterner interner = inputLimited.getInterner();
+            if (interner != null) {
+              setOptions(interner.readDelimited(rowNumber == 1 ? getOptions() : null, RdfStreamOptions.getFactory(), inputLimited));
+            } else {
+              final RdfStreamOptions options;
+              if (rowNumber == 1) {
+                options = getOptions();
+              }
+              else if (rowNumber == 0 && row instanceof RdfStreamOptions) {
+                options = ((RdfStreamOptions) row).clear();
+                setOptions(options);
+              }
+              else {
+                options = RdfStreamOptions.newInstance();
+                setOptions(options);
+              }
+              ProtoMessage.mergeDelimitedFrom(options, inputLimited);
+            }
+            tag = input.readTag();
+            break;
+          }
+          case 34: {
+            // graphStart
+            final RdfGraphStart graphStart;
+            if (rowNumber == 4) {
+              graphStart = getGraphStart();
+            }
+            else if (rowNumber == 0 && row instanceof RdfGraphStart) {
+              graphStart = ((RdfGraphStart) row).clear();
+              setGraphStart(graphStart);
+            }
+            else {
+              graphStart = RdfGraphStart.newInstance();
+              setGraphStart(graphStart);
+            }
+            ProtoMessage.mergeDelimitedFrom(graphStart, inputLimited);
+            tag = input.readTag();
+            break;
+          }
+          case 42: {
+            // graphEnd
+            final MessageInterner interner = inputLimited.getInterner();
+            if (interner != null) {
+              setGraphEnd(interner.readDelimited(rowNumber == 5 ? getGraphEnd() : null, RdfGraphEnd.getFactory(), inputLimited));
+            } else {
+              final RdfGraphEnd graphEnd;
+              if (rowNumber == 5) {
+                graphEnd = getGraphEnd();
+              }
+              else if (rowNumber == 0 && row instanceof RdfGraphEnd) {
+                graphEnd = ((RdfGraphEnd) row).clear();
+                setGraphEnd(graphEnd);
+              }
+              else {
+                graphEnd = RdfGraphEnd.newInstance();
+                setGraphEnd(graphEnd);
+              }
+              ProtoMessage.mergeDelimitedFrom(graphEnd, inputLimited);
+            }
+            tag = input.readTag();
+            break;
+          }
+          case 50: {
+            // namespace
+            final RdfNamespaceDeclaration namespace;
+            if (rowNumber == 6) {
+              namespace = getNamespace();
+            }
+            else if (rowNumber == 0 && row instanceof RdfNamespaceDeclaration) {
+              namespace = ((RdfNamespaceDeclaration) row).clear();
+              setNamespace(namespace);
+            }
+            else {
+              namespace = RdfNamespaceDeclaration.newInstance();
+              setNamespace(namespace);
+            }
+            ProtoMessage.mergeDelimitedFrom(namespace, inputLimited);
+            tag = input.readTag();
+            break;
+          }
+          case 18: {
+            // triple
+            final RdfTriple triple;
+            if (rowNumber == 2) {
+              triple = getTriple();
+            }
+            else if (rowNumber == 0 && row instanceof RdfTriple) {
+              triple = ((RdfTriple) row).clear();
+              setTriple(triple);
+            }
+            else {
+              triple = RdfTriple.newInstance();
+              setTriple(triple);
+            }
+            ProtoMessage.mergeDelimitedFrom(triple, inputLimited);
+            tag = input.readTag();
+            break;
+          }
+          case 0: {
+            return this;
+          }
+          default: {
+            if (ProtoMetrics.ENABLED && inputLimited.getMetrics() != null) {
+              inputLimited.getMetrics().unknownField(this, tag);
+            }
+            final ProtoBytes unknown = ProtoMessage.readUnknownField(inputLimited, tag, unknownBytes);
+            if (unknown == null) {
+              return this;
+            }
+            unknownBytes = unknown;
+            tag = input.readTag();
+            break;
+          }
+        }
+      }
+    }
+
+    @Override
+    public Mutable mergeFrom(final LimitedCodedInputStream inputLimited) throws IOException {
+      if (ProtoMetrics.ENABLED && inputLimited.getMetrics() != null) {
+        final int start = inputLimited.getTotalBytesRead();
+        mergeMessageFrom(inputLimited);
+        final int bytes = inputLimited.getTotalBytesRead() - start;
+        inputLimited.getMetrics().messageDecoded(this, bytes, inputLimited.getRecursionDepth());
+        return this;
+      }
+      return mergeMessageFrom(inputLimited);
+    }
+
+    /**
+     * Returns this message as an immutable message, without any copies.
+     */
+    public RdfStreamRow asImmutable() {
+      return this;
+    }
+  }
+}
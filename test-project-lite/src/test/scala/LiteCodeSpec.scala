@@ -0,0 +1,99 @@
+import eu.neverblink.jelly.core.proto.v1.*
+import eu.neverblink.protoc.java.runtime.*
+import org.scalatest.matchers.should.Matchers
+import org.scalatest.wordspec.AnyWordSpec
+
+import java.io.{ByteArrayInputStream, ByteArrayOutputStream}
+import java.nio.ByteBuffer
+
+class LiteCodeSpec extends AnyWordSpec, Matchers:
+  private def frame(rows: Int, offset: Int): RdfStreamFrame =
+    val f = RdfStreamFrame.newInstance()
+    for i <- 0 until rows do
+      f.getRows.add(RdfStreamRow.newInstance().setTriple(
+        RdfTriple.newInstance()
+          .setSIri(RdfIri.newInstance().setPrefixId(offset + i).setNameId(i))
+          .setPIri(RdfIri.newInstance().setNameId(offset))
+          .setOLiteral(RdfLiteral.newInstance().setLex(s"literal żółw $i").setLangtag("pl"))
+      ))
+    f.getMetadata.add(RdfStreamFrame.MetadataEntry.newInstance()
+      .setKey("key").setValue(ProtoBytes.copyFrom(Array[Byte](0, -1, 42))))
+    f
+
+  "lite generated code" should {
+    "run without protobuf-java on the classpath" in {
+      an[ClassNotFoundException] should be thrownBy Class.forName("com.google.protobuf.CodedInputStream")
+      RdfStreamFrame.parseFrom(frame(3, 1).toByteArray) shouldBe frame(3, 1)
+    }
+
+    "round-trip frames through arrays, buffers and streams" in {
+      val frames = (1 to 5).map(i => frame(i, i))
+      val out = ByteArrayOutputStream()
+      frames.foreach(_.writeDelimitedTo(out))
+      val bytes = out.toByteArray
+      val direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip()
+      val heap = ByteBuffer.wrap(bytes)
+      val in = ByteArrayInputStream(bytes)
+
+      for f <- frames do
+        val size = f.getSerializedSize
+        f.toByteArray.length shouldBe size
+        RdfStreamFrame.parseFrom(f.toByteArray) shouldBe f
+        RdfStreamFrame.parseFrom(ByteBuffer.wrap(f.toByteArray)) shouldBe f
+        RdfStreamFrame.parseDelimitedFrom(direct) shouldBe f
+        RdfStreamFrame.parseDelimitedFrom(heap) shouldBe f
+        RdfStreamFrame.parseDelimitedFrom(in) shouldBe f
+      RdfStreamFrame.parseDelimitedFrom(direct) shouldBe null
+      RdfStreamFrame.parseDelimitedFrom(heap) shouldBe null
+      RdfStreamFrame.parseDelimitedFrom(in) shouldBe null
+
+      val parsed = RdfStreamFrame.parseFrom(frames(0).toByteArray)
+      parsed.getMetadata.get(0).getValue.toByteArray shouldBe Array[Byte](0, -1, 42)
+      parsed.getRows.get(0).getTriple.getOLiteral.getLex shouldBe "literal żółw 0"
+    }
+
+    "keep unknown fields and write them back verbatim" in {
+      val known = frame(2, 7).toByteArray
+      // Field 20 with a varint, field 21 with two length-delimited bytes
+      val bytes = known ++ Array[Byte](-96, 1, -84, 2, -86, 1, 2, 'a', 'b')
+      val parsed = RdfStreamFrame.parseFrom(bytes)
+      parsed.getUnknownBytes.size shouldBe 9
+      parsed.toByteArray shouldBe bytes
+    }
+
+    "reject malformed input with its own exception" in {
+      val bytes = frame(2, 1).toByteArray
+      an[InvalidProtocolBufferException] should be thrownBy
+        RdfStreamFrame.parseFrom(bytes.take(bytes.length - 1))
+      val truncated = ByteBuffer.allocateDirect(2).put(Array[Byte](10, 5)).flip()
+      an[InvalidProtocolBufferException] should be thrownBy RdfStreamFrame.parseDelimitedFrom(truncated)
+      val malformed = Array[Byte](-1, -1, -1, -1, -1, -1, -1, -1, -1, -1)
+      an[InvalidProtocolBufferException] should be thrownBy
+        RdfStreamFrame.parseDelimitedFrom(ByteArrayInputStream(malformed))
+      // An overlong encoding of NUL in a lazily decoded string
+      an[InvalidProtocolBufferException] should be thrownBy RdfLiteral.parseFrom(Array[Byte](10, 2, -64, -128))
+    }
+
+    "write messages through every ProtoSink backend" in {
+      val f = frame(4, 3)
+      val expected = f.toByteArray
+      val out = ByteArrayOutputStream()
+      val streamSink = ProtoSink.newInstance(out, 16)
+      f.writeTo(streamSink)
+      streamSink.flush()
+      out.toByteArray shouldBe expected
+
+      val array = new Array[Byte](expected.length)
+      val arraySink = ProtoSink.newInstance(array)
+      f.writeTo(arraySink)
+      array shouldBe expected
+
+      val direct = ByteBuffer.allocateDirect(expected.length)
+      val bufferSink = ProtoSink.newInstance(direct)
+      f.writeTo(bufferSink)
+      bufferSink.flush()
+      val written = new Array[Byte](expected.length)
+      direct.flip().get(written)
+      written shouldBe expected
+    }
+  }
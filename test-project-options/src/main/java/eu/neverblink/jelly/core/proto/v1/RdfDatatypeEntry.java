@@ -0,0 +1,515 @@
+// Code generated by NeverBlink protoc-java-fast. Do not edit!
+package eu.neverblink.jelly.core.proto.v1;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.InvalidProtocolBufferException;
+import eu.neverblink.protoc.java.runtime.LimitedCodedInputStream;
+import eu.neverblink.protoc.java.runtime.MessageFactory;
+import eu.neverblink.protoc.java.runtime.ProjectionMask;
+import eu.neverblink.protoc.java.runtime.ProtoMessage;
+import eu.neverblink.protoc.java.runtime.ProtoMetrics;
+import eu.neverblink.protoc.java.runtime.ProtoSink;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Protobuf type {@code RdfDatatypeEntry}
+ * DO NOT INHERIT FROM THIS CLASS!
+ * It's not <code>final</code> only to facilitate the Mutable nested subclass.
+ */
+@SuppressWarnings("hiding")
+public abstract class RdfDatatypeEntry extends ProtoMessage<RdfDatatypeEntry> implements Cloneable {
+  public static final int ID_FIELD_NUMBER = 1;
+
+  public static final int VALUE__FIELD_NUMBER = 2;
+
+  /**
+   * <code>optional uint32 id = 1;</code>
+   */
+  protected int id;
+
+  /**
+   * <code>optional string value = 2;</code>
+   */
+  protected String value_ = "";
+
+  /**
+   * Raw UTF-8 bytes of {@code value_} as read from the wire, or null if the value was set
+   * as a String. While this is set, {@code value_} is null until it is first decoded.
+   */
+  protected ByteString value_Utf8 = null;
+
+  /**
+   * Result of {@link #hashCode()}, or 0 if it needs to be computed.
+   */
+  protected int cachedHashCode;
+
+  /**
+   * Message whose cached size includes the size of this message, or null.
+   */
+  protected ProtoMessage<?> sizeParent;
+
+  /**
+   * Whether this message was linked to more than one size parent.
+   */
+  protected boolean sizeShared;
+
+  /**
+   * Whether the cached size includes shared messages, so that it has to be computed again.
+   */
+  protected boolean sizeUntracked;
+
+  /**
+   * Fields that were not recognized while parsing, in their serialized form.
+   */
+  protected ByteString unknownBytes = ByteString.EMPTY;
+
+  private RdfDatatypeEntry() {
+  }
+
+  /**
+   * @return a new empty instance of {@code Mutable}
+   */
+  public static Mutable newInstance() {
+    return new Mutable();
+  }
+
+  /**
+   * Returns the fields that were not recognized while parsing, for example fields added
+   * in a newer version of the schema. They are written back as they were read when this
+   * message is serialized.
+   *
+   * @return the unknown fields in their serialized form, including their tags
+   */
+  public ByteString getUnknownBytes() {
+    return unknownBytes;
+  }
+
+  /**
+   * <code>optional uint32 id = 1;</code>
+   * @return the id
+   */
+  public int getId() {
+    return id;
+  }
+
+  /**
+   * <code>optional string value = 2;</code>
+   * @return the value_
+   */
+  public String getValue() {
+    if (value_ == null) {
+      value_ = value_Utf8.toStringUtf8();
+    }
+    return value_;
+  }
+
+  /**
+   * <code>optional string value = 2;</code>
+   * Returns the UTF-8 encoding of this field without decoding it.
+   * @return the UTF-8 encoded value_
+   */
+  public ByteString getValueUtf8() {
+    if (value_Utf8 == null) {
+      value_Utf8 = ByteString.copyFromUtf8(value_);
+    }
+    return value_Utf8;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (o == this) {
+      return true;
+    }
+    if (!(o instanceof RdfDatatypeEntry)) {
+      return false;
+    }
+    RdfDatatypeEntry other = (RdfDatatypeEntry) o;
+    return id == other.id
+      && (value_Utf8 != null && other.value_Utf8 != null ? value_Utf8.equals(other.value_Utf8) : getValue().equals(other.getValue()))
+      && unknownBytes.equals(other.unknownBytes);
+  }
+
+  @Override
+  public int hashCode() {
+    int _hash = cachedHashCode;
+    if (_hash == 0) {
+      _hash = 1;
+      _hash = 0x01000193 * _hash + id;
+      _hash = 0x01000193 * _hash + getValueUtf8().hashCode();
+      _hash = 0x01000193 * _hash + unknownBytes.hashCode();
+      cachedHashCode = _hash;
+    }
+    return _hash;
+  }
+
+  @Override
+  public void writeTo(final CodedOutputStream output) throws IOException {
+    if (id != 0) {
+      output.writeRawByte((byte) 8);
+      output.writeUInt32NoTag(id);
+    }
+    if ((value_Utf8 != null ? !value_Utf8.isEmpty() : !value_.isEmpty())) {
+      output.writeRawByte((byte) 18);
+      if (value_Utf8 != null) {
+        output.writeBytesNoTag(value_Utf8);
+      } else {
+        output.writeStringNoTag(value_);
+      }
+    }
+    if (!unknownBytes.isEmpty()) {
+      output.writeRawBytes(unknownBytes);
+    }
+  }
+
+  @Override
+  public void writeTo(final ProtoSink output) throws IOException {
+    if (id != 0) {
+      output.writeTagAndUInt32((byte) 8, id);
+    }
+    if ((value_Utf8 != null ? !value_Utf8.isEmpty() : !value_.isEmpty())) {
+      output.writeRawByte((byte) 18);
+      if (value_Utf8 != null) {
+        output.writeBytesNoTag(value_Utf8);
+      } else {
+        output.writeStringNoTag(value_);
+      }
+    }
+    if (!unknownBytes.isEmpty()) {
+      output.writeRawBytes(unknownBytes);
+    }
+  }
+
+  @Override
+  protected int computeSerializedSize() {
+    int size = 0;
+    if (id != 0) {
+      size += 1 + CodedOutputStream.computeUInt32SizeNoTag(id);
+    }
+    if ((value_Utf8 != null ? !value_Utf8.isEmpty() : !value_.isEmpty())) {
+      size += 1 + (value_Utf8 != null ? CodedOutputStream.computeBytesSizeNoTag(value_Utf8) : CodedOutputStream.computeStringSizeNoTag(value_));
+    }
+    size += unknownBytes.size();
+    return size;
+  }
+
+  /**
+   * Returns the cached size if the message was not modified since it was computed.
+   */
+  @Override
+  public int getSerializedSize() {
+    if (cachedSize >= 0 && !sizeUntracked) {
+      return cachedSize;
+    }
+    sizeUntracked = false;
+    return super.getSerializedSize();
+  }
+
+  @Override
+  protected void invalidateSize() {
+    ProtoMessage.invalidateSizes(this);
+  }
+
+  @Override
+  protected ProtoMessage<?> getSizeParent() {
+    return sizeParent;
+  }
+
+  @Override
+  protected void setSizeParent(final ProtoMessage<?> parent) {
+    if (sizeParent != parent) {
+      if (sizeParent != null && !sizeShared) {
+        // Modifications are not tracked by the first parent anymore
+        sizeShared = true;
+        ProtoMessage.invalidateSizes(sizeParent);
+      }
+      sizeParent = parent;
+    }
+  }
+
+  @Override
+  protected boolean isSizeTracked() {
+    return !sizeShared && !sizeUntracked;
+  }
+
+  @Override
+  protected void untrackSize() {
+    sizeUntracked = true;
+  }
+
+  @Override
+  protected boolean readsArrayInput() {
+    return true;
+  }
+
+  @Override
+  protected boolean writesProtoSink() {
+    return true;
+  }
+
+  @Override
+  public Mutable clone() {
+    return newInstance().copyFrom(this);
+  }
+
+  public static RdfDatatypeEntry parseFrom(final byte[] data) throws
+      InvalidProtocolBufferException {
+    return ProtoMessage.mergeFrom(newInstance(), data);
+  }
+
+  public static RdfDatatypeEntry parseFrom(final ByteBuffer data) throws
+      InvalidProtocolBufferException {
+    return ProtoMessage.mergeFrom(newInstance(), data);
+  }
+
+  public static RdfDatatypeEntry parseFrom(final LimitedCodedInputStream input) throws IOException {
+    return ProtoMessage.mergeFrom(newInstance(), input);
+  }
+
+  public static RdfDatatypeEntry parseDelimitedFrom(final InputStream input) throws IOException {
+    return ProtoMessage.parseDelimitedFrom(input, RdfDatatypeEntry.getFactory());
+  }
+
+  public static RdfDatatypeEntry parseDelimitedFrom(final ByteBuffer input) throws IOException {
+    return ProtoMessage.parseDelimitedFrom(input, RdfDatatypeEntry.getFactory());
+  }
+
+  /**
+   * @return factory for creating RdfDatatypeEntry messages
+   */
+  public static MessageFactory<RdfDatatypeEntry> getFactory() {
+    return RdfDatatypeEntryFactory.INSTANCE;
+  }
+
+  /**
+   * @return this type's descriptor.
+   */
+  public static Descriptors.Descriptor getDescriptor() {
+    return Rdf.eu_ostrzyciel_jelly_core_proto_v1_RdfDatatypeEntry_descriptor;
+  }
+
+  private enum RdfDatatypeEntryFactory implements MessageFactory<RdfDatatypeEntry> {
+    INSTANCE;
+
+    @Override
+    public RdfDatatypeEntry create() {
+      return RdfDatatypeEntry.newInstance();
+    }
+  }
+
+  /**
+   * Mutable subclass of the parent class.
+   * You can call setters on this class to set the values.
+   * When passing the constructed message to the serializer,
+   * you should use the parent class (using .asImmutable()) to
+   * ensure the message won't be modified by accident.
+   */
+  public static final class Mutable extends RdfDatatypeEntry {
+    private Mutable() {
+    }
+
+    /**
+     * <code>optional uint32 id = 1;</code>
+     * @param value the id to set
+     * @return this
+     */
+    public Mutable setId(final int value) {
+      id = value;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * <code>optional string value = 2;</code>
+     * @param value the value_ to set
+     * @return this
+     */
+    public Mutable setValue(final String value) {
+      value_ = value;
+      value_Utf8 = null;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * <code>optional string value = 2;</code>
+     * Sets the raw UTF-8 bytes of this field. They are validated here and only decoded
+     * when the field is read as a String.
+     * @param value the UTF-8 encoded value_ to set
+     * @return this
+     * @throws IllegalArgumentException if the bytes are not valid UTF-8
+     */
+    public Mutable setValueUtf8(final ByteString value) {
+      if (!value.isValidUtf8()) {
+        throw new IllegalArgumentException("Byte string is not UTF-8.");
+      }
+      value_Utf8 = value;
+      value_ = null;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    @Override
+    public Mutable copyFrom(final RdfDatatypeEntry other) {
+      invalidateSize();
+      cachedHashCode = 0;
+      unknownBytes = other.unknownBytes;
+      id = other.id;
+      value_ = other.value_;
+      value_Utf8 = other.value_Utf8;
+      return this;
+    }
+
+    @Override
+    public Mutable clear() {
+      invalidateSize();
+      cachedHashCode = 0;
+      unknownBytes = ByteString.EMPTY;
+      id = 0;
+      value_ = "";
+      value_Utf8 = null;
+      return this;
+    }
+
+    @Override
+    public Mutable mergeFrom(final RdfDatatypeEntry other) {
+      invalidateSize();
+      cachedHashCode = 0;
+      unknownBytes = unknownBytes.concat(other.unknownBytes);
+      setId(other.id);
+      value_ = other.value_;
+      value_Utf8 = other.value_Utf8;
+      return this;
+    }
+
+    /**
+     * Parses this message like {@link #mergeFrom(LimitedCodedInputStream)}, without reporting it
+     * to the metrics of the input.
+     */
+    @SuppressWarnings("fallthrough")
+    private Mutable mergeMessageFrom(final LimitedCodedInputStream inputLimited) throws
+        IOException {
+      final long[] skippedFields = inputLimited.getSkippedFields(RdfDatatypeEntry.getFactory());
+      if (skippedFields != null) {
+        return mergeProjectedFrom(inputLimited, skippedFields);
+      }
+      invalidateSize();
+      cachedHashCode = 0;
+      // Enabled Fall-Through Optimization
+      final LimitedCodedInputStream input = inputLimited;
+      int tag = input.readTag();
+      while (true) {
+        switch (tag) {
+          case 8: {
+            // id
+            id = input.readUInt32();
+            tag = input.readTag();
+            if (tag != 18) {
+              break;
+            }
+          }
+          case 18: {
+            // value_
+            value_Utf8 = input.readBytesRequireUtf8();
+            value_ = null;
+            tag = input.readTag();
+            if (tag != 0) {
+              break;
+            }
+          }
+          case 0: {
+            return this;
+          }
+          default: {
+            if (ProtoMetrics.ENABLED && inputLimited.getMetrics() != null) {
+              inputLimited.getMetrics().unknownField(this, tag);
+            }
+            final ByteString unknown = ProtoMessage.readUnknownField(inputLimited, tag, unknownBytes);
+            if (unknown == null) {
+              return this;
+            }
+            unknownBytes = unknown;
+            tag = input.readTag();
+            break;
+          }
+        }
+      }
+    }
+
+    /**
+     * Parses this message like {@link #mergeFrom(LimitedCodedInputStream)}, but skips the fields
+     * in the given bit set.
+     */
+    private Mutable mergeProjectedFrom(final LimitedCodedInputStream inputLimited,
+        final long[] skippedFields) throws IOException {
+      invalidateSize();
+      cachedHashCode = 0;
+      final LimitedCodedInputStream input = inputLimited;
+      int tag = input.readTag();
+      while (true) {
+        if (ProjectionMask.isSkipped(skippedFields, tag)) {
+          if (!input.skipField(tag)) {
+            return this;
+          }
+          tag = input.readTag();
+          continue;
+        }
+        switch (tag) {
+          case 8: {
+            // id
+            id = input.readUInt32();
+            tag = input.readTag();
+            break;
+          }
+          case 18: {
+            // value_
+            value_Utf8 = input.readBytesRequireUtf8();
+            value_ = null;
+            tag = input.readTag();
+            break;
+          }
+          case 0: {
+            return this;
+          }
+          default: {
+            if (ProtoMetrics.ENABLED && inputLimited.getMetrics() != null) {
+              inputLimited.getMetrics().unknownField(this, tag);
+            }
+            final ByteString unknown = ProtoMessage.readUnknownField(inputLimited, tag, unknownBytes);
+            if (unknown == null) {
+              return this;
+            }
+            unknownBytes = unknown;
+            tag = input.readTag();
+            break;
+          }
+        }
+      }
+    }
+
+    @Override
+    public Mutable mergeFrom(final LimitedCodedInputStream inputLimited) throws IOException {
+      if (ProtoMetrics.ENABLED && inputLimited.getMetrics() != null) {
+        final int start = inputLimited.getTotalBytesRead();
+        mergeMessageFrom(inputLimited);
+        final int bytes = inputLimited.getTotalBytesRead() - start;
+        inputLimited.getMetrics().messageDecoded(this, bytes, inputLimited.getRecursionDepth());
+        return this;
+      }
+      return mergeMessageFrom(inputLimited);
+    }
+
+    /**
+     * Returns this message as an immutable message, without any copies.
+     */
+    public RdfDatatypeEntry asImmutable() {
+      return this;
+    }
+  }
+}
@@ -0,0 +1,673 @@
+// Code generated by NeverBlink protoc-java-fast. Do not edit!
+package eu.neverblink.jelly.core.proto.v1;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.InvalidProtocolBufferException;
+import eu.neverblink.protoc.java.runtime.LimitedCodedInputStream;
+import eu.neverblink.protoc.java.runtime.MessageFactory;
+import eu.neverblink.protoc.java.runtime.ProjectionMask;
+import eu.neverblink.protoc.java.runtime.ProtoMessage;
+import eu.neverblink.protoc.java.runtime.ProtoMetrics;
+import eu.neverblink.protoc.java.runtime.ProtoSink;
+import eu.neverblink.protoc.java.runtime.ProtoUtil;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Protobuf type {@code RdfLiteral}
+ * DO NOT INHERIT FROM THIS CLASS!
+ * It's not <code>final</code> only to facilitate the Mutable nested subclass.
+ */
+@SuppressWarnings("hiding")
+public abstract class RdfLiteral extends ProtoMessage<RdfLiteral> implements Cloneable {
+  public static final byte LANGTAG = 2;
+
+  public static final byte DATATYPE = 3;
+
+  public static final int LEX_FIELD_NUMBER = 1;
+
+  public static final int LANGTAG_FIELD_NUMBER = 2;
+
+  public static final int DATATYPE_FIELD_NUMBER = 3;
+
+  /**
+   * <code>optional string lex = 1;</code>
+   */
+  protected String lex = "";
+
+  /**
+   * Raw UTF-8 bytes of {@code lex} as read from the wire, or null if the value was set
+   * as a String. While this is set, {@code lex} is null until it is first decoded.
+   */
+  protected ByteString lexUtf8 = null;
+
+  /**
+   * <code>oneof literalKind { ... }</code>
+   */
+  protected Object literalKind = null;
+
+  protected byte literalKindNumber = 0;
+
+  /**
+   * Value of the <code>literalKind</code> oneof field if a primitive member is set.
+   */
+  protected long literalKindPrimitive;
+
+  /**
+   * Result of {@link #hashCode()}, or 0 if it needs to be computed.
+   */
+  protected int cachedHashCode;
+
+  /**
+   * Message whose cached size includes the size of this message, or null.
+   */
+  protected ProtoMessage<?> sizeParent;
+
+  /**
+   * Whether this message was linked to more than one size parent.
+   */
+  protected boolean sizeShared;
+
+  /**
+   * Whether the cached size includes shared messages, so that it has to be computed again.
+   */
+  protected boolean sizeUntracked;
+
+  /**
+   * Fields that were not recognized while parsing, in their serialized form.
+   */
+  protected ByteString unknownBytes = ByteString.EMPTY;
+
+  private RdfLiteral() {
+  }
+
+  /**
+   * @return a new empty instance of {@code Mutable}
+   */
+  public static Mutable newInstance() {
+    return new Mutable();
+  }
+
+  /**
+   * Returns the fields that were not recognized while parsing, for example fields added
+   * in a newer version of the schema. They are written back as they were read when this
+   * message is serialized.
+   *
+   * @return the unknown fields in their serialized form, including their tags
+   */
+  public ByteString getUnknownBytes() {
+    return unknownBytes;
+  }
+
+  public boolean hasLiteralKind() {
+    return literalKindNumber != 0;
+  }
+
+  /**
+   * Returns the <code>literalKind</code> oneof field.
+   */
+  public Object getLiteralKind() {
+    switch (literalKindNumber) {
+      case 3: return getDatatype();
+      case 2: return getLangtag();
+      default: return literalKind;
+    }
+  }
+
+  /**
+   * Returns the set field number of the <code>literalKind</code> oneof field.
+   */
+  public byte getLiteralKindFieldNumber() {
+    return literalKindNumber;
+  }
+
+  /**
+   * Returns the <code>literalKind</code> oneof field.
+   * Use with care, as it will not check if the correct field number is actually set.
+   */
+  public String getLangtag() {
+    if (literalKind instanceof ByteString) {
+      literalKind = ((ByteString) literalKind).toStringUtf8();
+    }
+    return (String) literalKind;
+  }
+
+  /**
+   * Checks if the <code>literalKind</code> oneof is set to langtag.
+   */
+  public boolean hasLangtag() {
+    return literalKindNumber == 2;
+  }
+
+  /**
+   * Returns the <code>literalKind</code> oneof field.
+   * Use with care, as it will not check if the correct field number is actually set.
+   */
+  public int getDatatype() {
+    return (int) literalKindPrimitive;
+  }
+
+  /**
+   * Checks if the <code>literalKind</code> oneof is set to datatype.
+   */
+  public boolean hasDatatype() {
+    return literalKindNumber == 3;
+  }
+
+  /**
+   * <code>optional string lex = 1;</code>
+   * @return the lex
+   */
+  public String getLex() {
+    if (lex == null) {
+      lex = lexUtf8.toStringUtf8();
+    }
+    return lex;
+  }
+
+  /**
+   * <code>optional string lex = 1;</code>
+   * Returns the UTF-8 encoding of this field without decoding it.
+   * @return the UTF-8 encoded lex
+   */
+  public ByteString getLexUtf8() {
+    if (lexUtf8 == null) {
+      lexUtf8 = ByteString.copyFromUtf8(lex);
+    }
+    return lexUtf8;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (o == this) {
+      return true;
+    }
+    if (!(o instanceof RdfLiteral)) {
+      return false;
+    }
+    RdfLiteral other = (RdfLiteral) o;
+    return (lexUtf8 != null && other.lexUtf8 != null ? lexUtf8.equals(other.lexUtf8) : getLex().equals(other.getLex()))
+      && literalKindNumber == other.literalKindNumber && (literalKindNumber == 0 || (literalKindNumber == 3 ? literalKindPrimitive == other.literalKindPrimitive : ProtoUtil.isEqualOneOfValue(literalKind, other.literalKind)))
+      && unknownBytes.equals(other.unknownBytes);
+  }
+
+  @Override
+  public int hashCode() {
+    int _hash = cachedHashCode;
+    if (_hash == 0) {
+      _hash = 1;
+      _hash = 0x01000193 * _hash + getLexUtf8().hashCode();
+      _hash = 0x01000193 * _hash + literalKindNumber;
+      if (literalKindNumber != 0) {
+        _hash = 0x01000193 * _hash + (literalKindNumber == 3 ? Long.hashCode(literalKindPrimitive) : getLiteralKind().hashCode());
+      }
+      _hash = 0x01000193 * _hash + unknownBytes.hashCode();
+      cachedHashCode = _hash;
+    }
+    return _hash;
+  }
+
+  @Override
+  public void writeTo(final CodedOutputStream output) throws IOException {
+    if ((lexUtf8 != null ? !lexUtf8.isEmpty() : !lex.isEmpty())) {
+      output.writeRawByte((byte) 10);
+      if (lexUtf8 != null) {
+        output.writeBytesNoTag(lexUtf8);
+      } else {
+        output.writeStringNoTag(lex);
+      }
+    }
+    switch (literalKindNumber) {
+      case 2: {
+        final var langtagUtf8 = literalKind instanceof ByteString ? (ByteString) literalKind : null;
+        final var langtag = langtagUtf8 == null ? (String) literalKind : null;
+        output.writeRawByte((byte) 18);
+        if (langtagUtf8 != null) {
+          output.writeBytesNoTag(langtagUtf8);
+        } else {
+          output.writeStringNoTag(langtag);
+        }
+        break;
+      }
+      case 3: {
+        final var datatype = getDatatype();
+        output.writeRawByte((byte) 24);
+        output.writeUInt32NoTag(datatype);
+        break;
+      }
+    }
+    if (!unknownBytes.isEmpty()) {
+      output.writeRawBytes(unknownBytes);
+    }
+  }
+
+  @Override
+  public void writeTo(final ProtoSink output) throws IOException {
+    if ((lexUtf8 != null ? !lexUtf8.isEmpty() : !lex.isEmpty())) {
+      output.writeRawByte((byte) 10);
+      if (lexUtf8 != null) {
+        output.writeBytesNoTag(lexUtf8);
+      } else {
+        output.writeStringNoTag(lex);
+      }
+    }
+    switch (literalKindNumber) {
+      case 2: {
+        final var langtagUtf8 = literalKind instanceof ByteString ? (ByteString) literalKind : null;
+        final var langtag = langtagUtf8 == null ? (String) literalKind : null;
+        output.writeRawByte((byte) 18);
+        if (langtagUtf8 != null) {
+          output.writeBytesNoTag(langtagUtf8);
+        } else {
+          output.writeStringNoTag(langtag);
+        }
+        break;
+      }
+      case 3: {
+        final var datatype = getDatatype();
+        output.writeTagAndUInt32((byte) 24, datatype);
+        break;
+      }
+    }
+    if (!unknownBytes.isEmpty()) {
+      output.writeRawBytes(unknownBytes);
+    }
+  }
+
+  @Override
+  protected int computeSerializedSize() {
+    int size = 0;
+    if ((lexUtf8 != null ? !lexUtf8.isEmpty() : !lex.isEmpty())) {
+      size += 1 + (lexUtf8 != null ? CodedOutputStream.computeBytesSizeNoTag(lexUtf8) : CodedOutputStream.computeStringSizeNoTag(lex));
+    }
+    switch (literalKindNumber) {
+      case 2: {
+        final var langtagUtf8 = literalKind instanceof ByteString ? (ByteString) literalKind : null;
+        final var langtag = langtagUtf8 == null ? (String) literalKind : null;
+        size += 1 + (langtagUtf8 != null ? CodedOutputStream.computeBytesSizeNoTag(langtagUtf8) : CodedOutputStream.computeStringSizeNoTag(langtag));
+        break;
+      }
+      case 3: {
+        final var datatype = getDatatype();
+        size += 1 + CodedOutputStream.computeUInt32SizeNoTag(datatype);
+        break;
+      }
+    }
+    size += unknownBytes.size();
+    return size;
+  }
+
+  /**
+   * Returns the cached size if the message was not modified since it was computed.
+   */
+  @Override
+  public int getSerializedSize() {
+    if (cachedSize >= 0 && !sizeUntracked) {
+      return cachedSize;
+    }
+    sizeUntracked = false;
+    return super.getSerializedSize();
+  }
+
+  @Override
+  protected void invalidateSize() {
+    ProtoMessage.invalidateSizes(this);
+  }
+
+  @Override
+  protected ProtoMessage<?> getSizeParent() {
+    return sizeParent;
+  }
+
+  @Override
+  protected void setSizeParent(final ProtoMessage<?> parent) {
+    if (sizeParent != parent) {
+      if (sizeParent != null && !sizeShared) {
+        // Modifications are not tracked by the first parent anymore
+        sizeShared = true;
+        ProtoMessage.invalidateSizes(sizeParent);
+      }
+      sizeParent = parent;
+    }
+  }
+
+  @Override
+  protected boolean isSizeTracked() {
+    return !sizeShared && !sizeUntracked;
+  }
+
+  @Override
+  protected void untrackSize() {
+    sizeUntracked = true;
+  }
+
+  @Override
+  protected boolean hasOneOfMember() {
+    return literalKindNumber != 0;
+  }
+
+  @Override
+  protected boolean readsArrayInput() {
+    return true;
+  }
+
+  @Override
+  protected boolean writesProtoSink() {
+    return true;
+  }
+
+  @Override
+  public Mutable clone() {
+    return newInstance().copyFrom(this);
+  }
+
+  public static RdfLiteral parseFrom(final byte[] data) throws InvalidProtocolBufferException {
+    return ProtoMessage.mergeFrom(newInstance(), data);
+  }
+
+  public static RdfLiteral parseFrom(final ByteBuffer data) throws InvalidProtocolBufferException {
+    return ProtoMessage.mergeFrom(newInstance(), data);
+  }
+
+  public static RdfLiteral parseFrom(final LimitedCodedInputStream input) throws IOException {
+    return ProtoMessage.mergeFrom(newInstance(), input);
+  }
+
+  public static RdfLiteral parseDelimitedFrom(final InputStream input) throws IOException {
+    return ProtoMessage.parseDelimitedFrom(input, RdfLiteral.getFactory());
+  }
+
+  public static RdfLiteral parseDelimitedFrom(final ByteBuffer input) throws IOException {
+    return ProtoMessage.parseDelimitedFrom(input, RdfLiteral.getFactory());
+  }
+
+  /**
+   * @return factory for creating RdfLiteral messages
+   */
+  public static MessageFactory<RdfLiteral> getFactory() {
+    return RdfLiteralFactory.INSTANCE;
+  }
+
+  /**
+   * @return this type's descriptor.
+   */
+  public static Descriptors.Descriptor getDescriptor() {
+    return Rdf.eu_ostrzyciel_jelly_core_proto_v1_RdfLiteral_descriptor;
+  }
+
+  private enum RdfLiteralFactory implements MessageFactory<RdfLiteral> {
+    INSTANCE;
+
+    @Override
+    public RdfLiteral create() {
+      return RdfLiteral.newInstance();
+    }
+  }
+
+  /**
+   * Mutable subclass of the parent class.
+   * You can call setters on this class to set the values.
+   * When passing the constructed message to the serializer,
+   * you should use the parent class (using .asImmutable()) to
+   * ensure the message won't be modified by accident.
+   */
+  public static final class Mutable extends RdfLiteral {
+    private Mutable() {
+    }
+
+    /**
+     * Low-level setter for the <code>literalKind</code> oneof field.
+     * Use with care, as it will not check the type of the value.
+     */
+    public Mutable setLiteralKind(Object literalKind, byte number) {
+      switch (number) {
+        case 3: {
+          this.literalKindPrimitive = (Integer) literalKind;
+          break;
+        }
+        default: {
+          this.literalKind = literalKind;
+        }
+      }
+      this.literalKindNumber = number;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * Sets the <code>literalKind</code> oneof field to langtag.
+     */
+    public Mutable setLangtag(String langtag) {
+      this.literalKind = langtag;
+      this.literalKindNumber = 2;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * Sets the <code>literalKind</code> oneof field to datatype.
+     */
+    public Mutable setDatatype(int datatype) {
+      this.literalKindPrimitive = datatype;
+      this.literalKindNumber = 3;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * <code>optional string lex = 1;</code>
+     * @param value the lex to set
+     * @return this
+     */
+    public Mutable setLex(final String value) {
+      lex = value;
+      lexUtf8 = null;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    /**
+     * <code>optional string lex = 1;</code>
+     * Sets the raw UTF-8 bytes of this field. They are validated here and only decoded
+     * when the field is read as a String.
+     * @param value the UTF-8 encoded lex to set
+     * @return this
+     * @throws IllegalArgumentException if the bytes are not valid UTF-8
+     */
+    public Mutable setLexUtf8(final ByteString value) {
+      if (!value.isValidUtf8()) {
+        throw new IllegalArgumentException("Byte string is not UTF-8.");
+      }
+      lexUtf8 = value;
+      lex = null;
+      invalidateSize();
+      cachedHashCode = 0;
+      return this;
+    }
+
+    @Override
+    public Mutable copyFrom(final RdfLiteral other) {
+      invalidateSize();
+      cachedHashCode = 0;
+      unknownBytes = other.unknownBytes;
+      lex = other.lex;
+      lexUtf8 = other.lexUtf8;
+      this.literalKind = other.literalKind;
+      this.literalKindPrimitive = other.literalKindPrimitive;
+      this.literalKindNumber = other.literalKindNumber;
+      return this;
+    }
+
+    @Override
+    public Mutable clear() {
+      invalidateSize();
+      cachedHashCode = 0;
+      unknownBytes = ByteString.EMPTY;
+      lex = "";
+      lexUtf8 = null;
+      this.literalKindPrimitive = 0L;
+      this.literalKindNumber = 0;
+      return this;
+    }
+
+    @Override
+    public Mutable mergeFrom(final RdfLiteral other) {
+      invalidateSize();
+      cachedHashCode = 0;
+      unknownBytes = unknownBytes.concat(other.unknownBytes);
+      lex = other.lex;
+      lexUtf8 = other.lexUtf8;
+      this.literalKind = other.literalKind;
+      this.literalKindPrimitive = other.literalKindPrimitive;
+      this.literalKindNumber = other.literalKindNumber;
+      return this;
+    }
+
+    /**
+     * Parses this message like {@link #mergeFrom(LimitedCodedInputStream)}, without reporting it
+     * to the metrics of the input.
+     */
+    @SuppressWarnings("fallthrough")
+    private Mutable mergeMessageFrom(final LimitedCodedInputStream inputLimited) throws
+        IOException {
+      final long[] skippedFields = inputLimited.getSkippedFields(RdfLiteral.getFactory());
+      if (skippedFields != null) {
+        return mergeProjectedFrom(inputLimited, skippedFields);
+      }
+      invalidateSize();
+      cachedHashCode = 0;
+      // Enabled Fall-Through Optimization
+      final LimitedCodedInputStream input = inputLimited;
+      int tag = input.readTag();
+      while (true) {
+        switch (tag) {
+          case 18: {
+            // langtag
+            this.literalKind = input.readBytesRequireUtf8();
+            this.literalKindNumber = 2;
+            tag = input.readTag();
+            if (tag != 10) {
+              break;
+            }
+          }
+          case 10: {
+            // lex
+            lexUtf8 = input.readBytesRequireUtf8();
+            lex = null;
+            tag = input.readTag();
+            if (tag != 24) {
+              break;
+            }
+          }
+          case 24: {
+            // datatype
+            setDatatype(input.readUInt32());
+            tag = input.readTag();
+            if (tag != 0) {
+              break;
+            }
+          }
+          case 0: {
+            return this;
+          }
+          default: {
+            if (ProtoMetrics.ENABLED && inputLimited.getMetrics() != null) {
+              inputLimited.getMetrics().unknownField(this, tag);
+            }
+            final ByteString unknown = ProtoMessage.readUnknownField(inputLimited, tag, unknownBytes);
+            if (unknown == null) {
+              return this;
+            }
+            unknownBytes = unknown;
+            tag = input.readTag();
+            break;
+          }
+        }
+      }
+    }
+
+    /**
+     * Parses this message like {@link #mergeFrom(LimitedCodedInputStream)}, but skips the fields
+     * in the given bit set.
+     */
+    private Mutable mergeProjectedFrom(final LimitedCodedInputStream inputLimited,
+        final long[] skippedFields) throws IOException {
+      invalidateSize();
+      cachedHashCode = 0;
+      final LimitedCodedInputStream input = inputLimited;
+      int tag = input.readTag();
+      while (true) {
+        if (ProjectionMask.isSkipped(skippedFields, tag)) {
+          if (!input.skipField(tag)) {
+            return this;
+          }
+          tag = input.readTag();
+          continue;
+        }
+        switch (tag) {
+          case 18: {
+            // langtag
+            this.literalKind = input.readBytesRequireUtf8();
+            this.literalKindNumber = 2;
+            tag = input.readTag();
+            break;
+          }
+          case 10: {
+            // lex
+            lexUtf8 = input.readBytesRequireUtf8();
+            lex = null;
+            tag = input.readTag();
+            break;
+          }
+          case 24: {
+            // datatype
+            setDatatype(input.readUInt32());
+            tag = input.readTag();
+            break;
+          }
+          case 0: {
+            return this;
+          }
+          default: {
+            if (ProtoMetrics.ENABLED && inputLimited.getMetrics() != null) {
+              inputLimited.getMetrics().unknownField(this, tag);
+            }
+            final ByteString unknown = ProtoMessage.readUnknownField(inputLimited, tag, unknownBytes);
+            if (unknown == null) {
+              return this;
+            }
+            unknownBytes = unknown;
+            tag = input.readTag();
+            break;
+          }
+        }
+      }
+    }
+
+    @Override
+    public Mutable mergeFrom(final LimitedCodedInputStream inputLimited) throws IOException {
+      if (ProtoMetrics.ENABLED && inputLimited.getMetrics() != null) {
+        final int start = inputLimited.getTotalBytesRead();
+        mergeMessageFrom(inputLimited);
+        final int bytes = inputLimited.getTotalBytesRead() - start;
+        inputLimited.getMetrics().messageDecoded(this, bytes, inputLimited.getRecursionDepth());
+        return this;
+      }
+      return mergeMessageFrom(inputLimited);
+    }
+
+    /**
+     * Returns this message as an immutable message, without any copies.
+     */
+    public RdfLiteral asImmutable() {
+      return this;
+    }
+  }
+}
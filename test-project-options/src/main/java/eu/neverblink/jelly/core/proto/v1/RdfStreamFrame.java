@@ -0,0 +1,1013 @@
+// Code generated by NeverBlink protoc-java-fast. Do not edit!
+package eu.neverblink.jelly.core.proto.v1;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.InvalidProtocolBufferException;
+import eu.neverblink.protoc.java.runtime.LimitedCodedInputStream;
+import eu.neverblink.protoc.java.runtime.MessageFactory;
+import eu.neverblink.protoc.java.runtime.ProjectionMask;
+import eu.neverblink.protoc.java.runtime.ProtoMessage;
+import eu.neverblink.protoc.java.runtime.ProtoMetrics;
+import eu.neverblink.protoc.java.runtime.ProtoSink;
+import eu.neverblink.protoc.java.runtime.RepeatedMessage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/**
+ * Protobuf type {@code RdfStreamFrame}
+ * DO NOT INHERIT FROM THIS CLASS!
+ * It's not <code>final</code> only to facilitate the Mutable nested subclass.
+ */
+@SuppressWarnings("hiding")
+public abstract class RdfStreamFrame extends ProtoMessage<RdfStreamFrame> implements Cloneable {
+  public static final int ROWS_FIELD_NUMBER = 1;
+
+  public static final int METADATA_FIELD_NUMBER = 15;
+
+  /**
+   * <code>repeated .eu.ostrzyciel.jelly.core.proto.v1.RdfStreamRow rows = 1;</code>
+   */
+  protected final RepeatedMessage<RdfStreamRow> rows = RepeatedMessage.newEmptyInstance(RdfStreamRow.getFactory());
+
+  /**
+   * <code>repeated .eu.ostrzyciel.jelly.core.proto.v1.RdfStreamFrame.MetadataEntry metadata = 15;</code>
+   */
+  protected final RepeatedMessage<MetadataEntry> metadata = RepeatedMessage.newEmptyInstance(MetadataEntry.getFactory());
+
+  /**
+   * Message whose cached size includes the size of this message, or null.
+   */
+  protected ProtoMessage<?> sizeParent;
+
+  /**
+   * Whether this message was linked to more than one size parent.
+   */
+  protected boolean sizeShared;
+
+  /**
+   * Whether the cached size includes shared messages, so that it has to be computed again.
+   */
+  protected boolean sizeUntracked;
+
+  /**
+   * Fields that were not recognized while parsing, in their serialized form.
+   */
+  protected ByteString unknownBytes = ByteString.EMPTY;
+
+  private RdfStreamFrame() {
+  }
+
+  /**
+   * @return a new empty instance of {@code Mutable}
+   */
+  public static Mutable newInstance() {
+    return new Mutable();
+  }
+
+  /**
+   * Returns the fields that were not recognized while parsing, for example fields added
+   * in a newer version of the schema. They are written back as they were read when this
+   * message is serialized.
+   *
+   * @return the unknown fields in their serialized form, including their tags
+   */
+  public ByteString getUnknownBytes() {
+    return unknownBytes;
+  }
+
+  /**
+   * <code>repeated .eu.ostrzyciel.jelly.core.proto.v1.RdfStreamRow rows = 1;</code>
+   *
+   * @return value for this field
+   */
+  public RepeatedMessage<RdfStreamRow> getRows() {
+    invalidateSize();
+    return rows;
+  }
+
+  /**
+   * <code>repeated .eu.ostrzyciel.jelly.core.proto.v1.RdfStreamFrame.MetadataEntry metadata = 15;</code>
+   *
+   * @return value for this field
+   */
+  public RepeatedMessage<MetadataEntry> getMetadata() {
+    invalidateSize();
+    return metadata;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (o == this) {
+      return true;
+    }
+    if (!(o instanceof RdfStreamFrame)) {
+      return false;
+    }
+    RdfStreamFrame other = (RdfStreamFrame) o;
+    return rows.equals(other.rows)
+      && metadata.equals(other.metadata)
+      && unknownBytes.equals(other.unknownBytes);
+  }
+
+  @Override
+  public int hashCode() {
+    int _hash = 1;
+    _hash = 0x01000193 * _hash + rows.hashCode();
+    _hash = 0x01000193 * _hash + metadata.hashCode();
+    _hash = 0x01000193 * _hash + unknownBytes.hashCode();
+    return _hash;
+  }
+
+  @Override
+  public void writeTo(final CodedOutputStream output) throws IOException {
+    if (!rows.isEmpty()) {
+      for (final var _field : rows) {
+        output.writeRawByte((byte) 10);
+        output.writeUInt32NoTag(_field.getCachedSize());
+        _field.writeTo(output);
+      }
+    }
+    if (!metadata.isEmpty()) {
+      for (final var _field : metadata) {
+        output.writeRawByte((byte) 122);
+        output.writeUInt32NoTag(_field.getCachedSize());
+        _field.writeTo(output);
+      }
+    }
+    if (!unknownBytes.isEmpty()) {
+      output.writeRawBytes(unknownBytes);
+    }
+  }
+
+  @Override
+  public void writeTo(final ProtoSink output) throws IOException {
+    if (!rows.isEmpty()) {
+      for (final var _field : rows) {
+        output.writeTagAndUInt32((byte) 10, _field.getCachedSize());
+        _field.writeTo(output);
+      }
+    }
+    if (!metadata.isEmpty()) {
+      for (final var _field : metadata) {
+        output.writeTagAndUInt32((byte) 122, _field.getCachedSize());
+        _field.writeTo(output);
+      }
+    }
+    if (!unknownBytes.isEmpty()) {
+      output.writeRawBytes(unknownBytes);
+    }
+  }
+
+  @Override
+  protected int computeSerializedSize() {
+    int size = 0;
+    if (!rows.isEmpty()) {
+      size += rows.size() + ProtoMessage.computeRepeatedMessageSizeNoTag(rows, this);
+    }
+    if (!metadata.isEmpty()) {
+      size += metadata.size() + ProtoMessage.computeRepeatedMessageSizeNoTag(metadata, this);
+    }
+    size += unknownBytes.size();
+    return size;
+  }
+
+  /**
+   * Returns the cached size if the message was not modified since it was computed.
+   */
+  @Override
+  public int getSerializedSize() {
+    if (cachedSize >= 0 && !sizeUntracked) {
+      return cachedSize;
+    }
+    sizeUntracked = false;
+    return super.getSerializedSize();
+  }
+
+  @Override
+  protected void invalidateSize() {
+    ProtoMessage.invalidateSizes(this);
+  }
+
+  @Override
+  protected ProtoMessage<?> getSizeParent() {
+    return sizeParent;
+  }
+
+  @Override
+  protected void setSizeParent(final ProtoMessage<?> parent) {
+    if (sizeParent != parent) {
+      if (sizeParent != null && !sizeShared) {
+        // Modifications are not tracked by the first parent anymore
+        sizeShared = true;
+        ProtoMessage.invalidateSizes(sizeParent);
+      }
+      sizeParent = parent;
+    }
+  }
+
+  @Override
+  protected boolean isSizeTracked() {
+    return !sizeShared && !sizeUntracked;
+  }
+
+  @Override
+  protected void untrackSize() {
+    sizeUntracked = true;
+  }
+
+  @Override
+  protected int getRowCount() {
+    return rows.size();
+  }
+
+  @Override
+  protected boolean readsArrayInput() {
+    return true;
+  }
+
+  @Override
+  protected boolean writesProtoSink() {
+    return true;
+  }
+
+  @Override
+  public Mutable clone() {
+    return newInstance().copyFrom(this);
+  }
+
+  public static RdfStreamFrame parseFrom(final byte[] data) throws InvalidProtocolBufferException {
+    return ProtoMessage.mergeFrom(newInstance(), data);
+  }
+
+  public static RdfStreamFrame parseFrom(final ByteBuffer data) throws
+      InvalidProtocolBufferException {
+    return ProtoMessage.mergeFrom(newInstance(), data);
+  }
+
+  public static RdfStreamFrame parseFrom(final LimitedCodedInputStream input) throws IOException {
+    return ProtoMessage.mergeFrom(newInstance(), input);
+  }
+
+  public static RdfStreamFrame parseDelimitedFrom(final InputStream input) throws IOException {
+    return ProtoMessage.parseDelimitedFrom(input, RdfStreamFrame.getFactory());
+  }
+
+  public static RdfStreamFrame parseDelimitedFrom(final ByteBuffer input) throws IOException {
+    return ProtoMessage.parseDelimitedFrom(input, RdfStreamFrame.getFactory());
+  }
+
+  /**
+   * Parses a {@code RdfStreamFrame} from the input and passes each <code>rows</code> element to the
+   * consumer as soon as it is decoded, without collecting them in a list. All elements
+   * are decoded into the same instance, so the consumer must clone an element to keep it.
+   * Other fields are skipped.
+   */
+  public static void streamRows(final LimitedCodedInputStream input,
+      final Consumer<? super RdfStreamRow> consumer) throws IOException {
+    ProtoMessage.streamRepeatedMessage(RdfStreamRow.getFactory(), 10, input, consumer);
+  }
+
+  /**
+   * Like {@link #streamRows(LimitedCodedInputStream, Consumer)}, but reads one message written in length delimited form.
+   *
+   * @return false if there was no message to read
+   */
+  public static boolean streamDelimitedRows(final InputStream input,
+      final Consumer<? super RdfStreamRow> consumer) throws IOException {
+    return ProtoMessage.streamDelimitedRepeatedMessage(RdfStreamRow.getFactory(), 10, input, consumer);
+  }
+
+  /**
+   * Parses a {@code RdfStreamFrame} from the input and passes each <code>metadata</code> element to the
+   * consumer as soon as it is decoded, without collecting them in a list. All elements
+   * are decoded into the same instance, so the consumer must clone an element to keep it.
+   * Other fields are skipped.
+   */
+  public static void streamMetadata(final LimitedCodedInputStream input,
+      final Consumer<? super MetadataEntry> consumer) throws IOException {
+    ProtoMessage.streamRepeatedMessage(MetadataEntry.getFactory(), 122, input, consumer);
+  }
+
+  /**
+   * Like {@link #streamMetadata(LimitedCodedInputStream, Consumer)}, but reads one message written in length delimited form.
+   *
+   * @return false if there was no message to read
+   */
+  public static boolean streamDelimitedMetadata(final InputStream input,
+      final Consumer<? super MetadataEntry> consumer) throws IOException {
+    return ProtoMessage.streamDelimitedRepeatedMessage(MetadataEntry.getFactory(), 122, input, consumer);
+  }
+
+  /**
+   * @return factory for creating RdfStreamFrame messages
+   */
+  public static MessageFactory<RdfStreamFrame> getFactory() {
+    return RdfStreamFrameFactory.INSTANCE;
+  }
+
+  /**
+   * @return this type's descriptor.
+   */
+  public static Descriptors.Descriptor getDescriptor() {
+    return Rdf.eu_ostrzyciel_jelly_core_proto_v1_RdfStreamFrame_descriptor;
+  }
+
+  /**
+   * Protobuf type {@code MetadataEntry}
+   * DO NOT INHERIT FROM THIS CLASS!
+   * It's not <code>final</code> only to facilitate the Mutable nested subclass.
+   */
+  public abstract static class MetadataEntry extends ProtoMessage<MetadataEntry> implements Cloneable {
+    public static final int KEY_FIELD_NUMBER = 1;
+
+    public static final int VALUE__FIELD_NUMBER = 2;
+
+    /**
+     * <code>optional string key = 1;</code>
+     */
+    protected String key = "";
+
+    /**
+     * Raw UTF-8 bytes of {@code key} as read from the wire, or null if the value was set
+     * as a String. While this is set, {@code key} is null until it is first decoded.
+     */
+    protected ByteString keyUtf8 = null;
+
+    /**
+     * <code>optional bytes value = 2;</code>
+     */
+    protected ByteString value_ = ByteString.EMPTY;
+
+    /**
+     * Result of {@link #hashCode()}, or 0 if it needs to be computed.
+     */
+    protected int cachedHashCode;
+
+    /**
+     * Message whose cached size includes the size of this message, or null.
+     */
+    protected ProtoMessage<?> sizeParent;
+
+    /**
+     * Whether this message was linked to more than one size parent.
+     */
+    protected boolean sizeShared;
+
+    /**
+     * Whether the cached size includes shared messages, so that it has to be computed again.
+     */
+    protected boolean sizeUntracked;
+
+    /**
+     * Fields that were not recognized while parsing, in their serialized form.
+     */
+    protected ByteString unknownBytes = ByteString.EMPTY;
+
+    private MetadataEntry() {
+    }
+
+    /**
+     * @return a new empty instance of {@code Mutable}
+     */
+    public static Mutable newInstance() {
+      return new Mutable();
+    }
+
+    /**
+     * Returns the fields that were not recognized while parsing, for example fields added
+     * in a newer version of the schema. They are written back as they were read when this
+     * message is serialized.
+     *
+     * @return the unknown fields in their serialized form, including their tags
+     */
+    public ByteString getUnknownBytes() {
+      return unknownBytes;
+    }
+
+    /**
+     * <code>optional string key = 1;</code>
+     * @return the key
+     */
+    public String getKey() {
+      if (key == null) {
+        key = keyUtf8.toStringUtf8();
+      }
+      return key;
+    }
+
+    /**
+     * <code>optional string key = 1;</code>
+     * Returns the UTF-8 encoding of this field without decoding it.
+     * @return the UTF-8 encoded key
+     */
+    public ByteString getKeyUtf8() {
+      if (keyUtf8 == null) {
+        keyUtf8 = ByteString.copyFromUtf8(key);
+      }
+      return keyUtf8;
+    }
+
+    /**
+     * <code>optional bytes value = 2;</code>
+     *
+     * @return value for this field
+     */
+    public ByteString getValue() {
+      return value_;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (o == this) {
+        return true;
+      }
+      if (!(o instanceof MetadataEntry)) {
+        return false;
+      }
+      MetadataEntry other = (MetadataEntry) o;
+      return (keyUtf8 != null && other.keyUtf8 != null ? keyUtf8.equals(other.keyUtf8) : getKey().equals(other.getKey()))
+        && value_.equals(other.value_)
+        && unknownBytes.equals(other.unknownBytes);
+    }
+
+    @Override
+    public int hashCode() {
+      int _hash = cachedHashCode;
+      if (_hash == 0) {
+        _hash = 1;
+        _hash = 0x01000193 * _hash + getKeyUtf8().hashCode();
+        _hash = 0x01000193 * _hash + value_.hashCode();
+        _hash = 0x01000193 * _hash + unknownBytes.hashCode();
+        cachedHashCode = _hash;
+      }
+      return _hash;
+    }
+
+    @Override
+    public void writeTo(final CodedOutputStream output) throws IOException {
+      if ((keyUtf8 != null ? !keyUtf8.isEmpty() : !key.isEmpty())) {
+        output.writeRawByte((byte) 10);
+        if (keyUtf8 != null) {
+          output.writeBytesNoTag(keyUtf8);
+        } else {
+          output.writeStringNoTag(key);
+        }
+      }
+      if (value_.size() > 0) {
+        output.writeRawByte((byte) 18);
+        output.writeBytesNoTag(value_);
+      }
+      if (!unknownBytes.isEmpty()) {
+        output.writeRawBytes(unknownBytes);
+      }
+    }
+
+    @Override
+    public void writeTo(final ProtoSink output) throws IOException {
+      if ((keyUtf8 != null ? !keyUtf8.isEmpty() : !key.isEmpty())) {
+        output.writeRawByte((byte) 10);
+        if (keyUtf8 != null) {
+          output.writeBytesNoTag(keyUtf8);
+        } else {
+          output.writeStringNoTag(key);
+        }
+      }
+      if (value_.size() > 0) {
+        output.writeRawByte((byte) 18);
+        output.writeBytesNoTag(value_);
+      }
+      if (!unknownBytes.isEmpty()) {
+        output.writeRawBytes(unknownBytes);
+      }
+    }
+
+    @Override
+    protected int computeSerializedSize() {
+      int size = 0;
+      if ((keyUtf8 != null ? !keyUtf8.isEmpty() : !key.isEmpty())) {
+        size += 1 + (keyUtf8 != null ? CodedOutputStream.computeBytesSizeNoTag(keyUtf8) : CodedOutputStream.computeStringSizeNoTag(key));
+      }
+      if (value_.size() > 0) {
+        size += 1 + CodedOutputStream.computeBytesSizeNoTag(value_);
+      }
+      size += unknownBytes.size();
+      return size;
+    }
+
+    /**
+     * Returns the cached size if the message was not modified since it was computed.
+     */
+    @Override
+    public int getSerializedSize() {
+      if (cachedSize >= 0 && !sizeUntracked) {
+        return cachedSize;
+      }
+      sizeUntracked = false;
+      return super.getSerializedSize();
+    }
+
+    @Override
+    protected void invalidateSize() {
+      ProtoMessage.invalidateSizes(this);
+    }
+
+    @Override
+    protected ProtoMessage<?> getSizeParent() {
+      return sizeParent;
+    }
+
+    @Override
+    protected void setSizeParent(final ProtoMessage<?> parent) {
+      if (sizeParent != parent) {
+        if (sizeParent != null && !sizeShared) {
+          // Modifications are not tracked by the first parent anymore
+          sizeShared = true;
+          ProtoMessage.invalidateSizes(sizeParent);
+        }
+        sizeParent = parent;
+      }
+    }
+
+    @Override
+    protected boolean isSizeTracked() {
+      return !sizeShared && !sizeUntracked;
+    }
+
+    @Override
+    protected void untrackSize() {
+      sizeUntracked = true;
+    }
+
+    @Override
+    protected boolean readsArrayInput() {
+      return true;
+    }
+
+    @Override
+    protected boolean writesProtoSink() {
+      return true;
+    }
+
+    @Override
+    public Mutable clone() {
+      return newInstance().copyFrom(this);
+    }
+
+    public static MetadataEntry parseFrom(final byte[] data) throws InvalidProtocolBufferException {
+      return ProtoMessage.mergeFrom(newInstance(), data);
+    }
+
+    public static MetadataEntry parseFrom(final ByteBuffer data) throws
+        InvalidProtocolBufferException {
+      return ProtoMessage.mergeFrom(newInstance(), data);
+    }
+
+    public static MetadataEntry parseFrom(final LimitedCodedInputStream input) throws IOException {
+      return ProtoMessage.mergeFrom(newInstance(), input);
+    }
+
+    public static MetadataEntry parseDelimitedFrom(final InputStream input) throws IOException {
+      return ProtoMessage.parseDelimitedFrom(input, MetadataEntry.getFactory());
+    }
+
+    public static MetadataEntry parseDelimitedFrom(final ByteBuffer input) throws IOException {
+      return ProtoMessage.parseDelimitedFrom(input, MetadataEntry.getFactory());
+    }
+
+    /**
+     * @return factory for creating MetadataEntry messages
+     */
+    public static MessageFactory<MetadataEntry> getFactory() {
+      return MetadataEntryFactory.INSTANCE;
+    }
+
+    /**
+     * @return this type's descriptor.
+     */
+    public static Descriptors.Descriptor getDescriptor() {
+      return Rdf.eu_ostrzyciel_jelly_core_proto_v1_RdfStreamFrame_MetadataEntry_descriptor;
+    }
+
+    private enum MetadataEntryFactory implements MessageFactory<MetadataEntry> {
+      INSTANCE;
+
+      @Override
+      public MetadataEntry create() {
+        return MetadataEntry.newInstance();
+      }
+    }
+
+    /**
+     * Mutable subclass of the parent class.
+     * You can call setters on this class to set the values.
+     * When passing the constructed message to the serializer,
+     * you should use the parent class (using .asImmutable()) to
+     * ensure the message won't be modified by accident.
+     */
+    public static final class Mutable extends MetadataEntry {
+      private Mutable() {
+      }
+
+      /**
+       * <code>optional string key = 1;</code>
+       * @param value the key to set
+       * @return this
+       */
+      public Mutable setKey(final String value) {
+        key = value;
+        keyUtf8 = null;
+        invalidateSize();
+        cachedHashCode = 0;
+        return this;
+      }
+
+      /**
+       * <code>optional string key = 1;</code>
+       * Sets the raw UTF-8 bytes of this field. They are validated here and only decoded
+       * when the field is read as a String.
+       * @param value the UTF-8 encoded key to set
+       * @return this
+       * @throws IllegalArgumentException if the bytes are not valid UTF-8
+       */
+      public Mutable setKeyUtf8(final ByteString value) {
+        if (!value.isValidUtf8()) {
+          throw new IllegalArgumentException("Byte string is not UTF-8.");
+        }
+        keyUtf8 = value;
+        key = null;
+        invalidateSize();
+        cachedHashCode = 0;
+        return this;
+      }
+
+      /**
+       * <code>optional bytes value = 2;</code>
+       * @param values the value_ to set
+       * @return this
+       */
+      public Mutable setValue(final ByteString values) {
+        value_ = values;
+        invalidateSize();
+        cachedHashCode = 0;
+        return this;
+      }
+
+      @Override
+      public Mutable copyFrom(final MetadataEntry other) {
+        invalidateSize();
+        cachedHashCode = 0;
+        unknownBytes = other.unknownBytes;
+        key = other.key;
+        keyUtf8 = other.keyUtf8;
+        value_ = other.value_;
+        return this;
+      }
+
+      @Override
+      public Mutable clear() {
+        invalidateSize();
+        cachedHashCode = 0;
+        unknownBytes = ByteString.EMPTY;
+        key = "";
+        keyUtf8 = null;
+        value_ = ByteString.EMPTY;
+        return this;
+      }
+
+      @Override
+      public Mutable mergeFrom(final MetadataEntry other) {
+        invalidateSize();
+        cachedHashCode = 0;
+        unknownBytes = unknownBytes.concat(other.unknownBytes);
+        key = other.key;
+        keyUtf8 = other.keyUtf8;
+        value_ = other.value_;
+        return this;
+      }
+
+      /**
+       * Parses this message like {@link #mergeFrom(LimitedCodedInputStream)}, without reporting it
+       * to the metrics of the input.
+       */
+      @SuppressWarnings("fallthrough")
+      private Mutable mergeMessageFrom(final LimitedCodedInputStream inputLimited) throws
+          IOException {
+        final long[] skippedFields = inputLimited.getSkippedFields(MetadataEntry.getFactory());
+        if (skippedFields != null) {
+          return mergeProjectedFrom(inputLimited, skippedFields);
+        }
+        invalidateSize();
+        cachedHashCode = 0;
+        // Enabled Fall-Through Optimization
+        final LimitedCodedInputStream input = inputLimited;
+        int tag = input.readTag();
+        while (true) {
+          switch (tag) {
+            case 10: {
+              // key
+              keyUtf8 = input.readBytesRequireUtf8();
+              key = null;
+              tag = input.readTag();
+              if (tag != 18) {
+                break;
+              }
+            }
+            case 18: {
+              // value_
+              value_ = input.readBytes();
+              tag = input.readTag();
+              if (tag != 0) {
+                break;
+              }
+            }
+            case 0: {
+              return this;
+            }
+            default: {
+              if (ProtoMetrics.ENABLED && inputLimited.getMetrics() != null) {
+                inputLimited.getMetrics().unknownField(this, tag);
+              }
+              final ByteString unknown = ProtoMessage.readUnknownField(inputLimited, tag, unknownBytes);
+              if (unknown == null) {
+                return this;
+              }
+              unknownBytes = unknown;
+              tag = input.readTag();
+              break;
+            }
+          }
+        }
+      }
+
+      /**
+       * Parses this message like {@link #mergeFrom(LimitedCodedInputStream)}, but skips the fields
+       * in the given bit set.
+       */
+      private Mutable mergeProjectedFrom(final LimitedCodedInputStream inputLimited,
+          final long[] skippedFields) throws IOException {
+        invalidateSize();
+        cachedHashCode = 0;
+        final LimitedCodedInputStream input = inputLimited;
+        int tag = input.readTag();
+        while (true) {
+          if (ProjectionMask.isSkipped(skippedFields, tag)) {
+            if (!input.skipField(tag)) {
+              return this;
+            }
+            tag = input.readTag();
+            continue;
+          }
+          switch (tag) {
+            case 10: {
+              // key
+              keyUtf8 = input.readBytesRequireUtf8();
+              key = null;
+              tag = input.readTag();
+              break;
+            }
+            case 18: {
+              // value_
+              value_ = input.readBytes();
+              tag = input.readTag();
+              break;
+            }
+            case 0: {
+              return this;
+            }
+            default: {
+              if (ProtoMetrics.ENABLED && inputLimited.getMetrics() != null) {
+                inputLimited.getMetrics().unknownField(this, tag);
+              }
+              final ByteString unknown = ProtoMessage.readUnknownField(inputLimited, tag, unknownBytes);
+              if (unknown == null) {
+                return this;
+              }
+              unknownBytes = unknown;
+              tag = input.readTag();
+              break;
+            }
+          }
+        }
+      }
+
+      @Override
+      public Mutable mergeFrom(final LimitedCodedInputStream inputLimited) throws IOException {
+        if (ProtoMetrics.ENABLED && inputLimited.getMetrics() != null) {
+          final int start = inputLimited.getTotalBytesRead();
+          mergeMessageFrom(inputLimited);
+          final int bytes = inputLimited.getTotalBytesRead() - start;
+          inputLimited.getMetrics().messageDecoded(this, bytes, inputLimited.getRecursionDepth());
+          return this;
+        }
+        return mergeMessageFrom(inputLimited);
+      }
+
+      /**
+       * Returns this message as an immutable message, without any copies.
+       */
+      public MetadataEntry asImmutable() {
+        return this;
+      }
+    }
+  }
+
+  private enum RdfStreamFrameFactory implements MessageFactory<RdfStreamFrame> {
+    INSTANCE;
+
+    @Override
+    public RdfStreamFrame create() {
+      return RdfStreamFrame.newInstance();
+    }
+  }
+
+  /**
+   * Mutable subclass of the parent class.
+   * You can call setters on this class to set the values.
+   * When passing the constructed message to the serializer,
+   * you should use the parent class (using .asImmutable()) to
+   * ensure the message won't be modified by accident.
+   */
+  public static final class Mutable extends RdfStreamFrame {
+    private Mutable() {
+    }
+
+    /**
+     * <code>repeated .eu.ostrzyciel.jelly.core.proto.v1.RdfStreamRow rows = 1;</code>
+     * @param value the rows to add
+     * @return this
+     */
+    public Mutable addRows(final RdfStreamRow value) {
+      rows.add(value);
+      if (cachedSize >= 0) {
+        final int size = cachedSize + 1 + ProtoMessage.computeDelimitedSize(ProtoMessage.computeNestedSize(value, this));
+        invalidateSize();
+        cachedSize = size;
+      }
+      return this;
+    }
+
+    /**
+     * <code>repeated .eu.ostrzyciel.jelly.core.proto.v1.RdfStreamFrame.MetadataEntry metadata = 15;</code>
+     * @param value the metadata to add
+     * @return this
+     */
+    public Mutable addMetadata(final MetadataEntry value) {
+      metadata.add(value);
+      if (cachedSize >= 0) {
+        final int size = cachedSize + 1 + ProtoMessage.computeDelimitedSize(ProtoMessage.computeNestedSize(value, this));
+        invalidateSize();
+        cachedSize = size;
+      }
+      return this;
+    }
+
+    @Override
+    public Mutable copyFrom(final RdfStreamFrame other) {
+      invalidateSize();
+      unknownBytes = other.unknownBytes;
+      rows.clear();
+      rows.addAll(other.rows);
+      metadata.clear();
+      metadata.addAll(other.metadata);
+      return this;
+    }
+
+    @Override
+    public Mutable clear() {
+      invalidateSize();
+      unknownBytes = ByteString.EMPTY;
+      rows.clear();
+      metadata.clear();
+      return this;
+    }
+
+    @Override
+    public Mutable mergeFrom(final RdfStreamFrame other) {
+      invalidateSize();
+      unknownBytes = unknownBytes.concat(other.unknownBytes);
+      getRows().addAll(other.rows);
+      getMetadata().addAll(other.metadata);
+      return this;
+    }
+
+    /**
+     * Parses this message like {@link #mergeFrom(LimitedCodedInputStream)}, without reporting it
+     * to the metrics of the input.
+     */
+    @SuppressWarnings("fallthrough")
+    private Mutable mergeMessageFrom(final LimitedCodedInputStream inputLimited) throws
+        IOException {
+      final long[] skippedFields = inputLimited.getSkippedFields(RdfStreamFrame.getFactory());
+      if (skippedFields != null) {
+        return mergeProjectedFrom(inputLimited, skippedFields);
+      }
+      invalidateSize();
+      // Enabled Fall-Through Optimization
+      final LimitedCodedInputStream input = inputLimited;
+      int tag = input.readTag();
+      while (true) {
+        switch (tag) {
+          case 122: {
+            // metadata
+            tag = ProtoMessage.readRepeatedMessage(metadata, MetadataEntry.getFactory(), inputLimited, tag);
+            if (tag != 10) {
+              break;
+            }
+          }
+          case 10: {
+            // rows
+            tag = ProtoMessage.readRepeatedMessage(rows, RdfStreamRow.getFactory(), inputLimited, tag);
+            if (tag != 0) {
+              break;
+            }
+          }
+          case 0: {
+            return this;
+          }
+          default: {
+            if (ProtoMetrics.ENABLED && inputLimited.getMetrics() != null) {
+              inputLimited.getMetrics().unknownField(this, tag);
+            }
+            final ByteString unknown = ProtoMessage.readUnknownField(inputLimited, tag, unknownBytes);
+            if (unknown == null) {
+              return this;
+            }
+            unknownBytes = unknown;
+            tag = input.readTag();
+            break;
+          }
+        }
+      }
+    }
+
+    /**
+     * Parses this message like {@link #mergeFrom(LimitedCodedInputStream)}, but skips the fields
+     * in the given bit set.
+     */
+    private Mutable mergeProjectedFrom(final LimitedCodedInputStream inputLimited,
+        final long[] skippedFields) throws IOException {
+      invalidateSize();
+      final LimitedCodedInputStream input = inputLimited;
+      int tag = input.readTag();
+      while (true) {
+        if (ProjectionMask.isSkipped(skippedFields, tag)) {
+          if (!input.skipField(tag)) {
+            return this;
+          }
+          tag = input.readTag();
+          continue;
+        }
+        switch (tag) {
+          case 122: {
+            // metadata
+            tag = ProtoMessage.readRepeatedMessage(metadata, MetadataEntry.getFactory(), inputLimited, tag);
+            break;
+          }
+          case 10: {
+            // rows
+            tag = ProtoMessage.readRepeatedMessage(rows, RdfStreamRow.getFactory(), inputLimited, tag);
+            break;
+          }
+          case 0: {
+            return this;
+          }
+          default: {
+            if (ProtoMetrics.ENABLED && inputLimited.getMetrics() != null) {
+              inputLimited.getMetrics().unknownField(this, tag);
+            }
+            final ByteString unknown = ProtoMessage.readUnknownField(inputLimited, tag, unknownBytes);
+            if (unknown == null) {
+              return this;
+            }
+            unknownBytes = unknown;
+            tag = input.readTag();
+            break;
+          }
+        }
+      }
+    }
+
+    @Override
+    public Mutable mergeFrom(final LimitedCodedInputStream inputLimited) throws IOException {
+      if (ProtoMetrics.ENABLED && inputLimited.getMetrics() != null) {
+        final int start = inputLimited.getTotalBytesRead();
+        mergeMessageFrom(inputLimited);
+        final int bytes = inputLimited.getTotalBytesRead() - start;
+        inputLimited.getMetrics().messageDecoded(this, bytes, inputLimited.getRecursionDepth());
+        return this;
+      }
+      return mergeMessageFrom(inputLimited);
+    }
+
+    /**
+     * Returns this message as an immutable message, without any copies.
+     */
+    public RdfStreamFrame asImmutable() {
+      return this;
+    }
+  }
+}
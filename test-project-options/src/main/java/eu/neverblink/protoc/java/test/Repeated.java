@@ -0,0 +1,107 @@
+// Code generated by NeverBlink protoc-java-fast. Do not edit!
+package eu.neverblink.protoc.java.test;
+
+import com.google.protobuf.DescriptorProtos;
+import com.google.protobuf.Descriptors;
+import java.util.Base64;
+
+public final class Repeated {
+  private static final byte[] descriptorData = Base64.getDecoder().decode(
+    "Cg5yZXBlYXRlZC5wcm90bxIeZXUubmV2ZXJibGluay5wcm90b2MuamF2YS50ZXN0IocECg9SZXBlYXRl" + 
+    "ZFNjYWxhcnMSGAoHZG91YmxlcxgBIAMoAVIHZG91YmxlcxIWCgZmbG9hdHMYAiADKAJSBmZsb2F0cxIW" + 
+    "CgZpbnQ2NHMYAyADKANSBmludDY0cxIYCgd1aW50NjRzGAQgAygEUgd1aW50NjRzEhgKB3NpbnQ2NHMY" + 
+    "BSADKBJSB3NpbnQ2NHMSGgoIZml4ZWQ2NHMYBiADKAZSCGZpeGVkNjRzEhwKCXNmaXhlZDY0cxgHIAMo" + 
+    "EFIJc2ZpeGVkNjRzEhYKBmludDMycxgIIAMoBVIGaW50MzJzEhgKB3VpbnQzMnMYCSADKA1SB3VpbnQz" + 
+    "MnMSGAoHc2ludDMycxgKIAMoEVIHc2ludDMycxIaCghmaXhlZDMycxgLIAMoB1IIZml4ZWQzMnMSHAoJ" + 
+    "c2ZpeGVkMzJzGAwgAygPUglzZml4ZWQzMnMSFAoFYm9vbHMYDSADKAhSBWJvb2xzEj4KBWVudW1zGA4g" + 
+    "AygOMiguZXUubmV2ZXJibGluay5wcm90b2MuamF2YS50ZXN0LlRlc3RFbnVtUgVlbnVtcxIYCgdzdHJp" + 
+    "bmdzGA8gAygJUgdzdHJpbmdzEiMKDXNpbmdsZV9kb3VibGUYECABKAFSDHNpbmdsZURvdWJsZRIhCgxz" + 
+    "aW5nbGVfZmxvYXQYESABKAJSC3NpbmdsZUZsb2F0Ir8ECg9VbnBhY2tlZFNjYWxhcnMSHAoHZG91Ymxl" + 
+    "cxgBIAMoAUICEABSB2RvdWJsZXMSGgoGZmxvYXRzGAIgAygCQgIQAFIGZmxvYXRzEhoKBmludDY0cxgD" + 
+    "IAMoA0ICEABSBmludDY0cxIcCgd1aW50NjRzGAQgAygEQgIQAFIHdWludDY0cxIcCgdzaW50NjRzGAUg" + 
+    "AygSQgIQAFIHc2ludDY0cxIeCghmaXhlZDY0cxgGIAMoBkICEABSCGZpeGVkNjRzEiAKCXNmaXhlZDY0" + 
+    "cxgHIAMoEEICEABSCXNmaXhlZDY0cxIaCgZpbnQzMnMYCCADKAVCAhAAUgZpbnQzMnMSHAoHdWludDMy" + 
+    "cxgJIAMoDUICEABSB3VpbnQzMnMSHAoHc2ludDMycxgKIAMoEUICEABSB3NpbnQzMnMSHgoIZml4ZWQz" + 
+    "MnMYCyADKAdCAhAAUghmaXhlZDMycxIgCglzZml4ZWQzMnMYDCADKA9CAhAAUglzZml4ZWQzMnMSGAoF" + 
+    "Ym9vbHMYDSADKAhCAhAAUgVib29scxJCCgVlbnVtcxgOIAMoDjIoLmV1Lm5ldmVyYmxpbmsucHJvdG9j" + 
+    "LmphdmEudGVzdC5UZXN0RW51bUICEABSBWVudW1zEhgKB3N0cmluZ3MYDyADKAlSB3N0cmluZ3MSIwoN" + 
+    "c2luZ2xlX2RvdWJsZRgQIAEoAVIMc2luZ2xlRG91YmxlEiEKDHNpbmdsZV9mbG9hdBgRIAEoAlILc2lu" + 
+    "Z2xlRmxvYXQqUAoIVGVzdEVudW0SGQoVVEVTVF9FTlVNX1VOU1BFQ0lGSUVEEAASEwoPVEVTVF9FTlVN" + 
+    "X0ZJUlNUEAESFAoQVEVTVF9FTlVNX1NFQ09ORBACQgRIAVABSsoYCgYSBAAANgEKCAoBDBIDAAASCggK" + 
+    "AQISAwEAJwoICgEIEgMFABwKVwoCCAkSAwUAHDJMIFRlc3Qgc2NoZW1hIGNvdmVyaW5nIHJlcGVhdGVk" + 
+    "IHNjYWxhciBmaWVsZHMgaW4gcGFja2VkIGFuZCBub24tcGFja2VkIGZvcm0uCgoICgEIEgMGACIKCQoC" + 
+    "CAoSAwYAIgoKCgIFABIECAAMAQoKCgMFAAESAwgFDQoLCgQFAAIAEgMJAhwKDAoFBQACAAESAwkCFwoM" + 
+    "CgUFAAIAAhIDCRobCgsKBAUAAgESAwoCFgoMCgUFAAIBARIDCgIRCgwKBQUAAgECEgMKFBUKCwoEBQAC" + 
+    "AhIDCwIXCgwKBQUAAgIBEgMLAhIKDAoFBQACAgISAwsVFgoyCgIEABIEDwAhARomIFBhY2tlZCBlbmNv" + 
+    "ZGluZyAodGhlIHByb3RvMyBkZWZhdWx0KQoKCgoDBAABEgMPCBcKCwoEBAACABIDEAIeCgwKBQQAAgAE" + 
+    "EgMQAgoKDAoFBAACAAUSAxALEQoMCgUEAAIAARIDEBIZCgwKBQQAAgADEgMQHB0KCwoEBAACARIDEQIc" + 
+    "CgwKBQQAAgEEEgMRAgoKDAoFBAACAQUSAxELEAoMCgUEAAIBARIDEREXCgwKBQQAAgEDEgMRGhsKCwoE" + 
+    "BAACAhIDEgIcCgwKBQQAAgIEEgMSAgoKDAoFBAACAgUSAxILEAoMCgUEAAICARIDEhEXCgwKBQQAAgID" + 
+    "EgMSGhsKCwoEBAACAxIDEwIeCgwKBQQAAgMEEgMTAgoKDAoFBAACAwUSAxMLEQoMCgUEAAIDARIDExIZ" + 
+    "CgwKBQQAAgMDEgMTHB0KCwoEBAACBBIDFAIeCgwKBQQAAgQEEgMUAgoKDAoFBAACBAUSAxQLEQoMCgUE" + 
+    "AAIEARIDFBIZCgwKBQQAAgQDEgMUHB0KCwoEBAACBRIDFQIgCgwKBQQAAgUEEgMVAgoKDAoFBAACBQUS" + 
+    "AxULEgoMCgUEAAIFARIDFRMbCgwKBQQAAgUDEgMVHh8KCwoEBAACBhIDFgIiCgwKBQQAAgYEEgMWAgoK" + 
+    "DAoFBAACBgUSAxYLEwoMCgUEAAIGARIDFhQdCgwKBQQAAgYDEgMWICEKCwoEBAACBxIDFwIcCgwKBQQA" + 
+    "AgcEEgMXAgoKDAoFBAACBwUSAxcLEAoMCgUEAAIHARIDFxEXCgwKBQQAAgcDEgMXGhsKCwoEBAACCBID" + 
+    "GAIeCgwKBQQAAggEEgMYAgoKDAoFBAACCAUSAxgLEQoMCgUEAAIIARIDGBIZCgwKBQQAAggDEgMYHB0K" + 
+    "CwoEBAACCRIDGQIfCgwKBQQAAgkEEgMZAgoKDAoFBAACCQUSAxkLEQoMCgUEAAIJARIDGRIZCgwKBQQA" + 
+    "AgkDEgMZHB4KCwoEBAACChIDGgIhCgwKBQQAAgoEEgMaAgoKDAoFBAACCgUSAxoLEgoMCgUEAAIKARID" + 
+    "GhMbCgwKBQQAAgoDEgMaHiAKCwoEBAACCxIDGwIjCgwKBQQAAgsEEgMbAgoKDAoFBAACCwUSAxsLEwoM" + 
+    "CgUEAAILARIDGxQdCgwKBQQAAgsDEgMbICIKCwoEBAACDBIDHAIbCgwKBQQAAgwEEgMcAgoKDAoFBAAC" + 
+    "DAUSAxwLDwoMCgUEAAIMARIDHBAVCgwKBQQAAgwDEgMcGBoKCwoEBAACDRIDHQIfCgwKBQQAAg0EEgMd" + 
+    "AgoKDAoFBAACDQYSAx0LEwoMCgUEAAINARIDHRQZCgwKBQQAAg0DEgMdHB4KCwoEBAACDhIDHgIfCgwK" + 
+    "BQQAAg4EEgMeAgoKDAoFBAACDgUSAx4LEQoMCgUEAAIOARIDHhIZCgwKBQQAAg4DEgMeHB4KCwoEBAAC" + 
+    "DxIDHwIcCgwKBQQAAg8FEgMfAggKDAoFBAACDwESAx8JFgoMCgUEAAIPAxIDHxkbCgsKBAQAAhASAyAC" + 
+    "GgoMCgUEAAIQBRIDIAIHCgwKBQQAAhABEgMgCBQKDAoFBAACEAMSAyAXGQpNCgIEARIEJAA2ARpBIFNh" + 
+    "bWUgZmllbGQgbnVtYmVycyBhbmQgdHlwZXMgYXMgUmVwZWF0ZWRTY2FsYXJzLCBidXQgbm9uLXBhY2tl" + 
+    "ZAoKCgoDBAEBEgMkCBcKCwoEBAECABIDJQIvCgwKBQQBAgAEEgMlAgoKDAoFBAECAAUSAyULEQoMCgUE" + 
+    "AQIAARIDJRIZCgwKBQQBAgADEgMlHB0KDAoFBAECAAgSAyUeLgoNCgYEAQIACAISAyUfLQoLCgQEAQIB" + 
+    "EgMmAi0KDAoFBAECAQQSAyYCCgoMCgUEAQIBBRIDJgsQCgwKBQQBAgEBEgMmERcKDAoFBAECAQMSAyYa" + 
+    "GwoMCgUEAQIBCBIDJhwsCg0KBgQBAgEIAhIDJh0rCgsKBAQBAgISAycCLQoMCgUEAQICBBIDJwIKCgwK" + 
+    "BQQBAgIFEgMnCxAKDAoFBAECAgESAycRFwoMCgUEAQICAxIDJxobCgwKBQQBAgIIEgMnHCwKDQoGBAEC" + 
+    "AggCEgMnHSsKCwoEBAECAxIDKAIvCgwKBQQBAgMEEgMoAgoKDAoFBAECAwUSAygLEQoMCgUEAQIDARID" + 
+    "KBIZCgwKBQQBAgMDEgMoHB0KDAoFBAECAwgSAygeLgoNCgYEAQIDCAISAygfLQoLCgQEAQIEEgMpAi8K" + 
+    "DAoFBAECBAQSAykCCgoMCgUEAQIEBRIDKQsRCgwKBQQBAgQBEgMpEhkKDAoFBAECBAMSAykcHQoMCgUE" + 
+    "AQIECBIDKR4uCg0KBgQBAgQIAhIDKR8tCgsKBAQBAgUSAyoCMQoMCgUEAQIFBBIDKgIKCgwKBQQBAgUF" + 
+    "EgMqCxIKDAoFBAECBQESAyoTGwoMCgUEAQIFAxIDKh4fCgwKBQQBAgUIEgMqIDAKDQoGBAECBQgCEgMq" + 
+    "IS8KCwoEBAECBhIDKwIzCgwKBQQBAgYEEgMrAgoKDAoFBAECBgUSAysLEwoMCgUEAQIGARIDKxQdCgwK" + 
+    "BQQBAgYDEgMrICEKDAoFBAECBggSAysiMgoNCgYEAQIGCAISAysjMQoLCgQEAQIHEgMsAi0KDAoFBAEC" + 
+    "BwQSAywCCgoMCgUEAQIHBRIDLAsQCgwKBQQBAgcBEgMsERcKDAoFBAECBwMSAywaGwoMCgUEAQIHCBID" + 
+    "LBwsCg0KBgQBAgcIAhIDLB0rCgsKBAQBAggSAy0CLwoMCgUEAQIIBBIDLQIKCgwKBQQBAggFEgMtCxEK" + 
+    "DAoFBAECCAESAy0SGQoMCgUEAQIIAxIDLRwdCgwKBQQBAggIEgMtHi4KDQoGBAECCAgCEgMtHy0KCwoE" + 
+    "BAECCRIDLgIwCgwKBQQBAgkEEgMuAgoKDAoFBAECCQUSAy4LEQoMCgUEAQIJARIDLhIZCgwKBQQBAgkD" + 
+    "EgMuHB4KDAoFBAECCQgSAy4fLwoNCgYEAQIJCAISAy4gLgoLCgQEAQIKEgMvAjIKDAoFBAECCgQSAy8C" + 
+    "CgoMCgUEAQIKBRIDLwsSCgwKBQQBAgoBEgMvExsKDAoFBAECCgMSAy8eIAoMCgUEAQIKCBIDLyExCg0K" + 
+    "BgQBAgoIAhIDLyIwCgsKBAQBAgsSAzACNAoMCgUEAQILBBIDMAIKCgwKBQQBAgsFEgMwCxMKDAoFBAEC" + 
+    "CwESAzAUHQoMCgUEAQILAxIDMCAiCgwKBQQBAgsIEgMwIzMKDQoGBAECCwgCEgMwJDIKCwoEBAECDBID" + 
+    "MQIsCgwKBQQBAgwEEgMxAgoKDAoFBAECDAUSAzELDwoMCgUEAQIMARIDMRAVCgwKBQQBAgwDEgMxGBoK" + 
+    "DAoFBAECDAgSAzEbKwoNCgYEAQIMCAISAzEcKgoLCgQEAQINEgMyAjAKDAoFBAECDQQSAzICCgoMCgUE" + 
+    "AQINBhIDMgsTCgwKBQQBAg0BEgMyFBkKDAoFBAECDQMSAzIcHgoMCgUEAQINCBIDMh8vCg0KBgQBAg0I" + 
+    "AhIDMiAuCgsKBAQBAg4SAzMCHwoMCgUEAQIOBBIDMwIKCgwKBQQBAg4FEgMzCxEKDAoFBAECDgESAzMS" + 
+    "GQoMCgUEAQIOAxIDMxweCgsKBAQBAg8SAzQCHAoMCgUEAQIPBRIDNAIICgwKBQQBAg8BEgM0CRYKDAoF" + 
+    "BAECDwMSAzQZGwoLCgQEAQIQEgM1AhoKDAoFBAECEAUSAzUCBwoMCgUEAQIQARIDNQgUCgwKBQQBAhAD" + 
+    "EgM1FxliBnByb3RvMw==");
+
+  static final Descriptors.FileDescriptor descriptor;
+
+  static final Descriptors.Descriptor eu_neverblink_protoc_java_test_RepeatedScalars_descriptor;
+
+  static final Descriptors.Descriptor eu_neverblink_protoc_java_test_UnpackedScalars_descriptor;
+
+  static {
+    try {
+      descriptor = Descriptors.FileDescriptor.buildFrom(DescriptorProtos.FileDescriptorProto.parseFrom(descriptorData), new Descriptors.FileDescriptor[] {});
+      eu_neverblink_protoc_java_test_RepeatedScalars_descriptor = descriptor.getMessageTypes().get(0);
+      eu_neverblink_protoc_java_test_UnpackedScalars_descriptor = descriptor.getMessageTypes().get(1);
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * @return this proto file's descriptor.
+   */
+  public static Descriptors.FileDescriptor getDescriptor() {
+    return descriptor;
+  }
+}
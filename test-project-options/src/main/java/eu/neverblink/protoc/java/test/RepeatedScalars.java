@@ -0,0 +1,1498 @@
+// Code generated by NeverBlink protoc-java-fast. Do not edit!
+package eu.neverblink.protoc.java.test;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.InvalidProtocolBufferException;
+import eu.neverblink.protoc.java.runtime.LimitedCodedInputStream;
+import eu.neverblink.protoc.java.runtime.MessageFactory;
+import eu.neverblink.protoc.java.runtime.ProjectionMask;
+import eu.neverblink.protoc.java.runtime.ProtoMessage;
+import eu.neverblink.protoc.java.runtime.ProtoMetrics;
+import eu.neverblink.protoc.java.runtime.ProtoSink;
+import eu.neverblink.protoc.java.runtime.ProtoUtil;
+import eu.neverblink.protoc.java.runtime.RepeatedBoolean;
+import eu.neverblink.protoc.java.runtime.RepeatedDouble;
+import eu.neverblink.protoc.java.runtime.RepeatedEnum;
+import eu.neverblink.protoc.java.runtime.RepeatedFloat;
+import eu.neverblink.protoc.java.runtime.RepeatedInt;
+import eu.neverblink.protoc.java.runtime.RepeatedLong;
+import eu.neverblink.protoc.java.runtime.RepeatedString;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Protobuf type {@code RepeatedScalars}
+ * DO NOT INHERIT FROM THIS CLASS!
+ * It's not <code>final</code> only to facilitate the Mutable nested subclass.
+ */
+@SuppressWarnings("hiding")
+public abstract class RepeatedScalars extends ProtoMessage<RepeatedScalars> implements Cloneable {
+  public static final int SINGLE_DOUBLE_FIELD_NUMBER = 16;
+
+  public static final int SINGLE_FLOAT_FIELD_NUMBER = 17;
+
+  public static final int DOUBLES_FIELD_NUMBER = 1;
+
+  public static final int FLOATS_FIELD_NUMBER = 2;
+
+  public static final int INT64_S_FIELD_NUMBER = 3;
+
+  public static final int UINT64_S_FIELD_NUMBER = 4;
+
+  public static final int SINT64_S_FIELD_NUMBER = 5;
+
+  public static final int FIXED64_S_FIELD_NUMBER = 6;
+
+  public static final int SFIXED64_S_FIELD_NUMBER = 7;
+
+  public static final int INT32_S_FIELD_NUMBER = 8;
+
+  public static final int UINT32_S_FIELD_NUMBER = 9;
+
+  public static final int SINT32_S_FIELD_NUMBER = 10;
+
+  public static final int FIXED32_S_FIELD_NUMBER = 11;
+
+  public static final int SFIXED32_S_FIELD_NUMBER = 12;
+
+  public static final int BOOLS_FIELD_NUMBER = 13;
+
+  public static final int ENUMS_FIELD_NUMBER = 14;
+
+  public static final int STRINGS_FIELD_NUMBER = 15;
+
+  /**
+   * <code>optional double single_double = 16;</code>
+   */
+  protected double singleDouble;
+
+  /**
+   * <code>optional float single_float = 17;</code>
+   */
+  protected float singleFloat;
+
+  /**
+   * <code>repeated double doubles = 1;</code>
+   */
+  protected RepeatedDouble doubles = RepeatedDouble.newEmptyInstance();
+
+  /**
+   * <code>repeated float floats = 2;</code>
+   */
+  protected RepeatedFloat floats = RepeatedFloat.newEmptyInstance();
+
+  /**
+   * <code>repeated int64 int64s = 3;</code>
+   */
+  protected RepeatedLong int64S = RepeatedLong.newEmptyInstance();
+
+  /**
+   * <code>repeated uint64 uint64s = 4;</code>
+   */
+  protected RepeatedLong uint64S = RepeatedLong.newEmptyInstance();
+
+  /**
+   * <code>repeated sint64 sint64s = 5;</code>
+   */
+  protected RepeatedLong sint64S = RepeatedLong.newEmptyInstance();
+
+  /**
+   * <code>repeated fixed64 fixed64s = 6;</code>
+   */
+  protected RepeatedLong fixed64S = RepeatedLong.newEmptyInstance();
+
+  /**
+   * <code>repeated sfixed64 sfixed64s = 7;</code>
+   */
+  protected RepeatedLong sfixed64S = RepeatedLong.newEmptyInstance();
+
+  /**
+   * <code>repeated int32 int32s = 8;</code>
+   */
+  protected RepeatedInt int32S = RepeatedInt.newEmptyInstance();
+
+  /**
+   * <code>repeated uint32 uint32s = 9;</code>
+   */
+  protected RepeatedInt uint32S = RepeatedInt.newEmptyInstance();
+
+  /**
+   * <code>repeated sint32 sint32s = 10;</code>
+   */
+  protected RepeatedInt sint32S = RepeatedInt.newEmptyInstance();
+
+  /**
+   * <code>repeated fixed32 fixed32s = 11;</code>
+   */
+  protected RepeatedInt fixed32S = RepeatedInt.newEmptyInstance();
+
+  /**
+   * <code>repeated sfixed32 sfixed32s = 12;</code>
+   */
+  protected RepeatedInt sfixed32S = RepeatedInt.newEmptyInstance();
+
+  /**
+   * <code>repeated bool bools = 13;</code>
+   */
+  protected RepeatedBoolean bools = RepeatedBoolean.newEmptyInstance();
+
+  /**
+   * <code>repeated .eu.neverblink.protoc.java.test.TestEnum enums = 14;</code>
+   */
+  protected RepeatedEnum<TestEnum> enums = RepeatedEnum.newEmptyInstance(TestEnum.converter());
+
+  /**
+   * <code>repeated string strings = 15;</code>
+   */
+  protected RepeatedString strings = RepeatedString.newEmptyInstance();
+
+  /**
+   * Message whose cached size includes the size of this message, or null.
+   */
+  protected ProtoMessage<?> sizeParent;
+
+  /**
+   * Whether this message was linked to more than one size parent.
+   */
+  protected boolean sizeShared;
+
+  /**
+   * Whether the cached size includes shared messages, so that it has to be computed again.
+   */
+  protected boolean sizeUntracked;
+
+  /**
+   * Fields that were not recognized while parsing, in their serialized form.
+   */
+  protected ByteString unknownBytes = ByteString.EMPTY;
+
+  private RepeatedScalars() {
+  }
+
+  /**
+   * @return a new empty instance of {@code Mutable}
+   */
+  public static Mutable newInstance() {
+    return new Mutable();
+  }
+
+  /**
+   * Returns the fields that were not recognized while parsing, for example fields added
+   * in a newer version of the schema. They are written back as they were read when this
+   * message is serialized.
+   *
+   * @return the unknown fields in their serialized form, including their tags
+   */
+  public ByteString getUnknownBytes() {
+    return unknownBytes;
+  }
+
+  /**
+   * <code>optional double single_double = 16;</code>
+   * @return the singleDouble
+   */
+  public double getSingleDouble() {
+    return singleDouble;
+  }
+
+  /**
+   * <code>optional float single_float = 17;</code>
+   * @return the singleFloat
+   */
+  public float getSingleFloat() {
+    return singleFloat;
+  }
+
+  /**
+   * <code>repeated double doubles = 1;</code>
+   *
+   * @return value for this field
+   */
+  public RepeatedDouble getDoubles() {
+    invalidateSize();
+    return doubles;
+  }
+
+  /**
+   * <code>repeated float floats = 2;</code>
+   *
+   * @return value for this field
+   */
+  public RepeatedFloat getFloats() {
+    invalidateSize();
+    return floats;
+  }
+
+  /**
+   * <code>repeated int64 int64s = 3;</code>
+   *
+   * @return value for this field
+   */
+  public RepeatedLong getInt64S() {
+    invalidateSize();
+    return int64S;
+  }
+
+  /**
+   * <code>repeated uint64 uint64s = 4;</code>
+   *
+   * @return value for this field
+   */
+  public RepeatedLong getUint64S() {
+    invalidateSize();
+    return uint64S;
+  }
+
+  /**
+   * <code>repeated sint64 sint64s = 5;</code>
+   *
+   * @return value for this field
+   */
+  public RepeatedLong getSint64S() {
+    invalidateSize();
+    return sint64S;
+  }
+
+  /**
+   * <code>repeated fixed64 fixed64s = 6;</code>
+   *
+   * @return value for this field
+   */
+  public RepeatedLong getFixed64S() {
+    invalidateSize();
+    return fixed64S;
+  }
+
+  /**
+   * <code>repeated sfixed64 sfixed64s = 7;</code>
+   *
+   * @return value for this field
+   */
+  public RepeatedLong getSfixed64S() {
+    invalidateSize();
+    return sfixed64S;
+  }
+
+  /**
+   * <code>repeated int32 int32s = 8;</code>
+   *
+   * @return value for this field
+   */
+  public RepeatedInt getInt32S() {
+    invalidateSize();
+    return int32S;
+  }
+
+  /**
+   * <code>repeated uint32 uint32s = 9;</code>
+   *
+   * @return value for this field
+   */
+  public RepeatedInt getUint32S() {
+    invalidateSize();
+    return uint32S;
+  }
+
+  /**
+   * <code>repeated sint32 sint32s = 10;</code>
+   *
+   * @return value for this field
+   */
+  public RepeatedInt getSint32S() {
+    invalidateSize();
+    return sint32S;
+  }
+
+  /**
+   * <code>repeated fixed32 fixed32s = 11;</code>
+   *
+   * @return value for this field
+   */
+  public RepeatedInt getFixed32S() {
+    invalidateSize();
+    return fixed32S;
+  }
+
+  /**
+   * <code>repeated sfixed32 sfixed32s = 12;</code>
+   *
+   * @return value for this field
+   */
+  public RepeatedInt getSfixed32S() {
+    invalidateSize();
+    return sfixed32S;
+  }
+
+  /**
+   * <code>repeated bool bools = 13;</code>
+   *
+   * @return value for this field
+   */
+  public RepeatedBoolean getBools() {
+    invalidateSize();
+    return bools;
+  }
+
+  /**
+   * <code>repeated .eu.neverblink.protoc.java.test.TestEnum enums = 14;</code>
+   *
+   * @return value for this field
+   */
+  public RepeatedEnum<TestEnum> getEnums() {
+    invalidateSize();
+    return enums;
+  }
+
+  /**
+   * <code>repeated string strings = 15;</code>
+   *
+   * @return value for this field
+   */
+  public RepeatedString getStrings() {
+    invalidateSize();
+    return strings;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (o == this) {
+      return true;
+    }
+    if (!(o instanceof RepeatedScalars)) {
+      return false;
+    }
+    RepeatedScalars other = (RepeatedScalars) o;
+    return ProtoUtil.isEqual(singleDouble, other.singleDouble)
+      && ProtoUtil.isEqual(singleFloat, other.singleFloat)
+      && doubles.equals(other.doubles)
+      && floats.equals(other.floats)
+      && int64S.equals(other.int64S)
+      && uint64S.equals(other.uint64S)
+      && sint64S.equals(other.sint64S)
+      && fixed64S.equals(other.fixed64S)
+      && sfixed64S.equals(other.sfixed64S)
+      && int32S.equals(other.int32S)
+      && uint32S.equals(other.uint32S)
+      && sint32S.equals(other.sint32S)
+      && fixed32S.equals(other.fixed32S)
+      && sfixed32S.equals(other.sfixed32S)
+      && bools.equals(other.bools)
+      && enums.equals(other.enums)
+      && strings.equals(other.strings)
+      && unknownBytes.equals(other.unknownBytes);
+  }
+
+  @Override
+  public int hashCode() {
+    int _hash = 1;
+    _hash = 0x01000193 * _hash + Double.hashCode(singleDouble);
+    _hash = 0x01000193 * _hash + Float.hashCode(singleFloat);
+    _hash = 0x01000193 * _hash + doubles.hashCode();
+    _hash = 0x01000193 * _hash + floats.hashCode();
+    _hash = 0x01000193 * _hash + int64S.hashCode();
+    _hash = 0x01000193 * _hash + uint64S.hashCode();
+    _hash = 0x01000193 * _hash + sint64S.hashCode();
+    _hash = 0x01000193 * _hash + fixed64S.hashCode();
+    _hash = 0x01000193 * _hash + sfixed64S.hashCode();
+    _hash = 0x01000193 * _hash + int32S.hashCode();
+    _hash = 0x01000193 * _hash + uint32S.hashCode();
+    _hash = 0x01000193 * _hash + sint32S.hashCode();
+    _hash = 0x01000193 * _hash + fixed32S.hashCode();
+    _hash = 0x01000193 * _hash + sfixed32S.hashCode();
+    _hash = 0x01000193 * _hash + bools.hashCode();
+    _hash = 0x01000193 * _hash + enums.hashCode();
+    _hash = 0x01000193 * _hash + strings.hashCode();
+    _hash = 0x01000193 * _hash + unknownBytes.hashCode();
+    return _hash;
+  }
+
+  @Override
+  public void writeTo(final CodedOutputStream output) throws IOException {
+    if (singleDouble != 0D) {
+      output.writeRawByte((byte) 129);
+      output.writeRawByte((byte) 1);
+      output.writeDoubleNoTag(singleDouble);
+    }
+    if (singleFloat != 0F) {
+      output.writeRawByte((byte) 141);
+      output.writeRawByte((byte) 1);
+      output.writeFloatNoTag(singleFloat);
+    }
+    if (doubles.size() > 0) {
+      output.writeRawByte((byte) 10);
+      ProtoMessage.writePackedDoubleNoTag(output, doubles);
+    }
+    if (floats.size() > 0) {
+      output.writeRawByte((byte) 18);
+      ProtoMessage.writePackedFloatNoTag(output, floats);
+    }
+    if (int64S.size() > 0) {
+      output.writeRawByte((byte) 26);
+      ProtoMessage.writePackedInt64NoTag(output, int64S);
+    }
+    if (uint64S.size() > 0) {
+      output.writeRawByte((byte) 34);
+      ProtoMessage.writePackedUInt64NoTag(output, uint64S);
+    }
+    if (sint64S.size() > 0) {
+      output.writeRawByte((byte) 42);
+      ProtoMessage.writePackedSInt64NoTag(output, sint64S);
+    }
+    if (fixed64S.size() > 0) {
+      output.writeRawByte((byte) 50);
+      ProtoMessage.writePackedFixed64NoTag(output, fixed64S);
+    }
+    if (sfixed64S.size() > 0) {
+      output.writeRawByte((byte) 58);
+      ProtoMessage.writePackedSFixed64NoTag(output, sfixed64S);
+    }
+    if (int32S.size() > 0) {
+      output.writeRawByte((byte) 66);
+      ProtoMessage.writePackedInt32NoTag(output, int32S);
+    }
+    if (uint32S.size() > 0) {
+      output.writeRawByte((byte) 74);
+      ProtoMessage.writePackedUInt32NoTag(output, uint32S);
+    }
+    if (sint32S.size() > 0) {
+      output.writeRawByte((byte) 82);
+      ProtoMessage.writePackedSInt32NoTag(output, sint32S);
+    }
+    if (fixed32S.size() > 0) {
+      output.writeRawByte((byte) 90);
+      ProtoMessage.writePackedFixed32NoTag(output, fixed32S);
+    }
+    if (sfixed32S.size() > 0) {
+      output.writeRawByte((byte) 98);
+      ProtoMessage.writePackedSFixed32NoTag(output, sfixed32S);
+    }
+    if (bools.size() > 0) {
+      output.writeRawByte((byte) 106);
+      ProtoMessage.writePackedBoolNoTag(output, bools);
+    }
+    if (enums.size() > 0) {
+      output.writeRawByte((byte) 114);
+      ProtoMessage.writePackedEnumNoTag(output, enums);
+    }
+    if (strings.size() > 0) {
+      for (int i = 0; i < strings.length(); i++) {
+        output.writeRawByte((byte) 122);
+        output.writeStringNoTag(strings.get(i));
+      }
+    }
+    if (!unknownBytes.isEmpty()) {
+      output.writeRawBytes(unknownBytes);
+    }
+  }
+
+  @Override
+  public void writeTo(final ProtoSink output) throws IOException {
+    if (singleDouble != 0D) {
+      output.writeRawByte((byte) 129);
+      output.writeRawByte((byte) 1);
+      output.writeDoubleNoTag(singleDouble);
+    }
+    if (singleFloat != 0F) {
+      output.writeRawByte((byte) 141);
+      output.writeRawByte((byte) 1);
+      output.writeFloatNoTag(singleFloat);
+    }
+    if (doubles.size() > 0) {
+      output.writeRawByte((byte) 10);
+      output.writePackedDoubleNoTag(doubles);
+    }
+    if (floats.size() > 0) {
+      output.writeRawByte((byte) 18);
+      output.writePackedFloatNoTag(floats);
+    }
+    if (int64S.size() > 0) {
+      output.writeRawByte((byte) 26);
+      output.writePackedInt64NoTag(int64S);
+    }
+    if (uint64S.size() > 0) {
+      output.writeRawByte((byte) 34);
+      output.writePackedUInt64NoTag(uint64S);
+    }
+    if (sint64S.size() > 0) {
+      output.writeRawByte((byte) 42);
+      output.writePackedSInt64NoTag(sint64S);
+    }
+    if (fixed64S.size() > 0) {
+      output.writeRawByte((byte) 50);
+      output.writePackedFixed64NoTag(fixed64S);
+    }
+    if (sfixed64S.size() > 0) {
+      output.writeRawByte((byte) 58);
+      output.writePackedSFixed64NoTag(sfixed64S);
+    }
+    if (int32S.size() > 0) {
+      output.writeRawByte((byte) 66);
+      output.writePackedInt32NoTag(int32S);
+    }
+    if (uint32S.size() > 0) {
+      output.writeRawByte((byte) 74);
+      output.writePackedUInt32NoTag(uint32S);
+    }
+    if (sint32S.size() > 0) {
+      output.writeRawByte((byte) 82);
+      output.writePackedSInt32NoTag(sint32S);
+    }
+    if (fixed32S.size() > 0) {
+      output.writeRawByte((byte) 90);
+      output.writePackedFixed32NoTag(fixed32S);
+    }
+    if (sfixed32S.size() > 0) {
+      output.writeRawByte((byte) 98);
+      output.writePackedSFixed32NoTag(sfixed32S);
+    }
+    if (bools.size() > 0) {
+      output.writeRawByte((byte) 106);
+      output.writePackedBoolNoTag(bools);
+    }
+    if (enums.size() > 0) {
+      output.writeRawByte((byte) 114);
+      output.writePackedEnumNoTag(enums);
+    }
+    if (strings.size() > 0) {
+      for (int i = 0; i < strings.length(); i++) {
+        output.writeRawByte((byte) 122);
+        output.writeStringNoTag(strings.get(i));
+      }
+    }
+    if (!unknownBytes.isEmpty()) {
+      output.writeRawBytes(unknownBytes);
+    }
+  }
+
+  @Override
+  protected int computeSerializedSize() {
+    int size = 0;
+    if (singleDouble != 0D) {
+      size += 10;
+    }
+    if (singleFloat != 0F) {
+      size += 6;
+    }
+    if (doubles.size() > 0) {
+      final int dataSize = 8 * doubles.length();
+      size += 1 + ProtoMessage.computeDelimitedSize(dataSize);
+    }
+    if (floats.size() > 0) {
+      final int dataSize = 4 * floats.length();
+      size += 1 + ProtoMessage.computeDelimitedSize(dataSize);
+    }
+    if (int64S.size() > 0) {
+      final int dataSize = ProtoMessage.computeRepeatedInt64SizeNoTag(int64S);
+      size += 1 + ProtoMessage.computeDelimitedSize(dataSize);
+    }
+    if (uint64S.size() > 0) {
+      final int dataSize = ProtoMessage.computeRepeatedUInt64SizeNoTag(uint64S);
+      size += 1 + ProtoMessage.computeDelimitedSize(dataSize);
+    }
+    if (sint64S.size() > 0) {
+      final int dataSize = ProtoMessage.computeRepeatedSInt64SizeNoTag(sint64S);
+      size += 1 + ProtoMessage.computeDelimitedSize(dataSize);
+    }
+    if (fixed64S.size() > 0) {
+      final int dataSize = 8 * fixed64S.length();
+      size += 1 + ProtoMessage.computeDelimitedSize(dataSize);
+    }
+    if (sfixed64S.size() > 0) {
+      final int dataSize = 8 * sfixed64S.length();
+      size += 1 + ProtoMessage.computeDelimitedSize(dataSize);
+    }
+    if (int32S.size() > 0) {
+      final int dataSize = ProtoMessage.computeRepeatedInt32SizeNoTag(int32S);
+      size += 1 + ProtoMessage.computeDelimitedSize(dataSize);
+    }
+    if (uint32S.size() > 0) {
+      final int dataSize = ProtoMessage.computeRepeatedUInt32SizeNoTag(uint32S);
+      size += 1 + ProtoMessage.computeDelimitedSize(dataSize);
+    }
+    if (sint32S.size() > 0) {
+      final int dataSize = ProtoMessage.computeRepeatedSInt32SizeNoTag(sint32S);
+      size += 1 + ProtoMessage.computeDelimitedSize(dataSize);
+    }
+    if (fixed32S.size() > 0) {
+      final int dataSize = 4 * fixed32S.length();
+      size += 1 + ProtoMessage.computeDelimitedSize(dataSize);
+    }
+    if (sfixed32S.size() > 0) {
+      final int dataSize = 4 * sfixed32S.length();
+      size += 1 + ProtoMessage.computeDelimitedSize(dataSize);
+    }
+    if (bools.size() > 0) {
+      final int dataSize = 1 * bools.length();
+      size += 1 + ProtoMessage.computeDelimitedSize(dataSize);
+    }
+    if (enums.size() > 0) {
+      final int dataSize = ProtoMessage.computeRepeatedEnumSizeNoTag(enums);
+      size += 1 + ProtoMessage.computeDelimitedSize(dataSize);
+    }
+    if (strings.size() > 0) {
+      size += strings.size() + ProtoMessage.computeRepeatedStringSizeNoTag(strings);
+    }
+    size += unknownBytes.size();
+    return size;
+  }
+
+  /**
+   * Returns the cached size if the message was not modified since it was computed.
+   */
+  @Override
+  public int getSerializedSize() {
+    if (cachedSize >= 0 && !sizeUntracked) {
+      return cachedSize;
+    }
+    sizeUntracked = false;
+    return super.getSerializedSize();
+  }
+
+  @Override
+  protected void invalidateSize() {
+    ProtoMessage.invalidateSizes(this);
+  }
+
+  @Override
+  protected ProtoMessage<?> getSizeParent() {
+    return sizeParent;
+  }
+
+  @Override
+  protected void setSizeParent(final ProtoMessage<?> parent) {
+    if (sizeParent != parent) {
+      if (sizeParent != null && !sizeShared) {
+        // Modifications are not tracked by the first parent anymore
+        sizeShared = true;
+        ProtoMessage.invalidateSizes(sizeParent);
+      }
+      sizeParent = parent;
+    }
+  }
+
+  @Override
+  protected boolean isSizeTracked() {
+    return !sizeShared && !sizeUntracked;
+  }
+
+  @Override
+  protected void untrackSize() {
+    sizeUntracked = true;
+  }
+
+  @Override
+  protected boolean readsArrayInput() {
+    return true;
+  }
+
+  @Override
+  protected boolean writesProtoSink() {
+    return true;
+  }
+
+  @Override
+  public Mutable clone() {
+    return newInstance().copyFrom(this);
+  }
+
+  public static RepeatedScalars parseFrom(final byte[] data) throws InvalidProtocolBufferException {
+    return ProtoMessage.mergeFrom(newInstance(), data);
+  }
+
+  public static RepeatedScalars parseFrom(final ByteBuffer data) throws
+      InvalidProtocolBufferException {
+    return ProtoMessage.mergeFrom(newInstance(), data);
+  }
+
+  public static RepeatedScalars parseFrom(final LimitedCodedInputStream input) throws IOException {
+    return ProtoMessage.mergeFrom(newInstance(), input);
+  }
+
+  public static RepeatedScalars parseDelimitedFrom(final InputStream input) throws IOException {
+    return ProtoMessage.parseDelimitedFrom(input, RepeatedScalars.getFactory());
+  }
+
+  public static RepeatedScalars parseDelimitedFrom(final ByteBuffer input) throws IOException {
+    return ProtoMessage.parseDelimitedFrom(input, RepeatedScalars.getFactory());
+  }
+
+  /**
+   * @return factory for creating RepeatedScalars messages
+   */
+  public static MessageFactory<RepeatedScalars> getFactory() {
+    return RepeatedScalarsFactory.INSTANCE;
+  }
+
+  /**
+   * @return this type's descriptor.
+   */
+  public static Descriptors.Descriptor getDescriptor() {
+    return Repeated.eu_neverblink_protoc_java_test_RepeatedScalars_descriptor;
+  }
+
+  private enum RepeatedScalarsFactory implements MessageFactory<RepeatedScalars> {
+    INSTANCE;
+
+    @Override
+    public RepeatedScalars create() {
+      return RepeatedScalars.newInstance();
+    }
+  }
+
+  /**
+   * Mutable subclass of the parent class.
+   * You can call setters on this class to set the values.
+   * When passing the constructed message to the serializer,
+   * you should use the parent class (using .asImmutable()) to
+   * ensure the message won't be modified by accident.
+   */
+  public static final class Mutable extends RepeatedScalars {
+    private Mutable() {
+    }
+
+    /**
+     * <code>optional double single_double = 16;</code>
+     * @param value the singleDouble to set
+     * @return this
+     */
+    public Mutable setSingleDouble(final double value) {
+      singleDouble = value;
+      invalidateSize();
+      return this;
+    }
+
+    /**
+     * <code>optional float single_float = 17;</code>
+     * @param value the singleFloat to set
+     * @return this
+     */
+    public Mutable setSingleFloat(final float value) {
+      singleFloat = value;
+      invalidateSize();
+      return this;
+    }
+
+    /**
+     * <code>repeated double doubles = 1;</code>
+     * @param value the doubles to add
+     * @return this
+     */
+    public Mutable addDoubles(final double value) {
+      doubles.add(value);
+      invalidateSize();
+      return this;
+    }
+
+    /**
+     * <code>repeated float floats = 2;</code>
+     * @param value the floats to add
+     * @return this
+     */
+    public Mutable addFloats(final float value) {
+      floats.add(value);
+      invalidateSize();
+      return this;
+    }
+
+    /**
+     * <code>repeated int64 int64s = 3;</code>
+     * @param value the int64S to add
+     * @return this
+     */
+    public Mutable addInt64S(final long value) {
+      int64S.add(value);
+      invalidateSize();
+      return this;
+    }
+
+    /**
+     * <code>repeated uint64 uint64s = 4;</code>
+     * @param value the uint64S to add
+     * @return this
+     */
+    public Mutable addUint64S(final long value) {
+      uint64S.add(value);
+      invalidateSize();
+      return this;
+    }
+
+    /**
+     * <code>repeated sint64 sint64s = 5;</code>
+     * @param value the sint64S to add
+     * @return this
+     */
+    public Mutable addSint64S(final long value) {
+      sint64S.add(value);
+      invalidateSize();
+      return this;
+    }
+
+    /**
+     * <code>repeated fixed64 fixed64s = 6;</code>
+     * @param value the fixed64S to add
+     * @return this
+     */
+    public Mutable addFixed64S(final long value) {
+      fixed64S.add(value);
+      invalidateSize();
+      return this;
+    }
+
+    /**
+     * <code>repeated sfixed64 sfixed64s = 7;</code>
+     * @param value the sfixed64S to add
+     * @return this
+     */
+    public Mutable addSfixed64S(final long value) {
+      sfixed64S.add(value);
+      invalidateSize();
+      return this;
+    }
+
+    /**
+     * <code>repeated int32 int32s = 8;</code>
+     * @param value the int32S to add
+     * @return this
+     */
+    public Mutable addInt32S(final int value) {
+      int32S.add(value);
+      invalidateSize();
+      return this;
+    }
+
+    /**
+     * <code>repeated uint32 uint32s = 9;</code>
+     * @param value the uint32S to add
+     * @return this
+     */
+    public Mutable addUint32S(final int value) {
+      uint32S.add(value);
+      invalidateSize();
+      return this;
+    }
+
+    /**
+     * <code>repeated sint32 sint32s = 10;</code>
+     * @param value the sint32S to add
+     * @return this
+     */
+    public Mutable addSint32S(final int value) {
+      sint32S.add(value);
+      invalidateSize();
+      return this;
+    }
+
+    /**
+     * <code>repeated fixed32 fixed32s = 11;</code>
+     * @param value the fixed32S to add
+     * @return this
+     */
+    public Mutable addFixed32S(final int value) {
+      fixed32S.add(value);
+      invalidateSize();
+      return this;
+    }
+
+    /**
+     * <code>repeated sfixed32 sfixed32s = 12;</code>
+     * @param value the sfixed32S to add
+     * @return this
+     */
+    public Mutable addSfixed32S(final int value) {
+      sfixed32S.add(value);
+      invalidateSize();
+      return this;
+    }
+
+    /**
+     * <code>repeated bool bools = 13;</code>
+     * @param value the bools to add
+     * @return this
+     */
+    public Mutable addBools(final boolean value) {
+      bools.add(value);
+      invalidateSize();
+      return this;
+    }
+
+    /**
+     * <code>repeated .eu.neverblink.protoc.java.test.TestEnum enums = 14;</code>
+     * @param value the enums to add
+     * @return this
+     */
+    public Mutable addEnums(final TestEnum value) {
+      enums.add(value);
+      invalidateSize();
+      return this;
+    }
+
+    /**
+     * <code>repeated string strings = 15;</code>
+     * @param value the strings to add
+     * @return this
+     */
+    public Mutable addStrings(final CharSequence value) {
+      strings.add(value);
+      invalidateSize();
+      return this;
+    }
+
+    @Override
+    public Mutable copyFrom(final RepeatedScalars other) {
+      invalidateSize();
+      unknownBytes = other.unknownBytes;
+      singleDouble = other.singleDouble;
+      singleFloat = other.singleFloat;
+      doubles.clear();
+      doubles.addAll(other.doubles);
+      floats.clear();
+      floats.addAll(other.floats);
+      int64S.clear();
+      int64S.addAll(other.int64S);
+      uint64S.clear();
+      uint64S.addAll(other.uint64S);
+      sint64S.clear();
+      sint64S.addAll(other.sint64S);
+      fixed64S.clear();
+      fixed64S.addAll(other.fixed64S);
+      sfixed64S.clear();
+      sfixed64S.addAll(other.sfixed64S);
+      int32S.clear();
+      int32S.addAll(other.int32S);
+      uint32S.clear();
+      uint32S.addAll(other.uint32S);
+      sint32S.clear();
+      sint32S.addAll(other.sint32S);
+      fixed32S.clear();
+      fixed32S.addAll(other.fixed32S);
+      sfixed32S.clear();
+      sfixed32S.addAll(other.sfixed32S);
+      bools.clear();
+      bools.addAll(other.bools);
+      enums.clear();
+      enums.addAll(other.enums);
+      strings.clear();
+      strings.addAll(other.strings);
+      return this;
+    }
+
+    @Override
+    public Mutable clear() {
+      invalidateSize();
+      unknownBytes = ByteString.EMPTY;
+      singleDouble = 0D;
+      singleFloat = 0F;
+      doubles.clear();
+      floats.clear();
+      int64S.clear();
+      uint64S.clear();
+      sint64S.clear();
+      fixed64S.clear();
+      sfixed64S.clear();
+      int32S.clear();
+      uint32S.clear();
+      sint32S.clear();
+      fixed32S.clear();
+      sfixed32S.clear();
+      bools.clear();
+      enums.clear();
+      strings.clear();
+      return this;
+    }
+
+    @Override
+    public Mutable mergeFrom(final RepeatedScalars other) {
+      invalidateSize();
+      unknownBytes = unknownBytes.concat(other.unknownBytes);
+      setSingleDouble(other.singleDouble);
+      setSingleFloat(other.singleFloat);
+      getDoubles().addAll(other.doubles);
+      getFloats().addAll(other.floats);
+      getInt64S().addAll(other.int64S);
+      getUint64S().addAll(other.uint64S);
+      getSint64S().addAll(other.sint64S);
+      getFixed64S().addAll(other.fixed64S);
+      getSfixed64S().addAll(other.sfixed64S);
+      getInt32S().addAll(other.int32S);
+      getUint32S().addAll(other.uint32S);
+      getSint32S().addAll(other.sint32S);
+      getFixed32S().addAll(other.fixed32S);
+      getSfixed32S().addAll(other.sfixed32S);
+      getBools().addAll(other.bools);
+      getEnums().addAll(other.enums);
+      getStrings().addAll(other.strings);
+      return this;
+    }
+
+    /**
+     * Parses this message like {@link #mergeFrom(LimitedCodedInputStream)}, without reporting it
+     * to the metrics of the input.
+     */
+    @SuppressWarnings("fallthrough")
+    private Mutable mergeMessageFrom(final LimitedCodedInputStream inputLimited) throws
+        IOException {
+      final long[] skippedFields = inputLimited.getSkippedFields(RepeatedScalars.getFactory());
+      if (skippedFields != null) {
+        return mergeProjectedFrom(inputLimited, skippedFields);
+      }
+      invalidateSize();
+      // Enabled Fall-Through Optimization
+      final LimitedCodedInputStream input = inputLimited;
+      int tag = input.readTag();
+      while (true) {
+        switch (tag) {
+          case 10: {
+            // doubles [packed=true]
+            ProtoMessage.readPackedDouble(doubles, inputLimited);
+            tag = input.readTag();
+            if (tag != 18) {
+              break;
+            }
+          }
+          case 18: {
+            // floats [packed=true]
+            ProtoMessage.readPackedFloat(floats, inputLimited);
+            tag = input.readTag();
+            if (tag != 26) {
+              break;
+            }
+          }
+          case 26: {
+            // int64S [packed=true]
+            ProtoMessage.readPackedInt64(int64S, inputLimited);
+            tag = input.readTag();
+            if (tag != 34) {
+              break;
+            }
+          }
+          case 34: {
+            // uint64S [packed=true]
+            ProtoMessage.readPackedUInt64(uint64S, inputLimited);
+            tag = input.readTag();
+            if (tag != 42) {
+              break;
+            }
+          }
+          case 42: {
+            // sint64S [packed=true]
+            ProtoMessage.readPackedSInt64(sint64S, inputLimited);
+            tag = input.readTag();
+            if (tag != 50) {
+              break;
+            }
+          }
+          case 50: {
+            // fixed64S [packed=true]
+            ProtoMessage.readPackedFixed64(fixed64S, inputLimited);
+            tag = input.readTag();
+            if (tag != 58) {
+              break;
+            }
+          }
+          case 58: {
+            // sfixed64S [packed=true]
+            ProtoMessage.readPackedSFixed64(sfixed64S, inputLimited);
+            tag = input.readTag();
+            if (tag != 66) {
+              break;
+            }
+          }
+          case 66: {
+            // int32S [packed=true]
+            ProtoMessage.readPackedInt32(int32S, inputLimited);
+            tag = input.readTag();
+            if (tag != 74) {
+              break;
+            }
+          }
+          case 74: {
+            // uint32S [packed=true]
+            ProtoMessage.readPackedUInt32(uint32S, inputLimited);
+            tag = input.readTag();
+            if (tag != 82) {
+              break;
+            }
+          }
+          case 82: {
+            // sint32S [packed=true]
+            ProtoMessage.readPackedSInt32(sint32S, inputLimited);
+            tag = input.readTag();
+            if (tag != 90) {
+              break;
+            }
+          }
+          case 90: {
+            // fixed32S [packed=true]
+            ProtoMessage.readPackedFixed32(fixed32S, inputLimited);
+            tag = input.readTag();
+            if (tag != 98) {
+              break;
+            }
+          }
+          case 98: {
+            // sfixed32S [packed=true]
+            ProtoMessage.readPackedSFixed32(sfixed32S, inputLimited);
+            tag = input.readTag();
+            if (tag != 106) {
+              break;
+            }
+          }
+          case 106: {
+            // bools [packed=true]
+            ProtoMessage.readPackedBool(bools, inputLimited);
+            tag = input.readTag();
+            if (tag != 114) {
+              break;
+            }
+          }
+          case 114: {
+            // enums [packed=true]
+            ProtoMessage.readPackedEnum(enums, inputLimited);
+            tag = input.readTag();
+            if (tag != 122) {
+              break;
+            }
+          }
+          case 122: {
+            // strings
+            tag = ProtoMessage.readRepeatedString(strings, inputLimited, tag);
+            if (tag != 129) {
+              break;
+            }
+          }
+          case 129: {
+            // singleDouble
+            singleDouble = input.readDouble();
+            tag = input.readTag();
+            if (tag != 141) {
+              break;
+            }
+          }
+          case 141: {
+            // singleFloat
+            singleFloat = input.readFloat();
+            tag = input.readTag();
+            if (tag != 0) {
+              break;
+            }
+          }
+          case 0: {
+            return this;
+          }
+          default: {
+            if (ProtoMetrics.ENABLED && inputLimited.getMetrics() != null) {
+              inputLimited.getMetrics().unknownField(this, tag);
+            }
+            final ByteString unknown = ProtoMessage.readUnknownField(inputLimited, tag, unknownBytes);
+            if (unknown == null) {
+              return this;
+            }
+            unknownBytes = unknown;
+            tag = input.readTag();
+            break;
+          }
+          case 9: {
+            // doubles [packed=false]
+            tag = ProtoMessage.readRepeatedDouble(doubles, inputLimited, tag);
+            break;
+          }
+          case 21: {
+            // floats [packed=false]
+            tag = ProtoMessage.readRepeatedFloat(floats, inputLimited, tag);
+            break;
+          }
+          case 24: {
+            // int64S [packed=false]
+            tag = ProtoMessage.readRepeatedInt64(int64S, inputLimited, tag);
+            break;
+          }
+          case 32: {
+            // uint64S [packed=false]
+            tag = ProtoMessage.readRepeatedUInt64(uint64S, inputLimited, tag);
+            break;
+          }
+          case 40: {
+            // sint64S [packed=false]
+            tag = ProtoMessage.readRepeatedSInt64(sint64S, inputLimited, tag);
+            break;
+          }
+          case 49: {
+            // fixed64S [packed=false]
+            tag = ProtoMessage.readRepeatedFixed64(fixed64S, inputLimited, tag);
+            break;
+          }
+          case 57: {
+            // sfixed64S [packed=false]
+            tag = ProtoMessage.readRepeatedSFixed64(sfixed64S, inputLimited, tag);
+            break;
+          }
+          case 64: {
+            // int32S [packed=false]
+            tag = ProtoMessage.readRepeatedInt32(int32S, inputLimited, tag);
+            break;
+          }
+          case 72: {
+            // uint32S [packed=false]
+            tag = ProtoMessage.readRepeatedUInt32(uint32S, inputLimited, tag);
+            break;
+          }
+          case 80: {
+            // sint32S [packed=false]
+            tag = ProtoMessage.readRepeatedSInt32(sint32S, inputLimited, tag);
+            break;
+          }
+          case 93: {
+            // fixed32S [packed=false]
+            tag = ProtoMessage.readRepeatedFixed32(fixed32S, inputLimited, tag);
+            break;
+          }
+          case 101: {
+            // sfixed32S [packed=false]
+            tag = ProtoMessage.readRepeatedSFixed32(sfixed32S, inputLimited, tag);
+            break;
+          }
+          case 104: {
+            // bools [packed=false]
+            tag = ProtoMessage.readRepeatedBool(bools, inputLimited, tag);
+            break;
+          }
+          case 112: {
+            // enums [packed=false]
+            tag = ProtoMessage.readRepeatedEnum(enums, inputLimited, tag);
+            break;
+          }
+        }
+      }
+    }
+
+    /**
+     * Parses this message like {@link #mergeFrom(LimitedCodedInputStream)}, but skips the fields
+     * in the given bit set.
+     */
+    private Mutable mergeProjectedFrom(final LimitedCodedInputStream inputLimited,
+        final long[] skippedFields) throws IOException {
+      invalidateSize();
+      final LimitedCodedInputStream input = inputLimited;
+      int tag = input.readTag();
+      while (true) {
+        if (ProjectionMask.isSkipped(skippedFields, tag)) {
+          if (!input.skipField(tag)) {
+            return this;
+          }
+          tag = input.readTag();
+          continue;
+        }
+        switch (tag) {
+          case 10: {
+            // doubles [packed=true]
+            ProtoMessage.readPackedDouble(doubles, inputLimited);
+            tag = input.readTag();
+            break;
+          }
+          case 18: {
+            // floats [packed=true]
+            ProtoMessage.readPackedFloat(floats, inputLimited);
+            tag = input.readTag();
+            break;
+          }
+          case 26: {
+            // int64S [packed=true]
+            ProtoMessage.readPackedInt64(int64S, inputLimited);
+            tag = input.readTag();
+            break;
+          }
+          case 34: {
+            // uint64S [packed=true]
+            ProtoMessage.readPackedUInt64(uint64S, inputLimited);
+            tag = input.readTag();
+            break;
+          }
+          case 42: {
+            // sint64S [packed=true]
+            ProtoMessage.readPackedSInt64(sint64S, inputLimited);
+            tag = input.readTag();
+            break;
+          }
+          case 50: {
+            // fixed64S [packed=true]
+            ProtoMessage.readPackedFixed64(fixed64S, inputLimited);
+            tag = input.readTag();
+            break;
+          }
+          case 58: {
+            // sfixed64S [packed=true]
+            ProtoMessage.readPackedSFixed64(sfixed64S, inputLimited);
+            tag = input.readTag();
+            break;
+          }
+          case 66: {
+            // int32S [packed=true]
+            ProtoMessage.readPackedInt32(int32S, inputLimited);
+            tag = input.readTag();
+            break;
+          }
+          case 74: {
+            // uint32S [packed=true]
+            ProtoMessage.readPackedUInt32(uint32S, inputLimited);
+            tag = input.readTag();
+            break;
+          }
+          case 82: {
+            // sint32S [packed=true]
+            ProtoMessage.readPackedSInt32(sint32S, inputLimited);
+            tag = input.readTag();
+            break;
+          }
+          case 90: {
+            // fixed32S [packed=true]
+            ProtoMessage.readPackedFixed32(fixed32S, inputLimited);
+            tag = input.readTag();
+            break;
+          }
+          case 98: {
+            // sfixed32S [packed=true]
+            ProtoMessage.readPackedSFixed32(sfixed32S, inputLimited);
+            tag = input.readTag();
+            break;
+          }
+          case 106: {
+            // bools [packed=true]
+            ProtoMessage.readPackedBool(bools, inputLimited);
+            tag = input.readTag();
+            break;
+          }
+          case 114: {
+            // enums [packed=true]
+            ProtoMessage.readPackedEnum(enums, inputLimited);
+            tag = input.readTag();
+            break;
+          }
+          case 122: {
+            // strings
+            tag = ProtoMessage.readRepeatedString(strings, inputLimited, tag);
+            break;
+          }
+          case 129: {
+            // singleDouble
+            singleDouble = input.readDouble();
+            tag = input.readTag();
+            break;
+          }
+          case 141: {
+            // singleFloat
+            singleFloat = input.readFloat();
+            tag = input.readTag();
+            break;
+          }
+          case 0: {
+            return this;
+          }
+          default: {
+            if (ProtoMetrics.ENABLED && inputLimited.getMetrics() != null) {
+              inputLimited.getMetrics().unknownField(this, tag);
+            }
+            final ByteString unknown = ProtoMessage.readUnknownField(inputLimited, tag, unknownBytes);
+            if (unknown == null) {
+              return this;
+            }
+            unknownBytes = unknown;
+            tag = input.readTag();
+            break;
+          }
+          case 9: {
+            // doubles [packed=false]
+            tag = ProtoMessage.readRepeatedDouble(doubles, inputLimited, tag);
+            break;
+          }
+          case 21: {
+            // floats [packed=false]
+            tag = ProtoMessage.readRepeatedFloat(floats, inputLimited, tag);
+            break;
+          }
+          case 24: {
+            // int64S [packed=false]
+            tag = ProtoMessage.readRepeatedInt64(int64S, inputLimited, tag);
+            break;
+          }
+          case 32: {
+            // uint64S [packed=false]
+            tag = ProtoMessage.readRepeatedUInt64(uint64S, inputLimited, tag);
+            break;
+          }
+          case 40: {
+            // sint64S [packed=false]
+            tag = ProtoMessage.readRepeatedSInt64(sint64S, inputLimited, tag);
+            break;
+          }
+          case 49: {
+            // fixed64S [packed=false]
+            tag = ProtoMessage.readRepeatedFixed64(fixed64S, inputLimited, tag);
+            break;
+          }
+          case 57: {
+            // sfixed64S [packed=false]
+            tag = ProtoMessage.readRepeatedSFixed64(sfixed64S, inputLimited, tag);
+            break;
+          }
+          case 64: {
+            // int32S [packed=false]
+            tag = ProtoMessage.readRepeatedInt32(int32S, inputLimited, tag);
+            break;
+          }
+          case 72: {
+            // uint32S [packed=false]
+            tag = ProtoMessage.readRepeatedUInt32(uint32S, inputLimited, tag);
+            break;
+          }
+          case 80: {
+            // sint32S [packed=false]
+            tag = ProtoMessage.readRepeatedSInt32(sint32S, inputLimited, tag);
+            break;
+          }
+          case 93: {
+            // fixed32S [packed=false]
+            tag = ProtoMessage.readRepeatedFixed32(fixed32S, inputLimited, tag);
+            break;
+          }
+          case 101: {
+            // sfixed32S [packed=false]
+            tag = ProtoMessage.readRepeatedSFixed32(sfixed32S, inputLimited, tag);
+            break;
+          }
+          case 104: {
+            // bools [packed=false]
+            tag = ProtoMessage.readRepeatedBool(bools, inputLimited, tag);
+            break;
+          }
+          case 112: {
+            // enums [packed=false]
+            tag = ProtoMessage.readRepeatedEnum(enums, inputLimited, tag);
+            break;
+          }
+        }
+      }
+    }
+
+    @Override
+    public Mutable mergeFrom(final LimitedCodedInputStream inputLimited) throws IOException {
+      if (ProtoMetrics.ENABLED && inputLimited.getMetrics() != null) {
+        final int start = inputLimited.getTotalBytesRead();
+        mergeMessageFrom(inputLimited);
+        final int bytes = inputLimited.getTotalBytesRead() - start;
+        inputLimited.getMetrics().messageDecoded(this, bytes, inputLimited.getRecursionDepth());
+        return this;
+      }
+      return mergeMessageFrom(inputLimited);
+    }
+
+    /**
+     * Returns this message as an immutable message, without any copies.
+     */
+    public RepeatedScalars asImmutable() {
+      return this;
+    }
+  }
+}
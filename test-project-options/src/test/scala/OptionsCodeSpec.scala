@@ -0,0 +1,413 @@
+import com.google.protobuf.{ByteString, CodedInputStream, DescriptorProtos, Descriptors, DynamicMessage, InvalidProtocolBufferException}
+import eu.neverblink.jelly.core.proto.v1.*
+import eu.neverblink.protoc.java.test.{RepeatedScalars, TestEnum, UnpackedScalars}
+import eu.neverblink.protoc.java.runtime.*
+import TestMessages.*
+import org.scalatest.matchers.should.Matchers
+import org.scalatest.wordspec.AnyWordSpec
+
+import java.io.{ByteArrayInputStream, ByteArrayOutputStream, UncheckedIOException}
+import java.nio.ByteBuffer
+import java.nio.channels.FileChannel
+import java.nio.file.{Files, StandardOpenOption}
+import java.util.concurrent.{ExecutionException, Flow, LinkedBlockingQueue, TimeUnit}
+import scala.collection.mutable.ArrayBuffer
+import scala.jdk.CollectionConverters.*
+
+// Behavior specific to the options of the output in test-project-options
+class OptionsCodeSpec extends AnyWordSpec, Matchers:
+  "code generated with all options" should {
+    "reuse message instances after clear()" in {
+      val first = frame(8, 1).toByteArray
+      val second = frame(5, 100).toByteArray
+      val target = RdfStreamFrame.newInstance()
+
+      ProtoMessage.mergeFrom(target, first)
+      target shouldBe RdfStreamFrame.parseFrom(first)
+      val rows = (0 until 5).map(target.getRows.get)
+      val subjects = rows.map(_.getTriple.getSIri)
+
+      ProtoMessage.mergeFrom(target.clear(), second)
+      target shouldBe RdfStreamFrame.parseFrom(second)
+      target.getRows.size shouldBe 5
+      for i <- 0 until 5 do
+        target.getRows.get(i) should be theSameInstanceAs rows(i)
+        target.getRows.get(i).getTriple.getSIri should be theSameInstanceAs subjects(i)
+    }
+
+    "decode string fields lazily" in {
+      val triple = RdfTriple.newInstance()
+        .setSBnode("b1")
+        .setPIri(RdfIri.newInstance().setNameId(1))
+        .setOLiteral(RdfLiteral.newInstance().setLex("żółw").setLangtag("pl"))
+      val bytes = triple.toByteArray
+      val parsed = RdfTriple.parseFrom(bytes)
+      // Untouched strings are written back from the raw bytes
+      parsed.getSerializedSize shouldBe bytes.length
+      parsed.toByteArray shouldBe bytes
+      parsed shouldBe triple
+      triple shouldBe parsed
+
+      val literal = parsed.getOLiteral
+      literal.getLexUtf8.toStringUtf8 shouldBe "żółw"
+      literal.getLex shouldBe "żółw"
+      parsed.getSBnode shouldBe "b1"
+      parsed.toByteArray shouldBe bytes
+      RdfLiteral.newInstance().setLexUtf8(literal.getLexUtf8) shouldBe RdfLiteral.newInstance().setLex("żółw")
+      RdfLiteral.newInstance().mergeFrom(literal).setLex("other") should not be literal
+    }
+
+    "reject invalid UTF-8 in lazily decoded strings" in {
+      // An overlong encoding of NUL in the lex field and in the s_bnode oneof member
+      val lex = Array[Byte](10, 2, -64, -128)
+      val bnode = Array[Byte](18, 2, -64, -128)
+      an[InvalidProtocolBufferException] should be thrownBy RdfLiteral.parseFrom(lex)
+      an[InvalidProtocolBufferException] should be thrownBy
+        RdfLiteral.parseDelimitedFrom(ByteArrayInputStream(lex.length.toByte +: lex))
+      an[InvalidProtocolBufferException] should be thrownBy RdfTriple.parseFrom(bnode)
+      an[IllegalArgumentException] should be thrownBy
+        RdfLiteral.newInstance().setLexUtf8(ByteString.copyFrom(Array[Byte](-64, -128)))
+    }
+
+    "intern leaf messages while parsing" in {
+      val bytes = frame(20, 0).toByteArray
+      val interner = MessageInterner()
+      def parse() = RdfStreamFrame.parseFrom(
+        LimitedCodedInputStream(CodedInputStream.newInstance(bytes)).setInterner(interner)
+      )
+      val first = parse()
+      val second = parse()
+      first shouldBe RdfStreamFrame.parseFrom(bytes)
+      second shouldBe first
+      val triples = (first.getRows.asScala ++ second.getRows.asScala).map(_.getTriple)
+      // All predicates are equal, and the subjects and objects repeat in the second frame
+      triples.map(_.getPIri).toSet.size shouldBe 1
+      triples.map(t => System.identityHashCode(t.getPIri)).toSet.size shouldBe 1
+      first.getRows.get(3).getTriple.getSIri should be theSameInstanceAs second.getRows.get(3).getTriple.getSIri
+      first.getRows.get(3).getTriple.getOLiteral should be theSameInstanceAs second.getRows.get(3).getTriple.getOLiteral
+      // 20 subjects (the predicate equals the first one) and 20 literals
+      interner.size shouldBe 40
+
+      // Without an interner, every member is a new instance
+      val plain = RdfStreamFrame.parseFrom(bytes)
+      (plain.getRows.get(0).getTriple.getPIri eq plain.getRows.get(1).getTriple.getPIri) shouldBe false
+    }
+
+    "parse and write deeply nested triples without recursion" in {
+      def iri(i: Int) = RdfIri.newInstance().setNameId(i)
+      // Quoted triples in all three positions, shallow enough for protobuf-java
+      var triple = RdfTriple.newInstance().setSIri(iri(1)).setPIri(iri(2)).setOLiteral(RdfLiteral.newInstance().setLex("o"))
+      for i <- 1 to 20 do
+        val next = RdfTriple.newInstance().setPIri(iri(i))
+        if i % 3 == 0 then next.setPTripleTerm(triple).setSIri(iri(i)).setOBnode("b")
+        else if i % 3 == 1 then next.setSTripleTerm(triple).setOTripleTerm(triple.clone())
+        else next.setOTripleTerm(triple).setSBnode("b")
+        triple = next
+      val bytes = triple.toByteArray
+      DynamicMessage.parseFrom(RdfTriple.getDescriptor, bytes).toByteArray shouldBe bytes
+      RdfTriple.parseFrom(bytes) shouldBe triple
+
+      // A chain far deeper than the recursion limit and the thread stack allow
+      val depth = 100000
+      val deepest = RdfTriple.newInstance().setSIri(iri(1)).setPIri(iri(2)).setOIri(iri(3))
+      var deep = deepest
+      for i <- 1 to depth do
+        deep = RdfTriple.newInstance().setSTripleTerm(deep).setPIri(iri(i)).setOIri(iri(i))
+      val deepBytes = deep.toByteArray
+      val parsed = RdfTriple.parseFrom(deepBytes)
+      var level = 0
+      var current: RdfTriple = parsed
+      while current.hasSTripleTerm do
+        current.getPIri.getNameId shouldBe depth - level
+        current = current.getSTripleTerm
+        level += 1
+      level shouldBe depth
+      current.getOIri.getNameId shouldBe 3
+      parsed.toByteArray shouldBe deepBytes
+
+      // Comparing, hashing and copying do not recurse either
+      parsed shouldBe deep
+      parsed.hashCode shouldBe deep.hashCode
+      val copy = deep.clone()
+      copy shouldBe deep
+      RdfTriple.newInstance().copyFrom(deep) shouldBe deep
+      RdfTriple.newInstance().setOIri(iri(0)).mergeFrom(deep) shouldBe deep
+      var copied: RdfTriple = copy
+      while copied.hasSTripleTerm do copied = copied.getSTripleTerm
+      (copied eq deepest) shouldBe false
+      copied.asInstanceOf[RdfTriple.Mutable].setOIri(iri(4))
+      copy should not be deep
+      deepest.getOIri.getNameId shouldBe 3
+
+      // The heap-allocated stack has its own depth limit
+      def limited(maxStackDepth: Int) = RdfTriple.parseFrom(
+        LimitedCodedInputStream.newInstance(bytes, 0, bytes.length).setMaxStackDepth(maxStackDepth)
+      )
+      limited(20) shouldBe triple
+      the[RuntimeException] thrownBy limited(19) should have message "Maximum stack depth exceeded: 20"
+
+      // Modifying the deepest triple discards the cached sizes up to the root
+      deepest.setOIri(iri(100000))
+      deep.getCachedSize shouldBe deepBytes.length + 2
+      RdfTriple.parseFrom(deep.toByteArray).getSerializedSize shouldBe deepBytes.length + 2
+    }
+
+    "track serialized sizes incrementally" in {
+      val f = RdfStreamFrame.newInstance()
+      f.getSerializedSize shouldBe 0
+      // Adding rows updates the cached size of the frame
+      val rows = frame(10, 5).getRows.asScala.toSeq
+      rows.foreach(f.addRows)
+      f.getCachedSize shouldBe frame(10, 5).getSerializedSize
+      f.toByteArray.length shouldBe f.getSerializedSize
+
+      // Modifying a nested message discards the cached sizes of its parents
+      rows(3).getTriple.getSIri.asInstanceOf[RdfIri.Mutable].setNameId(100000)
+      f.getCachedSize shouldBe frame(10, 5).getSerializedSize + 2
+      RdfStreamFrame.parseFrom(f.toByteArray) shouldBe f
+      RdfStreamFrame.newInstance().copyFrom(f).getSerializedSize shouldBe f.getSerializedSize
+      f.clear().getSerializedSize shouldBe 0
+    }
+
+    "track the sizes of messages shared by several parents" in {
+      val iri = RdfIri.newInstance().setNameId(1)
+      val t1 = RdfTriple.newInstance().setSIri(iri)
+      val t2 = RdfTriple.newInstance().setSIri(iri)
+      val f = RdfStreamFrame.newInstance().addRows(RdfStreamRow.newInstance().setTriple(t1))
+      f.getSerializedSize shouldBe 8
+      t2.getSerializedSize shouldBe 4
+      iri.setNameId(100000)
+      t1.getSerializedSize shouldBe 6
+      t2.getSerializedSize shouldBe 6
+      f.getSerializedSize shouldBe 8 + 2
+      RdfTriple.parseFrom(t1.toByteArray) shouldBe t1
+      RdfStreamFrame.parseFrom(f.toByteArray) shouldBe f
+
+      // Nested messages of the same type are shared in the same way
+      val quoted = RdfTriple.newInstance().setSIri(RdfIri.newInstance().setNameId(1))
+      val q1 = RdfTriple.newInstance().setSTripleTerm(quoted)
+      val q2 = RdfTriple.newInstance().setOTripleTerm(quoted)
+      q1.getSerializedSize shouldBe q2.getSerializedSize
+      quoted.setOBnode("b")
+      q1.getSerializedSize shouldBe q2.getSerializedSize
+      RdfTriple.parseFrom(q1.toByteArray) shouldBe q1
+      RdfTriple.parseFrom(q2.toByteArray) shouldBe q2
+    }
+
+    "keep unknown fields and write them back verbatim" in {
+      // Fields of a newer schema version: varint, length-delimited, fixed64 and a group
+      val unknownOut = new ByteArrayOutputStream()
+      val unknownCoded = com.google.protobuf.CodedOutputStream.newInstance(unknownOut)
+      unknownCoded.writeUInt64(15, 300L)
+      unknownCoded.writeString(16, "newer")
+      unknownCoded.writeFixed64(17, -1L)
+      unknownCoded.writeTag(18, 3)
+      unknownCoded.writeInt32(1, 7)
+      unknownCoded.writeTag(18, 4)
+      unknownCoded.flush()
+      val unknown = unknownOut.toByteArray
+      val iri = RdfIri.newInstance().setPrefixId(1).setNameId(2)
+      val iriBytes = iri.toByteArray ++ unknown
+
+      val parsed = RdfIri.parseFrom(iriBytes)
+      parsed.getPrefixId shouldBe 1
+      parsed.getNameId shouldBe 2
+      parsed.getUnknownBytes.toByteArray shouldBe unknown
+      parsed.getSerializedSize shouldBe iriBytes.length
+      parsed.toByteArray shouldBe iriBytes
+      // Same through the CodedInputStream of a stream input
+      val fromStream = RdfIri.parseFrom(LimitedCodedInputStream.newInstance(ByteArrayInputStream(iriBytes), iriBytes.length))
+      fromStream.getUnknownBytes.toByteArray shouldBe unknown
+      fromStream shouldBe parsed
+      parsed should not be iri
+      parsed.clone() shouldBe parsed
+      RdfIri.newInstance().copyFrom(parsed).clear().getUnknownBytes.isEmpty shouldBe true
+
+      // Unknown fields of nested messages, including quoted triples on the explicit stack
+      val quoted = RdfTriple.newInstance().setSIri(parsed).setPIri(iri).setOIri(iri)
+      val tripleBytes = RdfTriple.newInstance().setSTripleTerm(quoted).setPIri(parsed).setOIri(iri).toByteArray
+      val triple = RdfTriple.parseFrom(tripleBytes ++ unknown)
+      triple.getSTripleTerm.getSIri.getUnknownBytes.toByteArray shouldBe unknown
+      triple.getPIri.getUnknownBytes.toByteArray shouldBe unknown
+      triple.getOIri.getUnknownBytes.isEmpty shouldBe true
+      triple.toByteArray shouldBe tripleBytes ++ unknown
+      DynamicMessage.parseFrom(RdfTriple.getDescriptor, tripleBytes ++ unknown).toByteArray shouldBe tripleBytes ++ unknown
+
+      // Merging appends the unknown fields of the other message
+      RdfIri.newInstance().mergeFrom(parsed).mergeFrom(parsed).getUnknownBytes.toByteArray shouldBe unknown ++ unknown
+    }
+
+    "skip fields selected by a projection mask" in {
+      val mask = new ProjectionMask()
+        .skip(RdfLiteral.getFactory, RdfLiteral.LEX_FIELD_NUMBER)
+        .skip(RdfTriple.getFactory, RdfTriple.P_IRI_FIELD_NUMBER)
+      def projected(input: LimitedCodedInputStream) = ProtoMessage.mergeFrom(RdfStreamFrame.newInstance(), input)
+      val original = frame(20, 3)
+      val bytes = original.toByteArray
+      val parsed = projected(new LimitedCodedInputStream(CodedInputStream.newInstance(bytes)).setProjection(mask))
+      parsed.getRows.size shouldBe 20
+      for (row, i) <- parsed.getRows.asScala.zipWithIndex do
+        val triple = row.getTriple
+        triple.getSIri shouldBe original.getRows.get(i).getTriple.getSIri
+        triple.hasPredicate shouldBe false
+        triple.hasOLiteral shouldBe true
+        triple.getOLiteral.getLex shouldBe ""
+      // The same input parses fully without the mask
+      projected(new LimitedCodedInputStream(CodedInputStream.newInstance(bytes))) shouldBe original
+
+      // Nested triples on the explicit stack are projected too, and whole nested messages can be skipped
+      val quoted = RdfTriple.newInstance().setSIri(RdfIri.newInstance().setNameId(1))
+        .setPIri(RdfIri.newInstance().setNameId(2))
+        .setOLiteral(RdfLiteral.newInstance().setLex("o").setLangtag("en"))
+      val outer = RdfTriple.newInstance().setSTripleTerm(quoted).setPIri(RdfIri.newInstance().setNameId(3))
+        .setOTripleTerm(quoted.clone())
+      val outerInput = new LimitedCodedInputStream(CodedInputStream.newInstance(outer.toByteArray))
+      val parsedOuter = RdfTriple.parseFrom(outerInput.setProjection(mask))
+      parsedOuter.hasPredicate shouldBe false
+      parsedOuter.getSTripleTerm.hasPredicate shouldBe false
+      parsedOuter.getOTripleTerm.getOLiteral.getLex shouldBe ""
+      parsedOuter.getOTripleTerm.getOLiteral.getLangtag shouldBe "en"
+      val noQuoted = new ProjectionMask().skip(RdfTriple.getFactory, RdfTriple.S_TRIPLE_TERM_FIELD_NUMBER)
+      val withoutSubject = RdfTriple.parseFrom(
+        new LimitedCodedInputStream(CodedInputStream.newInstance(outer.toByteArray)).setProjection(noQuoted)
+      )
+      withoutSubject.hasSubject shouldBe false
+      withoutSubject.getOTripleTerm shouldBe quoted
+
+      // Iterating over delimited messages with a projection
+      val out = new ByteArrayOutputStream()
+      original.writeDelimitedTo(out)
+      original.writeDelimitedTo(out)
+      val iterator = DelimitedMessageIterator.of(ByteBuffer.wrap(out.toByteArray), RdfStreamFrame.getFactory)
+        .setProjection(mask)
+      iterator.asScala.toSeq.map(_.getRows.get(0).getTriple.hasPredicate) shouldBe Seq(false, false)
+    }
+
+    "filter stream rows by the kind of their oneof member" in {
+      val original = frame(5, 0)
+      original.getRows.add(0, RdfStreamRow.newInstance().setOptions(RdfStreamOptions.newInstance().setStreamName("s")))
+      original.getRows.add(2, RdfStreamRow.newInstance().setName(RdfNameEntry.newInstance().setId(1).setValue("a")))
+      original.getRows.add(4, RdfStreamRow.newInstance().setPrefix(RdfPrefixEntry.newInstance().setValue("p")))
+      original.getRows.add(RdfStreamRow.newInstance().setName(RdfNameEntry.newInstance().setValue("b")))
+      val bytes = original.toByteArray
+      val lookups = new ProjectionMask().filter(
+        RdfStreamRow.getFactory,
+        RdfStreamRow.NAME_FIELD_NUMBER, RdfStreamRow.PREFIX_FIELD_NUMBER, RdfStreamRow.DATATYPE_FIELD_NUMBER
+      )
+      def parse(mask: ProjectionMask, into: RdfStreamFrame.Mutable = RdfStreamFrame.newInstance()) =
+        ProtoMessage.mergeFrom(into, new LimitedCodedInputStream(CodedInputStream.newInstance(bytes)).setProjection(mask))
+      val parsed = parse(lookups)
+      parsed.getRows.asScala.toSeq shouldBe original.getRows.asScala.filter(r => r.hasName || r.hasPrefix).toSeq
+
+      // Statements only, parsed into a reused frame whose dropped rows are recycled
+      val statements = new ProjectionMask().filter(RdfStreamRow.getFactory, RdfStreamRow.TRIPLE_FIELD_NUMBER)
+      val reused = parse(statements, parse(statements).asInstanceOf[RdfStreamFrame.Mutable].clear())
+      reused.getRows.size shouldBe 5
+      reused.getRows.asScala.forall(_.hasTriple) shouldBe true
+      reused.getRows.get(4) shouldBe original.getRows.get(7)
+
+      // Streamed rows are filtered before they are passed to the consumer
+      val streamed = ArrayBuffer[RdfStreamRow]()
+      RdfStreamFrame.streamRows(
+        new LimitedCodedInputStream(CodedInputStream.newInstance(bytes)).setProjection(lookups),
+        row => streamed += row.clone()
+      )
+      streamed.toSeq shouldBe parsed.getRows.asScala.toSeq
+
+      // A filtered row parsed on its own is returned without a member
+      val row = RdfStreamRow.parseFrom(new LimitedCodedInputStream(
+        CodedInputStream.newInstance(original.getRows.get(1).toByteArray)
+      ).setProjection(lookups))
+      row.hasRow shouldBe false
+    }
+
+    "report decoded and encoded messages to the metrics listener" in {
+      class Counts extends ProtoMetrics:
+        val decoded = scala.collection.mutable.Map[String, Int]().withDefaultValue(0)
+        val decodedBytes = scala.collection.mutable.Map[String, Int]().withDefaultValue(0)
+        val order = ArrayBuffer[String]()
+        var maxDepth = 0
+        var unknownFields = 0
+        var encodedBytes = 0
+        override def messageDecoded(message: ProtoMessage[?], bytes: Int, depth: Int): Unit =
+          // Parsed messages are instances of the Mutable classes nested in the message types
+          val name = message.getClass.getEnclosingClass.getSimpleName
+          decoded(name) += 1
+          decodedBytes(name) += bytes
+          order += name
+          maxDepth = maxDepth max depth
+        override def messageEncoded(message: ProtoMessage[?], bytes: Int): Unit = encodedBytes += bytes
+        override def unknownField(message: ProtoMessage[?], tag: Int): Unit = unknownFields += 1
+
+      val original = frame(10, 1)
+      val bytes = original.toByteArray
+      val counts = new Counts
+      RdfStreamFrame.parseFrom(new LimitedCodedInputStream(CodedInputStream.newInstance(bytes)).setMetrics(counts)) shouldBe
+        original
+      counts.decoded.toMap shouldBe Map(
+        "RdfStreamFrame" -> 1, "RdfStreamRow" -> 10, "RdfTriple" -> 10, "RdfIri" -> 20, "RdfLiteral" -> 10
+      )
+      counts.decodedBytes("RdfStreamFrame") shouldBe bytes.length
+      counts.decodedBytes("RdfLiteral") shouldBe original.getRows.asScala.map(_.getTriple.getOLiteral.getSerializedSize).sum
+      counts.maxDepth shouldBe 3
+      counts.unknownFields shouldBe 0
+
+      // Quoted triples on the explicit stack and unknown fields of a newer schema version
+      val iri = RdfIri.newInstance().setNameId(1)
+      val quoted = RdfTriple.newInstance().setSIri(iri).setPIri(iri).setOIri(iri)
+      val triple = RdfTriple.newInstance().setSTripleTerm(quoted).setPIri(iri).setOIri(iri)
+      val nested = new Counts
+      RdfTriple.parseFrom(new LimitedCodedInputStream(
+        CodedInputStream.newInstance(triple.toByteArray ++ Array[Byte](120, 1))
+      ).setMetrics(nested))
+      nested.decoded("RdfTriple") shouldBe 2
+      nested.decodedBytes("RdfTriple") shouldBe triple.getSerializedSize + 2 + quoted.getSerializedSize
+      // Nested messages before their parents, also on the explicit stack
+      nested.order shouldBe Seq("RdfIri", "RdfIri", "RdfIri", "RdfTriple", "RdfIri", "RdfIri", "RdfTriple")
+      // The quoted triple, and the IRIs in it, which do not count the levels of the stack
+      nested.maxDepth shouldBe 1
+      // Field 15 with varint 1
+      nested.unknownFields shouldBe 1
+
+      val writer = DelimitedMessageWriter.inMemory().setMetrics(counts)
+      writer.writeDelimited(original).write(original)
+      counts.encodedBytes shouldBe 2 * bytes.length
+    }
+
+    "parse arrays directly through LimitedCodedInputStream" in {
+      val original = frame(20, 3)
+      original.getRows.add(RdfStreamRow.newInstance().setTriple(RdfTriple.newInstance()
+        .setSTripleTerm(RdfTriple.newInstance().setSIri(RdfIri.newInstance().setNameId(300)))
+        .setPLiteral(RdfLiteral.newInstance().setLex("żółw").setLangtag("pl"))
+        .setOBnode("b" * 200)))
+      val bytes = original.toByteArray
+      val expected = RdfStreamFrame.newInstance().mergeFrom(new LimitedCodedInputStream(CodedInputStream.newInstance(bytes)))
+      expected shouldBe original
+
+      val input = LimitedCodedInputStream.newInstance(bytes)
+      input.isArrayBacked shouldBe true
+      an[IllegalStateException] should be thrownBy input.in()
+      RdfStreamFrame.newInstance().mergeFrom(input) shouldBe expected
+      input.isAtEnd shouldBe true
+      input.getTotalBytesRead shouldBe bytes.length
+      RdfStreamFrame.parseFrom(bytes) shouldBe expected
+      val padded = Array[Byte](1, 2, 3) ++ bytes ++ Array[Byte](4)
+      RdfStreamFrame.parseFrom(ByteBuffer.wrap(padded, 3, bytes.length)) shouldBe expected
+      RepeatedScalars.parseFrom(scalars().toByteArray) shouldBe scalars()
+
+      // Unknown fields, including a group, are kept as with CodedInputStream
+      val unknownOut = new ByteArrayOutputStream()
+      val unknownCoded = com.google.protobuf.CodedOutputStream.newInstance(unknownOut)
+      unknownCoded.writeUInt64(15, Long.MinValue)
+      unknownCoded.writeTag(18, 3)
+      unknownCoded.writeFixed32(1, 7)
+      unknownCoded.writeTag(18, 4)
+      unknownCoded.flush()
+      val iriBytes = RdfIri.newInstance().setPrefixId(1).toByteArray ++ unknownOut.toByteArray
+      RdfIri.parseFrom(iriBytes).toByteArray shouldBe iriBytes
+
+      an[InvalidProtocolBufferException] should be thrownBy RdfStreamFrame.parseFrom(bytes.take(bytes.length - 1))
+      an[InvalidProtocolBufferException] should be thrownBy
+        RdfIri.parseFrom(Array[Byte](8, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 1))
+    }
+  }
@@ -10,6 +10,7 @@ import eu.neverblink.protoc.java.runtime.MessageFactory;
 import eu.neverblink.protoc.java.runtime.ProtoMessage;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 /**
  * Protobuf type {@code RdfDatatypeEntry}
@@ -67,6 +68,14 @@ public abstract class RdfDatatypeEntry extends ProtoMessage<RdfDatatypeEntry> im
       && value_.equals(other.value_);
   }
 
+  @Override
+  public int hashCode() {
+    int _hash = 1;
+    _hash = 0x01000193 * _hash + id;
+    _hash = 0x01000193 * _hash + value_.hashCode();
+    return _hash;
+  }
+
   @Override
   public void writeTo(final CodedOutputStream output) throws IOException {
     if (id != 0) {
@@ -101,6 +110,11 @@ public abstract class RdfDatatypeEntry extends ProtoMessage<RdfDatatypeEntry> im
     return ProtoMessage.mergeFrom(newInstance(), data);
   }
 
+  public static RdfDatatypeEntry parseFrom(final ByteBuffer data) throws
+      InvalidProtocolBufferException {
+    return ProtoMessage.mergeFrom(newInstance(), data);
+  }
+
   public static RdfDatatypeEntry parseFrom(final LimitedCodedInputStream input) throws IOException {
     return ProtoMessage.mergeFrom(newInstance(), input);
   }
@@ -109,6 +123,10 @@ public abstract class RdfDatatypeEntry extends ProtoMessage<RdfDatatypeEntry> im
     return ProtoMessage.parseDelimitedFrom(input, RdfDatatypeEntry.getFactory());
   }
 
+  public static RdfDatatypeEntry parseDelimitedFrom(final ByteBuffer input) throws IOException {
+    return ProtoMessage.parseDelimitedFrom(input, RdfDatatypeEntry.getFactory());
+  }
+
   /**
    * @return factory for creating RdfDatatypeEntry messages
    */
@@ -171,6 +189,14 @@ public abstract class RdfDatatypeEntry extends ProtoMessage<RdfDatatypeEntry> im
       return this;
     }
 
+    @Override
+    public Mutable clear() {
+      cachedSize = -1;
+      id = 0;
+      value_ = "";
+      return this;
+    }
+
     @Override
     public Mutable mergeFrom(final RdfDatatypeEntry other) {
       cachedSize = -1;
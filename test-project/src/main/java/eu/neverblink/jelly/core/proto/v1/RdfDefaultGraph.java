@@ -10,6 +10,7 @@ import eu.neverblink.protoc.java.runtime.MessageFactory;
 import eu.neverblink.protoc.java.runtime.ProtoMessage;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 /**
  * Protobuf type {@code RdfDefaultGraph}
@@ -40,6 +41,12 @@ public abstract class RdfDefaultGraph extends ProtoMessage<RdfDefaultGraph> impl
     return true;
   }
 
+  @Override
+  public int hashCode() {
+    int _hash = 1;
+    return _hash;
+  }
+
   @Override
   public void writeTo(final CodedOutputStream output) throws IOException {
   }
@@ -59,6 +66,11 @@ public abstract class RdfDefaultGraph extends ProtoMessage<RdfDefaultGraph> impl
     return ProtoMessage.mergeFrom(newInstance(), data);
   }
 
+  public static RdfDefaultGraph parseFrom(final ByteBuffer data) throws
+      InvalidProtocolBufferException {
+    return ProtoMessage.mergeFrom(newInstance(), data);
+  }
+
   public static RdfDefaultGraph parseFrom(final LimitedCodedInputStream input) throws IOException {
     return ProtoMessage.mergeFrom(newInstance(), input);
   }
@@ -67,6 +79,10 @@ public abstract class RdfDefaultGraph extends ProtoMessage<RdfDefaultGraph> impl
     return ProtoMessage.parseDelimitedFrom(input, RdfDefaultGraph.getFactory());
   }
 
+  public static RdfDefaultGraph parseDelimitedFrom(final ByteBuffer input) throws IOException {
+    return ProtoMessage.parseDelimitedFrom(input, RdfDefaultGraph.getFactory());
+  }
+
   /**
    * @return factory for creating RdfDefaultGraph messages
    */
@@ -107,6 +123,12 @@ public abstract class RdfDefaultGraph extends ProtoMessage<RdfDefaultGraph> impl
       return this;
     }
 
+    @Override
+    public Mutable clear() {
+      cachedSize = -1;
+      return this;
+    }
+
     @Override
     public Mutable mergeFrom(final RdfDefaultGraph other) {
       cachedSize = -1;
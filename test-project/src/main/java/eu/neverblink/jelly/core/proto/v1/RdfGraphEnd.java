@@ -10,6 +10,7 @@ import eu.neverblink.protoc.java.runtime.MessageFactory;
 import eu.neverblink.protoc.java.runtime.ProtoMessage;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 /**
  * Protobuf type {@code RdfGraphEnd}
@@ -40,6 +41,12 @@ public abstract class RdfGraphEnd extends ProtoMessage<RdfGraphEnd> implements C
     return true;
   }
 
+  @Override
+  public int hashCode() {
+    int _hash = 1;
+    return _hash;
+  }
+
   @Override
   public void writeTo(final CodedOutputStream output) throws IOException {
   }
@@ -59,6 +66,10 @@ public abstract class RdfGraphEnd extends ProtoMessage<RdfGraphEnd> implements C
     return ProtoMessage.mergeFrom(newInstance(), data);
   }
 
+  public static RdfGraphEnd parseFrom(final ByteBuffer data) throws InvalidProtocolBufferException {
+    return ProtoMessage.mergeFrom(newInstance(), data);
+  }
+
   public static RdfGraphEnd parseFrom(final LimitedCodedInputStream input) throws IOException {
     return ProtoMessage.mergeFrom(newInstance(), input);
   }
@@ -67,6 +78,10 @@ public abstract class RdfGraphEnd extends ProtoMessage<RdfGraphEnd> implements C
     return ProtoMessage.parseDelimitedFrom(input, RdfGraphEnd.getFactory());
   }
 
+  public static RdfGraphEnd parseDelimitedFrom(final ByteBuffer input) throws IOException {
+    return ProtoMessage.parseDelimitedFrom(input, RdfGraphEnd.getFactory());
+  }
+
   /**
    * @return factory for creating RdfGraphEnd messages
    */
@@ -107,6 +122,12 @@ public abstract class RdfGraphEnd extends ProtoMessage<RdfGraphEnd> implements C
       return this;
     }
 
+    @Override
+    public Mutable clear() {
+      cachedSize = -1;
+      return this;
+    }
+
     @Override
     public Mutable mergeFrom(final RdfGraphEnd other) {
       cachedSize = -1;
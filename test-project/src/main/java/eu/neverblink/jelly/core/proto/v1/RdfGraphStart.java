@@ -11,6 +11,7 @@ import eu.neverblink.protoc.java.runtime.MessageFactory;
 import eu.neverblink.protoc.java.runtime.ProtoMessage;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 /**
  * Protobuf type {@code RdfGraphStart}
@@ -134,6 +135,16 @@ public abstract class RdfGraphStart extends ProtoMessage<RdfGraphStart> implemen
     return graphNumber == other.graphNumber && (graphNumber == 0 || graph.equals(other.graph));
   }
 
+  @Override
+  public int hashCode() {
+    int _hash = 1;
+    _hash = 0x01000193 * _hash + graphNumber;
+    if (graphNumber != 0) {
+      _hash = 0x01000193 * _hash + graph.hashCode();
+    }
+    return _hash;
+  }
+
   @Override
   public void writeTo(final CodedOutputStream output) throws IOException {
     switch (graphNumber) {
@@ -207,6 +218,11 @@ public abstract class RdfGraphStart extends ProtoMessage<RdfGraphStart> implemen
     return ProtoMessage.mergeFrom(newInstance(), data);
   }
 
+  public static RdfGraphStart parseFrom(final ByteBuffer data) throws
+      InvalidProtocolBufferException {
+    return ProtoMessage.mergeFrom(newInstance(), data);
+  }
+
   public static RdfGraphStart parseFrom(final LimitedCodedInputStream input) throws IOException {
     return ProtoMessage.mergeFrom(newInstance(), input);
   }
@@ -215,6 +231,10 @@ public abstract class RdfGraphStart extends ProtoMessage<RdfGraphStart> implemen
     return ProtoMessage.parseDelimitedFrom(input, RdfGraphStart.getFactory());
   }
 
+  public static RdfGraphStart parseDelimitedFrom(final ByteBuffer input) throws IOException {
+    return ProtoMessage.parseDelimitedFrom(input, RdfGraphStart.getFactory());
+  }
+
   /**
    * @return factory for creating RdfGraphStart messages
    */
@@ -303,6 +323,14 @@ public abstract class RdfGraphStart extends ProtoMessage<RdfGraphStart> implemen
       return this;
     }
 
+    @Override
+    public Mutable clear() {
+      cachedSize = -1;
+      this.graph = null;
+      this.graphNumber = 0;
+      return this;
+    }
+
     @Override
     public Mutable mergeFrom(final RdfGraphStart other) {
       cachedSize = -1;
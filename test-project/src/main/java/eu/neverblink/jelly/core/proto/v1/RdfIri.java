@@ -10,6 +10,7 @@ import eu.neverblink.protoc.java.runtime.MessageFactory;
 import eu.neverblink.protoc.java.runtime.ProtoMessage;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 /**
  * Protobuf type {@code RdfIri}
@@ -67,6 +68,14 @@ public abstract class RdfIri extends ProtoMessage<RdfIri> implements Cloneable {
       && nameId == other.nameId;
   }
 
+  @Override
+  public int hashCode() {
+    int _hash = 1;
+    _hash = 0x01000193 * _hash + prefixId;
+    _hash = 0x01000193 * _hash + nameId;
+    return _hash;
+  }
+
   @Override
   public void writeTo(final CodedOutputStream output) throws IOException {
     if (prefixId != 0) {
@@ -100,6 +109,10 @@ public abstract class RdfIri extends ProtoMessage<RdfIri> implements Cloneable {
     return ProtoMessage.mergeFrom(newInstance(), data);
   }
 
+  public static RdfIri parseFrom(final ByteBuffer data) throws InvalidProtocolBufferException {
+    return ProtoMessage.mergeFrom(newInstance(), data);
+  }
+
   public static RdfIri parseFrom(final LimitedCodedInputStream input) throws IOException {
     return ProtoMessage.mergeFrom(newInstance(), input);
   }
@@ -108,6 +121,10 @@ public abstract class RdfIri extends ProtoMessage<RdfIri> implements Cloneable {
     return ProtoMessage.parseDelimitedFrom(input, RdfIri.getFactory());
   }
 
+  public static RdfIri parseDelimitedFrom(final ByteBuffer input) throws IOException {
+    return ProtoMessage.parseDelimitedFrom(input, RdfIri.getFactory());
+  }
+
   /**
    * @return factory for creating RdfIri messages
    */
@@ -170,6 +187,14 @@ public abstract class RdfIri extends ProtoMessage<RdfIri> implements Cloneable {
       return this;
     }
 
+    @Override
+    public Mutable clear() {
+      cachedSize = -1;
+      prefixId = 0;
+      nameId = 0;
+      return this;
+    }
+
     @Override
     public Mutable mergeFrom(final RdfIri other) {
       cachedSize = -1;
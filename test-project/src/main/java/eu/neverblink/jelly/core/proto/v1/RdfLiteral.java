@@ -10,6 +10,7 @@ import eu.neverblink.protoc.java.runtime.MessageFactory;
 import eu.neverblink.protoc.java.runtime.ProtoMessage;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 /**
  * Protobuf type {@code RdfLiteral}
@@ -113,6 +114,17 @@ public abstract class RdfLiteral extends ProtoMessage<RdfLiteral> implements Clo
       && literalKindNumber == other.literalKindNumber && (literalKindNumber == 0 || literalKind.equals(other.literalKind));
   }
 
+  @Override
+  public int hashCode() {
+    int _hash = 1;
+    _hash = 0x01000193 * _hash + lex.hashCode();
+    _hash = 0x01000193 * _hash + literalKindNumber;
+    if (literalKindNumber != 0) {
+      _hash = 0x01000193 * _hash + literalKind.hashCode();
+    }
+    return _hash;
+  }
+
   @Override
   public void writeTo(final CodedOutputStream output) throws IOException {
     if (!lex.isEmpty()) {
@@ -165,6 +177,10 @@ public abstract class RdfLiteral extends ProtoMessage<RdfLiteral> implements Clo
     return ProtoMessage.mergeFrom(newInstance(), data);
   }
 
+  public static RdfLiteral parseFrom(final ByteBuffer data) throws InvalidProtocolBufferException {
+    return ProtoMessage.mergeFrom(newInstance(), data);
+  }
+
   public static RdfLiteral parseFrom(final LimitedCodedInputStream input) throws IOException {
     return ProtoMessage.mergeFrom(newInstance(), input);
   }
@@ -173,6 +189,10 @@ public abstract class RdfLiteral extends ProtoMessage<RdfLiteral> implements Clo
     return ProtoMessage.parseDelimitedFrom(input, RdfLiteral.getFactory());
   }
 
+  public static RdfLiteral parseDelimitedFrom(final ByteBuffer input) throws IOException {
+    return ProtoMessage.parseDelimitedFrom(input, RdfLiteral.getFactory());
+  }
+
   /**
    * @return factory for creating RdfLiteral messages
    */
@@ -254,6 +274,15 @@ public abstract class RdfLiteral extends ProtoMessage<RdfLiteral> implements Clo
       return this;
     }
 
+    @Override
+    public Mutable clear() {
+      cachedSize = -1;
+      lex = "";
+      this.literalKind = null;
+      this.literalKindNumber = 0;
+      return this;
+    }
+
     @Override
     public Mutable mergeFrom(final RdfLiteral other) {
       cachedSize = -1;
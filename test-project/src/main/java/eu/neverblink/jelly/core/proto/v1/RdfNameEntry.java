@@ -10,6 +10,7 @@ import eu.neverblink.protoc.java.runtime.MessageFactory;
 import eu.neverblink.protoc.java.runtime.ProtoMessage;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 /**
  * Protobuf type {@code RdfNameEntry}
@@ -67,6 +68,14 @@ public abstract class RdfNameEntry extends ProtoMessage<RdfNameEntry> implements
       && value_.equals(other.value_);
   }
 
+  @Override
+  public int hashCode() {
+    int _hash = 1;
+    _hash = 0x01000193 * _hash + id;
+    _hash = 0x01000193 * _hash + value_.hashCode();
+    return _hash;
+  }
+
   @Override
   public void writeTo(final CodedOutputStream output) throws IOException {
     if (id != 0) {
@@ -100,6 +109,11 @@ public abstract class RdfNameEntry extends ProtoMessage<RdfNameEntry> implements
     return ProtoMessage.mergeFrom(newInstance(), data);
   }
 
+  public static RdfNameEntry parseFrom(final ByteBuffer data) throws
+      InvalidProtocolBufferException {
+    return ProtoMessage.mergeFrom(newInstance(), data);
+  }
+
   public static RdfNameEntry parseFrom(final LimitedCodedInputStream input) throws IOException {
     return ProtoMessage.mergeFrom(newInstance(), input);
   }
@@ -108,6 +122,10 @@ public abstract class RdfNameEntry extends ProtoMessage<RdfNameEntry> implements
     return ProtoMessage.parseDelimitedFrom(input, RdfNameEntry.getFactory());
   }
 
+  public static RdfNameEntry parseDelimitedFrom(final ByteBuffer input) throws IOException {
+    return ProtoMessage.parseDelimitedFrom(input, RdfNameEntry.getFactory());
+  }
+
   /**
    * @return factory for creating RdfNameEntry messages
    */
@@ -170,6 +188,14 @@ public abstract class RdfNameEntry extends ProtoMessage<RdfNameEntry> implements
       return this;
     }
 
+    @Override
+    public Mutable clear() {
+      cachedSize = -1;
+      id = 0;
+      value_ = "";
+      return this;
+    }
+
     @Override
     public Mutable mergeFrom(final RdfNameEntry other) {
       cachedSize = -1;
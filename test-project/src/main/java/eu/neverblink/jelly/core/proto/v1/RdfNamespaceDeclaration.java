@@ -11,6 +11,7 @@ import eu.neverblink.protoc.java.runtime.MessageFactory;
 import eu.neverblink.protoc.java.runtime.ProtoMessage;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 /**
  * Protobuf type {@code RdfNamespaceDeclaration}
@@ -69,6 +70,14 @@ public abstract class RdfNamespaceDeclaration extends ProtoMessage<RdfNamespaceD
       && value_.equals(other.value_);
   }
 
+  @Override
+  public int hashCode() {
+    int _hash = 1;
+    _hash = 0x01000193 * _hash + name.hashCode();
+    _hash = 0x01000193 * _hash + (value_ == null ? 0 : value_.hashCode());
+    return _hash;
+  }
+
   @Override
   public void writeTo(final CodedOutputStream output) throws IOException {
     if (!name.isEmpty()) {
@@ -105,6 +114,11 @@ public abstract class RdfNamespaceDeclaration extends ProtoMessage<RdfNamespaceD
     return ProtoMessage.mergeFrom(newInstance(), data);
   }
 
+  public static RdfNamespaceDeclaration parseFrom(final ByteBuffer data) throws
+      InvalidProtocolBufferException {
+    return ProtoMessage.mergeFrom(newInstance(), data);
+  }
+
   public static RdfNamespaceDeclaration parseFrom(final LimitedCodedInputStream input) throws
       IOException {
     return ProtoMessage.mergeFrom(newInstance(), input);
@@ -115,6 +129,11 @@ public abstract class RdfNamespaceDeclaration extends ProtoMessage<RdfNamespaceD
     return ProtoMessage.parseDelimitedFrom(input, RdfNamespaceDeclaration.getFactory());
   }
 
+  public static RdfNamespaceDeclaration parseDelimitedFrom(final ByteBuffer input) throws
+      IOException {
+    return ProtoMessage.parseDelimitedFrom(input, RdfNamespaceDeclaration.getFactory());
+  }
+
   /**
    * @return factory for creating RdfNamespaceDeclaration messages
    */
@@ -185,6 +204,14 @@ public abstract class RdfNamespaceDeclaration extends ProtoMessage<RdfNamespaceD
       return this;
     }
 
+    @Override
+    public Mutable clear() {
+      cachedSize = -1;
+      name = "";
+      value_ = null;
+      return this;
+    }
+
     @Override
     public Mutable mergeFrom(final RdfNamespaceDeclaration other) {
       cachedSize = -1;
@@ -12,6 +12,7 @@ import eu.neverblink.protoc.java.runtime.MessageFactory;
 import eu.neverblink.protoc.java.runtime.ProtoMessage;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 /**
  * Protobuf type {@code RdfQuad}
@@ -417,6 +418,28 @@ public abstract class RdfQuad extends ProtoMessage<RdfQuad> implements SpoBase,
       && graphNumber == other.graphNumber && (graphNumber == 0 || graph.equals(other.graph));
   }
 
+  @Override
+  public int hashCode() {
+    int _hash = 1;
+    _hash = 0x01000193 * _hash + subjectNumber;
+    if (subjectNumber != 0) {
+      _hash = 0x01000193 * _hash + subject.hashCode();
+    }
+    _hash = 0x01000193 * _hash + predicateNumber;
+    if (predicateNumber != 0) {
+      _hash = 0x01000193 * _hash + predicate.hashCode();
+    }
+    _hash = 0x01000193 * _hash + objectNumber;
+    if (objectNumber != 0) {
+      _hash = 0x01000193 * _hash + object.hashCode();
+    }
+    _hash = 0x01000193 * _hash + graphNumber;
+    if (graphNumber != 0) {
+      _hash = 0x01000193 * _hash + graph.hashCode();
+    }
+    return _hash;
+  }
+
   @Override
   public void writeTo(final CodedOutputStream output) throws IOException {
     switch (subjectNumber) {
@@ -653,6 +676,10 @@ public abstract class RdfQuad extends ProtoMessage<RdfQuad> implements SpoBase,
     return ProtoMessage.mergeFrom(newInstance(), data);
   }
 
+  public static RdfQuad parseFrom(final ByteBuffer data) throws InvalidProtocolBufferException {
+    return ProtoMessage.mergeFrom(newInstance(), data);
+  }
+
   public static RdfQuad parseFrom(final LimitedCodedInputStream input) throws IOException {
     return ProtoMessage.mergeFrom(newInstance(), input);
   }
@@ -661,6 +688,10 @@ public abstract class RdfQuad extends ProtoMessage<RdfQuad> implements SpoBase,
     return ProtoMessage.parseDelimitedFrom(input, RdfQuad.getFactory());
   }
 
+  public static RdfQuad parseDelimitedFrom(final ByteBuffer input) throws IOException {
+    return ProtoMessage.parseDelimitedFrom(input, RdfQuad.getFactory());
+  }
+
   /**
    * @return factory for creating RdfQuad messages
    */
@@ -893,6 +924,20 @@ public abstract class RdfQuad extends ProtoMessage<RdfQuad> implements SpoBase,
       return this;
     }
 
+    @Override
+    public Mutable clear() {
+      cachedSize = -1;
+      this.subject = null;
+      this.subjectNumber = 0;
+      this.predicate = null;
+      this.predicateNumber = 0;
+      this.object = null;
+      this.objectNumber = 0;
+      this.graph = null;
+      this.graphNumber = 0;
+      return this;
+    }
+
     @Override
     public Mutable mergeFrom(final RdfQuad other) {
       cachedSize = -1;
@@ -11,8 +11,10 @@ import eu.neverblink.protoc.java.runtime.MessageFactory;
 import eu.neverblink.protoc.java.runtime.ProtoMessage;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Protobuf type {@code RdfStreamFrame}
@@ -72,6 +74,14 @@ public abstract class RdfStreamFrame extends ProtoMessage<RdfStreamFrame> implem
       && metadata.equals(other.metadata);
   }
 
+  @Override
+  public int hashCode() {
+    int _hash = 1;
+    _hash = 0x01000193 * _hash + rows.hashCode();
+    _hash = 0x01000193 * _hash + metadata.hashCode();
+    return _hash;
+  }
+
   @Override
   public void writeTo(final CodedOutputStream output) throws IOException {
     if (!rows.isEmpty()) {
@@ -102,6 +112,11 @@ public abstract class RdfStreamFrame extends ProtoMessage<RdfStreamFrame> implem
     return size;
   }
 
+  @Override
+  protected int getRowCount() {
+    return rows.size();
+  }
+
   @Override
   public Mutable clone() {
     return newInstance().copyFrom(this);
@@ -111,6 +126,11 @@ public abstract class RdfStreamFrame extends ProtoMessage<RdfStreamFrame> implem
     return ProtoMessage.mergeFrom(newInstance(), data);
   }
 
+  public static RdfStreamFrame parseFrom(final ByteBuffer data) throws
+      InvalidProtocolBufferException {
+    return ProtoMessage.mergeFrom(newInstance(), data);
+  }
+
   public static RdfStreamFrame parseFrom(final LimitedCodedInputStream input) throws IOException {
     return ProtoMessage.mergeFrom(newInstance(), input);
   }
@@ -119,6 +139,52 @@ public abstract class RdfStreamFrame extends ProtoMessage<RdfStreamFrame> implem
     return ProtoMessage.parseDelimitedFrom(input, RdfStreamFrame.getFactory());
   }
 
+  public static RdfStreamFrame parseDelimitedFrom(final ByteBuffer input) throws IOException {
+    return ProtoMessage.parseDelimitedFrom(input, RdfStreamFrame.getFactory());
+  }
+
+  /**
+   * Parses a {@code RdfStreamFrame} from the input and passes each <code>rows</code> element to the
+   * consumer as soon as it is decoded, without collecting them in a list. All elements
+   * are decoded into the same instance, so the consumer must clone an element to keep it.
+   * Other fields are skipped.
+   */
+  public static void streamRows(final LimitedCodedInputStream input,
+      final Consumer<? super RdfStreamRow> consumer) throws IOException {
+    ProtoMessage.streamRepeatedMessage(RdfStreamRow.getFactory(), 10, input, consumer);
+  }
+
+  /**
+   * Like {@link #streamRows(LimitedCodedInputStream, Consumer)}, but reads one message written in length delimited form.
+   *
+   * @return false if there was no message to read
+   */
+  public static boolean streamDelimitedRows(final InputStream input,
+      final Consumer<? super RdfStreamRow> consumer) throws IOException {
+    return ProtoMessage.streamDelimitedRepeatedMessage(RdfStreamRow.getFactory(), 10, input, consumer);
+  }
+
+  /**
+   * Parses a {@code RdfStreamFrame} from the input and passes each <code>metadata</code> element to the
+   * consumer as soon as it is decoded, without collecting them in a list. All elements
+   * are decoded into the same instance, so the consumer must clone an element to keep it.
+   * Other fields are skipped.
+   */
+  public static void streamMetadata(final LimitedCodedInputStream input,
+      final Consumer<? super MetadataEntry> consumer) throws IOException {
+    ProtoMessage.streamRepeatedMessage(MetadataEntry.getFactory(), 122, input, consumer);
+  }
+
+  /**
+   * Like {@link #streamMetadata(LimitedCodedInputStream, Consumer)}, but reads one message written in length delimited form.
+   *
+   * @return false if there was no message to read
+   */
+  public static boolean streamDelimitedMetadata(final InputStream input,
+      final Consumer<? super MetadataEntry> consumer) throws IOException {
+    return ProtoMessage.streamDelimitedRepeatedMessage(MetadataEntry.getFactory(), 122, input, consumer);
+  }
+
   /**
    * @return factory for creating RdfStreamFrame messages
    */
@@ -189,6 +255,14 @@ public abstract class RdfStreamFrame extends ProtoMessage<RdfStreamFrame> implem
         && value_.equals(other.value_);
     }
 
+    @Override
+    public int hashCode() {
+      int _hash = 1;
+      _hash = 0x01000193 * _hash + key.hashCode();
+      _hash = 0x01000193 * _hash + value_.hashCode();
+      return _hash;
+    }
+
     @Override
     public void writeTo(final CodedOutputStream output) throws IOException {
       if (!key.isEmpty()) {
@@ -222,6 +296,11 @@ public abstract class RdfStreamFrame extends ProtoMessage<RdfStreamFrame> implem
       return ProtoMessage.mergeFrom(newInstance(), data);
     }
 
+    public static MetadataEntry parseFrom(final ByteBuffer data) throws
+        InvalidProtocolBufferException {
+      return ProtoMessage.mergeFrom(newInstance(), data);
+    }
+
     public static MetadataEntry parseFrom(final LimitedCodedInputStream input) throws IOException {
       return ProtoMessage.mergeFrom(newInstance(), input);
     }
@@ -230,6 +309,10 @@ public abstract class RdfStreamFrame extends ProtoMessage<RdfStreamFrame> implem
       return ProtoMessage.parseDelimitedFrom(input, MetadataEntry.getFactory());
     }
 
+    public static MetadataEntry parseDelimitedFrom(final ByteBuffer input) throws IOException {
+      return ProtoMessage.parseDelimitedFrom(input, MetadataEntry.getFactory());
+    }
+
     /**
      * @return factory for creating MetadataEntry messages
      */
@@ -292,6 +375,14 @@ public abstract class RdfStreamFrame extends ProtoMessage<RdfStreamFrame> implem
         return this;
       }
 
+      @Override
+      public Mutable clear() {
+        cachedSize = -1;
+        key = "";
+        value_ = ByteString.EMPTY;
+        return this;
+      }
+
       @Override
       public Mutable mergeFrom(final MetadataEntry other) {
         cachedSize = -1;
@@ -397,6 +488,14 @@ public abstract class RdfStreamFrame extends ProtoMessage<RdfStreamFrame> implem
       return this;
     }
 
+    @Override
+    public Mutable clear() {
+      cachedSize = -1;
+      rows.clear();
+      metadata.clear();
+      return this;
+    }
+
     @Override
     public Mutable mergeFrom(final RdfStreamFrame other) {
       cachedSize = -1;
@@ -10,6 +10,7 @@ import eu.neverblink.protoc.java.runtime.MessageFactory;
 import eu.neverblink.protoc.java.runtime.ProtoMessage;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 /**
  * Protobuf type {@code RdfStreamOptions}
@@ -213,6 +214,21 @@ public abstract class RdfStreamOptions extends ProtoMessage<RdfStreamOptions> im
       && version == other.version;
   }
 
+  @Override
+  public int hashCode() {
+    int _hash = 1;
+    _hash = 0x01000193 * _hash + streamName.hashCode();
+    _hash = 0x01000193 * _hash + physicalType;
+    _hash = 0x01000193 * _hash + Boolean.hashCode(generalizedStatements);
+    _hash = 0x01000193 * _hash + Boolean.hashCode(rdfStar);
+    _hash = 0x01000193 * _hash + maxNameTableSize;
+    _hash = 0x01000193 * _hash + maxPrefixTableSize;
+    _hash = 0x01000193 * _hash + maxDatatypeTableSize;
+    _hash = 0x01000193 * _hash + logicalType;
+    _hash = 0x01000193 * _hash + version;
+    return _hash;
+  }
+
   @Override
   public void writeTo(final CodedOutputStream output) throws IOException {
     if (!streamName.isEmpty()) {
@@ -296,6 +312,11 @@ public abstract class RdfStreamOptions extends ProtoMessage<RdfStreamOptions> im
     return ProtoMessage.mergeFrom(newInstance(), data);
   }
 
+  public static RdfStreamOptions parseFrom(final ByteBuffer data) throws
+      InvalidProtocolBufferException {
+    return ProtoMessage.mergeFrom(newInstance(), data);
+  }
+
   public static RdfStreamOptions parseFrom(final LimitedCodedInputStream input) throws IOException {
     return ProtoMessage.mergeFrom(newInstance(), input);
   }
@@ -304,6 +325,10 @@ public abstract class RdfStreamOptions extends ProtoMessage<RdfStreamOptions> im
     return ProtoMessage.parseDelimitedFrom(input, RdfStreamOptions.getFactory());
   }
 
+  public static RdfStreamOptions parseDelimitedFrom(final ByteBuffer input) throws IOException {
+    return ProtoMessage.parseDelimitedFrom(input, RdfStreamOptions.getFactory());
+  }
+
   /**
    * @return factory for creating RdfStreamOptions messages
    */
@@ -443,6 +468,21 @@ public abstract class RdfStreamOptions extends ProtoMessage<RdfStreamOptions> im
       return this;
     }
 
+    @Override
+    public Mutable clear() {
+      cachedSize = -1;
+      streamName = "";
+      physicalType = 0;
+      generalizedStatements = false;
+      rdfStar = false;
+      maxNameTableSize = 0;
+      maxPrefixTableSize = 0;
+      maxDatatypeTableSize = 0;
+      logicalType = 0;
+      version = 0;
+      return this;
+    }
+
     @Override
     public Mutable mergeFrom(final RdfStreamOptions other) {
       cachedSize = -1;
@@ -10,6 +10,7 @@ import eu.neverblink.protoc.java.runtime.MessageFactory;
 import eu.neverblink.protoc.java.runtime.ProtoMessage;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 /**
  * Protobuf type {@code RdfStreamRow}
@@ -218,6 +219,16 @@ public abstract class RdfStreamRow extends ProtoMessage<RdfStreamRow> implements
     return rowNumber == other.rowNumber && (rowNumber == 0 || row.equals(other.row));
   }
 
+  @Override
+  public int hashCode() {
+    int _hash = 1;
+    _hash = 0x01000193 * _hash + rowNumber;
+    if (rowNumber != 0) {
+      _hash = 0x01000193 * _hash + row.hashCode();
+    }
+    return _hash;
+  }
+
   @Override
   public void writeTo(final CodedOutputStream output) throws IOException {
     switch (rowNumber) {
@@ -358,6 +369,11 @@ public abstract class RdfStreamRow extends ProtoMessage<RdfStreamRow> implements
     return ProtoMessage.mergeFrom(newInstance(), data);
   }
 
+  public static RdfStreamRow parseFrom(final ByteBuffer data) throws
+      InvalidProtocolBufferException {
+    return ProtoMessage.mergeFrom(newInstance(), data);
+  }
+
   public static RdfStreamRow parseFrom(final LimitedCodedInputStream input) throws IOException {
     return ProtoMessage.mergeFrom(newInstance(), input);
   }
@@ -366,6 +382,10 @@ public abstract class RdfStreamRow extends ProtoMessage<RdfStreamRow> implements
     return ProtoMessage.parseDelimitedFrom(input, RdfStreamRow.getFactory());
   }
 
+  public static RdfStreamRow parseDelimitedFrom(final ByteBuffer input) throws IOException {
+    return ProtoMessage.parseDelimitedFrom(input, RdfStreamRow.getFactory());
+  }
+
   /**
    * @return factory for creating RdfStreamRow messages
    */
@@ -499,6 +519,14 @@ public abstract class RdfStreamRow extends ProtoMessage<RdfStreamRow> implements
       return this;
     }
 
+    @Override
+    public Mutable clear() {
+      cachedSize = -1;
+      this.row = null;
+      this.rowNumber = 0;
+      return this;
+    }
+
     @Override
     public Mutable mergeFrom(final RdfStreamRow other) {
       cachedSize = -1;
@@ -11,6 +11,7 @@ import eu.neverblink.protoc.java.runtime.MessageFactory;
 import eu.neverblink.protoc.java.runtime.ProtoMessage;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 /**
  * Protobuf type {@code RdfTriple}
@@ -322,6 +323,24 @@ public abstract class RdfTriple extends ProtoMessage<RdfTriple> implements SpoBa
       && objectNumber == other.objectNumber && (objectNumber == 0 || object.equals(other.object));
   }
 
+  @Override
+  public int hashCode() {
+    int _hash = 1;
+    _hash = 0x01000193 * _hash + subjectNumber;
+    if (subjectNumber != 0) {
+      _hash = 0x01000193 * _hash + subject.hashCode();
+    }
+    _hash = 0x01000193 * _hash + predicateNumber;
+    if (predicateNumber != 0) {
+      _hash = 0x01000193 * _hash + predicate.hashCode();
+    }
+    _hash = 0x01000193 * _hash + objectNumber;
+    if (objectNumber != 0) {
+      _hash = 0x01000193 * _hash + object.hashCode();
+    }
+    return _hash;
+  }
+
   @Override
   public void writeTo(final CodedOutputStream output) throws IOException {
     switch (subjectNumber) {
@@ -503,6 +522,10 @@ public abstract class RdfTriple extends ProtoMessage<RdfTriple> implements SpoBa
     return ProtoMessage.mergeFrom(newInstance(), data);
   }
 
+  public static RdfTriple parseFrom(final ByteBuffer data) throws InvalidProtocolBufferException {
+    return ProtoMessage.mergeFrom(newInstance(), data);
+  }
+
   public static RdfTriple parseFrom(final LimitedCodedInputStream input) throws IOException {
     return ProtoMessage.mergeFrom(newInstance(), input);
   }
@@ -511,6 +534,10 @@ public abstract class RdfTriple extends ProtoMessage<RdfTriple> implements SpoBa
     return ProtoMessage.parseDelimitedFrom(input, RdfTriple.getFactory());
   }
 
+  public static RdfTriple parseDelimitedFrom(final ByteBuffer input) throws IOException {
+    return ProtoMessage.parseDelimitedFrom(input, RdfTriple.getFactory());
+  }
+
   /**
    * @return factory for creating RdfTriple messages
    */
@@ -695,6 +722,18 @@ public abstract class RdfTriple extends ProtoMessage<RdfTriple> implements SpoBa
       return this;
     }
 
+    @Override
+    public Mutable clear() {
+      cachedSize = -1;
+      this.subject = null;
+      this.subjectNumber = 0;
+      this.predicate = null;
+      this.predicateNumber = 0;
+      this.object = null;
+      this.objectNumber = 0;
+      return this;
+    }
+
     @Override
     public Mutable mergeFrom(final RdfTriple other) {
       cachedSize = -1;
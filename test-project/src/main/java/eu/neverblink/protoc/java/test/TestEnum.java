@@ -0,0 +1,131 @@
+// Code generated by NeverBlink protoc-java-fast. Do not edit!
+package eu.neverblink.protoc.java.test;
+
+import eu.neverblink.protoc.java.runtime.ProtoEnum;
+
+/**
+ * Protobuf enum {@code TestEnum}
+ * DO NOT INHERIT FROM THIS CLASS!
+ * It's not <code>final</code> only to facilitate the Mutable nested subclass.
+ */
+public enum TestEnum implements ProtoEnum<TestEnum> {
+  /**
+   * <code>UNSPECIFIED = 0;</code>
+   */
+  UNSPECIFIED("UNSPECIFIED", 0),
+
+  /**
+   * <code>FIRST = 1;</code>
+   */
+  FIRST("FIRST", 1),
+
+  /**
+   * <code>SECOND = 2;</code>
+   */
+  SECOND("SECOND", 2);
+
+  /**
+   * <code>UNSPECIFIED = 0;</code>
+   */
+  public static final int UNSPECIFIED_VALUE = 0;
+
+  /**
+   * <code>FIRST = 1;</code>
+   */
+  public static final int FIRST_VALUE = 1;
+
+  /**
+   * <code>SECOND = 2;</code>
+   */
+  public static final int SECOND_VALUE = 2;
+
+  private final String name;
+
+  private final int number;
+
+  private TestEnum(String name, int number) {
+    this.name = name;
+    this.number = number;
+  }
+
+  /**
+   * @return the string representation of enum entry
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return the numeric wire value of this enum entry
+   */
+  @Override
+  public int getNumber() {
+    return number;
+  }
+
+  /**
+   * @return a converter that maps between this enum's numeric and text representations
+   */
+  public static ProtoEnum.EnumConverter<TestEnum> converter() {
+    return TestEnumConverter.INSTANCE;
+  }
+
+  /**
+   * @param value The numeric wire value of the corresponding enum entry.
+   * @return The enum associated with the given numeric wire value, or null if unknown.
+   */
+  public static TestEnum forNumber(int value) {
+    return TestEnumConverter.INSTANCE.forNumber(value);
+  }
+
+  /**
+   * @param number The numeric wire value of the corresponding enum entry.
+   * @param other Fallback value in case the value is not known.
+   * @return The enum associated with the given numeric wire value, or the fallback value if unknown.
+   */
+  public static TestEnum forNumberOr(int number, TestEnum other) {
+    TestEnum value = forNumber(number);
+    return value == null ? other : value;
+  }
+
+  enum TestEnumConverter implements ProtoEnum.EnumConverter<TestEnum> {
+    INSTANCE;
+
+    private static final TestEnum[] lookup = new TestEnum[3];
+
+    static {
+      lookup[0] = UNSPECIFIED;
+      lookup[1] = FIRST;
+      lookup[2] = SECOND;
+    }
+
+    @Override
+    public final TestEnum forNumber(final int value) {
+      if (value >= 0 && value < lookup.length) {
+        return lookup[value];
+      }
+      return null;
+    }
+
+    @Override
+    public final TestEnum forName(final CharSequence value) {
+      if (value.length() == 5) {
+        if ("FIRST" == value) {
+          return FIRST;
+        }
+      }
+      if (value.length() == 6) {
+        if ("SECOND" == value) {
+          return SECOND;
+        }
+      }
+      if (value.length() == 11) {
+        if ("UNSPECIFIED" == value) {
+          return UNSPECIFIED;
+        }
+      }
+      return null;
+    }
+  }
+}
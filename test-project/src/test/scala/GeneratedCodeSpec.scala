@@ -1,12 +1,433 @@
-import com.google.protobuf.{DescriptorProtos, Descriptors}
-import eu.neverblink.jelly.core.proto.v1.Rdf
+import com.google.protobuf.{CodedInputStream, DescriptorProtos, Descriptors, DynamicMessage, InvalidProtocolBufferException}
+import eu.neverblink.jelly.core.proto.v1.*
+import eu.neverblink.protoc.java.test.{RepeatedScalars, TestEnum, UnpackedScalars}
+import eu.neverblink.protoc.java.runtime.*
+import TestMessages.*
 import org.scalatest.matchers.should.Matchers
 import org.scalatest.wordspec.AnyWordSpec
 
+import java.io.{ByteArrayInputStream, ByteArrayOutputStream, UncheckedIOException}
+import java.lang.management.ManagementFactory
+import java.nio.ByteBuffer
+import java.nio.channels.FileChannel
+import java.nio.file.{Files, StandardOpenOption}
+import java.util.concurrent.{ExecutionException, Flow, LinkedBlockingQueue, TimeUnit}
+import scala.collection.mutable.ArrayBuffer
+import scala.jdk.CollectionConverters.*
+
+// Runs against the default output in test-project, and against the output with all options in
+// test-project-options, which compiles this file too
 class GeneratedCodeSpec extends AnyWordSpec, Matchers:
   "generated code" should {
     "run" in {
       // Rdf.getDescriptor
       val descriptor = Rdf.getDescriptor
     }
+
+    "parse messages from ByteBuffers" in {
+      val frames = (1 to 5).map(i => frame(i, i))
+      val out = ByteArrayOutputStream()
+      frames.foreach(_.writeDelimitedTo(out))
+      val bytes = out.toByteArray
+      val direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip()
+
+      RdfStreamFrame.parseFrom(ByteBuffer.wrap(frames(2).toByteArray)) shouldBe frames(2)
+      for f <- frames do RdfStreamFrame.parseDelimitedFrom(direct) shouldBe f
+      RdfStreamFrame.parseDelimitedFrom(direct) shouldBe null
+
+      direct.rewind()
+      DelimitedMessageIterator.of(direct, RdfStreamFrame.getFactory).asScala.toSeq shouldBe frames
+      direct.position() shouldBe 0
+    }
+
+    "iterate over delimited messages in a memory-mapped file" in {
+      val frames = (1 to 20).map(i => frame(i % 7, i))
+      val file = Files.createTempFile("frames", ".jelly")
+      try
+        val out = Files.newOutputStream(file)
+        frames.foreach(_.writeDelimitedTo(out))
+        out.close()
+        // Small windows force messages to cross window boundaries
+        for windowSize <- Seq(1L, 7L, 64L, 1L << 20) do
+          val channel = FileChannel.open(file, StandardOpenOption.READ)
+          try
+            val it = DelimitedMessageIterator.ofFile(channel, RdfStreamFrame.getFactory, windowSize)
+            it.asScala.toSeq shouldBe frames
+          finally channel.close()
+
+        // Reuse a single message instance
+        val channel = FileChannel.open(file, StandardOpenOption.READ)
+        try
+          val it = DelimitedMessageIterator.ofFile(channel, RdfStreamFrame.getFactory)
+          val target = RdfStreamFrame.newInstance()
+          for f <- frames do it.mergeNext(target.clear()) shouldBe f
+          it.hasNext shouldBe false
+        finally channel.close()
+
+        // Truncated file
+        val channelTruncated = FileChannel.open(file, StandardOpenOption.WRITE)
+        channelTruncated.truncate(Files.size(file) - 3)
+        channelTruncated.close()
+        val channel2 = FileChannel.open(file, StandardOpenOption.READ)
+        try
+          val it = DelimitedMessageIterator.ofFile(channel2, RdfStreamFrame.getFactory, 64)
+          an[UncheckedIOException] should be thrownBy it.asScala.toSeq
+        finally channel2.close()
+      finally Files.delete(file)
+    }
+
+    "stream the rows of a frame one at a time" in {
+      val frames = (1 to 3).map(i => frame(i * 10, i))
+      val out = ByteArrayOutputStream()
+      frames.foreach(_.writeDelimitedTo(out))
+      val in = java.io.ByteArrayInputStream(out.toByteArray)
+      val rows = collection.mutable.ArrayBuffer[RdfStreamRow]()
+      val instances = java.util.Collections.newSetFromMap(java.util.IdentityHashMap[RdfStreamRow, java.lang.Boolean]())
+      var count = 0
+      while RdfStreamFrame.streamDelimitedRows(in, row => {
+        rows += row.clone()
+        instances.add(row)
+      }) do count += 1
+      count shouldBe 3
+      rows.toSeq shouldBe frames.flatMap(_.getRows.asScala)
+      // One reused row instance per frame
+      instances.size shouldBe frames.size
+    }
+
+    "set and compare primitive oneof members" in {
+      val literal = RdfLiteral.newInstance().setLex("1").setDatatype(42)
+      literal.getDatatype shouldBe 42
+      literal.getLiteralKind shouldBe Integer.valueOf(42)
+      val parsed = RdfLiteral.parseFrom(literal.toByteArray)
+      parsed shouldBe literal
+      parsed.hasDatatype shouldBe true
+      parsed should not be RdfLiteral.newInstance().setLex("1").setDatatype(43)
+      parsed should not be RdfLiteral.newInstance().setLex("1").setLangtag("en")
+      RdfLiteral.newInstance().setLex("1").setLiteralKind(Integer.valueOf(42), RdfLiteral.DATATYPE) shouldBe literal
+    }
+
+    "hash messages consistently with equals" in {
+      val rows = frame(50, 3).getRows.asScala.toSeq
+      val parsed = rows.map(r => RdfStreamRow.parseFrom(r.toByteArray))
+      parsed.map(_.hashCode) shouldBe rows.map(_.hashCode)
+      (rows ++ parsed).toSet.size shouldBe 50
+      RdfIri.newInstance().setPrefixId(1).setNameId(31).hashCode should not be
+        RdfIri.newInstance().setPrefixId(2).setNameId(0).hashCode
+      RdfLiteral.newInstance().setLex("1").setDatatype(7).hashCode shouldBe
+        RdfLiteral.parseFrom(RdfLiteral.newInstance().setLex("1").setDatatype(7).toByteArray).hashCode
+
+      // The cached hash is invalidated by setters
+      val iri = RdfIri.newInstance().setPrefixId(1).setNameId(2)
+      val hash = iri.hashCode
+      iri.setNameId(3).hashCode should not be hash
+      iri.setNameId(2).hashCode shouldBe hash
+      iri.clear().hashCode shouldBe RdfIri.newInstance().hashCode
+      ProtoMessage.mergeFrom(iri, RdfIri.newInstance().setNameId(2).setPrefixId(1).toByteArray).hashCode shouldBe hash
+    }
+
+    "write delimited messages through a reusable buffer" in {
+      val frames = (1 to 30).map(i => frame(i, i))
+      val expected = ByteArrayOutputStream()
+      frames.foreach(_.writeDelimitedTo(expected))
+
+      // The initial capacity is smaller than most frames
+      val inMemory = DelimitedMessageWriter.inMemory(16)
+      frames.foreach(inMemory.writeDelimited)
+      inMemory.size shouldBe expected.size
+      inMemory.toByteArray shouldBe expected.toByteArray
+      inMemory.reset().write(frames.head).toByteArray shouldBe frames.head.toByteArray
+
+      for capacity <- Seq(16, 1024, 1 << 16); direct <- Seq(true, false) do
+        val out = ByteArrayOutputStream()
+        val writer = DelimitedMessageWriter.toChannel(java.nio.channels.Channels.newChannel(out), capacity, direct)
+        frames.foreach(writer.writeDelimited)
+        writer.close()
+        out.toByteArray shouldBe expected.toByteArray
+    }
+
+    "parse delimited messages in parallel, in order" in {
+      val frames = (1 to 200).map(i => frame(i % 13, i))
+      val out = ByteArrayOutputStream()
+      frames.foreach(_.writeDelimitedTo(out))
+      val bytes = out.toByteArray
+      val pool = java.util.concurrent.Executors.newFixedThreadPool(4)
+      try
+        for maxInFlight <- Seq(1, 3, 64) do
+          val reader = ParallelDelimitedReader.of(java.io.ByteArrayInputStream(bytes), RdfStreamFrame.getFactory, pool, maxInFlight)
+          reader.asScala.toSeq shouldBe frames
+        ParallelDelimitedReader.of(java.io.ByteArrayInputStream(bytes), RdfStreamFrame.getFactory).asScala.toSeq shouldBe
+          frames
+
+        // The messages before a truncated one are still returned
+        val truncated = ParallelDelimitedReader.of(
+          java.io.ByteArrayInputStream(bytes.dropRight(3)), RdfStreamFrame.getFactory, pool, 8
+        )
+        truncated.asScala.take(199).toSeq shouldBe frames.take(199)
+        truncated.hasNext shouldBe true
+        an[UncheckedIOException] should be thrownBy truncated.next()
+        truncated.hasNext shouldBe false
+      finally pool.shutdown()
+    }
+
+    "serialize delimited messages in parallel, in order" in {
+      val frames = (1 to 200).map(i => frame(i % 13, i))
+      val expected = ByteArrayOutputStream()
+      frames.foreach(_.writeDelimitedTo(expected))
+      val pool = java.util.concurrent.Executors.newFixedThreadPool(4)
+      try
+        for maxInFlight <- Seq(1, 3, 64) do
+          val out = ByteArrayOutputStream()
+          val writer = ParallelDelimitedWriter.of(out, pool, maxInFlight)
+          frames.foreach(writer.writeDelimited)
+          writer.close()
+          out.toByteArray shouldBe expected.toByteArray
+
+        val out = ByteArrayOutputStream()
+        val writer = ParallelDelimitedWriter.of(java.nio.channels.Channels.newChannel(out), pool, 8)
+        frames.foreach(writer.writeDelimited)
+        writer.flush()
+        out.toByteArray shouldBe expected.toByteArray
+      finally pool.shutdown()
+    }
+
+    "decode delimited messages pushed in arbitrary chunks" in {
+      val frames = (0 to 40).map(i => frame(i % 7, i))
+      val out = ByteArrayOutputStream()
+      frames.foreach(_.writeDelimitedTo(out))
+      val bytes = out.toByteArray
+
+      for chunkSize <- Seq(1, 2, 7, 100, bytes.length); direct <- Seq(false, true) do
+        val decoder = DelimitedMessageDecoder.of(RdfStreamFrame.getFactory)
+        val decoded = ArrayBuffer[RdfStreamFrame]()
+        for start <- bytes.indices by chunkSize do
+          val slice = bytes.slice(start, start + chunkSize)
+          val chunk = if direct then ByteBuffer.allocateDirect(slice.length).put(slice).flip()
+            else ByteBuffer.wrap(slice)
+          decoder.decode(chunk, decoded += _)
+          chunk.hasRemaining shouldBe false
+        decoder.hasPartialMessage shouldBe false
+        decoded shouldBe frames
+
+      // A truncated message is kept until the rest of it arrives
+      val decoder = DelimitedMessageDecoder.of(RdfStreamFrame.getFactory)
+      val decoded = ArrayBuffer[RdfStreamFrame]()
+      decoder.decode(ByteBuffer.wrap(bytes, 0, bytes.length - 3), decoded += _)
+      decoded.size shouldBe frames.size - 1
+      decoder.hasPartialMessage shouldBe true
+      decoder.decode(ByteBuffer.wrap(bytes, bytes.length - 3, 3), decoded += _)
+      decoded shouldBe frames
+
+      an[InvalidProtocolBufferException] should be thrownBy
+        DelimitedMessageDecoder.of(RdfStreamFrame.getFactory, 10).decode(ByteBuffer.wrap(bytes), _ => ())
+
+      // The buffer of a message that spans chunks grows with the bytes received, not with its size prefix
+      val threads = ManagementFactory.getThreadMXBean.asInstanceOf[com.sun.management.ThreadMXBean]
+      val hugePrefix = Array[Byte](-128, -128, -128, 32)
+      val before = threads.getCurrentThreadAllocatedBytes
+      val untrusted = DelimitedMessageDecoder.of(RdfStreamFrame.getFactory)
+      untrusted.decode(ByteBuffer.wrap(hugePrefix ++ bytes.take(100)), _ => fail())
+      untrusted.hasPartialMessage shouldBe true
+      threads.getCurrentThreadAllocatedBytes - before should be < (1L << 20)
+    }
+
+    "stream delimited messages through Flow adapters" in {
+      val frames = (0 to 600).map(i => frame(i % 5, i))
+      val out = ByteArrayOutputStream()
+      frames.foreach(_.writeDelimitedTo(out))
+      val bytes = out.toByteArray
+
+      val copy = ByteArrayOutputStream()
+      val subscriber = DelimitedMessageSubscriber.of[RdfStreamFrame](copy, 16, 1024)
+      DelimitedMessagePublisher.of(ByteArrayInputStream(bytes), RdfStreamFrame.getFactory).subscribe(subscriber)
+      subscriber.completion.get(10, TimeUnit.SECONDS)
+      copy.toByteArray shouldBe bytes
+
+      // Messages are only parsed on demand
+      val received = LinkedBlockingQueue[RdfStreamFrame]()
+      val publisher = DelimitedMessagePublisher.of(ByteArrayInputStream(bytes), RdfStreamFrame.getFactory)
+      var subscription: Flow.Subscription = null
+      publisher.subscribe(new Flow.Subscriber[RdfStreamFrame]:
+        def onSubscribe(s: Flow.Subscription): Unit = subscription = s
+        def onNext(item: RdfStreamFrame): Unit = received.add(item)
+        def onError(e: Throwable): Unit = ()
+        def onComplete(): Unit = ()
+      )
+      subscription.request(3)
+      (1 to 3).map(_ => received.poll(10, TimeUnit.SECONDS)) shouldBe frames.take(3)
+      Thread.sleep(50)
+      received.isEmpty shouldBe true
+      subscription.cancel()
+
+      // The input can only be read once
+      val second = DelimitedMessageSubscriber.of[RdfStreamFrame](ByteArrayOutputStream())
+      publisher.subscribe(second)
+      an[ExecutionException] should be thrownBy second.completion.get(10, TimeUnit.SECONDS)
+    }
+
+    "record tag transitions for ordering the parsers" in {
+      val profile = new TagTransitionProfile()
+      val bytes = frame(10, 1).toByteArray
+      profile.record(RdfStreamFrame.getDescriptor, bytes)
+      profile.record(RdfStreamFrame.getDescriptor, ByteBuffer.wrap(bytes))
+      val triple = RdfTriple.getDescriptor.getFullName
+      // The constants of the field numbers are only generated with the projections option
+      def number(name: String) = RdfTriple.getDescriptor.findFieldByName(name).getNumber
+      profile.getCount(triple, 0, number("s_iri")) shouldBe 20
+      profile.getCount(triple, number("p_iri"), number("o_literal")) shouldBe 20
+      profile.getCount(triple, number("o_literal"), 0) shouldBe 20
+      profile.getCount(triple, number("p_iri"), number("o_iri")) shouldBe 0
+      profile.getCount(RdfStreamFrame.getDescriptor.getFullName, 0, 0) shouldBe 0
+      profile.hasType(RdfQuad.getDescriptor.getFullName) shouldBe false
+
+      val text = new java.io.StringWriter()
+      profile.writeTo(text)
+      val read = TagTransitionProfile.readFrom(new java.io.StringReader(text.toString))
+      val written = new java.io.StringWriter()
+      read.writeTo(written)
+      written.toString shouldBe text.toString
+      an[java.io.IOException] should be thrownBy TagTransitionProfile.readFrom(new java.io.StringReader("a 1 2"))
+    }
+
+    "record parses and writes of frames in Flight Recorder" in {
+      val original = frame(10, 1)
+      original.getMetadata.add(RdfStreamFrame.MetadataEntry.newInstance()
+        .setKey("key").setValue(com.google.protobuf.ByteString.copyFromUtf8("value")))
+      val file = Files.createTempFile("protoc-java-fast", ".jfr")
+      val recording = new jdk.jfr.Recording()
+      try
+        recording.enable(classOf[ProtoParseEvent]).withoutThreshold()
+        recording.enable(classOf[ProtoWriteEvent]).withoutThreshold()
+        recording.start()
+        val out = new ByteArrayOutputStream()
+        original.writeDelimitedTo(out)
+        RdfStreamFrame.parseDelimitedFrom(new ByteArrayInputStream(out.toByteArray)) shouldBe original
+        RdfStreamFrame.parseFrom(original.toByteArray) shouldBe original
+        recording.stop()
+        recording.dump(file)
+        val events = jdk.jfr.consumer.RecordingFile.readAllEvents(file).asScala
+        val parses = events.filter(_.getEventType.getName == "eu.neverblink.protoc.Parse")
+        val writes = events.filter(_.getEventType.getName == "eu.neverblink.protoc.Write")
+        parses.size shouldBe 2
+        writes.size shouldBe 1
+        for event <- parses ++ writes do
+          event.getClass("messageType").getName should startWith(classOf[RdfStreamFrame].getName)
+          event.getInt("bytes") shouldBe original.getSerializedSize
+          // Metadata entries are not rows
+          event.getInt("rows") shouldBe 10
+      finally
+        recording.close()
+        Files.delete(file)
+    }
+
+    "write messages through every ProtoSink backend" in {
+      val original = frame(300, 5)
+      original.getRows.add(RdfStreamRow.newInstance().setTriple(RdfTriple.newInstance()
+        .setSTripleTerm(RdfTriple.newInstance().setSIri(RdfIri.newInstance().setNameId(300)))
+        // An unpaired surrogate is written as '?', as by CodedOutputStream
+        .setPLiteral(RdfLiteral.newInstance().setLex("żółw € \uD83D\uDC22 \uD800").setLangtag("pl"))
+        .setOBnode("b" * 5000)))
+      val expected = new Array[Byte](original.getSerializedSize)
+      val coded = com.google.protobuf.CodedOutputStream.newInstance(expected)
+      original.writeTo(coded)
+      coded.checkNoSpaceLeft()
+
+      val array = new Array[Byte](expected.length)
+      val sink = ProtoSink.newInstance(array)
+      original.writeTo(sink)
+      sink.checkNoSpaceLeft()
+      sink.getTotalBytesWritten shouldBe expected.length
+      array shouldBe expected
+      original.toByteArray shouldBe expected
+
+      for direct <- Seq(false, true) do
+        val buffer = if direct then ByteBuffer.allocateDirect(expected.length + 3) else ByteBuffer.allocate(expected.length + 3)
+        buffer.put(Array[Byte](1, 2, 3))
+        val bufferSink = ProtoSink.newInstance(buffer)
+        original.writeTo(bufferSink)
+        bufferSink.flush()
+        buffer.position() shouldBe expected.length + 3
+        val written = new Array[Byte](expected.length)
+        buffer.flip().position(3)
+        buffer.get(written)
+        written shouldBe expected
+
+      val stream = new ByteArrayOutputStream()
+      val streamSink = ProtoSink.newInstance(stream, 16)
+      original.writeTo(streamSink)
+      streamSink.flush()
+      stream.toByteArray shouldBe expected
+
+      val scalarBytes = new ByteArrayOutputStream()
+      val scalarCoded = com.google.protobuf.CodedOutputStream.newInstance(scalarBytes)
+      scalars().writeTo(scalarCoded)
+      scalarCoded.flush()
+      scalars().toByteArray shouldBe scalarBytes.toByteArray
+
+      an[ProtoSink.OutOfSpaceException] should be thrownBy
+        original.writeTo(ProtoSink.newInstance(new Array[Byte](expected.length - 1)))
+      an[ProtoSink.OutOfSpaceException] should be thrownBy {
+        val small = ProtoSink.newInstance(ByteBuffer.allocateDirect(100))
+        original.writeTo(small)
+        small.flush()
+      }
+    }
+
+    "round-trip repeated scalar fields" in {
+      val original = scalars()
+      val bytes = original.toByteArray
+      val parsed = RepeatedScalars.parseFrom(bytes)
+      parsed shouldBe original
+      parsed.getInt64S.toArray shouldBe Array(0L, 1L, -1L, Long.MaxValue, Long.MinValue)
+      parsed.getEnums.get(0) should be theSameInstanceAs TestEnum.SECOND
+      parsed.getStrings.get(1) shouldBe "żółw"
+      parsed.getSerializedSize shouldBe bytes.length
+      RepeatedScalars.newInstance().copyFrom(parsed) shouldBe original
+    }
+
+    "decode and validate UTF-8 strings read from arrays" in {
+      def read(bytes: Array[Byte]): String =
+        LimitedCodedInputStream.newInstance(bytes.length.toByte +: bytes).readStringRequireUtf8()
+
+      for s <- Seq("", "a", "ascii longer than a word", "żółw", "mixed ascii, żółw and 🐢 emoji") do
+        read(s.getBytes("UTF-8")) shouldBe s
+      val prefix = "eight by".getBytes("US-ASCII")
+      for invalid <- Seq(
+        Array[Byte](0xC0.toByte, 0x80.toByte),
+        Array[Byte](0xE2.toByte, 0x82.toByte),
+        Array[Byte](0xED.toByte, 0xA0.toByte, 0x80.toByte),
+        Array[Byte](0xF4.toByte, 0x90.toByte, 0x80.toByte, 0x80.toByte),
+      ) do
+        an[InvalidProtocolBufferException] should be thrownBy read(prefix ++ invalid)
+    }
+
+    "keep unknown values of repeated enum fields" in {
+      // Field 14 packed with the values 1, 7, 2, then unpacked with 9 and 0
+      val bytes = Array[Byte](114, 3, 1, 7, 2, 112, 9, 112, 0)
+      val parsed = RepeatedScalars.parseFrom(bytes)
+      parsed.getEnums.length shouldBe 5
+      parsed.getEnums.get(1) shouldBe null
+      parsed.getEnums.getValue(1) shouldBe 7
+      parsed.getEnums.get(2) should be theSameInstanceAs TestEnum.SECOND
+      parsed.getEnums.getValue(3) shouldBe 9
+      RepeatedScalars.parseFrom(parsed.toByteArray) shouldBe parsed
+      UnpackedScalars.parseFrom(parsed.toByteArray).getEnums.length shouldBe 5
+      val written = DynamicMessage.parseFrom(RepeatedScalars.getDescriptor, parsed.toByteArray)
+      written.toByteArray shouldBe parsed.toByteArray
+    }
+
+    "write repeated scalar fields compatible with protobuf-java" in {
+      val original = scalars()
+      val packed = DynamicMessage.parseFrom(RepeatedScalars.getDescriptor, original.toByteArray)
+      packed.getRepeatedFieldCount(RepeatedScalars.getDescriptor.findFieldByName("sint64s")) shouldBe 5
+      // protobuf-java writes the same (packed) encoding, only the field order may differ
+      packed.toByteArray.length shouldBe original.getSerializedSize
+      RepeatedScalars.parseFrom(packed.toByteArray) shouldBe original
+
+      val unpacked = UnpackedScalars.parseFrom(original.toByteArray)
+      val unpackedBytes = unpacked.toByteArray
+      unpackedBytes.length should be > original.getSerializedSize
+      DynamicMessage.parseFrom(UnpackedScalars.getDescriptor, unpackedBytes).toByteArray.length shouldBe
+        unpackedBytes.length
+      RepeatedScalars.parseFrom(unpackedBytes) shouldBe original
+    }
   }
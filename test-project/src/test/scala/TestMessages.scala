@@ -0,0 +1,32 @@
+import eu.neverblink.jelly.core.proto.v1.*
+import eu.neverblink.protoc.java.test.{RepeatedScalars, TestEnum}
+
+// Messages shared by the specs of the default output and of the output with all options
+object TestMessages:
+  def frame(rows: Int, offset: Int): RdfStreamFrame =
+    val f = RdfStreamFrame.newInstance()
+    for i <- 0 until rows do
+      f.getRows.add(RdfStreamRow.newInstance().setTriple(
+        RdfTriple.newInstance()
+          .setSIri(RdfIri.newInstance().setPrefixId(offset + i).setNameId(i))
+          .setPIri(RdfIri.newInstance().setNameId(offset))
+          .setOLiteral(RdfLiteral.newInstance().setLex(s"literal $i"))
+      ))
+    f
+
+  def scalars(): RepeatedScalars =
+    val m = RepeatedScalars.newInstance()
+      .setSingleDouble(Double.NaN)
+      .setSingleFloat(-1.5f)
+      .addEnums(TestEnum.SECOND)
+      .addEnums(TestEnum.UNSPECIFIED)
+      .addStrings("a")
+      .addStrings(new java.lang.StringBuilder("żółw"))
+    m.getDoubles.addAll(Array(0.0, -0.0, Double.MaxValue, Double.NaN))
+    m.getFloats.addAll(Array(1.0f, Float.MinPositiveValue))
+    for v <- Seq(0L, 1L, -1L, Long.MaxValue, Long.MinValue) do
+      m.addInt64S(v).addUint64S(v).addSint64S(v).addFixed64S(v).addSfixed64S(v)
+    for v <- Seq(0, 1, -1, 300, Int.MaxValue, Int.MinValue) do
+      m.addInt32S(v).addUint32S(v).addSint32S(v).addFixed32S(v).addSfixed32S(v)
+    m.getBools.addAll(Array(true, false, true))
+    m